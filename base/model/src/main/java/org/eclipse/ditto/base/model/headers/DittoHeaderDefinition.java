@@ -704,7 +704,62 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 3.9.0
      */
     POLICY_VIEW_FIELDS_SELECTOR("ditto-policy-view-fields-selector", String.class, false, false,
-            HeaderValueValidators.getNoOpValidator());
+            HeaderValueValidators.getNoOpValidator()),
+
+    /**
+     * Header of search responses stating from where the things in the search result were obtained if the search
+     * service projects search results from its search index: {@code "index"} if all things were projected from the
+     * search index at the revision last indexed, {@code "twin"} if all things were retrieved from the things service
+     * and {@code "mixed"} if both sources were used.
+     * <p>
+     * Key: {@code "search-consistency"}, Java type: {@link String}.
+     * </p>
+     *
+     * @since 3.10.0
+     */
+    SEARCH_CONSISTENCY("search-consistency", String.class, false, true, HeaderValueValidators.getNoOpValidator()),
+
+    /**
+     * Internal header of search responses containing the comma separated indices of the items of the search result
+     * which were projected from the search index; all other items only contain the thing ID and have to be retrieved
+     * from the things service.
+     * <p>
+     * Key: {@code "ditto-search-projected-items"}, Java type: String.
+     * </p>
+     *
+     * @since 3.10.0
+     */
+    SEARCH_PROJECTED_ITEMS("ditto-search-projected-items",
+            String.class,
+            false,
+            false,
+            HeaderValueValidators.getNoOpValidator()),
+
+    /**
+     * Header of search "count" requests choosing whether a count cached by the search service may be returned.
+     * Can hold one of the values of {@link SearchCountMode}: {@code cached} (default), {@code exact}.
+     * <p>
+     * Key: {@code "search-count-mode"}, Java type: {@link String}.
+     * </p>
+     *
+     * @since 3.10.0
+     */
+    SEARCH_COUNT_MODE("search-count-mode",
+            String.class,
+            true,
+            false,
+            HeaderValueValidators.getEnumValidator(SearchCountMode.values())),
+
+    /**
+     * Header of search "count" responses containing the age in milliseconds of the returned cached count.
+     * Absent if the count was executed for the request.
+     * <p>
+     * Key: {@code "search-count-age"}, Java type: {@link Long}.
+     * </p>
+     *
+     * @since 3.10.0
+     */
+    SEARCH_COUNT_AGE("search-count-age", Long.class, false, true, HeaderValueValidators.getLongValidator());
 
     /**
      * Map to speed up lookup of header definition by key.
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.headers;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Possible options for Ditto's {@code search-count-mode} header.
+ *
+ * @since 3.10.0
+ */
+public enum SearchCountMode {
+
+    /**
+     * Option which accepts a count cached by the search service, if the search service is configured to cache counts.
+     * This is the default if omitted.
+     */
+    CACHED("cached"),
+
+    /**
+     * Option which requests a count executed against the search index for this request.
+     */
+    EXACT("exact");
+
+    private final String option;
+
+    SearchCountMode(final String option) {
+        this.option = option;
+    }
+
+    @Override
+    public String toString() {
+        return option;
+    }
+
+    /**
+     * Find a search count mode by a provided option string.
+     *
+     * @param option the option.
+     * @return the mode with the given option string if any exists.
+     */
+    public static Optional<SearchCountMode> forOption(final String option) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.toString().equalsIgnoreCase(option.trim()))
+                .findAny();
+    }
+}
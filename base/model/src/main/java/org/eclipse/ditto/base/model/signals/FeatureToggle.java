@@ -73,6 +73,16 @@ public final class FeatureToggle {
     public static final String POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED =
             "ditto.devops.feature.policy-enforcement-use-throughput-optimized-evaluator-enabled";
 
+    /**
+     * System property name of the property defining whether the throughput optimized policy evaluator should be
+     * compiled to bit sets of interned subjects and cache its recent decisions. Only applies if
+     * {@value POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED} is enabled. Disabled by default.
+     *
+     * @since 3.10.0
+     */
+    public static final String POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED =
+            "ditto.devops.feature.policy-enforcement-use-compiled-evaluator-enabled";
+
     /**
      * System property name of the property defining whether WoT Thing Description responses are filtered based on
      * the requesting user's policy permissions. When enabled, TDs only contain properties, actions, and events the
@@ -154,6 +164,12 @@ public final class FeatureToggle {
     private static final boolean IS_POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED =
             resolveProperty(POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED);
 
+    /**
+     * Resolves the system property {@value POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED}.
+     */
+    private static final boolean IS_POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED =
+            resolveProperty(POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED, false);
+
     /**
      * Resolves the system property {@value WOT_TD_PERMISSION_FILTERING_ENABLED}.
      */
@@ -173,7 +189,14 @@ public final class FeatureToggle {
             resolveProperty(POLICY_LOCKOUT_PREVENTION_ENABLED);
 
     private static boolean resolveProperty(final String propertyName) {
-        final String propertyValue = System.getProperty(propertyName, Boolean.TRUE.toString());
+        return resolveProperty(propertyName, true);
+    }
+
+    private static boolean resolveProperty(final String propertyName, final boolean defaultValue) {
+        final String propertyValue = System.getProperty(propertyName);
+        if (null == propertyValue) {
+            return defaultValue;
+        }
         return !Boolean.FALSE.toString().equalsIgnoreCase(propertyValue);
     }
 
@@ -305,6 +328,17 @@ public final class FeatureToggle {
         return IS_POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED;
     }
 
+    /**
+     * Returns whether for policy enforcement the throughput optimized evaluator is compiled based on the system
+     * property {@value POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED}.
+     *
+     * @return whether the compiled policy evaluator is used.
+     * @since 3.10.0
+     */
+    public static boolean isPolicyEnforcementUseCompiledEvaluatorEnabled() {
+        return IS_POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED;
+    }
+
     /**
      * Returns whether WoT Thing Description permission filtering is enabled based on the system property
      * {@value WOT_TD_PERMISSION_FILTERING_ENABLED}.
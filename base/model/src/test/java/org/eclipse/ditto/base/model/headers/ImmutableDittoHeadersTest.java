@@ -40,6 +40,7 @@ import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.base.model.common.ResponseType;
+import org.eclipse.ditto.base.model.exceptions.DittoHeaderInvalidException;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.base.model.headers.metadata.MetadataHeader;
@@ -243,6 +244,10 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.DIVERT_EXPECTED_RESPONSE_TYPES.getKey(), KNOWN_DITTO_DIVERT_RESPONSE_TYPES)
                 .putHeader(DittoHeaderDefinition.POLICY_VIEW.getKey(), "resolved")
                 .putHeader(DittoHeaderDefinition.POLICY_VIEW_FIELDS_SELECTOR.getKey(), "policyId,entries")
+                .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), "mixed")
+                .putHeader(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey(), "0,2")
+                .putHeader(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey(), "exact")
+                .putHeader(DittoHeaderDefinition.SEARCH_COUNT_AGE.getKey(), "1500")
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -458,6 +463,14 @@ public final class ImmutableDittoHeadersTest {
                 .contains(LiveChannelTimeoutStrategy.FAIL);
     }
 
+    @Test
+    public void unknownSearchCountModeIsRejected() {
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> DittoHeaders.newBuilder()
+                        .putHeader(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey(), "approximate")
+                        .build());
+    }
+
     @Test
     public void timeoutIsSerializedAsString() {
         final int durationAmountSeconds = 2;
@@ -601,6 +614,10 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.DIVERT_EXPECTED_RESPONSE_TYPES.getKey(), KNOWN_DITTO_DIVERT_RESPONSE_TYPES)
                 .set(DittoHeaderDefinition.POLICY_VIEW.getKey(), "resolved")
                 .set(DittoHeaderDefinition.POLICY_VIEW_FIELDS_SELECTOR.getKey(), "policyId,entries")
+                .set(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), "mixed")
+                .set(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey(), "0,2")
+                .set(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey(), "exact")
+                .set(DittoHeaderDefinition.SEARCH_COUNT_AGE.getKey(), 1500L)
                 .build();
 
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
@@ -861,6 +878,10 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.DIVERTED_RESPONSE_FROM_CONNECTION.getKey(), KNOWN_DITTO_DIVERTED_RESPONSE_FROM);
         result.put(DittoHeaderDefinition.POLICY_VIEW.getKey(), "resolved");
         result.put(DittoHeaderDefinition.POLICY_VIEW_FIELDS_SELECTOR.getKey(), "policyId,entries");
+        result.put(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), "mixed");
+        result.put(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey(), "0,2");
+        result.put(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey(), "exact");
+        result.put(DittoHeaderDefinition.SEARCH_COUNT_AGE.getKey(), "1500");
         return result;
     }
 
@@ -426,6 +426,9 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         System.setProperty(FeatureToggle.POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED,
                 Boolean.toString(
                         rawConfig.getBoolean(FeatureToggle.POLICY_ENFORCEMENT_USE_THROUGHPUT_OPTIMIZED_EVALUATOR_ENABLED)));
+        System.setProperty(FeatureToggle.POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED,
+                Boolean.toString(
+                        rawConfig.getBoolean(FeatureToggle.POLICY_ENFORCEMENT_USE_COMPILED_EVALUATOR_ENABLED)));
         System.setProperty(FeatureToggle.STACKLESS_FLOW_CONTROL_EXCEPTIONS_ENABLED,
                 Boolean.toString(
                         rawConfig.getBoolean(FeatureToggle.STACKLESS_FLOW_CONTROL_EXCEPTIONS_ENABLED)));
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.Label;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, modelled after the things, policies and headers of productive
+ * installations: things with many features and deep property trees, policies importing other policies and headers
+ * as set by the gateway for an authenticated request.
+ * <p>
+ * All fixtures are built from constants only, so that the results of different runs and releases are comparable.
+ * </p>
+ */
+final class BenchmarkFixtures {
+
+    static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.benchmark:vehicle-4711");
+    static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto.benchmark:vehicle-4711");
+    static final String FEATURE_ID = "feature7";
+    static final JsonPointer MODIFIED_PROPERTY = JsonPointer.of("node1/node2/node3/value");
+    static final long REVISION = 42L;
+    static final Instant TIMESTAMP = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final int FEATURE_COUNT = 20;
+    private static final int PROPERTY_FAN_OUT = 4;
+    private static final int PROPERTY_DEPTH = 3;
+    private static final int IMPORTED_POLICY_COUNT = 3;
+
+    private BenchmarkFixtures() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @return headers of an authenticated request requiring the twin-persisted acknowledgement.
+     */
+    static DittoHeaders dittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                        AuthorizationSubject.newInstance("integration:benchmark:device"),
+                        AuthorizationSubject.newInstance("google:1234567890")))
+                .correlationId("7fa6f2d5-56e7-4a4c-9c3e-2f7a0a0a3d1b")
+                .schemaVersion(JsonSchemaVersion.LATEST)
+                .responseRequired(true)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .putHeader("ditto-originator", "integration:benchmark:device")
+                .putHeader("content-type", "application/json")
+                .putHeader("x-custom-header", "custom")
+                .build();
+    }
+
+    /**
+     * @return a thing with {@value #FEATURE_COUNT} features, each with properties and desired properties nested
+     * {@value #PROPERTY_DEPTH} levels deep.
+     */
+    static Thing largeThing() {
+        return ThingsModelFactory.newThing(largeThingJson());
+    }
+
+    /**
+     * @return the JSON of {@link #largeThing()} including the revision and the timestamps, as stored in the search
+     * index.
+     */
+    static JsonObject largeThingJsonWithRevision() {
+        return withRevision(largeThingJson(), REVISION);
+    }
+
+    /**
+     * @return the JSON of {@link #largeThing()} with the value of {@link #MODIFIED_PROPERTY} of {@link #FEATURE_ID}
+     * changed and the revision incremented, i.e. the thing after a typical telemetry update.
+     */
+    static JsonObject modifiedLargeThingJsonWithRevision() {
+        final JsonObject thingJson = largeThingJsonWithRevision();
+        final JsonPointer propertyPointer = JsonPointer.of("features")
+                .addLeaf(JsonFactory.newKey(FEATURE_ID))
+                .append(JsonPointer.of("properties"))
+                .append(MODIFIED_PROPERTY);
+        return withRevision(thingJson.setValue(propertyPointer, JsonValue.of(99.5)), REVISION + 1);
+    }
+
+    /**
+     * @return a policy with entries for users, devices and an integration, a revoke and {@value #IMPORTED_POLICY_COUNT}
+     * policy imports.
+     */
+    static Policy policyWithImports() {
+        PolicyBuilder builder = Policy.newBuilder(POLICY_ID)
+                .forLabel("owner")
+                .setSubject("google:1234567890", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), "READ", "WRITE")
+                .exitLabel()
+                .forLabel("device")
+                .setSubject("integration:benchmark:device", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+                .exitLabel()
+                .forLabel("observer")
+                .setSubject("google:observers", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/" + FEATURE_ID), "READ")
+                .exitLabel();
+        for (int i = 0; i < IMPORTED_POLICY_COUNT; i++) {
+            builder = builder.setPolicyImport(PoliciesModelFactory.newPolicyImport(
+                    PolicyId.of("org.eclipse.ditto.benchmark:template-" + i),
+                    PoliciesModelFactory.newEffectedImportedLabels(
+                            List.of(Label.of("operator"), Label.of("support-" + i)))));
+        }
+        return builder.setRevision(REVISION).build();
+    }
+
+    private static JsonObject largeThingJson() {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int f = 0; f < FEATURE_COUNT; f++) {
+            features.set("feature" + f, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder()
+                            .add("org.eclipse.ditto.benchmark:sensor" + f % 4 + ":1.0.0")
+                            .build())
+                    .set("properties", propertyTree(PROPERTY_DEPTH, f))
+                    .set("desiredProperties", propertyTree(1, f))
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set(Thing.JsonFields.POLICY_ID, POLICY_ID.toString())
+                .set(Thing.JsonFields.DEFINITION, JsonValue.of("org.eclipse.ditto.benchmark:vehicle:2.1.0"))
+                .set(Thing.JsonFields.ATTRIBUTES, JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("model", "Roadrunner 3000")
+                        .set("serialNumber", "RR3-000-4711")
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.39)
+                                .build())
+                        .set("tags", JsonFactory.newArrayBuilder().add("fleet-a", "eu-central", "electric").build())
+                        .build())
+                .set(Thing.JsonFields.FEATURES, features.build())
+                .build();
+    }
+
+    private static JsonObject propertyTree(final int depth, final double value) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder()
+                .set("value", value)
+                .set("unit", "°C")
+                .set("updated", TIMESTAMP.toString());
+        if (depth > 0) {
+            for (int i = 0; i < PROPERTY_FAN_OUT; i++) {
+                builder.set("node" + i, propertyTree(depth - 1, value + i));
+            }
+        }
+        return builder.build();
+    }
+
+    private static JsonObject withRevision(final JsonObject thingJson, final long revision) {
+        return thingJson.toBuilder()
+                .set(Thing.JsonFields.REVISION, revision)
+                .set(Thing.JsonFields.CREATED, TIMESTAMP.toString())
+                .set(Thing.JsonFields.MODIFIED, TIMESTAMP.plusSeconds(revision).toString())
+                .build();
+    }
+
+}
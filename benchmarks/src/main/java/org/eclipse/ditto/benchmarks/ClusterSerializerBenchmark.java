@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.GlobalErrorRegistry;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandRegistry;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
+import org.eclipse.ditto.internal.utils.cluster.AbstractJsonifiableWithDittoHeadersSerializer;
+import org.eclipse.ditto.internal.utils.cluster.BinaryJsonifiableSerializer;
+import org.eclipse.ditto.internal.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.internal.utils.cluster.JsonJsonifiableSerializer;
+import org.eclipse.ditto.internal.utils.cluster.MappingStrategies;
+import org.eclipse.ditto.internal.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.internal.utils.tracing.config.DefaultTracingConfig;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicy;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH benchmark of the serializers used for the signals sent between the cluster members, with the signals which
+ * dominate the cluster traffic: telemetry events, events of modified things and the creation of things and policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ClusterSerializerBenchmark {
+
+    private static final String CONFIG_KEY_MAPPING_STRATEGY_IMPLEMENTATION = "ditto.mapping-strategy.implementation";
+
+    @Param({"JSON", "CBOR", "BINARY"})
+    public String serializer;
+
+    @Param({"FEATURE_PROPERTY_MODIFIED", "THING_MODIFIED", "CREATE_THING", "CREATE_POLICY"})
+    public String signalType;
+
+    private ExtendedActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer underTest;
+    private ByteBuffer buffer;
+    private Object signal;
+    private String manifest;
+    private ByteBuffer serializedSignal;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DittoTracing.init(DefaultTracingConfig.of(ConfigFactory.empty()));
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("benchmark", ConfigFactory.parseMap(
+                Map.of(CONFIG_KEY_MAPPING_STRATEGY_IMPLEMENTATION, BenchmarkMappingStrategies.class.getName())));
+        underTest = switch (serializer) {
+            case "JSON" -> new JsonJsonifiableSerializer(actorSystem);
+            case "CBOR" -> new CborJsonifiableSerializer(actorSystem);
+            case "BINARY" -> new BinaryJsonifiableSerializer(actorSystem);
+            default -> throw new IllegalArgumentException("Unknown serializer: " + serializer);
+        };
+        buffer = ByteBuffer.allocateDirect(1024 * 1024);
+
+        final DittoHeaders dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        signal = switch (signalType) {
+            case "FEATURE_PROPERTY_MODIFIED" -> FeaturePropertyModified.of(BenchmarkFixtures.THING_ID,
+                    BenchmarkFixtures.FEATURE_ID, BenchmarkFixtures.MODIFIED_PROPERTY, JsonValue.of(99.5),
+                    BenchmarkFixtures.REVISION, BenchmarkFixtures.TIMESTAMP, dittoHeaders, null);
+            case "THING_MODIFIED" -> ThingModified.of(BenchmarkFixtures.largeThing(), BenchmarkFixtures.REVISION,
+                    BenchmarkFixtures.TIMESTAMP, dittoHeaders, null);
+            case "CREATE_THING" -> CreateThing.of(BenchmarkFixtures.largeThing(), null, dittoHeaders);
+            case "CREATE_POLICY" -> CreatePolicy.of(BenchmarkFixtures.policyWithImports(), dittoHeaders);
+            default -> throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        };
+        manifest = underTest.manifest(signal);
+        serializedSignal = ByteBuffer.wrap(underTest.toBinary(signal));
+        if (!signal.equals(underTest.fromBinary(serializedSignal.duplicate(), manifest))) {
+            throw new IllegalStateException("Serializer <" + serializer + "> does not round-trip " + signal);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.terminate();
+        actorSystem.getWhenTerminated().toCompletableFuture().orTimeout(10, TimeUnit.SECONDS).join();
+        DittoTracing.reset();
+    }
+
+    @Benchmark
+    public ByteBuffer serialize() {
+        buffer.clear();
+        underTest.toBinary(signal, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return underTest.fromBinary(serializedSignal.duplicate(), manifest);
+    }
+
+    /**
+     * Mapping strategies of all signals on the class path, loaded by the serializers via the config of the actor
+     * system.
+     */
+    public static final class BenchmarkMappingStrategies extends MappingStrategies {
+
+        public BenchmarkMappingStrategies() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalCommandResponseRegistry.getInstance())
+                    .add(GlobalEventRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
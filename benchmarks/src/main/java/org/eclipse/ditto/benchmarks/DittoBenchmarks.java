@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the hot paths of Ditto.
+ * <p>
+ * Accepts the usual JMH command line options, e.g. a regular expression selecting the benchmarks to run. Unless
+ * specified otherwise, the results are written as JSON to {@value #DEFAULT_RESULT_FILE} and the GC profiler reports
+ * the allocations per operation, so that the results of different releases can be compared with each other.
+ * </p>
+ *
+ * <h2>How to run</h2>
+ * <pre>
+ * mvn package -pl benchmarks -am -DskipTests -Djapicmp.skip=true
+ * java -jar benchmarks/target/ditto-benchmarks.jar [RqlBenchmark] [-rff results.json]
+ * </pre>
+ */
+public final class DittoBenchmarks {
+
+    private static final String DEFAULT_RESULT_FILE = "ditto-benchmarks.json";
+
+    private DittoBenchmarks() {
+        throw new AssertionError();
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .shouldFailOnError(true);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+
+}
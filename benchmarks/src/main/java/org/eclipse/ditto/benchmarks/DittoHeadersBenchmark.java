@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of building, copying and (de-)serializing {@link DittoHeaders}, which happens several times for each
+ * signal passing a Ditto service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class DittoHeadersBenchmark {
+
+    private DittoHeaders dittoHeaders;
+    private Map<String, String> headersMap;
+    private JsonObject headersJson;
+
+    @Setup
+    public void setup() {
+        dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        headersMap = Map.copyOf(dittoHeaders);
+        headersJson = dittoHeaders.toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders buildHeaders() {
+        return BenchmarkFixtures.dittoHeaders();
+    }
+
+    @Benchmark
+    public DittoHeaders headersOfMap() {
+        return DittoHeaders.of(headersMap);
+    }
+
+    @Benchmark
+    public DittoHeaders headersOfJson() {
+        return DittoHeaders.newBuilder(headersJson).build();
+    }
+
+    @Benchmark
+    public JsonObject headersToJson() {
+        return dittoHeaders.toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders modifyHeaders() {
+        return dittoHeaders.toBuilder()
+                .responseRequired(false)
+                .putHeader("ditto-entity-revision", "43")
+                .build();
+    }
+
+}
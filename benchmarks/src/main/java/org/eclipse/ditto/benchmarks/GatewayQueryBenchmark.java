@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.http.javadsl.model.HttpRequest;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.japi.pf.ReceiveBuilder;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.gateway.service.endpoints.actors.DirectQueryHandler;
+import org.eclipse.ditto.gateway.service.endpoints.actors.HttpRequestActor;
+import org.eclipse.ditto.gateway.service.util.config.DittoGatewayConfig;
+import org.eclipse.ditto.gateway.service.util.config.GatewayConfig;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.messages.model.MessageHeaderDefinition;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH benchmark of the HTTP requests retrieving a thing in the gateway, from the command to the rendered HTTP response,
+ * handled either by an HTTP request actor per request or directly by the {@link DirectQueryHandler}. The proxy actor
+ * answers immediately, so that only the request handling of the gateway is measured. The sample time mode reports the
+ * percentiles of the latency, e.g. p99, of the concurrent requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Threads(4)
+public class GatewayQueryBenchmark {
+
+    @Param({"HTTP_REQUEST_ACTOR", "DIRECT"})
+    public String requestHandling;
+
+    private ActorSystem actorSystem;
+    private GatewayConfig gatewayConfig;
+    private HeaderTranslator headerTranslator;
+    private ActorRef proxyActor;
+    private DirectQueryHandler directQueryHandler;
+    private HttpRequest httpRequest;
+    private RetrieveThing retrieveThing;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        actorSystem = ActorSystem.create("benchmark", ConfigFactory.load());
+        gatewayConfig = DittoGatewayConfig.of(DefaultScopedConfig.dittoScoped(ConfigFactory.load("gateway")));
+        headerTranslator = HeaderTranslator.of(DittoHeaderDefinition.values(), MessageHeaderDefinition.values());
+        retrieveThing = RetrieveThing.of(BenchmarkFixtures.THING_ID, BenchmarkFixtures.dittoHeaders());
+        proxyActor = actorSystem.actorOf(RetrieveThingResponder.props(
+                RetrieveThingResponse.of(BenchmarkFixtures.THING_ID, BenchmarkFixtures.largeThing().toJsonString(),
+                        retrieveThing.getDittoHeaders())));
+        directQueryHandler = DirectQueryHandler.of(actorSystem, proxyActor, headerTranslator,
+                gatewayConfig.getCommandConfig());
+        httpRequest = HttpRequest.GET("/api/2/things/" + BenchmarkFixtures.THING_ID);
+        if (!directQueryHandler.isApplicable(retrieveThing)) {
+            throw new IllegalStateException("Not a direct query: " + retrieveThing);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        actorSystem.terminate();
+        actorSystem.getWhenTerminated().toCompletableFuture().orTimeout(10, TimeUnit.SECONDS).join();
+    }
+
+    @Benchmark
+    public HttpResponse retrieveThing() {
+        final CompletionStage<HttpResponse> httpResponse = switch (requestHandling) {
+            case "HTTP_REQUEST_ACTOR" -> {
+                final var httpResponseFuture = new CompletableFuture<HttpResponse>();
+                final var httpRequestActor = actorSystem.actorOf(HttpRequestActor.props(proxyActor, headerTranslator,
+                        httpRequest, httpResponseFuture, gatewayConfig));
+                httpRequestActor.tell(retrieveThing, ActorRef.noSender());
+                yield httpResponseFuture;
+            }
+            case "DIRECT" -> directQueryHandler.handle(retrieveThing);
+            default -> throw new IllegalArgumentException("Unknown request handling: " + requestHandling);
+        };
+        return httpResponse.toCompletableFuture().join();
+    }
+
+    /**
+     * Answers each query with the same response, like the things shard region would answer a retrieval of the thing.
+     */
+    private static final class RetrieveThingResponder extends AbstractActor {
+
+        private final RetrieveThingResponse response;
+
+        @SuppressWarnings("unused")
+        private RetrieveThingResponder(final RetrieveThingResponse response) {
+            this.response = response;
+        }
+
+        private static Props props(final RetrieveThingResponse response) {
+            return Props.create(RetrieveThingResponder.class, response);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(RetrieveThing.class, query -> getSender().tell(response, getSelf()))
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.placeholders.ExpressionResolver;
+import org.eclipse.ditto.placeholders.ExpressionTemplate;
+import org.eclipse.ditto.placeholders.PipelineElement;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of placeholder templates as resolved for each message of a connection, e.g. for its target addresses
+ * and header mappings: resolving the template as string, parsing it for each message, and resolving the
+ * {@link ExpressionTemplate} compiled once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class PlaceholderBenchmark {
+
+    @Param({
+            "{{ header:correlation-id }}",
+            "telemetry/{{ header:ditto-originator | fn:substring-after(':') | fn:replace(':','/') }}/"
+                    + "{{ header:x-custom-header | fn:upper() }}",
+            "{{ header:x-unknown | fn:default(header:content-type) | fn:substring-before('/') }};"
+                    + "{{ fn:default('ditto') | fn:upper() }}"
+    })
+    public String template;
+
+    private ExpressionResolver expressionResolver;
+    private ExpressionTemplate expressionTemplate;
+
+    @Setup
+    public void setup() {
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        BenchmarkFixtures.dittoHeaders()));
+        expressionTemplate = PlaceholderFactory.newExpressionTemplate(template);
+        if (!resolveString().equals(resolveCompiled())) {
+            throw new IllegalStateException("Compiled template resolves differently: " + template);
+        }
+    }
+
+    @Benchmark
+    public PipelineElement resolveString() {
+        return ExpressionResolver.substitute(template, expressionResolver::resolveAsPipelineElement);
+    }
+
+    @Benchmark
+    public PipelineElement resolveCompiled() {
+        return expressionTemplate.resolve(expressionResolver);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the round trip of signals through the {@link DittoProtocolAdapter}: from signal to the Ditto
+ * Protocol JSON string published to connections and websockets, and from a received Ditto Protocol JSON string back
+ * to the signal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ProtocolAdapterBenchmark {
+
+    /**
+     * The signal to adapt: a small telemetry event, a large event of a modified thing and a large command.
+     */
+    @Param({"FEATURE_PROPERTY_MODIFIED", "THING_MODIFIED", "CREATE_THING"})
+    public String signalType;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private Signal<?> signal;
+    private String protocolMessage;
+
+    @Setup
+    public void setup() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        final DittoHeaders dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        signal = switch (signalType) {
+            case "FEATURE_PROPERTY_MODIFIED" -> FeaturePropertyModified.of(BenchmarkFixtures.THING_ID,
+                    BenchmarkFixtures.FEATURE_ID, BenchmarkFixtures.MODIFIED_PROPERTY, JsonValue.of(99.5),
+                    BenchmarkFixtures.REVISION, BenchmarkFixtures.TIMESTAMP, dittoHeaders, null);
+            case "THING_MODIFIED" -> ThingModified.of(BenchmarkFixtures.largeThing(), BenchmarkFixtures.REVISION,
+                    BenchmarkFixtures.TIMESTAMP, dittoHeaders, null);
+            case "CREATE_THING" -> CreateThing.of(BenchmarkFixtures.largeThing(), null, dittoHeaders);
+            default -> throw new IllegalArgumentException("Unknown signal type: " + signalType);
+        };
+        protocolMessage = toProtocolMessage();
+    }
+
+    @Benchmark
+    public String toProtocolMessage() {
+        final Adaptable adaptable = protocolAdapter.toAdaptable(signal);
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable).toJsonString();
+    }
+
+    @Benchmark
+    public Signal<?> fromProtocolMessage() {
+        final Adaptable adaptable =
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(protocolMessage));
+        return protocolAdapter.fromAdaptable(adaptable);
+    }
+
+}
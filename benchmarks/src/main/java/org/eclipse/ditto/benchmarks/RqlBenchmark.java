@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of RQL filters as applied to each event of a filtered subscription or to each request with a
+ * {@code condition} header: parsing the filter, creating the criteria from it and evaluating the criteria on a large
+ * thing with the {@link ThingPredicateVisitor} or as {@link CompiledThingPredicate}, which the things service caches
+ * per condition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class RqlBenchmark {
+
+    @Param({
+            "eq(attributes/manufacturer,\"ACME\")",
+            "and(gt(features/feature7/properties/node1/node2/value,10),like(attributes/model,\"Road*\"),"
+                    + "in(attributes/location/latitude,47.68,48.13),exists(features/feature19/desiredProperties))",
+            "or(eq(features/feature3/properties/node0/node0/node0/unit,\"°F\"),"
+                    + "not(ge(features/feature12/properties/node3/value,100)))"
+    })
+    public String filter;
+
+    private QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private DittoHeaders dittoHeaders;
+    private Criteria criteria;
+    private Predicate<Thing> thingPredicate;
+    private CompiledThingPredicate compiledThingPredicate;
+    private PlaceholderResolver<Object> timePlaceholderResolver;
+    private Thing thing;
+
+    @Setup
+    public void setup() {
+        queryFilterCriteriaFactory = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance());
+        dittoHeaders = BenchmarkFixtures.dittoHeaders();
+        criteria = queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+        thingPredicate = ThingPredicateVisitor.apply(criteria);
+        compiledThingPredicate = CompiledThingPredicate.compile(criteria);
+        timePlaceholderResolver =
+                PlaceholderFactory.newPlaceholderResolver(TimePlaceholder.getInstance(), new Object());
+        thing = BenchmarkFixtures.largeThing();
+        if (evaluate() != evaluateCompiled()) {
+            throw new IllegalStateException("Compiled predicate evaluates differently: " + filter);
+        }
+    }
+
+    @Benchmark
+    public RootNode parse() {
+        return RqlPredicateParser.getInstance().parse(filter);
+    }
+
+    @Benchmark
+    public Criteria parseToCriteria() {
+        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return thingPredicate.test(thing);
+    }
+
+    @Benchmark
+    public boolean evaluateCompiled() {
+        return compiledThingPredicate.test(thing, timePlaceholderResolver);
+    }
+
+    /**
+     * The {@code condition} header path before caching: parsing and evaluating the condition for each request.
+     */
+    @Benchmark
+    public boolean parseAndEvaluate() {
+        return ThingPredicateVisitor.apply(queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders))
+                .test(thing);
+    }
+
+}
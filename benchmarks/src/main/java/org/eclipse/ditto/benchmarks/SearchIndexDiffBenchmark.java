@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the search index updates of a thing: enforcing the policy on the thing to create its search index
+ * document, and computing the incremental update of the document after a single property of the large thing changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class SearchIndexDiffBenchmark {
+
+    private static final int MAX_ARRAY_SIZE = 100;
+    private static final int MAX_WIRE_VERSION = 13;
+
+    private Policy policy;
+    private Set<PolicyTag> referencedPolicies;
+    private JsonObject modifiedThingJson;
+    private BsonDocument thingDocument;
+    private BsonDocument modifiedThingDocument;
+
+    @Setup
+    public void setup() {
+        policy = BenchmarkFixtures.policyWithImports();
+        referencedPolicies = Set.of(PolicyTag.of(BenchmarkFixtures.POLICY_ID, BenchmarkFixtures.REVISION));
+        modifiedThingJson = BenchmarkFixtures.modifiedLargeThingJsonWithRevision();
+        thingDocument = toWriteModel(BenchmarkFixtures.largeThingJsonWithRevision()).getThingDocument();
+        modifiedThingDocument = toWriteModel(modifiedThingJson).getThingDocument();
+    }
+
+    @Benchmark
+    public BsonDocument toSearchIndexDocument() {
+        return toWriteModel(modifiedThingJson).getThingDocument();
+    }
+
+    @Benchmark
+    public List<BsonDocument> diffSearchIndexDocuments() {
+        return BsonDiff.minusThingDocs(modifiedThingDocument, thingDocument, MAX_WIRE_VERSION).consumeAndExport();
+    }
+
+    private ThingWriteModel toWriteModel(final JsonObject thingJson) {
+        return EnforcedThingMapper.toWriteModel(thingJson, policy, referencedPolicies, BenchmarkFixtures.REVISION,
+                null, MAX_ARRAY_SIZE);
+    }
+
+}
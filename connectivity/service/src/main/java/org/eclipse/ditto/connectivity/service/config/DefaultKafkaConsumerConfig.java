@@ -39,6 +39,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
     private final Config pekkoConnectorsConfig;
     private final Duration metricCollectingInterval;
     private final long initTimeoutSeconds;
+    private final int partitionParallelism;
 
     private DefaultKafkaConsumerConfig(final Config kafkaConsumerScopedConfig) {
         throttlingConfig = ConnectionThrottlingConfig.of(kafkaConsumerScopedConfig);
@@ -51,6 +52,12 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
             throw new DittoConfigError("The Kafka consumer metric collecting interval has to be positive.");
         }
         initTimeoutSeconds = kafkaConsumerScopedConfig.getLong(ConfigValue.INIT_TIMEOUT_SECONDS.getConfigPath());
+        partitionParallelism = kafkaConsumerScopedConfig.hasPath(ConfigValue.PARTITION_PARALLELISM.getConfigPath())
+                ? kafkaConsumerScopedConfig.getInt(ConfigValue.PARTITION_PARALLELISM.getConfigPath())
+                : (int) ConfigValue.PARTITION_PARALLELISM.getDefaultValue();
+        if (partitionParallelism < 1) {
+            throw new DittoConfigError("The Kafka consumer partition parallelism has to be positive.");
+        }
     }
 
     /**
@@ -93,6 +100,11 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         return initTimeoutSeconds;
     }
 
+    @Override
+    public int getPartitionParallelism() {
+        return partitionParallelism;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -106,13 +118,14 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
                 Objects.equals(restartBackOffConfig, that.restartBackOffConfig) &&
                 Objects.equals(pekkoConnectorsConfig, that.pekkoConnectorsConfig) &&
                 Objects.equals(metricCollectingInterval, that.metricCollectingInterval) &&
-                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds);
+                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds) &&
+                partitionParallelism == that.partitionParallelism;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(throttlingConfig, restartBackOffConfig, pekkoConnectorsConfig, metricCollectingInterval,
-                initTimeoutSeconds);
+                initTimeoutSeconds, partitionParallelism);
     }
 
     @Override
@@ -123,6 +136,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
                 ", pekkoConnectorsConfig=" + pekkoConnectorsConfig +
                 ", metricCollectingInterval=" + metricCollectingInterval +
                 ", initTimeoutSeconds=" + initTimeoutSeconds +
+                ", partitionParallelism=" + partitionParallelism +
                 "]";
     }
 
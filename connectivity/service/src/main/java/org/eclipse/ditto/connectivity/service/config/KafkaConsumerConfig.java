@@ -61,6 +61,18 @@ public interface KafkaConsumerConfig {
      */
     long getInitTimeoutSeconds();
 
+    /**
+     * Returns the number of assigned partitions of an "at least once" consumer which are consumed in parallel, each
+     * from its own source and independently of each other.
+     * The records of one partition are processed in order, thus the order of records with the same key is preserved.
+     * The value should be at least the number of partitions assigned to one consumer, as further partitions are only
+     * consumed once a consumed partition is revoked. A value of 1 consumes all partitions in one stream.
+     *
+     * @return the number of partitions consumed in parallel, at least 1.
+     * @since 3.10.0
+     */
+    int getPartitionParallelism();
+
     /**
      * Returns an instance of {@code KafkaConsumerConfig} based on the settings of the specified Config.
      *
@@ -83,7 +95,14 @@ public interface KafkaConsumerConfig {
          */
         METRIC_COLLECTING_INTERVAL("metric-collecting-interval", Duration.ofSeconds(10L)),
 
-        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3);
+        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3),
+
+        /**
+         * The number of assigned partitions of an "at least once" consumer which are consumed in parallel.
+         *
+         * @since 3.10.0
+         */
+        PARTITION_PARALLELISM("partition-parallelism", 1);
 
         private final String path;
         private final Object defaultValue;
@@ -18,6 +18,7 @@ import org.eclipse.ditto.edge.service.dispatching.EdgeCommandForwarderActor;
 import org.eclipse.ditto.internal.models.signalenrichment.ByRoundTripSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.DefaultSignalEnrichmentProviderConfig;
 import org.eclipse.ditto.internal.models.signalenrichment.DittoCachingSignalEnrichmentFacade;
+import org.eclipse.ditto.internal.models.signalenrichment.PerThingCachingSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
 
 import com.typesafe.config.Config;
@@ -45,11 +46,18 @@ public final class DefaultConnectivitySignalEnrichmentProvider implements Connec
         final var delegate = ByRoundTripSignalEnrichmentFacade.of(actorSystem, commandHandler);
         if (providerConfig.isCachingEnabled()) {
             final var cacheLoaderExecutor = actorSystem.dispatchers().lookup(CACHE_DISPATCHER);
-            facade = DittoCachingSignalEnrichmentFacade.newInstance(
-                    delegate,
-                    providerConfig.getCacheConfig(),
-                    cacheLoaderExecutor,
-                    "connectivity");
+            facade = switch (providerConfig.getCacheMode()) {
+                case PER_SELECTOR -> DittoCachingSignalEnrichmentFacade.newInstance(
+                        delegate,
+                        providerConfig.getCacheConfig(),
+                        cacheLoaderExecutor,
+                        "connectivity");
+                case PER_THING -> PerThingCachingSignalEnrichmentFacade.newInstance(
+                        delegate,
+                        providerConfig.getCacheConfig(),
+                        cacheLoaderExecutor,
+                        "connectivity");
+            };
         } else {
             facade = delegate;
         }
@@ -13,12 +13,7 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,9 +34,6 @@ import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
-import org.mozilla.javascript.commonjs.module.RequireBuilder;
-import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
-import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
 
 import com.typesafe.config.Config;
 
@@ -54,11 +46,6 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private static final String PAYLOAD_MAPPER_ALIAS = "JavaScript";
 
-    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
-
-    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
-    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
-
     static final String DITTO_SCOPE_SCRIPT = "/javascript/ditto-scope.js";
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
@@ -128,15 +115,18 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                 javaScriptConfig.getMaxScriptStackDepth());
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
+            // share the sealed library scope and the compiled scripts with all other mappers of this node and only
+            // create a child scope for the functions of this mapper:
+            final RhinoScriptCache scriptCache = RhinoScriptCache.getInstance();
+            final RhinoScriptCache.LibraryScope libraryScope = scriptCache.getLibraryScope(new RhinoScriptCache.Libraries(
+                            javaScriptConfig.isAllowUnsafeStandardObjects(),
+                            configuration.isLoadLongJS(),
+                            configuration.isLoadBytebufferJS(),
+                            javaScriptConfig.getCommonJsModulesPath().orElse(null)),
+                    javaScriptConfig.getMaxScriptExecutionTime(), javaScriptConfig.getMaxScriptStackDepth());
             contextFactory.call(cx -> {
-                final Scriptable scope;
-                if (javaScriptConfig.isAllowUnsafeStandardObjects()) {
-                    scope = cx.initStandardObjects();
-                } else {
-                    scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                }
-                initLibraries(cx, scope, javaScriptConfig.getCommonJsModulesPath().orElse(null));
+                final Scriptable scope = libraryScope.newMapperScope(cx);
+                initMappings(cx, scope, scriptCache);
                 return scope;
             });
         } catch (final RhinoException e) {
@@ -166,38 +156,9 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope, @Nullable final Path commonJsModulePath) {
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
-        }
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
-        }
-
-        final List<URI> paths = new ArrayList<>();
-        try {
-            paths.add(getClass().getResource(WEBJARS_LONG).toURI());
-            paths.add(getClass().getResource(WEBJARS_BYTEBUFFER).toURI());
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Could not webjars", e);
-        }
-        if (null != commonJsModulePath) {
-            paths.add(commonJsModulePath.toUri());
-        }
-        new RequireBuilder().setModuleScriptProvider(
-                        new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null)))
-                .setSandboxed(true)
-                .createRequire(cx, scope)
-                .install(scope);
-
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+    private void initMappings(final Context cx, final Scriptable scope, final RhinoScriptCache scriptCache) {
+        scriptCache.getResourceScript(cx, INCOMING_SCRIPT).exec(cx, scope);
+        scriptCache.getResourceScript(cx, OUTGOING_SCRIPT).exec(cx, scope);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -207,8 +168,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            scriptCache.getScript(cx, userIncomingScript,
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT).exec(cx, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -219,8 +180,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            scriptCache.getScript(cx, userOutgoingScript,
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT).exec(cx, scope);
         }
     }
 
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.BaseFunction;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.commonjs.module.ModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.RequireBuilder;
+import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Node-wide cache of the compiled scripts and the library scopes of all {@link JavaScriptMessageMapperRhino}s.
+ * <p>
+ * Scripts are compiled once per content and kept in a bounded cache, so connections configured with the same mapping
+ * scripts share one compiled instance. The scripts bundled as class path resources are compiled once per node.
+ * Library scopes contain the standard objects and the libraries a mapper may load. They are created once per
+ * combination of libraries and then sealed; mappers evaluate their scripts in a child scope of them, which has a
+ * {@code require} function of its own.
+ * </p>
+ *
+ * @since 3.10.0
+ */
+@ThreadSafe
+final class RhinoScriptCache {
+
+    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
+    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
+    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+
+    private static final int MAX_CACHED_SCRIPTS = 1000;
+    private static final Duration EXPIRE_SCRIPTS_AFTER_ACCESS = Duration.ofHours(1);
+
+    private static final RhinoScriptCache INSTANCE = new RhinoScriptCache();
+
+    private static final Map<String, Script> RESOURCE_SCRIPTS = new ConcurrentHashMap<>();
+
+    private final Cache<ScriptKey, Script> scripts;
+    private final Map<Libraries, LibraryScope> libraryScopes;
+
+    private RhinoScriptCache() {
+        scripts = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_SCRIPTS)
+                .expireAfterAccess(EXPIRE_SCRIPTS_AFTER_ACCESS)
+                .build();
+        libraryScopes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the node-wide instance.
+     *
+     * @return the instance.
+     */
+    static RhinoScriptCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the compiled script of the given source, compiling it with the given context if it is not cached yet.
+     *
+     * @param cx the current context.
+     * @param source the source of the script.
+     * @param sourceName the name of the script shown in errors.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.RhinoException if the script could not be compiled.
+     */
+    Script getScript(final Context cx, final String source, final String sourceName) {
+        return scripts.get(new ScriptKey(sourceName, hash(source)),
+                key -> cx.compileString(source, sourceName, 1, null));
+    }
+
+    /**
+     * Returns the compiled script of the given class path resource, which is read and compiled only once per node.
+     *
+     * @param cx the current context.
+     * @param resourceName the name of the resource.
+     * @return the compiled script.
+     * @throws IllegalStateException if the resource could not be read.
+     */
+    Script getResourceScript(final Context cx, final String resourceName) {
+        return RESOURCE_SCRIPTS.computeIfAbsent(resourceName,
+                name -> cx.compileString(readResource(name), name, 1, null));
+    }
+
+    /**
+     * Returns the sealed scope containing the standard objects and the given libraries, creating it on first use.
+     *
+     * @param libraries the libraries the scope contains.
+     * @param maxScriptExecutionTime the maximum time loading the libraries may take.
+     * @param maxStackDepth the maximum call stack depth while loading the libraries.
+     * @return the sealed scope.
+     * @throws org.mozilla.javascript.RhinoException if a library could not be loaded.
+     */
+    LibraryScope getLibraryScope(final Libraries libraries, final Duration maxScriptExecutionTime,
+            final int maxStackDepth) {
+
+        return libraryScopes.computeIfAbsent(libraries, key ->
+                // objects of the library scope are used by many threads concurrently
+                new SandboxingContextFactory(maxScriptExecutionTime, maxStackDepth, true)
+                        .call(cx -> createLibraryScope(cx, key)));
+    }
+
+    private LibraryScope createLibraryScope(final Context cx, final Libraries libraries) {
+        final ScriptableObject scope;
+        if (libraries.allowUnsafeStandardObjects()) {
+            scope = cx.initStandardObjects(null, true);
+        } else {
+            scope = cx.initSafeStandardObjects(null, true); // that one disables "print, exit, quit", etc.
+        }
+        if (libraries.loadLongJs()) {
+            getResourceScript(cx, WEBJARS_LONG).exec(cx, scope);
+        }
+        if (libraries.loadBytebufferJs()) {
+            getResourceScript(cx, WEBJARS_BYTEBUFFER).exec(cx, scope);
+        }
+
+        final List<URI> paths = new ArrayList<>();
+        try {
+            paths.add(RhinoScriptCache.class.getResource(WEBJARS_LONG).toURI());
+            paths.add(RhinoScriptCache.class.getResource(WEBJARS_BYTEBUFFER).toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException("Could not webjars", e);
+        }
+        if (null != libraries.commonJsModulesPath()) {
+            paths.add(libraries.commonJsModulesPath().toUri());
+        }
+        // compiled modules are shared, their exports are created by the require function of each mapper scope
+        final ModuleScriptProvider moduleScriptProvider =
+                new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null));
+
+        getResourceScript(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT).exec(cx, scope);
+
+        sealDeeply(scope, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return new LibraryScope(scope, moduleScriptProvider);
+    }
+
+    /*
+     * Seals the library objects reachable from the scope, too, so that no mapper can change the libraries of others.
+     * Objects created by the libraries at runtime are not sealed.
+     */
+    private static void sealDeeply(final ScriptableObject object, final Set<Object> sealedObjects) {
+        if (!sealedObjects.add(object)) {
+            return;
+        }
+        final List<ScriptableObject> children = new ArrayList<>();
+        for (final Object id : object.getIds()) {
+            final Object value;
+            if (id instanceof Integer index) {
+                value = object.get(index, object);
+            } else if (id instanceof String name) {
+                value = object.get(name, object);
+            } else {
+                value = null;
+            }
+            if (value instanceof ScriptableObject child) {
+                children.add(child);
+            }
+        }
+        if (object instanceof BaseFunction function &&
+                function.get("prototype", function) instanceof ScriptableObject prototype) {
+            children.add(prototype);
+        }
+        object.sealObject();
+        children.forEach(child -> sealDeeply(child, sealedObjects));
+    }
+
+    private static String readResource(final String resourceName) {
+        try (final InputStream inputStream = RhinoScriptCache.class.getResourceAsStream(resourceName)) {
+            if (null == inputStream) {
+                throw new IllegalStateException("Could not find script <" + resourceName + ">");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + resourceName + ">", e);
+        }
+    }
+
+    private static String hash(final String source) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * The libraries of a library scope.
+     *
+     * @param allowUnsafeStandardObjects whether the unsafe standard objects like "print" are available.
+     * @param loadLongJs whether "long.js" is loaded.
+     * @param loadBytebufferJs whether "bytebuffer.js" is loaded.
+     * @param commonJsModulesPath the path of additional CommonJS modules which can be required.
+     */
+    record Libraries(boolean allowUnsafeStandardObjects, boolean loadLongJs, boolean loadBytebufferJs,
+                     @Nullable Path commonJsModulesPath) {}
+
+    /**
+     * A sealed library scope together with the provider of the CommonJS modules its mappers may require.
+     *
+     * @param scope the sealed scope.
+     * @param moduleScriptProvider the provider of the compiled modules.
+     */
+    record LibraryScope(Scriptable scope, ModuleScriptProvider moduleScriptProvider) {
+
+        /**
+         * Creates the scope of one mapper, which inherits the libraries and has a {@code require} function of its
+         * own, so that the exports of required modules cannot be changed by other mappers.
+         *
+         * @param cx the current context.
+         * @return the scope of the mapper.
+         */
+        Scriptable newMapperScope(final Context cx) {
+            final Scriptable mapperScope = cx.newObject(scope);
+            mapperScope.setPrototype(scope);
+            mapperScope.setParentScope(null);
+            new RequireBuilder().setModuleScriptProvider(moduleScriptProvider)
+                    .setSandboxed(true)
+                    .createRequire(cx, mapperScope)
+                    .install(mapperScope);
+            return mapperScope;
+        }
+
+    }
+
+    private record ScriptKey(String sourceName, String contentHash) {}
+
+}
@@ -36,6 +36,7 @@ final class SandboxingContextFactory extends ContextFactory {
 
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final boolean threadSafeObjects;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -46,8 +47,26 @@ final class SandboxingContextFactory extends ContextFactory {
      * computation.
      */
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+        this(maxScriptExecutionTime, maxStackDepth, false);
+    }
+
+    /**
+     * Constructs a new ContextFactory for sandboxing Rhino executions.
+     *
+     * @param maxScriptExecutionTime the maximum execution time of a mapping script to run.
+     * Prevents endless loops and too complex scripts.
+     * @param maxStackDepth the maximum call stack depth in the mapping script. Prevents recursions or other too complex
+     * computation.
+     * @param threadSafeObjects whether the objects created in contexts of this factory may be accessed by multiple
+     * threads concurrently.
+     * @since 3.10.0
+     */
+    SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth,
+            final boolean threadSafeObjects) {
+
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        this.threadSafeObjects = threadSafeObjects;
     }
 
     @Override
@@ -65,6 +84,9 @@ final class SandboxingContextFactory extends ContextFactory {
         if (featureIndex == Context.FEATURE_MEMBER_EXPR_AS_FUNCTION_NAME) {
             return true;
         }
+        if (featureIndex == Context.FEATURE_THREAD_SAFE_OBJECTS) {
+            return threadSafeObjects;
+        }
         return super.hasFeature(cx, featureIndex);
     }
 
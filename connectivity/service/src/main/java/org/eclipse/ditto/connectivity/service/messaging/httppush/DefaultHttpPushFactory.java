@@ -15,6 +15,8 @@ package org.eclipse.ditto.connectivity.service.messaging.httppush;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -35,6 +37,7 @@ import org.eclipse.ditto.internal.utils.pekko.controlflow.TimeoutFlow;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.http.javadsl.ClientTransport;
@@ -42,8 +45,11 @@ import org.apache.pekko.http.javadsl.ConnectHttp;
 import org.apache.pekko.http.javadsl.ConnectionContext;
 import org.apache.pekko.http.javadsl.Http;
 import org.apache.pekko.http.javadsl.HttpsConnectionContext;
+import org.apache.pekko.http.javadsl.OutgoingConnectionBuilder;
+import org.apache.pekko.http.javadsl.model.AttributeKey;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.RequestResponseAssociation;
 import org.apache.pekko.http.javadsl.model.Uri;
 import org.apache.pekko.http.javadsl.model.headers.HttpCredentials;
 import org.apache.pekko.http.javadsl.settings.ClientConnectionSettings;
@@ -51,7 +57,9 @@ import org.apache.pekko.http.javadsl.settings.ConnectionPoolSettings;
 import org.apache.pekko.http.javadsl.settings.ParserSettings;
 import org.apache.pekko.japi.Pair;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
 import scala.util.Failure;
+import scala.util.Success;
 import scala.util.Try;
 
 /**
@@ -66,8 +74,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
      */
     private static final String DISPATCHER_NAME = "http-push-connection-dispatcher";
 
+    private static final AttributeKey<ResponseAssociation> RESPONSE_ASSOCIATION =
+            AttributeKey.create("ditto-http-push-response", ResponseAssociation.class);
+
     private final Connection connection;
     private final int parallelism;
+    private final boolean http2;
     private final Supplier<SshTunnelState> tunnelConfigSupplier;
 
     @Nullable
@@ -76,11 +88,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     @Nullable
     private final HttpsConnectionContext httpsConnectionContext;
 
-    private DefaultHttpPushFactory(final Connection connection, final int parallelism,
+    private DefaultHttpPushFactory(final Connection connection, final int parallelism, final boolean http2,
             final HttpPushConfig httpPushConfig, @Nullable final HttpsConnectionContext httpsConnectionContext,
             final Supplier<SshTunnelState> tunnelConfigSupplier) {
         this.connection = connection;
         this.parallelism = parallelism;
+        this.http2 = http2;
         this.tunnelConfigSupplier = tunnelConfigSupplier;
         if (!httpPushConfig.getHttpProxyConfig().isEnabled()) {
             clientTransport = null;
@@ -118,8 +131,8 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             httpsConnectionContext = null;
         }
 
-        return new DefaultHttpPushFactory(connection, parallelism, httpPushConfig, httpsConnectionContext,
-                tunnelConfigSupplier);
+        return new DefaultHttpPushFactory(connection, parallelism, httpPushSpecificConfig.http2(), httpPushConfig,
+                httpsConnectionContext, tunnelConfigSupplier);
     }
 
     @Override
@@ -180,6 +193,9 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             @Nullable final PreparedTimer timer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer) {
 
+        if (http2) {
+            return createHttp2Flow(system, log, requestTimeout, timer, durationConsumer);
+        }
         final Http http = Http.get(system);
         final ConnectionPoolSettings poolSettings = getConnectionPoolSettings(system);
         final Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?> flow;
@@ -207,6 +223,78 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         });
     }
 
+    /**
+     * Create a flow multiplexing the requests over one HTTP/2 connection, which is re-established when it fails.
+     * The responses may arrive in any order and are associated with their requests by a request attribute.
+     */
+    private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, NotUsed>
+    createHttp2Flow(final ActorSystem system,
+            final LoggingAdapter log,
+            final Duration requestTimeout,
+            @Nullable final PreparedTimer timer,
+            @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer) {
+
+        final Uri baseUri = getBaseUri();
+        final OutgoingConnectionBuilder connectionBuilder = Http.get(system)
+                .connectionTo(baseUri.host().address())
+                .toPort(getEffectivePort(baseUri))
+                .withClientConnectionSettings(getClientConnectionSettings(system))
+                .logTo(log);
+        final Flow<HttpRequest, HttpResponse, NotUsed> connectionFlow;
+        if (null != httpsConnectionContext) {
+            connectionFlow = connectionBuilder.withCustomHttpsConnectionContext(httpsConnectionContext)
+                    .managedPersistentHttp2();
+        } else {
+            // without TLS there is no protocol negotiation, the endpoint has to accept HTTP/2 over cleartext
+            connectionFlow = connectionBuilder.managedPersistentHttp2WithPriorKnowledge();
+        }
+
+        final Sink<ResponseAssociation, NotUsed> sendRequests = Flow.<ResponseAssociation>create()
+                .map(association -> association.request().addAttribute(RESPONSE_ASSOCIATION, association))
+                .via(connectionFlow)
+                .to(Sink.foreach(response -> {
+                    final boolean completed = response.getAttribute(RESPONSE_ASSOCIATION)
+                            .map(association -> association.response().complete(response))
+                            .orElse(false);
+                    if (!completed) {
+                        // the request timed out before
+                        response.discardEntityBytes(system);
+                    }
+                }));
+
+        // the parallelism limits the number of concurrent streams of the connection
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .map(pair -> new ResponseAssociation(pair.first(), pair.second(), new CompletableFuture<>(),
+                        timer != null ? timer.start() : null))
+                .alsoTo(sendRequests)
+                .mapAsyncUnordered(parallelism, association -> association.response()
+                        .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .handle((response, error) -> {
+                            stopTimer(association.startedTimer(), durationConsumer,
+                                    association.context().getInfoProvider(), log);
+                            if (null != error) {
+                                return onRequestTimeout(Pair.create(association.request(), association.context()));
+                            }
+                            return Pair.<Try<HttpResponse>, HttpPushContext>create(new Success<>(response),
+                                    association.context());
+                        }));
+    }
+
+    private ClientConnectionSettings getClientConnectionSettings(final ActorSystem system) {
+        final ClientConnectionSettings settings = ClientConnectionSettings.create(system);
+        return clientTransport == null
+                ? settings
+                : settings.withTransport(clientTransport);
+    }
+
+    private static int getEffectivePort(final Uri uri) {
+        final int port = uri.port();
+        if (port > 0) {
+            return port;
+        }
+        return HttpPushValidator.isSecureScheme(uri.getScheme()) ? 443 : 80;
+    }
+
     private void stopTimer(@Nullable final StartedTimer startedTimer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer,
             final ConnectionMonitor.InfoProvider infoProvider,
@@ -261,6 +349,14 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
                         .withParserSettings(parserSettings.withHeaderValueCacheLimits(disambiguator)));
     }
 
+    /**
+     * Associates a request sent over an HTTP/2 connection with the future of its response.
+     */
+    private record ResponseAssociation(HttpRequest request,
+            HttpPushContext context,
+            CompletableFuture<HttpResponse> response,
+            @Nullable StartedTimer startedTimer) implements RequestResponseAssociation {}
+
     static int parseParallelism(final HttpPushSpecificConfig specificConfig) {
         return determineNextPowerOfTwo(specificConfig.parallelism());
     }
@@ -86,6 +86,7 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMon
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.InfoProviderFactory;
 import org.eclipse.ditto.connectivity.service.messaging.signing.NoOpSigning;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonFactory;
@@ -125,7 +126,8 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
 
     private static final String TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION = "This can have the following reasons:\n" +
             "a) The HTTP endpoint does not consume the messages fast enough.\n" +
-            "b) The client count and/or the parallelism of this connection is not configured high enough.";
+            "b) The client count and/or the parallelism of this connection is not configured high enough.\n" +
+            "c) The connection would benefit from batching messages ('batchSize') or from HTTP/2 ('http2').";
 
     private final HttpPushFactory factory;
 
@@ -305,12 +307,14 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?>
     buildHttpRequestFlow(final HttpPushConfig config) {
 
-        final Duration requestTimeout = HttpPushSpecificConfig.fromConnection(connection, config).idleTimeout();
+        final var specificConfig = HttpPushSpecificConfig.fromConnection(connection, config);
+        final Duration requestTimeout = specificConfig.idleTimeout();
 
         final PreparedTimer timer = DittoMetrics.timer("http_publish_request_time")
                 // Set maximum duration higher than request timeout to avoid race conditions
                 .maximumDuration(requestTimeout.plus(Duration.ofSeconds(5)))
-                .tag("id", connection.getId().toString());
+                .tag("id", connection.getId().toString())
+                .tag("http_version", specificConfig.http2() ? "2" : "1.1");
 
         final BiConsumer<Duration, ConnectionMonitor.InfoProvider> logRequestTimes =
                 (duration, infoProvider) -> connectionLogger.success(infoProvider,
@@ -330,6 +334,16 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final var httpPushFlow =
                 factory.createFlow(getContext().getSystem(), logger, requestTimeout, timer, logRequestTimes);
 
+        if (specificConfig.batchSize() > 1) {
+            final Histogram batchSizes = DittoMetrics.histogram("http_publish_batch_size")
+                    .tag("id", connection.getId().toString());
+            return HttpPushBatchFlow.of(specificConfig.batchSize(), specificConfig.batchTimeout(), batchSizes,
+                            materializer)
+                    .via(oauthFlow)
+                    .via(requestSigningFlow)
+                    .via(httpPushFlow);
+        }
+
         return oauthFlow.via(requestSigningFlow).via(httpPushFlow);
     }
 
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpCharset;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpHeader;
+import org.apache.pekko.http.javadsl.model.HttpMethod;
+import org.apache.pekko.http.javadsl.model.HttpRequest;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.Uri;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.headers.contenttype.ContentType;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Flow collecting the HTTP requests of published messages into batches, each sent as one HTTP request whose body is
+ * a JSON array with one element per message.
+ * <p>
+ * Only requests with the same method and URI are batched. Each element of a batch is a JSON object with the
+ * {@value #HEADERS} of its message, including its {@code content-type}, and its {@value #PAYLOAD}: JSON payloads are
+ * inlined, text payloads are added as strings and binary payloads as base64 encoded strings. A batch request carries
+ * the headers common to all its messages.
+ * If the endpoint responds with a JSON array of as many elements as the batch contained messages, each
+ * element is the response body for the message at the same index; otherwise, each message gets the whole response.
+ * The status and headers of the response apply to all messages, so that acknowledgements and live responses are
+ * still created for each message of a batch.
+ * </p>
+ */
+final class HttpPushBatchFlow {
+
+    private static final long READ_BODY_TIMEOUT_MS = 10000L;
+    private static final String HEADERS = "headers";
+    private static final String PAYLOAD = "payload";
+    private static final String CONTENT_TYPE = "content-type";
+
+    private HttpPushBatchFlow() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Create a flow collecting requests into batches.
+     *
+     * @param batchSize the maximum number of messages of a batch.
+     * @param batchTimeout how long to wait for further messages of a batch.
+     * @param batchSizes histogram to record the number of messages of each sent batch.
+     * @param materializer the materializer to read the response bodies of batches with.
+     * @return the flow emitting one request per batch and the requests of messages without body unchanged.
+     */
+    static Flow<Pair<HttpRequest, HttpPushContext>, Pair<HttpRequest, HttpPushContext>, NotUsed> of(
+            final int batchSize,
+            final Duration batchTimeout,
+            final Histogram batchSizes,
+            final Materializer materializer) {
+
+        return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                .groupedWithin(batchSize, batchTimeout)
+                .flatMapConcat(requests -> Source.from(toBatches(requests, batchSizes, materializer)));
+    }
+
+    private static List<Pair<HttpRequest, HttpPushContext>> toBatches(
+            final List<Pair<HttpRequest, HttpPushContext>> requests,
+            final Histogram batchSizes,
+            final Materializer materializer) {
+
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>();
+        final Map<BatchKey, List<Pair<HttpRequest, HttpPushContext>>> batches = new LinkedHashMap<>();
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            if (request.first().entity() instanceof HttpEntity.Strict strictEntity && !strictEntity.isKnownEmpty()) {
+                batches.computeIfAbsent(BatchKey.of(request.first()), key -> new ArrayList<>()).add(request);
+            } else {
+                // the body of the request was omitted, there is nothing to put into a batch
+                result.add(request);
+            }
+        }
+        batches.values().forEach(batch -> {
+            batchSizes.record((long) batch.size());
+            result.add(toBatchRequest(batch, materializer));
+        });
+
+        return result;
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> toBatchRequest(
+            final List<Pair<HttpRequest, HttpPushContext>> batch,
+            final Materializer materializer) {
+
+        final HttpRequest firstRequest = batch.get(0).first();
+        final List<HttpHeader> commonHeaders = new ArrayList<>();
+        firstRequest.getHeaders().forEach(commonHeaders::add);
+        final JsonArrayBuilder payloads = JsonFactory.newArrayBuilder();
+        final List<HttpPushContext> contexts = new ArrayList<>(batch.size());
+        for (final Pair<HttpRequest, HttpPushContext> request : batch) {
+            final List<HttpHeader> headers = new ArrayList<>();
+            request.first().getHeaders().forEach(headers::add);
+            commonHeaders.retainAll(headers);
+            payloads.add(toBatchElement(headers, (HttpEntity.Strict) request.first().entity()));
+            contexts.add(request.second());
+        }
+        final HttpRequest batchRequest = HttpRequest.create()
+                .withMethod(firstRequest.method())
+                .withUri(firstRequest.getUri())
+                .addHeaders(commonHeaders)
+                .withEntity(ContentTypes.APPLICATION_JSON, payloads.build().toString());
+
+        return Pair.create(batchRequest, new BatchContext(contexts, materializer));
+    }
+
+    private static JsonObject toBatchElement(final List<HttpHeader> headers, final HttpEntity.Strict entity) {
+        final JsonObjectBuilder headersJson = JsonObject.newBuilder();
+        headers.forEach(header -> headersJson.set(JsonKey.of(header.lowercaseName()), JsonValue.of(header.value())));
+        headersJson.set(JsonKey.of(CONTENT_TYPE), JsonValue.of(entity.getContentType().toString()));
+        return JsonObject.newBuilder()
+                .set(HEADERS, headersJson.build())
+                .set(PAYLOAD, toJsonPayload(entity))
+                .build();
+    }
+
+    private static JsonValue toJsonPayload(final HttpEntity.Strict entity) {
+        final org.apache.pekko.http.javadsl.model.ContentType contentType = entity.getContentType();
+        final ContentType dittoContentType = ContentType.of(contentType.toString());
+        if (dittoContentType.isBinary()) {
+            return JsonValue.of(Base64.getEncoder().encodeToString(entity.getData().toArray()));
+        }
+        final Charset charset = contentType.getCharsetOption()
+                .map(HttpCharset::nioCharset)
+                .orElse(StandardCharsets.UTF_8);
+        final String payload = entity.getData().decodeString(charset);
+        if (dittoContentType.isJson()) {
+            try {
+                return JsonFactory.readFrom(payload);
+            } catch (final Exception e) {
+                return JsonValue.of(payload);
+            }
+        }
+
+        return JsonValue.of(payload);
+    }
+
+    private record BatchKey(HttpMethod method, Uri uri) {
+
+        private static BatchKey of(final HttpRequest request) {
+            return new BatchKey(request.method(), request.getUri());
+        }
+
+    }
+
+    /**
+     * Context of a batch request passing the response to the contexts of the messages of the batch.
+     */
+    private record BatchContext(List<HttpPushContext> contexts, Materializer materializer)
+            implements HttpPushContext {
+
+        @Override
+        public void onResponse(final Try<HttpResponse> tryResponse) {
+            if (tryResponse.isSuccess()) {
+                final HttpResponse response = tryResponse.get();
+                response.entity()
+                        .toStrict(READ_BODY_TIMEOUT_MS, materializer)
+                        .whenComplete((strictEntity, error) -> {
+                            if (null != error) {
+                                contexts.forEach(context -> context.onResponse(new Failure<>(error)));
+                            } else {
+                                splitResponse(response, strictEntity);
+                            }
+                        });
+            } else {
+                contexts.forEach(context -> context.onResponse(tryResponse));
+            }
+        }
+
+        @Override
+        public ConnectionMonitor.InfoProvider getInfoProvider() {
+            return contexts.get(0).getInfoProvider();
+        }
+
+        private void splitResponse(final HttpResponse response, final HttpEntity.Strict strictEntity) {
+            final JsonArray responsePayloads = toResponsePayloads(strictEntity);
+            for (int i = 0; i < contexts.size(); i++) {
+                final HttpResponse messageResponse;
+                if (null != responsePayloads) {
+                    messageResponse = response.withEntity(ContentTypes.APPLICATION_JSON,
+                            responsePayloads.get(i).orElseThrow().toString());
+                } else {
+                    messageResponse = response.withEntity(strictEntity.getContentType(), strictEntity.getData());
+                }
+                contexts.get(i).onResponse(new Success<>(messageResponse));
+            }
+        }
+
+        @Nullable
+        private JsonArray toResponsePayloads(final HttpEntity.Strict strictEntity) {
+            final ContentType dittoContentType = ContentType.of(strictEntity.getContentType().toString());
+            if (dittoContentType.isJson()) {
+                try {
+                    final JsonValue payload = JsonFactory.readFrom(strictEntity.getData().utf8String());
+                    if (payload.isArray() && payload.asArray().getSize() == contexts.size()) {
+                        return payload.asArray();
+                    }
+                } catch (final Exception e) {
+                    // the whole body is passed to each message
+                }
+            }
+
+            return null;
+        }
+
+    }
+
+}
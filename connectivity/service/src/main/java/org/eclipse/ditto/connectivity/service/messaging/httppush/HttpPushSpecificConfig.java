@@ -37,6 +37,11 @@ public final class HttpPushSpecificConfig {
     static final String IDLE_TIMEOUT = "idleTimeout";
     static final String PARALLELISM = "parallelism";
     static final String OMIT_REQUEST_BODY = "omitRequestBody";
+    static final String HTTP2 = "http2";
+    static final String BATCH_SIZE = "batchSize";
+    static final String BATCH_TIMEOUT = "batchTimeout";
+
+    private static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofMillis(100L);
 
     private final Config specificConfig;
 
@@ -65,6 +70,9 @@ public final class HttpPushSpecificConfig {
         defaultMap.put(IDLE_TIMEOUT, httpConfig.getRequestTimeout());
         defaultMap.put(PARALLELISM, 1);
         defaultMap.put(OMIT_REQUEST_BODY, httpConfig.getOmitRequestBodyMethods());
+        defaultMap.put(HTTP2, false);
+        defaultMap.put(BATCH_SIZE, 1);
+        defaultMap.put(BATCH_TIMEOUT, DEFAULT_BATCH_TIMEOUT);
 
         return defaultMap;
     }
@@ -98,6 +106,33 @@ public final class HttpPushSpecificConfig {
         }
     }
 
+    /**
+     * @return whether HTTP requests are multiplexed over one HTTP/2 connection instead of being sent over a pool of
+     * HTTP/1.1 connections.
+     * @since 3.10.0
+     */
+    public boolean http2() {
+        return specificConfig.getBoolean(HTTP2);
+    }
+
+    /**
+     * @return the maximum number of messages sent in the JSON array body of one HTTP request, {@code 1} to send one
+     * request per message.
+     * @since 3.10.0
+     */
+    public int batchSize() {
+        return specificConfig.getInt(BATCH_SIZE);
+    }
+
+    /**
+     * @return how long to wait for further messages before sending a batch of less than {@link #batchSize()}
+     * messages.
+     * @since 3.10.0
+     */
+    public Duration batchTimeout() {
+        return specificConfig.getDuration(BATCH_TIMEOUT);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -57,6 +57,8 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
             .collect(Collectors.joining(", "));
 
     static final Duration MAX_IDLE_TIMEOUT = Duration.of(60, ChronoUnit.SECONDS);
+    static final int MAX_BATCH_SIZE = 1000;
+    static final Duration MAX_BATCH_TIMEOUT = Duration.of(10, ChronoUnit.SECONDS);
 
     private final HttpPushConfig httpPushConfig;
     private final boolean oauth2EnforceHttps;
@@ -165,6 +167,8 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateIdleTimeout(httpPushSpecificConfig.idleTimeout(), dittoHeaders);
         validateParallelism(httpPushSpecificConfig.parallelism(), dittoHeaders);
         validateOmitBodyMethods(httpPushSpecificConfig.omitRequestBody(), dittoHeaders);
+        validateBatchSize(httpPushSpecificConfig.batchSize(), dittoHeaders);
+        validateBatchTimeout(httpPushSpecificConfig.batchTimeout(), dittoHeaders);
     }
 
     private static void validateIdleTimeout(final Duration idleTimeout, final DittoHeaders dittoHeaders) {
@@ -205,6 +209,29 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
+    private static void validateBatchSize(final int batchSize, final DittoHeaders dittoHeaders) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
+                    "It must be an integer within the allowed range of [1, %d].",
+                    batchSize, HttpPushSpecificConfig.BATCH_SIZE, MAX_BATCH_SIZE);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    private static void validateBatchTimeout(final Duration batchTimeout, final DittoHeaders dittoHeaders) {
+        if (batchTimeout.isNegative() || batchTimeout.isZero() || batchTimeout.compareTo(MAX_BATCH_TIMEOUT) > 0) {
+            throw ConnectionConfigurationInvalidException
+                    .newBuilder("Batch timeout '" + batchTimeout.toMillis() +
+                            "' is not within the allowed range of (0, " + MAX_BATCH_TIMEOUT.toMillis() +
+                            "] milliseconds.")
+                    .description("Please adjust the timeout to be within the allowed range.")
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     private static ConnectionConfigurationInvalidException parallelismValidationFailed(final int parallelism,
             final DittoHeaders headers) {
 
@@ -27,6 +27,7 @@ import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.connectivity.service.config.ConnectionThrottlingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.AcknowledgeableMessage;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.slf4j.Logger;
 
@@ -43,6 +44,12 @@ import org.apache.pekko.stream.javadsl.Source;
 
 /**
  * Kafka consumer stream with "at least once" (QoS 1) semantics.
+ * <p>
+ * With a partition parallelism greater than 1 each assigned partition is consumed by its own source and processed in
+ * its own sub-stream, up to that many partitions at a time. A record awaiting its acknowledgement thus only holds back
+ * the records of its own partition. As the records of a partition are processed in order, its offsets are still
+ * committed in order and the order of records with the same key is preserved.
+ * </p>
  */
 @Immutable
 final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
@@ -61,6 +68,7 @@ final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
             final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier,
             final CommitterSettings committerSettings,
             final ConnectionThrottlingConfig throttlingConfig,
+            final int partitionParallelism,
             final KafkaMessageTransformer kafkaMessageTransformer,
             final boolean dryRun,
             final Materializer materializer,
@@ -92,25 +100,61 @@ final class AtLeastOnceConsumerStream implements KafkaConsumerStream {
 
         this.materializer = materializer;
 
-        final var source = sourceSupplier.get()
-                .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
-                .map(kafkaMessageTransformer::transform)
-                .filter(Objects::nonNull);
+        if (partitionParallelism > 1) {
+            final int maxInFlightPerPartition = Math.max(1, throttlingConfig.getMaxInFlight() / partitionParallelism);
+            consumerControl = sourceSupplier.getPartitioned()
+                    .flatMapMerge(partitionParallelism, partitionSource -> {
+                        final Gauge inFlightGauge = KafkaConsumerMetrics.partitionInFlightGauge(connectionId,
+                                consumerId, partitionSource.first());
+                        return throttle(partitionSource.second()
+                                        .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
+                                        .map(kafkaMessageTransformer::transform)
+                                        .filter(Objects::nonNull),
+                                throttlingConfig, partitionParallelism)
+                                .flatMapConcat(this::processTransformationResult)
+                                .map(offsetFuture -> trackInFlight(offsetFuture, inFlightGauge))
+                                .mapAsync(maxInFlightPerPartition, x -> x)
+                                .watchTermination((notUsed, done) -> {
+                                    // the source of a partition completes when the partition is revoked
+                                    done.whenComplete((d, error) -> inFlightGauge.set(0L));
+                                    return notUsed;
+                                });
+                    })
+                    .toMat(Committer.sink(committerSettings), Consumer::createDrainingControl)
+                    .run(materializer);
+        } else {
+            final var source = sourceSupplier.get()
+                    .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
+                    .map(kafkaMessageTransformer::transform)
+                    .filter(Objects::nonNull);
+            consumerControl = throttle(source, throttlingConfig, 1)
+                    .flatMapConcat(this::processTransformationResult)
+                    .mapAsync(throttlingConfig.getMaxInFlight(), x -> x)
+                    .toMat(Committer.sink(committerSettings), Consumer::createDrainingControl)
+                    .run(materializer);
+        }
+
+        consumerMetrics = KafkaConsumerMetrics.newInstance(consumerControl, connectionId, consumerId);
+    }
+
+    /**
+     * Throttles one of the given number of sources which share the throttling limit of the consumer.
+     */
+    private static <T, M> Source<T, M> throttle(final Source<T, M> source,
+            final ConnectionThrottlingConfig throttlingConfig, final int sharingSources) {
 
-        final Source<CommittableTransformationResult, Consumer.Control> throttledSource;
         if (throttlingConfig.isEnabled()) {
-            throttledSource = source.throttle(throttlingConfig.getLimit(), throttlingConfig.getInterval());
-        } else {
-            throttledSource = source;
+            return source.throttle(Math.max(1, throttlingConfig.getLimit() / sharingSources),
+                    throttlingConfig.getInterval());
         }
+        return source;
+    }
 
-        consumerControl = throttledSource
-                .flatMapConcat(this::processTransformationResult)
-                .mapAsync(throttlingConfig.getMaxInFlight(), x -> x)
-                .toMat(Committer.sink(committerSettings), Consumer::createDrainingControl)
-                .run(materializer);
+    private static CompletableFuture<CommittableOffset> trackInFlight(
+            final CompletableFuture<CommittableOffset> offsetFuture, final Gauge inFlightGauge) {
 
-        consumerMetrics = KafkaConsumerMetrics.newInstance(consumerControl, connectionId, consumerId);
+        inFlightGauge.increment();
+        return offsetFuture.whenComplete((offset, error) -> inFlightGauge.decrement());
     }
 
     @Override
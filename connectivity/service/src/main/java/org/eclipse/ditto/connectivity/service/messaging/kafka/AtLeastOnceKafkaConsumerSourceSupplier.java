@@ -16,7 +16,10 @@ import java.nio.ByteBuffer;
 import java.util.function.Supplier;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.Pair;
 import org.apache.pekko.kafka.AutoSubscription;
 import org.apache.pekko.kafka.ConsumerMessage;
 import org.apache.pekko.kafka.ConsumerSettings;
@@ -44,10 +47,27 @@ class AtLeastOnceKafkaConsumerSourceSupplier
 
     @Override
     public Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, Consumer.Control> get() {
-        final ConsumerSettings<String, ByteBuffer> consumerSettings = propertiesFactory.getConsumerSettings(dryRun)
-                .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
         final AutoSubscription subscription = Subscriptions.topics(sourceAddress);
-        return Consumer.committableSource(consumerSettings, subscription);
+        return Consumer.committableSource(getConsumerSettings(), subscription);
+    }
+
+    /**
+     * Returns a {@link Source} emitting a {@link Source} of the committable messages of each partition assigned to the
+     * consumer. The source of a partition completes when the partition is revoked.
+     *
+     * @return the source of the sources per partition.
+     * @since 3.10.0
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed>>,
+            Consumer.Control> getPartitioned() {
+
+        final AutoSubscription subscription = Subscriptions.topics(sourceAddress);
+        return Consumer.committablePartitionedSource(getConsumerSettings(), subscription);
+    }
+
+    private ConsumerSettings<String, ByteBuffer> getConsumerSettings() {
+        return propertiesFactory.getConsumerSettings(dryRun)
+                .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
     }
 
 }
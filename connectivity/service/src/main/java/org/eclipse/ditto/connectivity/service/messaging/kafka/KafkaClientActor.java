@@ -260,7 +260,8 @@ public final class KafkaClientActor extends BaseClientActor {
         final KafkaConsumerConfig consumerConfig = kafkaConfig.getConsumerConfig();
         final ConnectionThrottlingConfig throttlingConfig = consumerConfig.getThrottlingConfig();
         final KafkaConsumerStreamFactory streamFactory =
-                new KafkaConsumerStreamFactory(throttlingConfig, propertiesFactory, consumerData, dryRun);
+                new KafkaConsumerStreamFactory(throttlingConfig, consumerConfig.getPartitionParallelism(),
+                        propertiesFactory, consumerData, dryRun);
         final Props consumerActorProps =
                 KafkaConsumerActor.props(connection(), streamFactory, consumerData, getInboundMappingSink(),
                         connectivityStatusResolver, connectivityConfig());
@@ -14,10 +14,12 @@ package org.eclipse.ditto.connectivity.service.messaging.kafka;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
@@ -33,6 +35,9 @@ public final class KafkaConsumerMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerMetrics.class);
     private static final String KAFKA_CONSUMER_METRIC_PREFIX = "kafka_consumer_";
+    private static final String KAFKA_CONSUMER_PARTITION_METRIC_PREFIX = KAFKA_CONSUMER_METRIC_PREFIX + "partition_";
+    private static final String TOPIC_TAG = "topic";
+    private static final String PARTITION_TAG = "partition";
 
     private final Consumer.Control consumerControl;
     private final ConnectionId connectionId;
@@ -65,6 +70,26 @@ public final class KafkaConsumerMetrics {
         return new KafkaConsumerMetrics(consumerControl, connectionId, consumerId);
     }
 
+    /**
+     * Returns the gauge counting the records of one partition which are processed but not yet acknowledged by a
+     * consumer with partition parallelism.
+     *
+     * @param connectionId the {@code connectionId} of the consumer.
+     * @param consumerId the unique identifier of the consumer stream.
+     * @param topicPartition the partition.
+     * @return the gauge.
+     * @since 3.10.0
+     */
+    static Gauge partitionInFlightGauge(final ConnectionId connectionId, final String consumerId,
+            final TopicPartition topicPartition) {
+
+        return DittoMetrics.gauge(KAFKA_CONSUMER_PARTITION_METRIC_PREFIX + "in_flight")
+                .tag("connectionId", connectionId.toString())
+                .tag("consumerId", consumerId)
+                .tag(TOPIC_TAG, topicPartition.topic())
+                .tag(PARTITION_TAG, String.valueOf(topicPartition.partition()));
+    }
+
     private static Predicate<Metric> metricContainsValue() {
         return metric -> !(metric.metricValue() instanceof String);
     }
@@ -78,7 +103,7 @@ public final class KafkaConsumerMetrics {
                     .thenAccept(metrics -> metrics.values()
                             .stream()
                             .filter(metricContainsValue())
-                            .forEach(metric -> getGauge(metric.metricName()).set((Double) metric.metricValue())));
+                            .forEach(this::reportMetric));
         } catch (final NullPointerException ex) {
             /*
              * When getMetrics() is called directly after establishing the connection, it can happen that a
@@ -90,10 +115,31 @@ public final class KafkaConsumerMetrics {
         }
     }
 
+    private void reportMetric(final Metric metric) {
+        final MetricName metricName = metric.metricName();
+        final Double value = (Double) metric.metricValue();
+        getGauge(metricName).set(value);
+
+        // partition level metrics like the records lag are additionally reported per partition with their own names
+        final Map<String, String> tags = metricName.tags();
+        if (tags.containsKey(PARTITION_TAG)) {
+            DittoMetrics.gauge(KAFKA_CONSUMER_PARTITION_METRIC_PREFIX + toGaugeName(metricName))
+                    .tag("connectionId", connectionId.toString())
+                    .tag("consumerId", consumerId)
+                    .tag(TOPIC_TAG, String.valueOf(tags.get(TOPIC_TAG)))
+                    .tag(PARTITION_TAG, tags.get(PARTITION_TAG))
+                    .set(value);
+        }
+    }
+
     private Gauge getGauge(final MetricName metricName) {
-        return DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + metricName.name().replace("-", "_"))
+        return DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + toGaugeName(metricName))
                 .tag("connectionId", connectionId.toString())
                 .tag("consumerId", consumerId);
     }
 
+    private static String toGaugeName(final MetricName metricName) {
+        return metricName.name().replace("-", "_");
+    }
+
 }
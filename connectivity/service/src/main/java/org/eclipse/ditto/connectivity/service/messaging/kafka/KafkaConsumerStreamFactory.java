@@ -42,13 +42,16 @@ final class KafkaConsumerStreamFactory {
     private final AtMostOnceKafkaConsumerSourceSupplier atMostOnceKafkaConsumerSourceSupplier;
     private final AtLeastOnceKafkaConsumerSourceSupplier atLeastOnceKafkaConsumerSourceSupplier;
     private final ConnectionThrottlingConfig throttlingConfig;
+    private final int partitionParallelism;
 
     KafkaConsumerStreamFactory(final ConnectionThrottlingConfig throttlingConfig,
+            final int partitionParallelism,
             final PropertiesFactory propertiesFactory,
             final ConsumerData consumerData,
             final boolean dryRun) {
 
         this.throttlingConfig = throttlingConfig;
+        this.partitionParallelism = partitionParallelism;
         this.consumerData = consumerData;
         this.dryRun = dryRun;
         this.propertiesFactory = propertiesFactory;
@@ -77,6 +80,7 @@ final class KafkaConsumerStreamFactory {
         this.dryRun = dryRun;
         propertiesFactory = null;
         this.throttlingConfig = throttlingConfig;
+        partitionParallelism = 1;
         this.atMostOnceKafkaConsumerSourceSupplier = atMostOnceKafkaConsumerSourceSupplier;
         this.atLeastOnceKafkaConsumerSourceSupplier = atLeastOnceKafkaConsumerSourceSupplier;
     }
@@ -117,6 +121,7 @@ final class KafkaConsumerStreamFactory {
         return new AtLeastOnceConsumerStream(atLeastOnceKafkaConsumerSourceSupplier,
                 propertiesFactory.getCommitterSettings(),
                 throttlingConfig,
+                partitionParallelism,
                 kafkaMessageTransformer,
                 dryRun,
                 materializer,
@@ -15,26 +15,39 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Simple implementation of a sliding window using rings of time slots. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
  * fill the {@code window}.
+ * <p>
+ * Recording windows of the same resolution share one ring per success and failure measurements. A ring has a fixed
+ * number of slots, enough for its largest window plus {@link #LATE_MEASUREMENT_TOLERANCE}, and is only allocated on
+ * its first measurement. Each slot is a single {@code long} packing the lower bits of the slot's time index with its
+ * count, so that a slot is reused for a later time index by one compare-and-set without locking or boxing.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
+    /**
+     * Measurements older than the current time by this duration are still counted in their slots.
+     */
+    static final Duration LATE_MEASUREMENT_TOLERANCE = Duration.ofMinutes(5);
+
     private final Clock clock;
 
     // There are two different windows (usually they are the same), which allow recording using a single window
@@ -43,35 +56,63 @@ public final class SlidingWindowCounter {
     private final MeasurementWindow[] windowsForRecording;
     private final MeasurementWindow[] windowsForReporting;
 
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    // recording windows per ring, the rings of the same index record the success and failure measurements
+    private final MeasurementWindow[][] recordingWindowsPerRing;
+    private final SlotRing[] successRings;
+    private final SlotRing[] failureRings;
+    // index of the ring a reporting window is calculated from or -1 if no window of its resolution is recorded
+    private final int[] ringIndexPerReportingWindow;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
     private final Counter metricsCounter;
     @Nullable private final MetricsAlert metricsAlert;
     private final long maximumPerSlot;
-    private final boolean cleanUpEnabled;
 
     // allows to override the reported value with a fixed value by checking the last modified timestamp instead of
-    // calculating from the measurement maps (allows more accuracy for the shortest window)
+    // calculating from the measurement slots (allows more accuracy for the shortest window)
     private final Map<MeasurementWindow, Long> lastTimestampOverrides;
 
     private SlidingWindowCounter(final SlidingWindowCounterBuilder builder) {
         metricsCounter = builder.metricsCounter;
         clock = builder.clock;
         metricsAlert = builder.metricsAlert;
-        cleanUpEnabled = builder.cleanUpEnabled;
         windowsForRecording = builder.recordingMeasurementWindows;
         windowsForReporting = builder.reportingMeasurementWindows;
         maximumPerSlot = builder.maximumPerSlot;
         lastTimestampOverrides = builder.lastTimestampOverrides;
 
-        minResolution = Stream.of(windowsForRecording)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        final Map<Duration, List<MeasurementWindow>> recordingWindowsPerResolution = new LinkedHashMap<>();
+        for (final MeasurementWindow window : windowsForRecording) {
+            recordingWindowsPerResolution.computeIfAbsent(window.getResolution(), r -> new ArrayList<>()).add(window);
+        }
+        final int ringCount = recordingWindowsPerResolution.size();
+        recordingWindowsPerRing = new MeasurementWindow[ringCount][];
+        successRings = new SlotRing[ringCount];
+        failureRings = new SlotRing[ringCount];
+        final Map<Duration, Integer> ringIndexPerResolution = new HashMap<>();
+        int ringIndex = 0;
+        for (final Map.Entry<Duration, List<MeasurementWindow>> entry : recordingWindowsPerResolution.entrySet()) {
+            final long resolutionInMs = entry.getKey().toMillis();
+            final long largestWindowInMs = entry.getValue().stream()
+                    .mapToLong(window -> window.getWindow().toMillis())
+                    .max()
+                    .orElse(resolutionInMs);
+            final int size = Math.toIntExact(
+                    divideRoundingUp(largestWindowInMs + LATE_MEASUREMENT_TOLERANCE.toMillis(), resolutionInMs) + 1);
+            recordingWindowsPerRing[ringIndex] = entry.getValue().toArray(MeasurementWindow[]::new);
+            successRings[ringIndex] = new SlotRing(resolutionInMs, size);
+            failureRings[ringIndex] = new SlotRing(resolutionInMs, size);
+            ringIndexPerResolution.put(entry.getKey(), ringIndex);
+            ringIndex++;
+        }
+        ringIndexPerReportingWindow = Arrays.stream(windowsForReporting)
+                .mapToInt(window -> ringIndexPerResolution.getOrDefault(window.getResolution(), -1))
+                .toArray();
+    }
+
+    private static long divideRoundingUp(final long dividend, final long divisor) {
+        return (dividend + divisor - 1) / divisor;
     }
 
     /**
@@ -111,7 +152,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -121,60 +162,34 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
             metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            updateTimestamp(lastSuccessTimestamp, ts);
+            incrementMeasurements(ts, successRings);
         } else {
             metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
+            updateTimestamp(lastFailureTimestamp, ts);
+            incrementMeasurements(ts, failureRings);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (cleanUpEnabled && previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
     }
 
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            final long newValue = measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-            if (metricsAlert != null && metricsAlert.evaluateCondition(window, slot, newValue)) {
-                metricsAlert.triggerAction(ts, newValue);
-            }
-        }
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        toUpdate.accumulateAndGet(ts, Math::max);
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(final long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private void incrementMeasurements(final long ts, final SlotRing[] rings) {
+        for (int i = 0; i < rings.length; i++) {
+            final SlotRing ring = rings[i];
+            final long slot = getSlot(ts, ring.resolutionInMs);
+            final long newValue = ring.increment(slot);
+            if (metricsAlert != null && newValue > 0) {
+                for (final MeasurementWindow window : recordingWindowsPerRing[i]) {
+                    if (metricsAlert.evaluateCondition(window, slot, newValue)) {
+                        metricsAlert.triggerAction(ts, newValue);
+                    }
+                }
             }
         }
-        return true;
     }
 
     /**
@@ -185,38 +200,34 @@ public final class SlidingWindowCounter {
      */
     Map<Duration, Long> getCounts(final boolean success) {
         if (success) {
-            return getCounts(successMeasurements, lastSuccessTimestamp.get());
+            return getCounts(successRings, lastSuccessTimestamp.get());
         }
-        return getCounts(failureMeasurements, lastFailureTimestamp.get());
+        return getCounts(failureRings, lastFailureTimestamp.get());
     }
 
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param rings the rings of the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements,
-            final long lastTimestamp) {
+    private Map<Duration, Long> getCounts(final SlotRing[] rings, final long lastTimestamp) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForReporting) {
+        final long now = clock.millis();
+        for (int i = 0; i < windowsForReporting.length; i++) {
+            final MeasurementWindow window = windowsForReporting[i];
+            final int ringIndex = ringIndexPerReportingWindow[i];
             long sum = 0;
             if (lastTimestampOverrides.containsKey(window) && now - window.getWindow().toMillis() < lastTimestamp) {
                 sum = lastTimestampOverrides.get(window);
-            } else {
+            } else if (ringIndex >= 0) {
                 // min is where we start to sum up the slots
                 final long windowInMs = window.getWindow().toMillis();
                 final long resolutionInMs = window.getResolution().toMillis();
                 final long min = getSlot(now - windowInMs, resolutionInMs);
                 // max is the current active time slot
                 final long max = getSlot(now, resolutionInMs);
-                for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                    final long slot = e.getKey();
-                    if (slot > min && slot <= max) {
-                        sum += Math.min(maximumPerSlot, e.getValue());
-                    }
-                }
+                sum = rings[ringIndex].sum(min, max, maximumPerSlot);
             }
             result.put(window.getWindow(), sum);
         }
@@ -227,16 +238,111 @@ public final class SlidingWindowCounter {
      * Reset all counts.
      */
     void reset() {
-        reset(successMeasurements);
-        reset(failureMeasurements);
+        for (int i = 0; i < successRings.length; i++) {
+            successRings[i].reset();
+            failureRings[i].reset();
+        }
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private static long getSlot(final long ts, final long resolutionInMs) {
+        return ts / resolutionInMs;
     }
 
-    private long getSlot(final long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    /**
+     * A fixed number of slots counting the measurements of the time indexes mapped to them.
+     */
+    private static final class SlotRing {
+
+        private static final AtomicReferenceFieldUpdater<SlotRing, AtomicLongArray> SLOTS_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(SlotRing.class, AtomicLongArray.class, "slots");
+
+        // a slot packs the lower bits of its time index ("tag") into the upper bits and its count into the lower bits
+        private static final int COUNT_BITS = 40;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+        private static final int TAG_BITS = Long.SIZE - COUNT_BITS;
+        private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+
+        private final long resolutionInMs;
+        private final int size;
+        @Nullable private volatile AtomicLongArray slots;
+
+        private SlotRing(final long resolutionInMs, final int size) {
+            this.resolutionInMs = resolutionInMs;
+            this.size = size;
+        }
+
+        /**
+         * Increments the count of the time index, reusing its slot if the slot still counts an earlier time index.
+         *
+         * @return the new count or 0 if the slot already counts a later time index.
+         */
+        private long increment(final long timeIndex) {
+            final AtomicLongArray theSlots = getOrCreateSlots();
+            final int index = (int) Math.floorMod(timeIndex, (long) size);
+            final long tag = timeIndex & TAG_MASK;
+            while (true) {
+                final long current = theSlots.get(index);
+                final long currentTag = current >>> COUNT_BITS;
+                final long currentCount = current & COUNT_MASK;
+                final long newCount;
+                if (currentTag == tag) {
+                    newCount = currentCount + 1;
+                } else if (currentCount == 0 || isEarlier(currentTag, tag)) {
+                    newCount = 1;
+                } else {
+                    return 0;
+                }
+                if (theSlots.compareAndSet(index, current, (tag << COUNT_BITS) | newCount)) {
+                    return newCount;
+                }
+            }
+        }
+
+        private static boolean isEarlier(final long tag, final long otherTag) {
+            // the tags of the time indexes mapped to one slot are at most a few ring sizes apart
+            return ((otherTag - tag) & TAG_MASK) < (1L << (TAG_BITS - 1));
+        }
+
+        /**
+         * Sums up the counts of the time indexes in the range {@code (min, max]}, limiting each to
+         * {@code maximumPerSlot}.
+         */
+        private long sum(final long min, final long max, final long maximumPerSlot) {
+            final AtomicLongArray theSlots = slots;
+            long sum = 0;
+            if (theSlots != null) {
+                for (long timeIndex = max; timeIndex > min && timeIndex > max - size; timeIndex--) {
+                    final long slot = theSlots.get((int) Math.floorMod(timeIndex, (long) size));
+                    if ((slot >>> COUNT_BITS) == (timeIndex & TAG_MASK)) {
+                        sum += Math.min(maximumPerSlot, slot & COUNT_MASK);
+                    }
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            SLOTS_UPDATER.set(this, null);
+        }
+
+        private AtomicLongArray getOrCreateSlots() {
+            AtomicLongArray theSlots = slots;
+            while (theSlots == null) {
+                SLOTS_UPDATER.compareAndSet(this, null, new AtomicLongArray(size));
+                theSlots = slots;
+            }
+            return theSlots;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "resolutionInMs=" + resolutionInMs +
+                    ", size=" + size +
+                    ", allocated=" + (slots != null) +
+                    "]";
+        }
+
     }
 
     /**
@@ -247,7 +353,6 @@ public final class SlidingWindowCounter {
         private final Counter metricsCounter;
         private Clock clock = Clock.systemUTC();
         private MetricsAlert metricsAlert = null;
-        private boolean cleanUpEnabled = true;
         private MeasurementWindow[] recordingMeasurementWindows;
         private MeasurementWindow[] reportingMeasurementWindows;
         private long maximumPerSlot = Long.MAX_VALUE;
@@ -267,11 +372,6 @@ public final class SlidingWindowCounter {
             return this;
         }
 
-        SlidingWindowCounterBuilder cleanUpEnabled(final boolean cleanUpEnabled) {
-            this.cleanUpEnabled = cleanUpEnabled;
-            return this;
-        }
-
         SlidingWindowCounterBuilder recordingMeasurementWindows(
                 final MeasurementWindow... recordingMeasurementWindows) {
             this.recordingMeasurementWindows = recordingMeasurementWindows;
@@ -313,15 +413,13 @@ public final class SlidingWindowCounter {
                 "clock=" + clock +
                 ", windowsForRecording=" + Arrays.toString(windowsForRecording) +
                 ", windowsForReporting=" + Arrays.toString(windowsForReporting) +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                ", successRings=" + Arrays.toString(successRings) +
+                ", failureRings=" + Arrays.toString(failureRings) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
-                ", minResolution=" + minResolution +
                 ", metricsCounter=" + metricsCounter +
                 ", metricsAlert=" + metricsAlert +
                 ", maximumPerSlot=" + maximumPerSlot +
-                ", cleanUpEnabled=" + cleanUpEnabled +
                 ", lastTimestampOverrides=" + lastTimestampOverrides +
                 "]";
     }
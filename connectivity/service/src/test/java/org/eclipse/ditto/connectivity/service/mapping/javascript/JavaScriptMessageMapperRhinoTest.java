@@ -13,6 +13,7 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -42,6 +43,7 @@ import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
 import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.model.MessageMapperConfigurationFailedException;
 import org.eclipse.ditto.connectivity.model.signals.announcements.ConnectionOpenedAnnouncement;
 import org.eclipse.ditto.connectivity.service.config.ConnectivityConfig;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
@@ -1095,6 +1097,42 @@ public final class JavaScriptMessageMapperRhinoTest {
         assertThat(adaptable.getPayload().getValue()).contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING));
     }
 
+    @Test
+    public void mappingScriptsCannotModifySharedLibraries() {
+        final MessageMapper tamperingMapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+
+        assertThatExceptionOfType(MessageMapperConfigurationFailedException.class)
+                .isThrownBy(() -> tamperingMapper.configure(CONNECTION,
+                        CONNECTIVITY_CONFIG,
+                        JavaScriptMessageMapperFactory
+                                .createJavaScriptMessageMapperConfigurationBuilder("tampering",
+                                        Collections.emptyMap())
+                                .incomingScript("Ditto.buildDittoProtocolMsg = function() { return null; };")
+                                .outgoingScript("")
+                                .build(),
+                        actorSystem
+                ));
+
+        testPlainJavascriptIncomingMapping();
+    }
+
+    @Test
+    public void mappingScriptsCannotModifyModulesRequiredByOtherMappers() {
+        final MessageMapper tamperingMapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        tamperingMapper.configure(CONNECTION,
+                CONNECTIVITY_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("tamperingWithModules",
+                                Collections.emptyMap())
+                        .incomingScript("require(\"protobuf\").parse = function() { throw 'tampered'; };")
+                        .outgoingScript("")
+                        .build(),
+                actorSystem
+        );
+
+        testWithProtobufJsJavascriptIncomingMapping();
+    }
+
     @Test
     public void testPlainJavascriptIncomingMappingWithStatus() {
         final String correlationId = UUID.randomUUID().toString();
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript.benchmark;
+
+import static org.eclipse.ditto.connectivity.service.mapping.javascript.benchmark.MapToDittoProtocolScenario.CONFIG;
+import static org.eclipse.ditto.connectivity.service.mapping.javascript.benchmark.MapToDittoProtocolScenario.CONNECTION;
+import static org.eclipse.ditto.connectivity.service.mapping.javascript.benchmark.MapToDittoProtocolScenario.CONNECTIVITY_CONFIG;
+
+import java.util.Collections;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
+import org.eclipse.ditto.connectivity.service.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Configures new mappers with the script of {@link Test2ParseJsonPayloadToDitto}, as done for each connection client
+ * and each mapping processor using it. After the first configuration the compiled script and the library scope are
+ * shared.
+ */
+@State(Scope.Benchmark)
+public class ConfigureMapperWithSharedScripts {
+
+    private ActorSystem actorSystem;
+
+    @Setup
+    public void setUp() {
+        actorSystem = ActorSystem.create("Test", CONFIG);
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    public MessageMapper configureNewMapper() {
+        final MessageMapper messageMapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        messageMapper.configure(CONNECTION, CONNECTIVITY_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("ditto", Collections.emptyMap())
+                        .incomingScript(Test2ParseJsonPayloadToDitto.MAPPING_INCOMING_PLAIN)
+                        .build(),
+                actorSystem
+        );
+        return messageMapper;
+    }
+
+}
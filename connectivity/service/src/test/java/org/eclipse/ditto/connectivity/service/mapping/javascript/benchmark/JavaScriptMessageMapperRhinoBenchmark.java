@@ -75,6 +75,13 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public MessageMapper configureMapperWithSharedScripts(final ConfigureMapperWithSharedScripts scenario) {
+        return scenario.configureNewMapper();
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
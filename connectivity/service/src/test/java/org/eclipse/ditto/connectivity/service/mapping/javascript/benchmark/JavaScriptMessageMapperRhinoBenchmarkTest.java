@@ -109,6 +109,22 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void configureMapperWithSharedScripts() {
+        final ConfigureMapperWithSharedScripts scenario = new ConfigureMapperWithSharedScripts();
+        scenario.setUp();
+        try {
+            final ExternalMessage externalMessage = new Test2ParseJsonPayloadToDitto().getExternalMessage();
+            final List<Adaptable> first = scenario.configureNewMapper().map(externalMessage);
+            final List<Adaptable> second = scenario.configureNewMapper().map(externalMessage);
+
+            assertThat(second).isEqualTo(first);
+            second.forEach(JavaScriptMessageMapperRhinoBenchmarkTest::assertDefaults);
+        } finally {
+            scenario.tearDown();
+        }
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
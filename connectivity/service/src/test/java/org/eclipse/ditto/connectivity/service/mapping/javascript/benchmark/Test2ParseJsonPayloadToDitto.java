@@ -91,7 +91,7 @@ public class Test2ParseJsonPayloadToDitto implements MapToDittoProtocolScenario
             "  }";
     private static final String CONTENT_TYPE = "application/json";
 
-    private static final String MAPPING_INCOMING_PLAIN =
+    static final String MAPPING_INCOMING_PLAIN =
             "function mapToDittoProtocolMsg(\n" +
                     "    headers,\n" +
                     "    textPayload,\n" +
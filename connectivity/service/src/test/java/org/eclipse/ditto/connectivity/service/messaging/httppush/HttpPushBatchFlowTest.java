@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.http.javadsl.model.ContentTypes;
+import org.apache.pekko.http.javadsl.model.HttpEntity;
+import org.apache.pekko.http.javadsl.model.HttpMethods;
+import org.apache.pekko.http.javadsl.model.HttpRequest;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.apache.pekko.http.javadsl.model.headers.RawHeader;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Unit tests for {@link HttpPushBatchFlow}.
+ */
+public final class HttpPushBatchFlowTest {
+
+    private ActorSystem actorSystem;
+    private Materializer materializer;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        materializer = Materializer.createMaterializer(actorSystem);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void requestsOfSameTargetAreSentAsJsonArrayWithHeadersOfEachMessage() throws Exception {
+        final List<RecordingContext> contexts = List.of(new RecordingContext(), new RecordingContext());
+        final List<Pair<HttpRequest, HttpPushContext>> requests = List.of(
+                Pair.create(HttpRequest.POST("http://localhost/events")
+                        .addHeader(RawHeader.create("api-key", "secret"))
+                        .addHeader(RawHeader.create("correlation-id", "1"))
+                        .withEntity(ContentTypes.APPLICATION_JSON, "{\"a\":1}"), contexts.get(0)),
+                Pair.create(HttpRequest.POST("http://localhost/events")
+                        .addHeader(RawHeader.create("api-key", "secret"))
+                        .addHeader(RawHeader.create("correlation-id", "2"))
+                        .withEntity("text"), contexts.get(1)));
+
+        final List<Pair<HttpRequest, HttpPushContext>> batches = runBatchFlow(requests);
+
+        assertThat(batches).hasSize(1);
+        final HttpRequest batchRequest = batches.get(0).first();
+        assertThat(batchRequest.method()).isEqualTo(HttpMethods.POST);
+        assertThat(batchRequest.getHeader("api-key")).isPresent();
+        assertThat(batchRequest.getHeader("correlation-id")).isEmpty();
+        assertThat(toJson(batchRequest.entity())).isEqualTo(JsonArray.of("""
+                [
+                  {
+                    "headers": {"api-key": "secret", "correlation-id": "1", "content-type": "application/json"},
+                    "payload": {"a": 1}
+                  },
+                  {
+                    "headers": {"api-key": "secret", "correlation-id": "2", "content-type": "text/plain; charset=UTF-8"},
+                    "payload": "text"
+                  }
+                ]
+                """));
+    }
+
+    @Test
+    public void batchElementsKeepTheContentTypeOfTheirMessage() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> requests = List.of(
+                Pair.create(HttpRequest.POST("http://localhost/events")
+                        .addHeader(RawHeader.create("x-mapped", "binary"))
+                        .withEntity(ContentTypes.APPLICATION_OCTET_STREAM, new byte[]{1, 2, 3}),
+                        new RecordingContext()),
+                Pair.create(HttpRequest.POST("http://localhost/events")
+                        .withEntity(ContentTypes.TEXT_PLAIN_UTF8, "AQID"), new RecordingContext()));
+
+        final List<Pair<HttpRequest, HttpPushContext>> batches = runBatchFlow(requests);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).first().getHeader("x-mapped")).isEmpty();
+        assertThat(toJson(batches.get(0).first().entity())).isEqualTo(JsonArray.of("""
+                [
+                  {
+                    "headers": {"x-mapped": "binary", "content-type": "application/octet-stream"},
+                    "payload": "AQID"
+                  },
+                  {
+                    "headers": {"content-type": "text/plain; charset=UTF-8"},
+                    "payload": "AQID"
+                  }
+                ]
+                """));
+    }
+
+    @Test
+    public void requestsOfDifferentTargetsAndWithoutBodyAreNotBatchedTogether() throws Exception {
+        final List<Pair<HttpRequest, HttpPushContext>> requests = List.of(
+                Pair.create(HttpRequest.POST("http://localhost/a").withEntity("1"), new RecordingContext()),
+                Pair.create(HttpRequest.POST("http://localhost/b").withEntity("2"), new RecordingContext()),
+                Pair.create(HttpRequest.DELETE("http://localhost/a"), new RecordingContext()),
+                Pair.create(HttpRequest.POST("http://localhost/a").withEntity("3"), new RecordingContext()));
+
+        final List<Pair<HttpRequest, HttpPushContext>> batches = runBatchFlow(requests);
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0).first()).isSameAs(requests.get(2).first());
+        assertThat(payloadsOf(batches.get(1).first())).containsExactly(JsonValue.of("1"), JsonValue.of("3"));
+        assertThat(payloadsOf(batches.get(2).first())).containsExactly(JsonValue.of("2"));
+    }
+
+    @Test
+    public void jsonArrayResponseIsSplitPerMessage() throws Exception {
+        final List<RecordingContext> contexts = List.of(new RecordingContext(), new RecordingContext());
+        final HttpPushContext batchContext = runBatchFlow(List.of(
+                Pair.create(HttpRequest.POST("http://localhost/events").withEntity("1"), contexts.get(0)),
+                Pair.create(HttpRequest.POST("http://localhost/events").withEntity("2"), contexts.get(1))))
+                .get(0)
+                .second();
+
+        batchContext.onResponse(new Success<>(HttpResponse.create()
+                .withStatus(StatusCodes.OK)
+                .withEntity(ContentTypes.APPLICATION_JSON, "[{\"ack\":1},{\"ack\":2}]")));
+
+        assertThat(toJson(contexts.get(0).response.get(5, TimeUnit.SECONDS).get().entity()))
+                .isEqualTo(JsonFactory.readFrom("{\"ack\":1}"));
+        assertThat(toJson(contexts.get(1).response.get(5, TimeUnit.SECONDS).get().entity()))
+                .isEqualTo(JsonFactory.readFrom("{\"ack\":2}"));
+    }
+
+    @Test
+    public void otherResponsesArePassedToEachMessage() throws Exception {
+        final List<RecordingContext> contexts = List.of(new RecordingContext(), new RecordingContext());
+        final HttpPushContext batchContext = runBatchFlow(List.of(
+                Pair.create(HttpRequest.POST("http://localhost/events").withEntity("1"), contexts.get(0)),
+                Pair.create(HttpRequest.POST("http://localhost/events").withEntity("2"), contexts.get(1))))
+                .get(0)
+                .second();
+
+        batchContext.onResponse(new Success<>(HttpResponse.create()
+                .withStatus(StatusCodes.BAD_REQUEST)
+                .withEntity("invalid")));
+
+        for (final RecordingContext context : contexts) {
+            final HttpResponse response = context.response.get(5, TimeUnit.SECONDS).get();
+            assertThat(response.status()).isEqualTo(StatusCodes.BAD_REQUEST);
+            assertThat(((HttpEntity.Strict) response.entity()).getData().utf8String()).isEqualTo("invalid");
+        }
+    }
+
+    private List<Pair<HttpRequest, HttpPushContext>> runBatchFlow(
+            final List<Pair<HttpRequest, HttpPushContext>> requests) throws Exception {
+
+        return Source.from(requests)
+                .via(HttpPushBatchFlow.of(10, Duration.ofSeconds(1), mock(Histogram.class), materializer))
+                .runWith(Sink.seq(), materializer)
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private static Object toJson(final Object entity) {
+        return JsonFactory.readFrom(((HttpEntity.Strict) entity).getData().utf8String());
+    }
+
+    private static List<JsonValue> payloadsOf(final HttpRequest batchRequest) {
+        return JsonArray.of(((HttpEntity.Strict) batchRequest.entity()).getData().utf8String())
+                .stream()
+                .map(element -> element.asObject().getValue("payload").orElseThrow())
+                .toList();
+    }
+
+    private static final class RecordingContext implements HttpPushContext {
+
+        private final CompletableFuture<Try<HttpResponse>> response = new CompletableFuture<>();
+
+        @Override
+        public void onResponse(final Try<HttpResponse> response) {
+            this.response.complete(response);
+        }
+
+        @Override
+        public ConnectionMonitor.InfoProvider getInfoProvider() {
+            return mock(ConnectionMonitor.InfoProvider.class);
+        }
+
+    }
+
+}
@@ -49,6 +49,9 @@ public final class HttpPushSpecificConfigTest {
         configuredSpecificConfig.put(HttpPushSpecificConfig.IDLE_TIMEOUT, "3s");
         configuredSpecificConfig.put(HttpPushSpecificConfig.PARALLELISM, "2");
         configuredSpecificConfig.put(HttpPushSpecificConfig.OMIT_REQUEST_BODY, omitBodyRequest);
+        configuredSpecificConfig.put(HttpPushSpecificConfig.HTTP2, "true");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_SIZE, "50");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.BATCH_TIMEOUT, "20ms");
 
         when(httpConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(2));
         when(connection.getSpecificConfig()).thenReturn(configuredSpecificConfig);
@@ -58,6 +61,9 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.parallelism()).isEqualTo(2);
         assertThat(specificConfig.omitRequestBody())
                 .isEqualTo(Arrays.stream(omitBodyRequest.split(",")).toList());
+        assertThat(specificConfig.http2()).isTrue();
+        assertThat(specificConfig.batchSize()).isEqualTo(50);
+        assertThat(specificConfig.batchTimeout()).isEqualTo(Duration.ofMillis(20));
     }
 
     @Test
@@ -71,6 +77,9 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.idleTimeout()).isEqualTo(Duration.ofSeconds(60));
         assertThat(specificConfig.parallelism()).isEqualTo(1);
         assertThat(specificConfig.omitRequestBody()).isEqualTo(expectedOmittedRequestBody);
+        assertThat(specificConfig.http2()).isFalse();
+        assertThat(specificConfig.batchSize()).isEqualTo(1);
+        assertThat(specificConfig.batchTimeout()).isEqualTo(Duration.ofMillis(100));
     }
 
 }
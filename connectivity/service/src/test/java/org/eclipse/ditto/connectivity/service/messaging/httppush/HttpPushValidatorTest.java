@@ -138,6 +138,36 @@ public final class HttpPushValidatorTest {
                         "] seconds.");
     }
 
+    @Test
+    public void testInvalidBatchSize() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.BATCH_SIZE, "0"))
+                .build();
+        verifyConnectionConfigurationInvalidExceptionIsThrown(connection,
+                "It must be an integer within the allowed range of [1, " + HttpPushValidator.MAX_BATCH_SIZE + "].");
+    }
+
+    @Test
+    public void testInvalidBatchTimeout() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.BATCH_SIZE, "100",
+                        HttpPushSpecificConfig.BATCH_TIMEOUT, "1m"))
+                .build();
+        verifyConnectionConfigurationInvalidExceptionIsThrown(connection,
+                "Batch timeout '60000' is not within the allowed range of (0, " +
+                        HttpPushValidator.MAX_BATCH_TIMEOUT.toMillis() + "] milliseconds.");
+    }
+
+    @Test
+    public void testValidBatchingAndHttp2() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.HTTP2, "true",
+                        HttpPushSpecificConfig.BATCH_SIZE, "100",
+                        HttpPushSpecificConfig.BATCH_TIMEOUT, "50ms"))
+                .build();
+        underTest.validate(connection, DittoHeaders.empty(), actorSystem, connectivityConfig);
+    }
+
     @Test
     public void testNullOmitBodyHttpMethods() {
         final Connection connection = getConnectionWithTarget("POST:events").toBuilder().build();
@@ -19,11 +19,13 @@ import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.record.TimestampType;
 import org.apache.pekko.NotUsed;
@@ -115,7 +117,7 @@ public final class AtLeastOnceConsumerStreamTest {
 
             // When starting the stream
             new AtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
-                    TestConstants.KAFKA_THROTTLING_CONFIG,
+                    TestConstants.KAFKA_THROTTLING_CONFIG, 1,
                     messageTransformer, false, materializer,
                     connectionMonitor, ackMonitor, inboundMappingSink, dreSink,
                     ConnectionId.generateRandom(), "someUniqueId");
@@ -145,6 +147,67 @@ public final class AtLeastOnceConsumerStreamTest {
         }};
     }
 
+    @Test
+    public void unacknowledgedRecordsDoNotHoldBackRecordsOfOtherPartitions() {
+        new TestKit(actorSystem) {{
+            /*
+             * Given we have a kafka source which emits a source of records for each of two assigned partitions.
+             */
+            final AtomicReference<BoundedSourceQueue<ConsumerMessage.CommittableMessage<String, ByteBuffer>>>
+                    partition1Queue = new AtomicReference<>();
+            final AtomicReference<BoundedSourceQueue<ConsumerMessage.CommittableMessage<String, ByteBuffer>>>
+                    partition2Queue = new AtomicReference<>();
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier =
+                    mock(AtLeastOnceKafkaConsumerSourceSupplier.class);
+            final Consumer.Control control = mock(Consumer.Control.class);
+            when(sourceSupplier.getPartitioned()).thenReturn(
+                    Source.from(List.of(Pair.create(new TopicPartition("topic", 1), partitionSource(partition1Queue)),
+                                    Pair.create(new TopicPartition("topic", 2), partitionSource(partition2Queue))))
+                            .mapMaterializedValue(notUsed -> control));
+            final KafkaMessageTransformer messageTransformer = mock(KafkaMessageTransformer.class);
+            final TransformationResult result = TransformationResult.successful(mock(ExternalMessage.class));
+            when(messageTransformer.transform(
+                    ArgumentMatchers.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>any()))
+                    .thenAnswer(invocation -> CommittableTransformationResult.of(result,
+                            invocation.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>getArgument(0)
+                                    .committableOffset()));
+            final ConnectionMonitor connectionMonitor = mock(ConnectionMonitor.class);
+            final ConnectionMonitor ackMonitor = mock(ConnectionMonitor.class);
+            final int partitionParallelism = 2;
+            final int maxInflightPerPartition =
+                    TestConstants.KAFKA_THROTTLING_CONFIG.getMaxInFlight() / partitionParallelism;
+            final Materializer materializer = Materializer.createMaterializer(actorSystem);
+            final Sink<DittoRuntimeException, TestSubscriber.Probe<DittoRuntimeException>> dreSink =
+                    TestSink.create(actorSystem);
+
+            // When starting the stream with partition parallelism
+            new AtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
+                    TestConstants.KAFKA_THROTTLING_CONFIG, partitionParallelism,
+                    messageTransformer, false, materializer,
+                    connectionMonitor, ackMonitor, inboundMappingSink, dreSink,
+                    ConnectionId.generateRandom(), "someUniqueId");
+
+            inboundSinkProbe.ensureSubscription();
+            awaitCond(() -> null != partition1Queue.get() && null != partition2Queue.get());
+            // Then the records of the first partition are processed up to the in-flight limit of the partition
+            final ConsumerMessage.CommittableMessage<String, ByteBuffer> messageOfPartition1 =
+                    committableMessageOfPartition(1);
+            for (int i = 0; i < maxInflightPerPartition + 1; i++) {
+                assertThat(partition1Queue.get().offer(messageOfPartition1)).isEqualTo(QueueOfferResult.enqueued());
+                inboundSinkProbe.request(1);
+                inboundSinkProbe.expectNext();
+            }
+            assertThat(partition1Queue.get().offer(messageOfPartition1)).isEqualTo(QueueOfferResult.enqueued());
+            inboundSinkProbe.request(1);
+            inboundSinkProbe.expectNoMessage();
+
+            // And a record of the second partition is still processed
+            assertThat(partition2Queue.get().offer(committableMessageOfPartition(2)))
+                    .isEqualTo(QueueOfferResult.enqueued());
+            inboundSinkProbe.expectNext();
+        }};
+    }
+
     @Test
     public void filtersExpiredMessages() {
         new TestKit(actorSystem) {{
@@ -176,7 +239,7 @@ public final class AtLeastOnceConsumerStreamTest {
 
             // When starting the stream
             new AtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
-                    TestConstants.KAFKA_THROTTLING_CONFIG,
+                    TestConstants.KAFKA_THROTTLING_CONFIG, 1,
                     messageTransformer, false, materializer,
                     connectionMonitor, ackMonitor, inboundMappingSink, dreSink,
                     ConnectionId.generateRandom(), "someUniqueId");
@@ -188,4 +251,25 @@ public final class AtLeastOnceConsumerStreamTest {
         }};
     }
 
+    private static Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource(
+            final AtomicReference<BoundedSourceQueue<ConsumerMessage.CommittableMessage<String, ByteBuffer>>> queue) {
+
+        return Source.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>queue(1)
+                .mapMaterializedValue(sourceQueue -> {
+                    queue.set(sourceQueue);
+                    return NotUsed.getInstance();
+                });
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, ByteBuffer> committableMessageOfPartition(
+            final int partition) {
+
+        final ConsumerRecord<String, ByteBuffer> consumerRecord =
+                new ConsumerRecord<>("topic", partition, 1, Instant.now().toEpochMilli(),
+                        TimestampType.LOG_APPEND_TIME, NULL_SIZE, NULL_SIZE, "Key" + partition,
+                        ByteBufferUtils.fromUtf8String("Value"), new RecordHeaders(), Optional.empty());
+        return new ConsumerMessage.CommittableMessage<>(consumerRecord,
+                mock(ConsumerMessage.CommittableOffset.class));
+    }
+
 }
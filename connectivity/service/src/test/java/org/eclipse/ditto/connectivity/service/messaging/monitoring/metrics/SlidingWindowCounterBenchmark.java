@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.tag.Tag;
+import org.eclipse.ditto.internal.utils.metrics.instruments.tag.TagSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH micro-benchmark comparing the ring slots of {@link SlidingWindowCounter} with the previous implementation
+ * counting in a {@code ConcurrentHashMap<Long, Long>} per success and failure, for contended increments of one
+ * counter and for retrieving its counts.
+ * <p>
+ * Running the main method additionally reports the heap footprint of the counters of 10k connections with 20
+ * addresses and 5 counters per address, extrapolated from counters which recorded a measurement every 5 seconds for
+ * a day.
+ * </p>
+ *
+ * <h2>How to run</h2>
+ * <pre>
+ * mvn test-compile -pl connectivity/service -am -Djapicmp.skip=true
+ * java -cp "$(mvn -pl connectivity/service dependency:build-classpath -Dmdep.outputFile=/dev/stdout -q):connectivity/service/target/classes:connectivity/service/target/test-classes" \
+ *      org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.SlidingWindowCounterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@Threads(8)
+public class SlidingWindowCounterBenchmark {
+
+    private static final MeasurementWindow[] DEFAULT_WINDOWS = {
+            MeasurementWindow.ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION,
+            MeasurementWindow.ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
+            MeasurementWindow.ONE_DAY_WITH_ONE_HOUR_RESOLUTION
+    };
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int ADDRESSES_PER_CONNECTION = 20;
+    private static final int COUNTERS_PER_ADDRESS = 5;
+    private static final int SAMPLED_COUNTERS = 1_000;
+
+    private SlidingWindowCounter ringCounter;
+    private ConcurrentMapCounter mapCounter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ringCounter = newRingCounter();
+        mapCounter = new ConcurrentMapCounter(DEFAULT_WINDOWS);
+    }
+
+    @Benchmark
+    public void incrementRing() {
+        ringCounter.increment(true);
+    }
+
+    @Benchmark
+    public void incrementConcurrentMap() {
+        mapCounter.increment(true, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getCountsRing() {
+        return ringCounter.getCounts(true);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getCountsConcurrentMap() {
+        return mapCounter.getCounts(System.currentTimeMillis());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        reportHeapFootprint();
+        final Options opt = new OptionsBuilder()
+                .include(SlidingWindowCounterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+
+    private static SlidingWindowCounter newRingCounter() {
+        return SlidingWindowCounter.newBuilder(new NoopCounter())
+                .measurementWindows(DEFAULT_WINDOWS)
+                .build();
+    }
+
+    private static void reportHeapFootprint() {
+        final long counters = (long) CONNECTIONS * ADDRESSES_PER_CONNECTION * COUNTERS_PER_ADDRESS;
+        final long ringBytes = measureBytesPerCounter(() -> {
+            final SlidingWindowCounter counter = newRingCounter();
+            return new Object[]{counter, (LongConsumer) ts -> counter.increment(true, ts)};
+        });
+        final long mapBytes = measureBytesPerCounter(() -> {
+            final ConcurrentMapCounter counter = new ConcurrentMapCounter(DEFAULT_WINDOWS);
+            return new Object[]{counter, (LongConsumer) ts -> counter.increment(true, ts)};
+        });
+        System.out.printf("Heap footprint for %d connections x %d addresses x %d counters:%n",
+                CONNECTIONS, ADDRESSES_PER_CONNECTION, COUNTERS_PER_ADDRESS);
+        System.out.printf("  ring slots:         %6d bytes per counter, %6d MiB in total%n",
+                ringBytes, ringBytes * counters >> 20);
+        System.out.printf("  ConcurrentHashMap:  %6d bytes per counter, %6d MiB in total%n",
+                mapBytes, mapBytes * counters >> 20);
+    }
+
+    private static long measureBytesPerCounter(final Supplier<Object[]> counterFactory) {
+        final long now = System.currentTimeMillis();
+        final long start = now - Duration.ofDays(1).toMillis();
+        final long before = usedHeap();
+        final List<Object> counters = new ArrayList<>(SAMPLED_COUNTERS);
+        for (int i = 0; i < SAMPLED_COUNTERS; i++) {
+            final Object[] counterAndIncrement = counterFactory.get();
+            final LongConsumer increment = (LongConsumer) counterAndIncrement[1];
+            for (long ts = start; ts <= now; ts += Duration.ofSeconds(5).toMillis()) {
+                increment.accept(ts);
+            }
+            counters.add(counterAndIncrement[0]);
+        }
+        final long after = usedHeap();
+        if (counters.isEmpty()) {
+            throw new IllegalStateException("keeps the counters reachable until after measuring");
+        }
+        return (after - before) / SAMPLED_COUNTERS;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The previous implementation of counting measurements per time slot, cleaning up old slots on increments.
+     */
+    private static final class ConcurrentMapCounter {
+
+        private final MeasurementWindow[] windows;
+        private final long minResolutionInMs;
+        private final Map<Long, Long> successMeasurements = new ConcurrentHashMap<>();
+        private final AtomicLong lastSuccessTimestamp = new AtomicLong();
+
+        private ConcurrentMapCounter(final MeasurementWindow[] windows) {
+            this.windows = windows;
+            minResolutionInMs = Stream.of(windows)
+                    .map(MeasurementWindow::getResolution)
+                    .min(Duration::compareTo)
+                    .orElseThrow()
+                    .toMillis();
+        }
+
+        private void increment(final boolean success, final long ts) {
+            if (success) {
+                final long previousTimestamp = lastSuccessTimestamp.getAndUpdate(previous -> Math.max(previous, ts));
+                for (final MeasurementWindow window : windows) {
+                    final long slot = ts / window.getResolution().toMillis();
+                    successMeasurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+                }
+                if (previousTimestamp > ts - minResolutionInMs) {
+                    successMeasurements.entrySet().removeIf(e -> isOld(e.getKey(), ts));
+                }
+            }
+        }
+
+        private boolean isOld(final long slot, final long now) {
+            for (final MeasurementWindow window : windows) {
+                final long resolutionInMs = window.getResolution().toMillis();
+                final long max = now / resolutionInMs;
+                final long min = (now - window.getWindow().toMillis()) / resolutionInMs;
+                if (slot <= max && slot >= min) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Map<Duration, Long> getCounts(final long now) {
+            final Map<Duration, Long> result = new HashMap<>();
+            for (final MeasurementWindow window : windows) {
+                final long resolutionInMs = window.getResolution().toMillis();
+                final long min = (now - window.getWindow().toMillis()) / resolutionInMs;
+                final long max = now / resolutionInMs;
+                long sum = 0;
+                for (final Map.Entry<Long, Long> e : successMeasurements.entrySet()) {
+                    if (e.getKey() > min && e.getKey() <= max) {
+                        sum += e.getValue();
+                    }
+                }
+                result.put(window.getWindow(), sum);
+            }
+            return result;
+        }
+
+    }
+
+    private static final class NoopCounter implements Counter {
+
+        @Override
+        public Counter increment() {
+            return this;
+        }
+
+        @Override
+        public Counter increment(final long times) {
+            return this;
+        }
+
+        @Override
+        public long getCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean reset() {
+            return true;
+        }
+
+        @Override
+        public Counter tag(final Tag tag) {
+            return this;
+        }
+
+        @Override
+        public Counter tags(final TagSet tags) {
+            return this;
+        }
+
+        @Override
+        public TagSet getTagSet() {
+            return TagSet.empty();
+        }
+
+    }
+
+}
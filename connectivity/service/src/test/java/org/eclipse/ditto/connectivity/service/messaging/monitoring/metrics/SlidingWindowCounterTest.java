@@ -22,7 +22,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
 
 import org.eclipse.ditto.connectivity.model.MetricType;
@@ -100,7 +103,6 @@ public class SlidingWindowCounterTest {
                 .recordingMeasurementWindows(ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
                 .reportingMeasurementWindows(ONE_MINUTE_WITH_ONE_MINUTE_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
                         ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false)
                 .build();
 
         final long ts = System.currentTimeMillis() +
@@ -139,7 +141,6 @@ public class SlidingWindowCounterTest {
                 .metricsAlert(new ThrottledMetricsAlert(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, threshold,
                         () -> new DummyConnectionMetricsCounter(throttledCounter)))
                 .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false) // better testability
                 .build();
 
         // add some measurements
@@ -165,6 +166,61 @@ public class SlidingWindowCounterTest {
                 .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 3L);
     }
 
+    @Test
+    public void testSlotsAreReusedForLaterMeasurements() {
+        // the last millisecond of a 10 seconds slot, so that each slot of the last minute counts 10 measurements
+        final long resolutionInMs = ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getResolution().toMillis();
+        final long now = System.currentTimeMillis() / resolutionInMs * resolutionInMs + resolutionInMs - 1;
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .clock(Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION)
+                .build();
+
+        // record two hours of measurements, the ring only has slots for the window and the late measurement tolerance
+        for (long i = now - Duration.ofHours(2).toMillis(); i <= now; i += 1000) {
+            counter.increment(true, i);
+        }
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 60L);
+        assertThat(counter.getCounts(false))
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 0L);
+    }
+
+    @Test
+    public void testMeasurementsOlderThanTheRingAreIgnored() {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION)
+                .build();
+
+        final long now = System.currentTimeMillis();
+        increment(counter, 2, now);
+        // maps to the same slot as the current measurements, but is too late to be counted
+        increment(counter, 1, now - ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow()
+                .plus(SlidingWindowCounter.LATE_MEASUREMENT_TOLERANCE)
+                .plus(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getResolution())
+                .toMillis());
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 2L);
+    }
+
+    @Test
+    public void testReset() {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
+                .build();
+        final long now = System.currentTimeMillis();
+        increment(counter, 3, now);
+
+        counter.reset();
+        increment(counter, 1, now);
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 1L)
+                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 1L);
+    }
+
     private void increment(final SlidingWindowCounter counter, final int count, final long ts) {
         for (int i = 0; i < count; i++) {
             counter.increment(true, ts);
@@ -209,7 +209,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         cancellableShutdownTask.cancel();
     }
 
-    private static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
+    static HttpResponse createHttpResponse(final HttpStatus httpStatus) {
         final var statusCode = StatusCodes.lookup(httpStatus.getCode())
                 .orElse(StatusCodes.custom(httpStatus.getCode(), "custom", "custom"));
 
@@ -482,19 +482,21 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
     private void handleCommandResponseWithEntity(final CommandResponse<?> commandResponse) {
         rememberResponseLocationUri(commandResponse);
 
-        final var withEntity = (WithEntity<?>) commandResponse;
-
         final var responseWithoutHeaders = createHttpResponse(commandResponse.getHttpStatus());
         final var responseWithoutBody = enhanceResponseWithExternalDittoHeaders(responseWithoutHeaders,
                 commandResponse.getDittoHeaders());
+        completeWithResult(addEntity(responseWithoutBody, commandResponse));
+    }
+
+    static HttpResponse addEntity(final HttpResponse response, final CommandResponse<?> commandResponseWithEntity) {
+        final var withEntity = (WithEntity<?>) commandResponseWithEntity;
+        final var contentType = getContentType(commandResponseWithEntity.getDittoHeaders());
 
-        final var contentType = getContentType(commandResponse.getDittoHeaders());
-        final var response = withEntity.getEntityPlainString()
-                .map(s -> addEntityAccordingToContentType(responseWithoutBody, s, contentType))
-                .orElseGet(() -> addEntityAccordingToContentType(responseWithoutBody,
-                        withEntity.getEntity(commandResponse.getImplementedSchemaVersion()).toString(),
+        return withEntity.getEntityPlainString()
+                .map(s -> addEntityAccordingToContentType(response, s, contentType))
+                .orElseGet(() -> addEntityAccordingToContentType(response,
+                        withEntity.getEntity(commandResponseWithEntity.getImplementedSchemaVersion()).toString(),
                         contentType));
-        completeWithResult(response);
     }
 
     private void handleCommandResponseWithOptionalEntity(final CommandResponse<?> commandResponse) {
@@ -597,7 +599,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         completeWithResult(response);
     }
 
-    private static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
+    static HttpResponse buildResponseWithoutHeadersFromDittoRuntimeException(
             final DittoRuntimeException exception) {
 
         final HttpResponse result;
@@ -616,15 +618,31 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
     private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
             final DittoHeaders allDittoHeaders) {
 
-        final HttpResponse result;
-
         final var externalHeaders = headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders);
         final var l = logger.withCorrelationId(allDittoHeaders);
         if (externalHeaders.isEmpty()) {
             l.debug("No external headers for enhancing the response, returning it as-is.");
-            result = response;
         } else {
             l.debug("Enhancing response with external headers <{}>.", externalHeaders);
+        }
+
+        return withExternalHeaders(response, externalHeaders);
+    }
+
+    static HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
+            final DittoHeaders allDittoHeaders,
+            final HeaderTranslator headerTranslator) {
+
+        return withExternalHeaders(response, headerTranslator.toExternalAndRetainKnownHeaders(allDittoHeaders));
+    }
+
+    private static HttpResponse withExternalHeaders(final HttpResponse response,
+            final Map<String, String> externalHeaders) {
+
+        final HttpResponse result;
+        if (externalHeaders.isEmpty()) {
+            result = response;
+        } else {
             final var externalHeadersEntries = externalHeaders.entrySet();
 
             /*
@@ -704,7 +722,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         return addBodyIfEntityExists.apply(addHeaders.apply(createHttpResponse(httpStatus)));
     }
 
-    private static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
+    static UnaryOperator<HttpResponse> createBodyAddingResponseMapper(final DittoHeaders dittoHeaders,
             final WithOptionalEntity<?> withOptionalEntity) {
 
         return response -> {
@@ -813,7 +831,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActorWithShutdown
         completeWithResult(httpResponse);
     }
 
-    private static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
+    static Duration getReceiveTimeout(final Signal<?> originatingSignal, final CommandConfig commandConfig) {
 
         final var defaultTimeout = commandConfig.getDefaultTimeout();
         final var maxTimeout = commandConfig.getMaxTimeout();
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Cancellable;
+import org.apache.pekko.actor.CoordinatedShutdown;
+import org.apache.pekko.actor.Status;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.pattern.AskTimeoutException;
+import org.apache.pekko.pattern.Patterns;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.translator.HeaderTranslator;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.WithOptionalEntity;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
+import org.eclipse.ditto.base.model.signals.commands.ErrorResponse;
+import org.eclipse.ditto.base.model.signals.commands.WithEntity;
+import org.eclipse.ditto.base.model.signals.commands.exceptions.CommandTimeoutException;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLogger;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.policies.model.signals.commands.query.PolicyQueryCommand;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand;
+
+/**
+ * Handles the HTTP requests of simple twin and policy queries without an HTTP request actor: the query is asked
+ * from the proxy actor and its response is rendered like an {@link AbstractHttpRequestActor} would render it.
+ * <p>
+ * Only queries which require a response, request no acknowledgements and neither target the live channel nor the
+ * smart channel are handled directly, as they need none of the timeout and acknowledgement aggregation handling of
+ * the HTTP request actor. Like the HTTP request actor, each query delays the coordinated shutdown phase
+ * "service-requests-done" until its response is rendered.
+ * </p>
+ *
+ * @since 3.10.0
+ */
+@Immutable
+public final class DirectQueryHandler {
+
+    private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(DirectQueryHandler.class);
+
+    private static final String SERVICE_REQUESTS_DONE_TASK = "service-requests-done-direct-query";
+
+    private final CoordinatedShutdown coordinatedShutdown;
+    private final ActorRef proxyActor;
+    private final HeaderTranslator headerTranslator;
+    private final CommandConfig commandConfig;
+
+    private DirectQueryHandler(final CoordinatedShutdown coordinatedShutdown,
+            final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        this.coordinatedShutdown = coordinatedShutdown;
+        this.proxyActor = proxyActor;
+        this.headerTranslator = headerTranslator;
+        this.commandConfig = commandConfig;
+    }
+
+    /**
+     * Returns a new instance of {@code DirectQueryHandler}.
+     *
+     * @param actorSystem the actor system whose coordinated shutdown waits for the pending queries.
+     * @param proxyActor the actor to ask the queries from.
+     * @param headerTranslator translates the headers of the responses to HTTP headers.
+     * @param commandConfig provides the timeouts of the queries.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static DirectQueryHandler of(final ActorSystem actorSystem,
+            final ActorRef proxyActor,
+            final HeaderTranslator headerTranslator,
+            final CommandConfig commandConfig) {
+
+        return new DirectQueryHandler(CoordinatedShutdown.get(checkNotNull(actorSystem, "actorSystem")),
+                checkNotNull(proxyActor, "proxyActor"),
+                checkNotNull(headerTranslator, "headerTranslator"),
+                checkNotNull(commandConfig, "commandConfig"));
+    }
+
+    /**
+     * Indicates whether the specified command can be handled without an HTTP request actor.
+     *
+     * @param command the command to check.
+     * @return {@code true} if {@code command} is a twin or policy query which requires a response and requests no
+     * acknowledgements.
+     */
+    public boolean isApplicable(final Command<?> command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+
+        return commandConfig.isDirectQueryEnabled() &&
+                (command instanceof ThingQueryCommand || command instanceof PolicyQueryCommand) &&
+                !Signal.isChannelLive(command) &&
+                !Signal.isChannelSmart(command) &&
+                dittoHeaders.isResponseRequired() &&
+                dittoHeaders.getAcknowledgementRequests().isEmpty();
+    }
+
+    /**
+     * Asks the proxy actor for the response of the specified query and renders it into an HTTP response.
+     *
+     * @param query the query to handle.
+     * @return the future HTTP response, which is never completed exceptionally.
+     */
+    public CompletionStage<HttpResponse> handle(final Command<?> query) {
+        final Duration timeout = AbstractHttpRequestActor.getReceiveTimeout(query, commandConfig);
+
+        final CompletionStage<HttpResponse> httpResponse = Patterns.ask(proxyActor, query, timeout)
+                .handle((response, error) -> {
+                    if (null != error) {
+                        return toHttpResponse(query, unwrap(error), timeout);
+                    } else {
+                        return toHttpResponse(query, response, timeout);
+                    }
+                });
+        final Cancellable shutdownTask = coordinatedShutdown.addCancellableTask(
+                CoordinatedShutdown.PhaseServiceRequestsDone(),
+                SERVICE_REQUESTS_DONE_TASK,
+                () -> httpResponse.thenApply(response -> Done.done()));
+
+        return httpResponse.whenComplete((response, error) -> shutdownTask.cancel());
+    }
+
+    private HttpResponse toHttpResponse(final Command<?> query, @Nullable final Object response,
+            final Duration timeout) {
+
+        final HttpResponse result;
+        if (response instanceof HttpResponse httpResponse) {
+            result = httpResponse;
+        } else if (response instanceof ErrorResponse<?> errorResponse) {
+            result = toHttpResponse(errorResponse.getDittoRuntimeException());
+        } else if (response instanceof CommandResponse<?> commandResponse && response instanceof WithEntity) {
+            result = AbstractHttpRequestActor.addEntity(toHttpResponseWithoutBody(commandResponse), commandResponse);
+        } else if (response instanceof CommandResponse<?> commandResponse &&
+                response instanceof WithOptionalEntity<?> withOptionalEntity) {
+            result = AbstractHttpRequestActor.createBodyAddingResponseMapper(commandResponse.getDittoHeaders(),
+                    withOptionalEntity).apply(toHttpResponseWithoutBody(commandResponse));
+        } else if (response instanceof JsonValueSourceRef jsonValueSourceRef) {
+            result = JsonValueSourceToHttpResponse.getInstance().apply(jsonValueSourceRef.getSource());
+        } else if (response instanceof Status.Failure failure) {
+            result = toHttpResponse(query, failure.cause(), timeout);
+        } else if (response instanceof DittoRuntimeException dittoRuntimeException) {
+            result = toHttpResponse(dittoRuntimeException);
+        } else if (response instanceof JsonRuntimeException jsonRuntimeException) {
+            result = toHttpResponse(new DittoJsonException(jsonRuntimeException));
+        } else if (response instanceof AskTimeoutException) {
+            LOGGER.withCorrelationId(query)
+                    .info("Got no response to <{}> within <{}>.", query.getType(), timeout);
+            result = toHttpResponse(CommandTimeoutException.newBuilder(timeout)
+                    .dittoHeaders(query.getDittoHeaders().toBuilder().responseRequired(false).build())
+                    .build());
+        } else if (response instanceof Throwable throwable) {
+            LOGGER.withCorrelationId(query)
+                    .error("Got <{}> when a response to <{}> was expected: <{}>!",
+                            throwable.getClass().getSimpleName(), query.getType(), throwable.getMessage(), throwable);
+            result = AbstractHttpRequestActor.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        } else {
+            LOGGER.withCorrelationId(query)
+                    .error("Got unknown message when a response to <{}> was expected: <{}>!", query.getType(),
+                            response);
+            result = AbstractHttpRequestActor.createHttpResponse(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        return result;
+    }
+
+    private HttpResponse toHttpResponseWithoutBody(final CommandResponse<?> commandResponse) {
+        return AbstractHttpRequestActor.enhanceResponseWithExternalDittoHeaders(
+                AbstractHttpRequestActor.createHttpResponse(commandResponse.getHttpStatus()),
+                commandResponse.getDittoHeaders(),
+                headerTranslator);
+    }
+
+    private HttpResponse toHttpResponse(final DittoRuntimeException exception) {
+        LOGGER.withCorrelationId(exception)
+                .info("DittoRuntimeException <{}>: <{}>.", exception.getErrorCode(), exception.getMessage());
+
+        return AbstractHttpRequestActor.enhanceResponseWithExternalDittoHeaders(
+                AbstractHttpRequestActor.buildResponseWithoutHeadersFromDittoRuntimeException(exception),
+                exception.getDittoHeaders(),
+                headerTranslator);
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        if (error instanceof CompletionException && null != error.getCause()) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+}
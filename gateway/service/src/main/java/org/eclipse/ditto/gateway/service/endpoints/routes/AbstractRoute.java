@@ -15,7 +15,6 @@ package org.eclipse.ditto.gateway.service.endpoints.routes;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +57,8 @@ import org.eclipse.ditto.base.model.signals.commands.CommandNotSupportedExceptio
 import org.eclipse.ditto.base.service.config.ThrottlingConfig;
 import org.eclipse.ditto.gateway.api.GatewayTimeoutInvalidException;
 import org.eclipse.ditto.gateway.service.endpoints.actors.AbstractHttpRequestActor;
+import org.eclipse.ditto.gateway.service.endpoints.actors.DefaultHttpRequestActorPropsFactory;
+import org.eclipse.ditto.gateway.service.endpoints.actors.DirectQueryHandler;
 import org.eclipse.ditto.gateway.service.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.gateway.service.endpoints.directives.ContentTypeValidationDirective;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.CommandConfig;
@@ -84,7 +85,8 @@ public abstract class AbstractRoute extends AllDirectives {
             .build();
 
     /**
-     * Timeout for Pekko HTTP. Timeout is normally managed in HttpRequestActor and AcknowledgementAggregatorActor.
+     * Timeout for Pekko HTTP. Timeout is normally managed in HttpRequestActor, AcknowledgementAggregatorActor and
+     * DirectQueryHandler.
      * The Pekko HTTP timeout is only there to prevent resource leak.
      */
     private static final scala.concurrent.duration.Duration PEKKO_HTTP_TIMEOUT =
@@ -95,6 +97,7 @@ public abstract class AbstractRoute extends AllDirectives {
     private final RouteBaseProperties routeBaseProperties;
 
     private final HttpRequestActorPropsFactory httpRequestActorPropsFactory;
+    @Nullable private final DirectQueryHandler directQueryHandler;
     private final Attributes supervisionStrategy;
     private final Set<String> mediaTypeJsonWithFallbacks;
 
@@ -117,6 +120,15 @@ public abstract class AbstractRoute extends AllDirectives {
                 ScopedConfig.dittoExtension(routeBaseProperties.getActorSystem().settings().config());
         httpRequestActorPropsFactory =
                 HttpRequestActorPropsFactory.get(routeBaseProperties.getActorSystem(), dittoExtensionsConfig);
+        // custom HTTP request actors may add behavior which direct queries would bypass
+        if (httpRequestActorPropsFactory instanceof DefaultHttpRequestActorPropsFactory) {
+            directQueryHandler = DirectQueryHandler.of(routeBaseProperties.getActorSystem(),
+                    routeBaseProperties.getProxyActor(),
+                    routeBaseProperties.getHeaderTranslator(),
+                    routeBaseProperties.getGatewayConfig().getCommandConfig());
+        } else {
+            directQueryHandler = null;
+        }
 
         supervisionStrategy = createSupervisionStrategy();
     }
@@ -182,14 +194,32 @@ public abstract class AbstractRoute extends AllDirectives {
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command<?> command) {
-        return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(), emptyRequestBody -> command);
+        return handlePerRequest(ctx, command, null);
     }
 
     protected Route handlePerRequest(final RequestContext ctx, final Command<?> command,
             @Nullable final BiFunction<JsonValue, HttpResponse, HttpResponse> responseTransformFunction) {
 
-        return handlePerRequest(ctx, command.getDittoHeaders(), Source.empty(),
-                emptyRequestBody -> command, responseTransformFunction);
+        final var dittoHeaders = command.getDittoHeaders();
+        if (null != directQueryHandler && isDirectQuery(directQueryHandler, command)) {
+            // simple queries don't need an HTTP request actor, ask them directly:
+            return withCustomRequestTimeout(dittoHeaders.getTimeout().orElse(null),
+                    this::validateCommandTimeout,
+                    timeout -> completeWithFuture(preprocessResponse(transformResponse(
+                            directQueryHandler.handle(command.setDittoHeaders(
+                                    dittoHeaders.toBuilder().timeout(timeout).build())),
+                            responseTransformFunction))));
+        } else {
+            return handlePerRequest(ctx, dittoHeaders, Source.empty(), emptyRequestBody -> command,
+                    responseTransformFunction);
+        }
+    }
+
+    private static boolean isDirectQuery(final DirectQueryHandler directQueryHandler, final Command<?> command) {
+        final JsonSchemaVersion schemaVersion =
+                command.getDittoHeaders().getSchemaVersion().orElse(command.getImplementedSchemaVersion());
+
+        return command.implementsSchemaVersion(schemaVersion) && directQueryHandler.isApplicable(command);
     }
 
     protected Route handlePerRequest(final RequestContext ctx,
@@ -237,6 +267,13 @@ public abstract class AbstractRoute extends AllDirectives {
                         AbstractHttpRequestActor.COMPLETE_MESSAGE))
         );
 
+        return completeWithFuture(preprocessResponse(
+                transformResponse(httpResponseFuture, responseValueTransformFunction)));
+    }
+
+    private CompletionStage<HttpResponse> transformResponse(final CompletionStage<HttpResponse> httpResponseFuture,
+            @Nullable final BiFunction<JsonValue, HttpResponse, HttpResponse> responseValueTransformFunction) {
+
         // optional step: transform the response entity:
         if (responseValueTransformFunction != null) {
             final CompletionStage<HttpResponse> strictResponseFuture = httpResponseFuture.thenCompose(this::toStrict);
@@ -251,7 +288,7 @@ public abstract class AbstractRoute extends AllDirectives {
                             .fold(ByteString.emptyByteString(), ByteString::concat)
                             .toMat(StreamConverters.asInputStream(), Keep.right())
                     );
-                    final JsonValue jsonValue = JsonFactory.readFrom(new InputStreamReader(inputStream));
+                    final JsonValue jsonValue = JsonFactory.readFrom(inputStream);
                     try {
                         return responseValueTransformFunction.apply(jsonValue, response);
                     } catch (final Exception e) {
@@ -265,9 +302,9 @@ public abstract class AbstractRoute extends AllDirectives {
                     return response;
                 }
             });
-            return completeWithFuture(preprocessResponse(transformedResponse));
+            return transformedResponse;
         } else {
-            return completeWithFuture(preprocessResponse(httpResponseFuture));
+            return httpResponseFuture;
         }
     }
 
@@ -82,6 +82,7 @@ import org.eclipse.ditto.gateway.service.security.authorization.NamespaceAccessV
 import org.eclipse.ditto.gateway.service.security.authorization.NamespaceAccessValidatorFactory;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
+import org.eclipse.ditto.gateway.service.streaming.actors.StreamingFrameCache;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingSession;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
 import org.eclipse.ditto.gateway.service.streaming.signals.Connect;
@@ -175,6 +176,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private final ActorRef pubSubMediator;
     private final HeaderTranslator headerTranslator;
     private final DittoProtocolAdapter dittoProtocolAdapter;
+    private final StreamingFrameCache<Collection<JsonValue>> frameCache;
     private SseConnectionSupervisor sseConnectionSupervisor;
     private SseEventSniffer eventSniffer;
     private StreamingAuthorizationEnforcer sseAuthorizationEnforcer;
@@ -196,6 +198,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         this.headerTranslator = headerTranslator;
 
         dittoProtocolAdapter = DittoProtocolAdapter.of(headerTranslator);
+        frameCache = StreamingFrameCache.of(streamingConfig, "sse");
 
         final Config config = actorSystem.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -703,11 +706,14 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                             final AuthorizationContext subscriberAuthContext = jsonifiable.getSessionAuthorizationContext()
                                     .orElse(null);
                             return jsonifiable.retrieveExtraFields(facade)
-                                    .thenApply(extra ->
-                                            Optional.of(session.mergeThingWithExtra(event, extra))
-                                                    .filter(thing -> session.matchesFilter(thing, event))
-                                                    .map(thing -> toNonemptyValue(thing, event, fieldPointer, fields, subscriberAuthContext))
-                                                    .orElseGet(Collections::emptyList)
+                                    .thenApply(extra -> session.matchesFilter(event, extra)
+                                            // sessions rendering an event with the same parameters share the value
+                                            ? frameCache.get(event,
+                                                    new FrameParameters(session.getExtraFields().orElse(null),
+                                                            extra, fieldPointer, fields, subscriberAuthContext),
+                                                    () -> toNonemptyValue(session.mergeThingWithExtra(event, extra),
+                                                            event, fieldPointer, fields, subscriberAuthContext))
+                                            : Collections.<JsonValue>emptyList()
                                     )
                                     .exceptionally(error -> {
                                         final var errorToReport =
@@ -821,6 +827,15 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                 Collections.singletonList(returnValue);
     }
 
+    /**
+     * Parameters besides the event which the value rendered for a session depends on.
+     */
+    private record FrameParameters(@Nullable ThingFieldSelector extraFields,
+                                   JsonObject extra,
+                                   JsonPointer fieldPointer,
+                                   @Nullable JsonFieldSelector fields,
+                                   @Nullable AuthorizationContext subscriberAuthContext) {}
+
     private static List<String> getNamespaces(@Nullable final String namespacesParameter) {
         if (null != namespacesParameter) {
             return Arrays.asList(namespacesParameter.split(","));
@@ -89,6 +89,7 @@ import org.eclipse.ditto.gateway.service.security.HttpHeader;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingActor;
+import org.eclipse.ditto.gateway.service.streaming.actors.StreamingFrameCache;
 import org.eclipse.ditto.gateway.service.streaming.actors.SupervisedStream;
 import org.eclipse.ditto.gateway.service.streaming.signals.Connect;
 import org.eclipse.ditto.gateway.service.streaming.signals.IncomingSignal;
@@ -177,6 +178,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
+    private final StreamingFrameCache<Optional<String>> frameCache;
     private final Materializer materializer;
 
     private IncomingWebSocketEventSniffer incomingMessageSniffer;
@@ -195,6 +197,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         this.streamingActor = checkNotNull(streamingActor, "streamingActor");
         this.streamingConfig = streamingConfig;
+        frameCache = StreamingFrameCache.of(streamingConfig, WS);
 
         final var config = actorSystem.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -770,56 +773,70 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                             .orElse(sessionedJsonifiable.getDittoHeaders().getAuthorizationContext()))
                     .orElse(null);
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter, subscriberAuthContext);
-
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
             return extraFuture.<Collection<String>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    final Adaptable filteredAdaptable = AdaptablePartialAccessFilter.filterAdaptableForPartialAccess(
-                            adaptable, subscriberAuthContext);
-
-                    final boolean isThingEvent = TopicPath.Group.THINGS.equals(filteredAdaptable.getTopicPath().getGroup()) &&
-                            TopicPath.Criterion.EVENTS.equals(filteredAdaptable.getTopicPath().getCriterion());
-
-                    final boolean partialAccessFilteringApplied = adaptable.getDittoHeaders()
-                            .get(DittoHeaderDefinition.PARTIAL_ACCESS_PATHS.getKey()) != null;
-
-                    final boolean isEmptyPayload = filteredAdaptable.getPayload().getValue()
-                            .map(value -> {
-                                if (value.isObject() && !value.isNull()) {
-                                    return value.asObject().isEmpty();
-                                }
-                                return false;
-                            })
-                            .orElse(false);
-
-                    final boolean isEmptyOriginalPayload = adaptable.getPayload().getValue()
-                            .map(value -> {
-                                if (value.isObject() && !value.isNull()) {
-                                    return value.asObject().isEmpty();
-                                }
-                                return false;
-                            })
-                            .orElse(false);
-
-                    if (isThingEvent && partialAccessFilteringApplied && isEmptyPayload && !isEmptyOriginalPayload) {
-                        issuePotentialWeakAcknowledgements(sessionedJsonifiable);
-                        sessionedJsonifiable.finishSpan();
-                        return Collections.emptyList();
+                    // sessions rendering a twin event with the same parameters share the rendered frame
+                    final Optional<String> frame = frameCache.get(jsonifiable,
+                            new FrameParameters(adapter.getClass(), subscriberAuthContext, extra),
+                            () -> renderFrame(jsonifiableToAdaptable(jsonifiable, adapter, subscriberAuthContext),
+                                    subscriberAuthContext, extra));
+                    if (frame.isPresent()) {
+                        return Collections.singletonList(frame.get());
                     }
-
-                    return Collections.singletonList(toJsonStringWithExtra(filteredAdaptable, extra));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishSpan();
                 return Collections.emptyList();
             }).exceptionally(error -> {
                 sessionedJsonifiable.finishSpan();
-                return WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger);
+                return WebSocketRoute.reportEnrichmentError(error, adapter,
+                        jsonifiableToAdaptable(jsonifiable, adapter, subscriberAuthContext), logger);
             });
         };
     }
 
+    /**
+     * Renders the frame to send for an adaptable which passed the filter of the session.
+     *
+     * @return the frame or an empty Optional if partial access filtering removed the whole payload of a thing event.
+     */
+    private Optional<String> renderFrame(final Adaptable adaptable,
+            @Nullable final AuthorizationContext subscriberAuthContext, final JsonObject extra) {
+
+        final Adaptable filteredAdaptable = AdaptablePartialAccessFilter.filterAdaptableForPartialAccess(
+                adaptable, subscriberAuthContext);
+
+        final boolean isThingEvent = TopicPath.Group.THINGS.equals(filteredAdaptable.getTopicPath().getGroup()) &&
+                TopicPath.Criterion.EVENTS.equals(filteredAdaptable.getTopicPath().getCriterion());
+
+        final boolean partialAccessFilteringApplied = adaptable.getDittoHeaders()
+                .get(DittoHeaderDefinition.PARTIAL_ACCESS_PATHS.getKey()) != null;
+
+        final boolean isEmptyPayload = filteredAdaptable.getPayload().getValue()
+                .map(value -> {
+                    if (value.isObject() && !value.isNull()) {
+                        return value.asObject().isEmpty();
+                    }
+                    return false;
+                })
+                .orElse(false);
+
+        final boolean isEmptyOriginalPayload = adaptable.getPayload().getValue()
+                .map(value -> {
+                    if (value.isObject() && !value.isNull()) {
+                        return value.asObject().isEmpty();
+                    }
+                    return false;
+                })
+                .orElse(false);
+
+        if (isThingEvent && partialAccessFilteringApplied && isEmptyPayload && !isEmptyOriginalPayload) {
+            return Optional.empty();
+        }
+        return Optional.of(toJsonStringWithExtra(filteredAdaptable, extra));
+    }
+
     private void issuePotentialWeakAcknowledgements(final SessionedJsonifiable sessionedJsonifiable) {
         sessionedJsonifiable.getSession().ifPresent(session -> {
             final DittoHeaders dittoHeaders = sessionedJsonifiable.getDittoHeaders();
@@ -891,7 +908,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .map(session -> {
                     // evaluate to false if filter is present but does not match or has insufficient info to match
                     final Signal<?> signal = (Signal<?>) jsonifiable;
-                    return session.matchesFilter(session.mergeThingWithExtra(signal, extra), signal);
+                    return session.matchesFilter(signal, extra);
                 })
                 .orElse(true);
     }
@@ -952,6 +969,13 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return adaptable;
     }
 
+    /**
+     * Parameters besides the signal which the frame rendered for a session depends on.
+     */
+    private record FrameParameters(Class<?> protocolAdapterType,
+                                   @Nullable AuthorizationContext subscriberAuthContext,
+                                   JsonObject extra) {}
+
     private static ThingErrorResponse buildThingErrorResponse(final DittoRuntimeException dittoRuntimeException) {
         return ThingErrorResponse.of(dittoRuntimeException);
     }
@@ -22,6 +22,7 @@ import org.eclipse.ditto.edge.service.dispatching.EdgeCommandForwarderActor;
 import org.eclipse.ditto.internal.models.signalenrichment.ByRoundTripSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.DefaultSignalEnrichmentProviderConfig;
 import org.eclipse.ditto.internal.models.signalenrichment.DittoCachingSignalEnrichmentFacade;
+import org.eclipse.ditto.internal.models.signalenrichment.PerThingCachingSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
 
 import com.typesafe.config.Config;
@@ -49,11 +50,18 @@ public final class DefaultGatewaySignalEnrichmentProvider implements GatewaySign
         final var delegate = ByRoundTripSignalEnrichmentFacade.of(actorSystem, commandHandler);
         if (providerConfig.isCachingEnabled()) {
             final Executor cacheLoaderExecutor = actorSystem.dispatchers().lookup(CACHE_LOADER_DISPATCHER);
-            facade = DittoCachingSignalEnrichmentFacade.newInstance(
-                    delegate,
-                    providerConfig.getCacheConfig(),
-                    cacheLoaderExecutor,
-                    "gateway");
+            facade = switch (providerConfig.getCacheMode()) {
+                case PER_SELECTOR -> DittoCachingSignalEnrichmentFacade.newInstance(
+                        delegate,
+                        providerConfig.getCacheConfig(),
+                        cacheLoaderExecutor,
+                        "gateway");
+                case PER_THING -> PerThingCachingSignalEnrichmentFacade.newInstance(
+                        delegate,
+                        providerConfig.getCacheConfig(),
+                        cacheLoaderExecutor,
+                        "gateway");
+            };
         } else {
             facade = delegate;
         }
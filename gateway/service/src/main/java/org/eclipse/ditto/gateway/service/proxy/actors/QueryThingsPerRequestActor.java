@@ -12,14 +12,20 @@
  */
 package org.eclipse.ditto.gateway.service.proxy.actors;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBehavior;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
@@ -28,6 +34,7 @@ import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
@@ -37,6 +44,7 @@ import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsRespo
 import org.eclipse.ditto.thingsearch.api.events.ThingsOutOfSync;
 import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
 import org.eclipse.ditto.thingsearch.model.SearchResult;
+import org.eclipse.ditto.thingsearch.model.ThingSearchConstants;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 
@@ -56,6 +64,11 @@ import org.apache.pekko.pattern.Patterns;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * If "things-search" projected things from its search index, only the things it could not project are retrieved and
+ * merged into the projected ones. The response then states in the header {@code search-consistency} whether its things
+ * were projected, retrieved or both.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior {
 
@@ -68,6 +81,7 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
 
     @Nullable private QueryThingsResponse queryThingsResponse;
     @Nullable private List<ThingId> queryThingsResponseThingIds;
+    @Nullable private Map<ThingId, JsonObject> projectedThings;
     @Nullable private Cancellable cancellableShutdownTask;
     private boolean inCoordinatedShutdown;
     @Nullable private ActorRef coordinatedShutdownSender;
@@ -138,17 +152,29 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
                     log.withCorrelationId(qtr)
                             .debug("Received QueryThingsResponse: {}", qtr);
 
+                    // things-search already provides the things it could project from the search index;
+                    // only the other items consisting of the thingId alone have to be looked up
+                    projectedThings = getProjectedThings(qtr);
+
                     queryThingsResponseThingIds = qtr.getSearchResult()
                             .stream()
                             .flatMap(val -> val.asObject().getValue(Thing.JsonFields.ID).stream())
                             .map(ThingId::of)
+                            .filter(thingId -> null == projectedThings || !projectedThings.containsKey(thingId))
                             .toList();
 
-                    if (queryThingsResponseThingIds.isEmpty() || queryThingsOnlyContainsThingIdSelector()) {
+                    if (queryThingsResponseThingIds.isEmpty() && null != projectedThings &&
+                            !projectedThings.isEmpty()) {
+                        // all things were projected from the search index:
+                        originatingSender.tell(withConsistency(qtr, qtr.getSearchResult().stream(),
+                                qtr.getDittoHeaders()), getSelf());
+                        stopMyself();
+                    } else if (queryThingsResponseThingIds.isEmpty() || queryThingsOnlyContainsThingIdSelector()) {
                         // shortcuts: we don't have to look up the things
                         // - for no search results
                         // - if only the "thingId" was selected in the QueryThings commands
-                        originatingSender.tell(qtr, getSelf());
+                        originatingSender.tell(qtr.setDittoHeaders(withoutProjectedItems(qtr.getDittoHeaders())),
+                                getSelf());
                         stopMyself();
                     } else {
                         final Optional<JsonFieldSelector> selectedFieldsWithThingId = getSelectedFieldsWithThingId();
@@ -167,14 +193,14 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
 
                     if (queryThingsResponse != null) {
                         final JsonArray rtrEntity = rtr.getEntity(rtr.getImplementedSchemaVersion()).asArray();
-                        final JsonArray retrievedEntitiesWithFieldSelection = getEntitiesWithSelectedFields(rtrEntity);
-                        final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
-                                .addAll(retrievedEntitiesWithFieldSelection)
-                                .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
-                                .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
-                                .build();
-                        final QueryThingsResponse theQueryThingsResponse =
-                                QueryThingsResponse.of(resultWithRetrievedItems, rtr.getDittoHeaders());
+                        final QueryThingsResponse theQueryThingsResponse;
+                        if (null == projectedThings || projectedThings.isEmpty()) {
+                            theQueryThingsResponse =
+                                    withConsistency(queryThingsResponse, rtrEntity.stream(), rtr.getDittoHeaders());
+                        } else {
+                            theQueryThingsResponse = withConsistency(queryThingsResponse,
+                                    mergeProjectedAndRetrievedThings(rtrEntity), rtr.getDittoHeaders());
+                        }
                         originatingSender.tell(theQueryThingsResponse, getSelf());
                         notifyOutOfSyncThings(rtrEntity);
                     } else {
@@ -204,6 +230,97 @@ final class QueryThingsPerRequestActor extends AbstractActorWithShutdownBehavior
         coordinatedShutdownSender = getSender();
     }
 
+    /**
+     * Collects the items of the search result which "things-search" marked as projected from its search index.
+     *
+     * @param qtr the response of "things-search".
+     * @return the projected things by their IDs or null if "things-search" does not project things.
+     */
+    @Nullable
+    private static Map<ThingId, JsonObject> getProjectedThings(final QueryThingsResponse qtr) {
+        final String projectedItems = qtr.getDittoHeaders().get(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey());
+        if (null == projectedItems) {
+            return null;
+        }
+        final JsonArray items = qtr.getSearchResult().getItems();
+        return Arrays.stream(projectedItems.split(","))
+                .filter(index -> !index.isEmpty())
+                .flatMap(index -> items.get(Integer.parseInt(index)).stream())
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .collect(Collectors.toMap(
+                        item -> ThingId.of(item.getValueOrThrow(Thing.JsonFields.ID)),
+                        Function.identity(),
+                        (item1, item2) -> item1));
+    }
+
+    private static DittoHeaders withoutProjectedItems(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.toBuilder()
+                .removeHeader(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey())
+                .build();
+    }
+
+    /**
+     * Merges the things retrieved from "things" into the things projected by "things-search" in the order of the
+     * search result.
+     *
+     * @param retrievedEntities the retrieved entities.
+     * @return the things of the search result which were projected or retrieved.
+     * @throws NullPointerException if this.queryThingsResponse or this.projectedThings is null.
+     */
+    private Stream<JsonValue> mergeProjectedAndRetrievedThings(final JsonArray retrievedEntities) {
+        final Map<String, JsonValue> retrievedThings = retrievedEntities.stream()
+                .filter(JsonValue::isObject)
+                .filter(item -> item.asObject().contains(Thing.JsonFields.ID.getPointer()))
+                .collect(Collectors.toMap(
+                        item -> item.asObject().getValueOrThrow(Thing.JsonFields.ID),
+                        Function.identity(),
+                        (item1, item2) -> item1));
+        return queryThingsResponse.getSearchResult()
+                .stream()
+                .flatMap(item -> item.asObject().getValue(Thing.JsonFields.ID).stream())
+                .flatMap(thingId -> Optional.<JsonValue>ofNullable(projectedThings.get(ThingId.of(thingId)))
+                        .or(() -> Optional.ofNullable(retrievedThings.get(thingId)))
+                        .stream());
+    }
+
+    /**
+     * Builds the response to the QueryThings command from the things of its search result and states from where the
+     * things were obtained if "things-search" projects things from its search index.
+     *
+     * @param searchResponse the response of "things-search" providing paging information.
+     * @param things the projected or retrieved things.
+     * @param dittoHeaders the headers of the response.
+     * @return the response.
+     */
+    private QueryThingsResponse withConsistency(final QueryThingsResponse searchResponse,
+            final Stream<JsonValue> things,
+            final DittoHeaders dittoHeaders) {
+
+        final JsonArray thingsArray = things.collect(JsonCollectors.valuesToArray());
+        final SearchResult searchResult = SearchModelFactory.newSearchResultBuilder()
+                .addAll(getEntitiesWithSelectedFields(thingsArray))
+                .nextPageOffset(searchResponse.getSearchResult().getNextPageOffset().orElse(null))
+                .cursor(searchResponse.getSearchResult().getCursor().orElse(null))
+                .build();
+        final String consistencyKey = DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey();
+        if (!searchResponse.getDittoHeaders().containsKey(consistencyKey)) {
+            // things-search does not project things from its search index
+            return QueryThingsResponse.of(searchResult, withoutProjectedItems(dittoHeaders));
+        }
+        final String consistency;
+        if (null == projectedThings || projectedThings.isEmpty()) {
+            consistency = ThingSearchConstants.CONSISTENCY_TWIN;
+        } else if (null == queryThingsResponseThingIds || queryThingsResponseThingIds.isEmpty()) {
+            consistency = ThingSearchConstants.CONSISTENCY_INDEX;
+        } else {
+            consistency = ThingSearchConstants.CONSISTENCY_MIXED;
+        }
+        return QueryThingsResponse.of(searchResult, withoutProjectedItems(dittoHeaders).toBuilder()
+                .putHeader(consistencyKey, consistency)
+                .build());
+    }
+
     private boolean queryThingsOnlyContainsThingIdSelector() {
         final Optional<JsonFieldSelector> fields = queryThings.getFields();
         return fields.isPresent() && fields.get().getPointers()
@@ -0,0 +1,552 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.SimpleFieldExpression;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingFieldSelector;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Index of the compiled RQL filters of all streaming sessions (WebSocket and SSE) of one gateway node.
+ * <p>
+ * Filters are keyed by their parsed {@link Criteria}, i.e. by the JSON pointers and literals they reference, together
+ * with the extra fields of the session, so that all sessions with an equal filter share one {@link SharedFilter}.
+ * </p>
+ * <p>
+ * Each session is indexed by the thing IDs its filter is restricted to, e.g. by {@code eq(thingId,"ns:id")}, or else
+ * by its namespaces. A twin event is dispatched once per node: only the sessions indexed for its thing ID or
+ * namespace and the unrestricted sessions are candidates for it, all other sessions drop the event before it is
+ * enriched. The candidates evaluate the event once per shared filter and distinct set of enriched extra fields.
+ * </p>
+ */
+public final class StreamingFilterIndex implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    /**
+     * How many of the most recent twin events keep their dispatch, i.e. their candidates and filter results.
+     */
+    private static final int RECENT_DISPATCHES = 1024;
+
+    private static final String THING_ID_FIELD = Thing.JsonFields.ID.getPointer().toString();
+    private static final String NAMESPACE_FIELD = Thing.JsonFields.NAMESPACE.getPointer().toString();
+
+    private static final EntityIdPlaceholder ENTITY_ID_PLACEHOLDER = EntityIdPlaceholder.getInstance();
+    private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
+    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
+    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+
+    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    private final Map<FilterKey, SharedFilter> filters;
+    private final Map<String, Set<Registration>> byThingId;
+    private final Map<String, Set<Registration>> byNamespace;
+    private final Set<Registration> unrestricted;
+    private final AtomicLong registrationSequence;
+    private final Cache<EventKey, Dispatch> recentDispatches;
+    private final Gauge indexSize;
+    private final Gauge indexedSessions;
+    private final Histogram candidatesChecked;
+
+    private StreamingFilterIndex() {
+        filters = new ConcurrentHashMap<>();
+        byThingId = new ConcurrentHashMap<>();
+        byNamespace = new ConcurrentHashMap<>();
+        unrestricted = ConcurrentHashMap.newKeySet();
+        registrationSequence = new AtomicLong();
+        recentDispatches = Caffeine.newBuilder().maximumSize(RECENT_DISPATCHES).build();
+        indexSize = DittoMetrics.gauge("streaming_filter_index_size");
+        indexedSessions = DittoMetrics.gauge("streaming_filter_index_sessions");
+        candidatesChecked = DittoMetrics.histogram("streaming_filter_candidates_checked");
+    }
+
+    /**
+     * Returns the {@code StreamingFilterIndex} of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the index.
+     */
+    public static StreamingFilterIndex get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Returns a new {@code StreamingFilterIndex} which is not bound to an actor system.
+     *
+     * @return the index.
+     */
+    static StreamingFilterIndex newInstance() {
+        return new StreamingFilterIndex();
+    }
+
+    /**
+     * Registers a session's filter in the index.
+     *
+     * @param namespaces the namespaces of the session, empty for all namespaces.
+     * @param criteria the parsed filter of the session.
+     * @param extraFields the extra fields of the session which are merged into the thing the filter is applied to.
+     * @return the registration to evaluate signals of the session with; must be passed to
+     * {@link #unregister(Registration)} once the session ends.
+     */
+    Registration register(final List<String> namespaces, final Criteria criteria,
+            @Nullable final ThingFieldSelector extraFields) {
+
+        final SharedFilter sharedFilter = filters.compute(new FilterKey(criteria, extraFields), (key, existing) -> {
+            final SharedFilter result = null != existing ? existing : new SharedFilter(key);
+            result.sessions++;
+            return result;
+        });
+        final Registration registration = new Registration(this, sharedFilter,
+                getRestriction(criteria, THING_ID_FIELD).orElse(null),
+                getNamespaces(namespaces, criteria).orElse(null));
+        if (null != registration.thingIds) {
+            registration.thingIds.forEach(thingId -> addTo(byThingId, thingId, registration));
+        } else if (null != registration.namespaces) {
+            registration.namespaces.forEach(namespace -> addTo(byNamespace, namespace, registration));
+        } else {
+            unrestricted.add(registration);
+        }
+        // dispatches of events read the sequence before the index: the registration is visible to all dispatches
+        // created after this point
+        registration.sequence = registrationSequence.incrementAndGet();
+        indexedSessions.increment();
+        indexSize.set((long) filters.size());
+        return registration;
+    }
+
+    /**
+     * Removes a session's filter from the index. The shared filter is dropped once no session uses it anymore.
+     *
+     * @param registration the registration obtained by {@link #register(List, Criteria, ThingFieldSelector)}.
+     */
+    void unregister(final Registration registration) {
+        if (null != registration.thingIds) {
+            registration.thingIds.forEach(thingId -> removeFrom(byThingId, thingId, registration));
+        } else if (null != registration.namespaces) {
+            registration.namespaces.forEach(namespace -> removeFrom(byNamespace, namespace, registration));
+        } else {
+            unrestricted.remove(registration);
+        }
+        final SharedFilter sharedFilter = registration.filter;
+        filters.computeIfPresent(sharedFilter.key, (key, existing) -> {
+            if (existing != sharedFilter) {
+                return existing;
+            }
+            return --existing.sessions > 0 ? existing : null;
+        });
+        indexedSessions.decrement();
+        indexSize.set((long) filters.size());
+    }
+
+    /**
+     * @return the number of distinct filters in the index.
+     */
+    int size() {
+        return filters.size();
+    }
+
+    /**
+     * Returns the dispatch of a twin event, determining its candidate sessions on the first call for the event.
+     *
+     * @param signal the signal.
+     * @return the dispatch or {@code null} if the signal is no twin event.
+     */
+    @Nullable
+    private Dispatch dispatch(final Signal<?> signal) {
+        final EventKey eventKey = EventKey.of(signal);
+        if (null == eventKey) {
+            return null;
+        }
+        return recentDispatches.get(eventKey, this::newDispatch);
+    }
+
+    private Dispatch newDispatch(final EventKey eventKey) {
+        final long sequence = registrationSequence.get();
+        final Set<Registration> candidates = new HashSet<>(unrestricted);
+        candidates.addAll(byThingId.getOrDefault(eventKey.thingId().toString(), Set.of()));
+        candidates.addAll(byNamespace.getOrDefault(eventKey.thingId().getNamespace(), Set.of()));
+        candidatesChecked.record((long) candidates.size());
+        return new Dispatch(sequence, candidates);
+    }
+
+    private static void addTo(final Map<String, Set<Registration>> index, final String key,
+            final Registration registration) {
+        index.compute(key, (k, registrations) -> {
+            final Set<Registration> result = null != registrations ? registrations : ConcurrentHashMap.newKeySet();
+            result.add(registration);
+            return result;
+        });
+    }
+
+    private static void removeFrom(final Map<String, Set<Registration>> index, final String key,
+            final Registration registration) {
+        index.computeIfPresent(key, (k, registrations) -> {
+            registrations.remove(registration);
+            return registrations.isEmpty() ? null : registrations;
+        });
+    }
+
+    /**
+     * Determines the namespaces a session may receive events of: the namespaces of the session restricted by the
+     * namespaces its filter requires.
+     */
+    private static Optional<Set<String>> getNamespaces(final List<String> sessionNamespaces,
+            final Criteria criteria) {
+        final Optional<Set<String>> filterNamespaces = getRestriction(criteria, NAMESPACE_FIELD);
+        if (sessionNamespaces.isEmpty()) {
+            return filterNamespaces;
+        }
+        final Set<String> namespaces = new HashSet<>(sessionNamespaces);
+        filterNamespaces.ifPresent(namespaces::retainAll);
+        return Optional.of(namespaces);
+    }
+
+    /**
+     * Determines the values a filter requires the passed simple field to have in order to match.
+     *
+     * @return the values or an empty optional if the filter does not restrict the field to a set of strings.
+     */
+    private static Optional<Set<String>> getRestriction(final Criteria criteria, final String fieldName) {
+        return criteria.accept(new RestrictionVisitor(fieldName));
+    }
+
+    /**
+     * A compiled filter shared by all sessions with the same criteria and extra fields.
+     */
+    static final class SharedFilter {
+
+        private final FilterKey key;
+        private int sessions;
+
+        private SharedFilter(final FilterKey key) {
+            this.key = key;
+            sessions = 0;
+        }
+
+        /**
+         * Test whether a thing matches this filter, without memoizing the result.
+         *
+         * @param thing the thing.
+         * @param signal the signal to extract {@code topic} and {@code resource} information from.
+         * @return whether the thing passes the filter.
+         */
+        boolean evaluate(final Thing thing, final Signal<?> signal) {
+            return ThingPredicateVisitor.apply(key.criteria,
+                            PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
+                                    PROTOCOL_ADAPTER.toTopicPath(signal)),
+                            PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
+                                    ((WithEntityId) signal).getEntityId()),
+                            PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                            PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
+                    )
+                    .test(thing);
+        }
+
+    }
+
+    /**
+     * The filter of one streaming session registered in the index.
+     */
+    public static final class Registration {
+
+        private final StreamingFilterIndex index;
+        private final SharedFilter filter;
+        @Nullable private final Set<String> thingIds;
+        @Nullable private final Set<String> namespaces;
+        private volatile long sequence;
+
+        private Registration(final StreamingFilterIndex index, final SharedFilter filter,
+                @Nullable final Set<String> thingIds, @Nullable final Set<String> namespaces) {
+            this.index = index;
+            this.filter = filter;
+            this.thingIds = thingIds;
+            this.namespaces = namespaces;
+            sequence = Long.MAX_VALUE;
+        }
+
+        /**
+         * Test whether a signal is dispatched to this session before it is enriched with the extra fields of the
+         * session. For twin events, this is decided once per event for all sessions of the index; filters without
+         * extra fields are evaluated right away.
+         *
+         * @param signal the signal.
+         * @param thingSupplier supplier of the thing contained in the signal.
+         * @return whether the signal may pass the filter of the session.
+         */
+        boolean isDispatchedTo(final Signal<?> signal, final Supplier<Thing> thingSupplier) {
+            final Dispatch dispatch = index.dispatch(signal);
+            if (null == dispatch || sequence > dispatch.sequence) {
+                // no twin event or registered after the candidates were determined
+                return true;
+            } else if (!dispatch.candidates.contains(this)) {
+                return false;
+            }
+            return null != filter.key.extraFields ||
+                    dispatch.matches(filter, JsonObject.empty(), signal, thingSupplier);
+        }
+
+        /**
+         * Test whether a signal together with the extra fields retrieved for a session passes the filter.
+         * Twin events are evaluated once per distinct extra fields and shared filter.
+         *
+         * @param signal the signal.
+         * @param extra the extra fields retrieved for the session.
+         * @param thingSupplier supplier of the thing merged from the signal and the extra fields.
+         * @return whether the signal passes the filter.
+         */
+        boolean matches(final Signal<?> signal, final JsonObject extra, final Supplier<Thing> thingSupplier) {
+            final Dispatch dispatch = index.dispatch(signal);
+            if (null == dispatch) {
+                return filter.evaluate(thingSupplier.get(), signal);
+            }
+            return dispatch.matches(filter, extra, signal, thingSupplier);
+        }
+
+        /**
+         * Test whether a thing matches the filter, without memoizing the result.
+         *
+         * @param thing the thing.
+         * @param signal the signal to extract {@code topic} and {@code resource} information from.
+         * @return whether the thing passes the filter.
+         */
+        boolean evaluate(final Thing thing, final Signal<?> signal) {
+            return filter.evaluate(thing, signal);
+        }
+
+        SharedFilter getSharedFilter() {
+            return filter;
+        }
+
+    }
+
+    private record FilterKey(Criteria criteria, @Nullable ThingFieldSelector extraFields) {}
+
+    /**
+     * Identity of a twin event which is independent of the headers each session sets on its copy of the event.
+     */
+    private record EventKey(ThingId thingId, String type, long revision) {
+
+        @Nullable
+        static EventKey of(final Signal<?> signal) {
+            if (signal instanceof ThingEvent<?> thingEvent && !StreamingType.isLiveSignal(thingEvent)) {
+                return new EventKey(thingEvent.getEntityId(), thingEvent.getType(), thingEvent.getRevision());
+            }
+            return null;
+        }
+
+    }
+
+    private record Evaluation(SharedFilter filter, JsonObject extra) {}
+
+    /**
+     * The candidate sessions of a twin event and the results of the filters evaluated for it.
+     */
+    private static final class Dispatch {
+
+        private final long sequence;
+        private final Set<Registration> candidates;
+        private final Map<Evaluation, Boolean> results;
+
+        private Dispatch(final long sequence, final Set<Registration> candidates) {
+            this.sequence = sequence;
+            this.candidates = candidates;
+            results = new ConcurrentHashMap<>();
+        }
+
+        private boolean matches(final SharedFilter filter, final JsonObject extra, final Signal<?> signal,
+                final Supplier<Thing> thingSupplier) {
+            return results.computeIfAbsent(new Evaluation(filter, extra),
+                    evaluation -> filter.evaluate(thingSupplier.get(), signal));
+        }
+
+    }
+
+    /**
+     * Determines the string values a criteria requires a simple field to have: conjunctions intersect the
+     * restrictions of their parts, disjunctions unite them if each part is restricted.
+     */
+    private static final class RestrictionVisitor implements CriteriaVisitor<Optional<Set<String>>> {
+
+        private final String fieldName;
+
+        private RestrictionVisitor(final String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @Override
+        public Optional<Set<String>> visitAnd(final List<Optional<Set<String>>> conjuncts) {
+            Set<String> result = null;
+            for (final Optional<Set<String>> conjunct : conjuncts) {
+                if (conjunct.isPresent()) {
+                    if (null == result) {
+                        result = new HashSet<>(conjunct.get());
+                    } else {
+                        result.retainAll(conjunct.get());
+                    }
+                }
+            }
+            return Optional.ofNullable(result);
+        }
+
+        @Override
+        public Optional<Set<String>> visitAny() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitExists(final ExistsFieldExpression fieldExpression) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitEmpty(final ExistsFieldExpression fieldExpression) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitField(final FilterFieldExpression fieldExpression,
+                final Predicate predicate) {
+            if (fieldExpression instanceof SimpleFieldExpression simpleFieldExpression &&
+                    fieldName.equals(simpleFieldExpression.getFieldName())) {
+                return predicate.accept(RestrictionPredicateVisitor.INSTANCE);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitNor(final List<Optional<Set<String>>> negativeDisjoints) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitOr(final List<Optional<Set<String>>> disjoints) {
+            final Set<String> result = new HashSet<>();
+            for (final Optional<Set<String>> disjoint : disjoints) {
+                if (disjoint.isEmpty()) {
+                    return Optional.empty();
+                }
+                result.addAll(disjoint.get());
+            }
+            return disjoints.isEmpty() ? Optional.empty() : Optional.of(result);
+        }
+
+    }
+
+    private static final class RestrictionPredicateVisitor implements PredicateVisitor<Optional<Set<String>>> {
+
+        private static final RestrictionPredicateVisitor INSTANCE = new RestrictionPredicateVisitor();
+
+        @Override
+        public Optional<Set<String>> visitEq(@Nullable final Object value) {
+            return value instanceof String string ? Optional.of(Set.of(string)) : Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitIn(final List<?> values) {
+            final Set<String> result = new HashSet<>();
+            for (final Object value : values) {
+                if (!(value instanceof String string)) {
+                    return Optional.empty();
+                }
+                result.add(string);
+            }
+            return Optional.of(result);
+        }
+
+        @Override
+        public Optional<Set<String>> visitGe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitGt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitNe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitILike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+    }
+
+    static final class ExtensionId extends AbstractExtensionId<StreamingFilterIndex> {
+
+        @Override
+        public StreamingFilterIndex createExtension(final ExtendedActorSystem system) {
+            return newInstance();
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.util.config.streaming.StreamingConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Short-lived cache of the protocol frames rendered for twin events, shared by all streaming sessions of one type
+ * (WebSocket or SSE) of a gateway node.
+ * <p>
+ * A frame is keyed by the identity of the twin event, its headers and the parameters the session renders it with,
+ * e.g. the enriched extra fields and the authorization context which determines the partial-access view. Sessions
+ * rendering an event with equal parameters therefore share one immutable frame instead of each converting the event
+ * again. Signals other than twin events are always rendered by the session itself.
+ * </p>
+ *
+ * @param <V> the type of the rendered frames.
+ * @since 3.10.0
+ */
+@ThreadSafe
+public final class StreamingFrameCache<V> {
+
+    @Nullable private final Cache<FrameKey, V> frames;
+    private final Counter hits;
+    private final Counter misses;
+
+    private StreamingFrameCache(@Nullable final Cache<FrameKey, V> frames, final String sessionType) {
+        this.frames = frames;
+        hits = DittoMetrics.counter("streaming_frame_cache_hits").tag("type", sessionType);
+        misses = DittoMetrics.counter("streaming_frame_cache_misses").tag("type", sessionType);
+    }
+
+    /**
+     * Returns a new {@code StreamingFrameCache} configured by the given streaming config.
+     *
+     * @param streamingConfig the streaming config providing the size and expiry of the cache.
+     * @param sessionType the type of the sessions sharing the cache to tag its metrics with, e.g. {@code "ws"}.
+     * @param <V> the type of the rendered frames.
+     * @return the cache.
+     */
+    public static <V> StreamingFrameCache<V> of(final StreamingConfig streamingConfig, final String sessionType) {
+        final int maximumSize = streamingConfig.getFrameCacheMaximumSize();
+        @Nullable final Cache<FrameKey, V> frames;
+        if (maximumSize > 0) {
+            frames = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(streamingConfig.getFrameCacheExpireAfterWrite())
+                    .build();
+        } else {
+            frames = null;
+        }
+        return new StreamingFrameCache<>(frames, sessionType);
+    }
+
+    /**
+     * Returns the frame rendered for the given jsonifiable with the given parameters, rendering it if no session did
+     * so before.
+     *
+     * @param jsonifiable the jsonifiable to render.
+     * @param renderingParameters all parameters besides the jsonifiable the frame depends on; must implement
+     * {@code equals} and {@code hashCode}.
+     * @param renderer renders the frame; must not return {@code null}.
+     * @return the rendered frame.
+     */
+    public V get(final Object jsonifiable, final Object renderingParameters, final Supplier<V> renderer) {
+        @Nullable final FrameKey frameKey = null != frames ? FrameKey.of(jsonifiable, renderingParameters) : null;
+        if (null == frameKey) {
+            return renderer.get();
+        }
+        @Nullable final V cachedFrame = frames.getIfPresent(frameKey);
+        if (null != cachedFrame) {
+            hits.increment();
+            return cachedFrame;
+        }
+        misses.increment();
+        // sessions rendering the same frame concurrently wait for the first one instead of rendering it again
+        return frames.get(frameKey, key -> renderer.get());
+    }
+
+    /**
+     * Identity of a twin event together with the parameters a session renders it with.
+     * The headers are part of the key because they are rendered into the frame.
+     */
+    private record FrameKey(EntityId entityId, String type, long revision, DittoHeaders dittoHeaders,
+                            Object renderingParameters) {
+
+        @Nullable
+        static FrameKey of(final Object jsonifiable, final Object renderingParameters) {
+            if (jsonifiable instanceof ThingEvent<?> thingEvent && !StreamingType.isLiveSignal(thingEvent)) {
+                return new FrameKey(thingEvent.getEntityId(), thingEvent.getType(), thingEvent.getRevision(),
+                        thingEvent.getDittoHeaders(), renderingParameters);
+            }
+            return null;
+        }
+
+    }
+
+}
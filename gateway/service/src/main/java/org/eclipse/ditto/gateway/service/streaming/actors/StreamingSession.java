@@ -14,22 +14,12 @@ package org.eclipse.ditto.gateway.service.streaming.actors;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BiPredicate;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.placeholders.PlaceholderFactory;
-import org.eclipse.ditto.placeholders.TimePlaceholder;
-import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
-import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
-import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -41,44 +31,27 @@ import org.apache.pekko.actor.ActorRef;
  */
 public final class StreamingSession {
 
-    private static final EntityIdPlaceholder ENTITY_ID_PLACEHOLDER = EntityIdPlaceholder.getInstance();
-    private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
-    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
-    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
-
-    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
-
     private final List<String> namespaces;
-    private final BiPredicate<Thing, Signal<?>> thingPredicate;
+    @Nullable private final StreamingFilterIndex.Registration filter;
     @Nullable private final ThingFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
     private final ThreadSafeDittoLoggingAdapter logger;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria filterCriteria,
+    private StreamingSession(final List<String> namespaces, @Nullable final StreamingFilterIndex.Registration filter,
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
         this.namespaces = namespaces;
-        thingPredicate = filterCriteria == null
-                ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
-                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
-                                PROTOCOL_ADAPTER.toTopicPath(signal)),
-                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                                        ((WithEntityId) signal).getEntityId()),
-                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
-                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+        this.filter = filter;
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria filterCriteria,
+    static StreamingSession of(final List<String> namespaces, @Nullable final StreamingFilterIndex.Registration filter,
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
 
-        return new StreamingSession(namespaces, filterCriteria, extraFields, streamingSessionActor, logger);
+        return new StreamingSession(namespaces, filter, extraFields, streamingSessionActor, logger);
     }
 
     /**
@@ -117,13 +90,45 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing, final Signal<?> signal) {
-        return thingPredicate.test(thing, signal);
+        return null == filter || filter.evaluate(thing, signal);
+    }
+
+    /**
+     * Test whether a signal is dispatched to this session by the {@link StreamingFilterIndex} before it is enriched
+     * with extra fields. Sessions whose filter is restricted to other things or namespaces than the ones of the signal
+     * are skipped without evaluating their filter.
+     *
+     * @param signal the signal.
+     * @return whether the signal may pass the filter defined in this session.
+     */
+    public boolean mayMatchFilter(final Signal<?> signal) {
+        return null == filter ||
+                filter.isDispatchedTo(signal, () -> mergeThingWithExtra(signal, JsonObject.empty()));
+    }
+
+    /**
+     * Test whether a signal together with extra fields from signal enrichment matches the filter defined in this
+     * session. The evaluation is shared with all other sessions of the gateway having the same filter.
+     *
+     * @param signal the signal.
+     * @param extra extra fields from signal enrichment.
+     * @return whether the thing merged from signal and extra fields passes the filter.
+     */
+    public boolean matchesFilter(final Signal<?> signal, final JsonObject extra) {
+        return null == filter || filter.matches(signal, extra, () -> mergeThingWithExtra(signal, extra));
     }
 
     public ActorRef getStreamingSessionActor() {
         return streamingSessionActor;
     }
 
+    /**
+     * @return the filter of this session registered in the {@link StreamingFilterIndex}, if any.
+     */
+    Optional<StreamingFilterIndex.Registration> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
     /**
      * @return the underlying logger of this session.
      */
@@ -144,6 +144,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final ActorRef streamingSubscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final StreamingFilterIndex streamingFilterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
@@ -197,6 +198,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         namespaces = connect.getNamespaces();
         killSwitch = connect.getKillSwitch().orElse(null);
         streamingSessions = new EnumMap<>(StreamingType.class);
+        streamingFilterIndex = StreamingFilterIndex.get(getContext().getSystem());
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 streamingConfig.getAcknowledgementConfig(),
                 headerTranslator,
@@ -280,6 +282,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         cancellableShutdownTask.cancel();
         cancelSessionTimeout();
         eventAndResponsePublisher.complete();
+        streamingSessions.values().forEach(this::unregisterFilter);
+        streamingSessions.clear();
     }
 
     @Override
@@ -380,6 +384,11 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     @Nullable final var session = streamingSessions.get(streamingType);
                     if (null != session && isSessionAllowedToReceiveSignal(signal, session, streamingType)) {
                         final ThreadSafeDittoLoggingAdapter l = logger.withCorrelationId(signal);
+                        if (!session.mayMatchFilter(signal)) {
+                            l.debug("Signal of type <{}> is not dispatched to <{}> session by its filter",
+                                    signal.getType(), type);
+                            return;
+                        }
                         l.debug("Publishing Signal of type <{}> in <{}> session: {}", type, signal.getType(), signal);
 
                         final DittoHeaders sessionHeaders = DittoHeaders.newBuilder()
@@ -408,7 +417,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                             null,
                             getSelf(),
                             logger);
-                    streamingSessions.put(StreamingType.EVENTS, session);
+                    putStreamingSession(StreamingType.EVENTS, session);
 
                     Patterns.ask(commandForwarder, streamPersistedEvents, streamPersistedEvents.getDittoHeaders()
                                     .getTimeout()
@@ -454,9 +463,13 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final var session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null), getSelf(), logger);
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    final var extraFields = startStreaming.getExtraFields().orElse(null);
+                    final var filter = null != criteria
+                            ? streamingFilterIndex.register(startStreaming.getNamespaces(), criteria, extraFields)
+                            : null;
+                    final var session = StreamingSession.of(startStreaming.getNamespaces(), filter, extraFields,
+                            getSelf(), logger);
+                    putStreamingSession(startStreaming.getStreamingType(), session);
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -495,7 +508,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    unregisterFilter(streamingSessions.remove(stopStreaming.getStreamingType()));
 
                     // In Cluster: Unsubscribe
                     final var unsubscribeConfirmation = new ConfirmUnsubscription(stopStreaming.getStreamingType());
@@ -637,6 +650,16 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return result;
     }
 
+    private void putStreamingSession(final StreamingType streamingType, final StreamingSession session) {
+        unregisterFilter(streamingSessions.put(streamingType, session));
+    }
+
+    private void unregisterFilter(@Nullable final StreamingSession session) {
+        if (null != session) {
+            session.getFilter().ifPresent(streamingFilterIndex::unregister);
+        }
+    }
+
     // no precondition; forwarder starter does not start for signals without ack requests, in contrast to ackregator
     private Signal<?> startAckForwarder(final Signal<?> signal) {
         final var entityIdOptional = WithEntityId.getEntityId(signal);
@@ -65,6 +65,17 @@ public interface CommandConfig {
      */
     int connectionsRetrieveLimit();
 
+    /**
+     * Indicates whether twin and policy queries requesting no acknowledgements are asked directly from the HTTP route
+     * instead of being handled by an HTTP request actor.
+     * Direct queries are only used together with the default HTTP request actor props factory, as a custom factory
+     * may add behavior to the HTTP request actor which direct queries would bypass.
+     *
+     * @return {@code true} if direct queries are enabled.
+     * @since 3.10.0
+     */
+    boolean isDirectQueryEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CommandConfig}.
@@ -96,7 +107,12 @@ public interface CommandConfig {
          * The limit of how many connections can be retrieved.
          * If not limited the response may become few MB in size.
          */
-        CONNECTIONS_RETRIEVE_LIMIT("connections-retrieve-limit", 100);
+        CONNECTIONS_RETRIEVE_LIMIT("connections-retrieve-limit", 100),
+
+        /**
+         * Whether twin and policy queries requesting no acknowledgements are handled without an HTTP request actor.
+         */
+        DIRECT_QUERY_ENABLED("direct-query-enabled", false);
 
         private final String path;
         private final Object defaultValue;
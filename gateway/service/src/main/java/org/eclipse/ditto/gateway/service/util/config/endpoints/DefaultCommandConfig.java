@@ -37,6 +37,7 @@ public final class DefaultCommandConfig implements CommandConfig {
     private final Duration smartChannelBuffer;
     private final Duration fireAndForgetEnforcementTimeout;
     private final int connectionsRetrieveLimit;
+    private final boolean directQueryEnabled;
 
     private DefaultCommandConfig(final ScopedConfig scopedConfig) {
         defaultTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(CommandConfigValue.DEFAULT_TIMEOUT);
@@ -46,6 +47,7 @@ public final class DefaultCommandConfig implements CommandConfig {
         fireAndForgetEnforcementTimeout = scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
                 CommandConfigValue.FIRE_AND_FORGET_ENFORCEMENT_TIMEOUT);
         connectionsRetrieveLimit = scopedConfig.getNonNegativeIntOrThrow(CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT);
+        directQueryEnabled = scopedConfig.getBoolean(CommandConfigValue.DIRECT_QUERY_ENABLED.getConfigPath());
     }
 
     /**
@@ -85,6 +87,11 @@ public final class DefaultCommandConfig implements CommandConfig {
         return connectionsRetrieveLimit;
     }
 
+    @Override
+    public boolean isDirectQueryEnabled() {
+        return directQueryEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -98,13 +105,14 @@ public final class DefaultCommandConfig implements CommandConfig {
                 Objects.equals(maxTimeout, that.maxTimeout) &&
                 Objects.equals(smartChannelBuffer, that.smartChannelBuffer) &&
                 Objects.equals(fireAndForgetEnforcementTimeout, that.fireAndForgetEnforcementTimeout) &&
-                Objects.equals(connectionsRetrieveLimit, that.connectionsRetrieveLimit);
+                Objects.equals(connectionsRetrieveLimit, that.connectionsRetrieveLimit) &&
+                directQueryEnabled == that.directQueryEnabled;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(defaultTimeout, maxTimeout, smartChannelBuffer, fireAndForgetEnforcementTimeout,
-                connectionsRetrieveLimit);
+                connectionsRetrieveLimit, directQueryEnabled);
     }
 
     @Override
@@ -115,6 +123,7 @@ public final class DefaultCommandConfig implements CommandConfig {
                 ", smartChannelBuffer=" + smartChannelBuffer +
                 ", fireAndForgetEnforcementTimeout=" + fireAndForgetEnforcementTimeout +
                 ", connectionsRetrieveLimit=" + connectionsRetrieveLimit +
+                ", directQueryEnabled=" + directQueryEnabled +
                 "]";
     }
 
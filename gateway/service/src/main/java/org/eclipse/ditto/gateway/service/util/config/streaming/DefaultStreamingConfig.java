@@ -35,6 +35,8 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final AcknowledgementConfig acknowledgementConfig;
     private final Duration searchIdleTimeout;
     private final Duration subscriptionRefreshDelay;
+    private final int frameCacheMaximumSize;
+    private final Duration frameCacheExpireAfterWrite;
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
 
@@ -47,6 +49,10 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         searchIdleTimeout = scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SEARCH_IDLE_TIMEOUT);
         subscriptionRefreshDelay =
                 scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY);
+        frameCacheMaximumSize = scopedConfig.getNonNegativeIntOrThrow(StreamingConfigValue.FRAME_CACHE_MAXIMUM_SIZE);
+        frameCacheExpireAfterWrite =
+                scopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                        StreamingConfigValue.FRAME_CACHE_EXPIRE_AFTER_WRITE);
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
     }
@@ -98,6 +104,16 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return subscriptionRefreshDelay;
     }
 
+    @Override
+    public int getFrameCacheMaximumSize() {
+        return frameCacheMaximumSize;
+    }
+
+    @Override
+    public Duration getFrameCacheExpireAfterWrite() {
+        return frameCacheExpireAfterWrite;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -108,6 +124,8 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return parallelism == that.parallelism &&
+                frameCacheMaximumSize == that.frameCacheMaximumSize &&
+                Objects.equals(frameCacheExpireAfterWrite, that.frameCacheExpireAfterWrite) &&
                 Objects.equals(searchIdleTimeout, that.searchIdleTimeout) &&
                 Objects.equals(subscriptionRefreshDelay, that.subscriptionRefreshDelay) &&
                 Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
@@ -119,7 +137,8 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, acknowledgementConfig, websocketConfig,
-                sseConfig, searchIdleTimeout, subscriptionRefreshDelay);
+                sseConfig, searchIdleTimeout, subscriptionRefreshDelay, frameCacheMaximumSize,
+                frameCacheExpireAfterWrite);
     }
 
     @Override
@@ -129,6 +148,8 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 ", parallelism=" + parallelism +
                 ", searchIdleTimeout=" + searchIdleTimeout +
                 ", subscriptionRefreshDelay=" + subscriptionRefreshDelay +
+                ", frameCacheMaximumSize=" + frameCacheMaximumSize +
+                ", frameCacheExpireAfterWrite=" + frameCacheExpireAfterWrite +
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
                 ", sseConfig=" + sseConfig +
@@ -82,6 +82,23 @@ public interface StreamingConfig {
      */
     Duration getSubscriptionRefreshDelay();
 
+    /**
+     * Returns the maximum number of rendered protocol frames to share between the WebSocket and SSE sessions of a
+     * gateway instance. {@code 0} disables sharing rendered frames.
+     *
+     * @return the maximum size of the frame cache.
+     * @since 3.10.0
+     */
+    int getFrameCacheMaximumSize();
+
+    /**
+     * Returns how long a rendered protocol frame is shared between sessions after it was rendered.
+     *
+     * @return the expiry of the frame cache entries.
+     * @since 3.10.0
+     */
+    Duration getFrameCacheExpireAfterWrite();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -94,6 +111,9 @@ public interface StreamingConfig {
         map.put(StreamingConfigValue.PARALLELISM.getConfigPath(), getParallelism());
         map.put(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath(), getSearchIdleTimeout());
         map.put(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath(), getSubscriptionRefreshDelay());
+        map.put(StreamingConfigValue.FRAME_CACHE_MAXIMUM_SIZE.getConfigPath(), getFrameCacheMaximumSize());
+        map.put(StreamingConfigValue.FRAME_CACHE_EXPIRE_AFTER_WRITE.getConfigPath(),
+                getFrameCacheExpireAfterWrite().toMillis() + "ms");
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .atKey(CONFIG_PATH);
@@ -123,7 +143,21 @@ public interface StreamingConfig {
         /**
          * Minimum delay before refreshing the Ditto pubsub subscriptions of a stream.
          */
-        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5));
+        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5)),
+
+        /**
+         * Maximum number of rendered protocol frames shared between sessions, 0 to disable sharing.
+         *
+         * @since 3.10.0
+         */
+        FRAME_CACHE_MAXIMUM_SIZE("frame-cache.maximum-size", 10_000),
+
+        /**
+         * How long a rendered protocol frame is shared between sessions.
+         *
+         * @since 3.10.0
+         */
+        FRAME_CACHE_EXPIRE_AFTER_WRITE("frame-cache.expire-after-write", Duration.ofSeconds(5));
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.endpoints.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.StatusCodes;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.util.config.endpoints.DefaultCommandConfig;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link DirectQueryHandler}.
+ */
+public final class DirectQueryHandlerTest extends AbstractHttpRequestActorTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:direct-query");
+
+    @Test
+    public void isApplicableForTwinQuery() {
+        final var underTest = createDirectQueryHandler();
+
+        assertThat(underTest.isApplicable(RetrieveThing.of(THING_ID, getDittoHeaders()))).isTrue();
+    }
+
+    @Test
+    public void isNotApplicableByDefault() {
+        final var underTest = DirectQueryHandler.of(ACTOR_SYSTEM_RESOURCE.getActorSystem(),
+                ACTOR_SYSTEM_RESOURCE.newTestProbe().ref(), HEADER_TRANSLATOR,
+                DefaultCommandConfig.of(ConfigFactory.empty()));
+
+        assertThat(underTest.isApplicable(RetrieveThing.of(THING_ID, getDittoHeaders()))).isFalse();
+    }
+
+    @Test
+    public void isNotApplicableForComplexCommands() {
+        final var underTest = createDirectQueryHandler();
+        final var dittoHeaders = getDittoHeaders();
+
+        assertThat(underTest.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders.toBuilder()
+                .channel("live")
+                .build()))).isFalse();
+        assertThat(underTest.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders.toBuilder()
+                .responseRequired(false)
+                .build()))).isFalse();
+        assertThat(underTest.isApplicable(RetrieveThing.of(THING_ID, dittoHeaders.toBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build()))).isFalse();
+        assertThat(underTest.isApplicable(ModifyAttribute.of(THING_ID, JsonPointer.of("foo"), JsonValue.of("bar"),
+                dittoHeaders))).isFalse();
+    }
+
+    @Test
+    public void rendersQueryResponse() {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createDirectQueryHandler(proxyActorProbe.ref());
+        final var retrieveThing = RetrieveThing.of(THING_ID, getDittoHeaders());
+        final var thingJson = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(RetrieveThingResponse.of(THING_ID, thingJson, retrieveThing.getDittoHeaders()));
+
+        final var httpResponse = responseFuture.join();
+        assertThat(httpResponse.status()).isEqualTo(StatusCodes.OK);
+        assertThat(JsonObject.of(getBody(httpResponse))).isEqualTo(thingJson);
+    }
+
+    @Test
+    public void rendersErrorOfQuery() {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createDirectQueryHandler(proxyActorProbe.ref());
+        final var retrieveThing = RetrieveThing.of(THING_ID, getDittoHeaders());
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+        proxyActorProbe.reply(ThingNotAccessibleException.newBuilder(THING_ID)
+                .dittoHeaders(retrieveThing.getDittoHeaders())
+                .build());
+
+        assertThat(responseFuture.join().status()).isEqualTo(StatusCodes.NOT_FOUND);
+    }
+
+    @Test
+    public void rendersTimeoutOfQuery() {
+        final var proxyActorProbe = ACTOR_SYSTEM_RESOURCE.newTestProbe();
+        final var underTest = createDirectQueryHandler(proxyActorProbe.ref());
+        final var retrieveThing = RetrieveThing.of(THING_ID, getDittoHeaders().toBuilder()
+                .timeout(Duration.ofMillis(500))
+                .build());
+
+        final var responseFuture = underTest.handle(retrieveThing).toCompletableFuture();
+        proxyActorProbe.expectMsg(retrieveThing);
+
+        assertThat(responseFuture.join().status()).isEqualTo(StatusCodes.REQUEST_TIMEOUT);
+    }
+
+    private DirectQueryHandler createDirectQueryHandler() {
+        return createDirectQueryHandler(ACTOR_SYSTEM_RESOURCE.newTestProbe().ref());
+    }
+
+    private DirectQueryHandler createDirectQueryHandler(final ActorRef proxyActor) {
+        return DirectQueryHandler.of(ACTOR_SYSTEM_RESOURCE.getActorSystem(), proxyActor, HEADER_TRANSLATOR,
+                gatewayConfig.getCommandConfig());
+    }
+
+    private DittoHeaders getDittoHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId(testNameCorrelationId.getCorrelationId())
+                .responseRequired(true)
+                .build();
+    }
+
+    private static String getBody(final HttpResponse httpResponse) {
+        return httpResponse.entity()
+                .toStrict(10000, ACTOR_SYSTEM_RESOURCE.getMaterializer())
+                .toCompletableFuture()
+                .join()
+                .getData()
+                .utf8String();
+    }
+
+}
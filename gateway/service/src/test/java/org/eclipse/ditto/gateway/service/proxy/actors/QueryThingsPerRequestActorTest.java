@@ -12,10 +12,14 @@
  */
 package org.eclipse.ditto.gateway.service.proxy.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.gateway.service.util.config.DittoGatewayConfig;
 import org.eclipse.ditto.gateway.service.util.config.GatewayConfig;
@@ -32,6 +36,7 @@ import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
 import org.eclipse.ditto.thingsearch.api.events.ThingsOutOfSync;
 import org.eclipse.ditto.thingsearch.model.SearchResult;
+import org.eclipse.ditto.thingsearch.model.ThingSearchConstants;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 import org.junit.Before;
@@ -108,7 +113,7 @@ public final class QueryThingsPerRequestActorTest {
                 .dittoHeaders(dittoHeaders)
                 .build());
         aggregatorProbe.reply(RetrieveThingsResponse.of(asArray(thingId1, thingId2), "thing", responseHeaders));
-        originalSenderProbe.expectMsg(queryThingsResponse);
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, responseHeaders));
     }
 
     @Test
@@ -159,7 +164,8 @@ public final class QueryThingsPerRequestActorTest {
 
         // THEN: final response does not include thingId
         originalSenderProbe.expectMsg(
-                QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(), responseHeaders));
+                QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(),
+                        responseHeaders));
     }
 
     @Test
@@ -191,6 +197,106 @@ public final class QueryThingsPerRequestActorTest {
         );
     }
 
+    @Test
+    public void sendNoRetrieveThingsIfAllThingsWereProjectedFromSearchIndex() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, dittoHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult =
+                SearchResult.newBuilder().addAll(asArrayWithExtra(definition, thingId1, thingId2)).build();
+
+        // WHEN: things-search projected all things from the search index
+        underTest.tell(QueryThingsResponse.of(searchResult,
+                withProjectedItems(responseHeaders, ThingSearchConstants.CONSISTENCY_INDEX, 0, 1)),
+                ActorRef.noSender());
+
+        // THEN: aggregator is NOT asked to retrieve things and the final response does not include thingId
+        aggregatorProbe.expectNoMessage();
+        originalSenderProbe.expectMsg(
+                QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(),
+                        withConsistency(responseHeaders, ThingSearchConstants.CONSISTENCY_INDEX)));
+    }
+
+    @Test
+    public void retrieveOnlyThingsWhichWereNotProjectedFromSearchIndex() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final ThingId thingId3 = ThingId.of("thing:3");
+        final JsonObject projected = JsonObject.newBuilder().set("policyId", "thing:projected").build();
+        final JsonObject retrieved = JsonObject.newBuilder().set("policyId", "thing:retrieved").build();
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .add(idItem(thingId1))
+                .addAll(asArrayWithExtra(projected, thingId2))
+                .add(idItem(thingId3))
+                .build();
+
+        // WHEN: things-search could project only thingId2 from the search index
+        underTest.tell(QueryThingsResponse.of(searchResult,
+                withProjectedItems(responseHeaders, ThingSearchConstants.CONSISTENCY_MIXED, 1)), ActorRef.noSender());
+
+        // THEN: aggregator is asked to retrieve the other things
+        final RetrieveThings retrieveThings = aggregatorProbe.expectMsgClass(RetrieveThings.class);
+        assertThat(retrieveThings.getEntityIds()).containsExactly(thingId1, thingId3);
+        aggregatorProbe.reply(RetrieveThingsResponse.of(asArrayWithExtra(retrieved, thingId3, thingId1), "thing",
+                responseHeaders));
+
+        // THEN: projected and retrieved things are merged in the order of the search result
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(SearchResult.newBuilder()
+                        .addAll(asArrayWithExtra(retrieved, thingId1))
+                        .addAll(asArrayWithExtra(projected, thingId2))
+                        .addAll(asArrayWithExtra(retrieved, thingId3))
+                        .build(),
+                withConsistency(responseHeaders, ThingSearchConstants.CONSISTENCY_MIXED)));
+    }
+
+    @Test
+    public void projectedThingsConsistingOfTheirIdAloneAreNotRetrieved() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, dittoHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .addAll(asArrayWithExtra(definition, thingId1))
+                .add(idItem(thingId2))
+                .build();
+
+        // WHEN: things-search projected both things, but the definition of thingId2 is not visible
+        underTest.tell(QueryThingsResponse.of(searchResult,
+                withProjectedItems(responseHeaders, ThingSearchConstants.CONSISTENCY_INDEX, 0, 1)),
+                ActorRef.noSender());
+
+        // THEN: aggregator is NOT asked to retrieve things
+        aggregatorProbe.expectNoMessage();
+        originalSenderProbe.expectMsg(
+                QueryThingsResponse.of(SearchResult.newBuilder().add(definition, JsonObject.empty()).build(),
+                        withConsistency(responseHeaders, ThingSearchConstants.CONSISTENCY_INDEX)));
+    }
+
+    @Test
+    public void statesTwinConsistencyIfThingsSearchCouldProjectNoThing() {
+        final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = forIdItems(thingId1, thingId2);
+
+        // WHEN: things-search projects things from its search index, but could project none of them
+        underTest.tell(QueryThingsResponse.of(searchResult,
+                withProjectedItems(responseHeaders, ThingSearchConstants.CONSISTENCY_TWIN)), ActorRef.noSender());
+
+        // THEN: all things are retrieved and the response states that
+        final RetrieveThings retrieveThings = aggregatorProbe.expectMsgClass(RetrieveThings.class);
+        assertThat(retrieveThings.getEntityIds()).containsExactly(thingId1, thingId2);
+        aggregatorProbe.reply(RetrieveThingsResponse.of(asArray(thingId1, thingId2), "thing", responseHeaders));
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult,
+                withConsistency(responseHeaders, ThingSearchConstants.CONSISTENCY_TWIN)));
+    }
+
     @Test
     public void actorShutsDownAfterServiceRequestDoneMessageWasReceived() {
         new TestKit(ACTOR_SYSTEM_RESOURCE.getActorSystem()) {{
@@ -227,6 +333,20 @@ public final class QueryThingsPerRequestActorTest {
         return ACTOR_SYSTEM_RESOURCE.newActor(props);
     }
 
+    private static DittoHeaders withConsistency(final DittoHeaders headers, final String consistency) {
+        return headers.toBuilder().putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), consistency).build();
+    }
+
+    private static DittoHeaders withProjectedItems(final DittoHeaders headers, final String consistency,
+            final int... projectedItems) {
+
+        return withConsistency(headers, consistency).toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey(), Arrays.stream(projectedItems)
+                        .mapToObj(String::valueOf)
+                        .collect(Collectors.joining(",")))
+                .build();
+    }
+
     private static SearchResult forIdItems(final ThingId... thingIds) {
         return SearchResult.newBuilder().addAll(asArray(thingIds)).build();
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.edge.service.placeholders.FeaturePlaceholder;
+import org.eclipse.ditto.edge.service.placeholders.ThingPlaceholder;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingFilterIndex}.
+ */
+public final class StreamingFilterIndexTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY = QueryFilterCriteriaFactory.modelBased(
+            RqlPredicateParser.getInstance(),
+            TopicPathPlaceholder.getInstance(),
+            EntityIdPlaceholder.getInstance(),
+            ThingPlaceholder.getInstance(),
+            FeaturePlaceholder.getInstance(),
+            ResourcePlaceholder.getInstance(),
+            TimePlaceholder.getInstance(),
+            PlaceholderFactory.newHeadersPlaceholder()
+    );
+
+    @Test
+    public void sessionsWithEqualFiltersShareOneEntry() {
+        final StreamingFilterIndex underTest = StreamingFilterIndex.newInstance();
+
+        final var first = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+        final var second = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+        final var third = underTest.register(List.of(), parse("eq(attributes/type,\"y\")"), null);
+
+        assertThat(second.getSharedFilter()).isSameAs(first.getSharedFilter());
+        assertThat(third.getSharedFilter()).isNotSameAs(first.getSharedFilter());
+        assertThat(underTest.size()).isEqualTo(2);
+
+        underTest.unregister(first);
+        assertThat(underTest.size()).isEqualTo(2);
+        underTest.unregister(second);
+        underTest.unregister(third);
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void eventIsEvaluatedOncePerSharedFilter() {
+        final StreamingFilterIndex underTest = StreamingFilterIndex.newInstance();
+        final var first = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+        final var second = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        final var matching = attributeModified(1L, "x", DittoHeaders.newBuilder().correlationId("a").build());
+        final var matchingCopy = matching.setDittoHeaders(DittoHeaders.newBuilder().correlationId("b").build());
+        final var notMatching = attributeModified(2L, "y", DittoHeaders.empty());
+
+        assertThat(first.matches(matching, JsonObject.empty(), countingThing(matching, evaluations))).isTrue();
+        assertThat(second.matches(matchingCopy, JsonObject.empty(), countingThing(matchingCopy, evaluations)))
+                .isTrue();
+        assertThat(evaluations).hasValue(1);
+
+        assertThat(first.matches(notMatching, JsonObject.empty(), countingThing(notMatching, evaluations)))
+                .isFalse();
+        assertThat(second.matches(notMatching, JsonObject.empty(), countingThing(notMatching, evaluations)))
+                .isFalse();
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    public void eventIsDispatchedOnlyToSessionsIndexedForItsThingOrNamespace() {
+        final StreamingFilterIndex underTest = StreamingFilterIndex.newInstance();
+        final var sameThing = underTest.register(List.of(), parse("eq(thingId,\"org.eclipse.ditto:thing\")"), null);
+        final var otherThing = underTest.register(List.of(),
+                parse("and(in(thingId,\"other:thing\",\"other:thing2\"),eq(attributes/type,\"x\"))"), null);
+        final var sameNamespace =
+                underTest.register(List.of(), parse("eq(_namespace,\"org.eclipse.ditto\")"), null);
+        final var otherNamespace = underTest.register(List.of("other"), parse("eq(attributes/type,\"x\")"), null);
+        final var unrestricted = underTest.register(List.of(),
+                parse("or(eq(thingId,\"other:thing\"),eq(attributes/type,\"x\"))"), null);
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        final var event = attributeModified(1L, "x", DittoHeaders.empty());
+
+        assertThat(otherThing.isDispatchedTo(event, countingThing(event, evaluations))).isFalse();
+        assertThat(otherNamespace.isDispatchedTo(event, countingThing(event, evaluations))).isFalse();
+        assertThat(evaluations).hasValue(0);
+
+        assertThat(sameThing.isDispatchedTo(event, countingThing(event, evaluations))).isTrue();
+        assertThat(sameNamespace.isDispatchedTo(event, countingThing(event, evaluations))).isTrue();
+        assertThat(unrestricted.isDispatchedTo(event, countingThing(event, evaluations))).isTrue();
+        assertThat(evaluations).hasValue(3);
+    }
+
+    @Test
+    public void sessionRegisteredAfterDispatchOfEventIsNotSkipped() {
+        final StreamingFilterIndex underTest = StreamingFilterIndex.newInstance();
+        final var before = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+        final var event = attributeModified(1L, "x", DittoHeaders.empty());
+        final AtomicInteger evaluations = new AtomicInteger();
+        assertThat(before.isDispatchedTo(event, countingThing(event, evaluations))).isTrue();
+
+        final var after = underTest.register(List.of(), parse("eq(attributes/type,\"x\")"), null);
+
+        assertThat(after.isDispatchedTo(event, countingThing(event, evaluations))).isTrue();
+        assertThat(after.matches(event, JsonObject.empty(), countingThing(event, evaluations))).isTrue();
+        assertThat(evaluations).hasValue(1);
+    }
+
+    @Test
+    public void unregisteredSessionIsNoCandidate() {
+        final StreamingFilterIndex underTest = StreamingFilterIndex.newInstance();
+        final var registration =
+                underTest.register(List.of(), parse("eq(thingId,\"org.eclipse.ditto:thing\")"), null);
+        underTest.unregister(registration);
+
+        final var event = attributeModified(1L, "x", DittoHeaders.empty());
+
+        assertThat(registration.isDispatchedTo(event, countingThing(event, new AtomicInteger()))).isFalse();
+    }
+
+    private static Criteria parse(final String filter) {
+        return CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+    }
+
+    private static AttributeModified attributeModified(final long revision, final String type,
+            final DittoHeaders dittoHeaders) {
+
+        return AttributeModified.of(THING_ID, JsonPointer.of("type"), JsonValue.of(type), revision, null,
+                dittoHeaders, null);
+    }
+
+    private static Supplier<Thing> countingThing(final AttributeModified event, final AtomicInteger counter) {
+        return () -> {
+            counter.incrementAndGet();
+            return ThingEventToThingConverter.thingEventToThing(event).orElseThrow();
+        };
+    }
+
+}
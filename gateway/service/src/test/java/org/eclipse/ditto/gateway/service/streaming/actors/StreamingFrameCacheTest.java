@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.util.config.streaming.DefaultStreamingConfig;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link StreamingFrameCache}.
+ */
+public final class StreamingFrameCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("a").build();
+
+    @Test
+    public void framesOfEqualEventsAndParametersAreShared() {
+        final StreamingFrameCache<String> underTest = newFrameCache(100);
+        final AtomicInteger renderings = new AtomicInteger();
+
+        final String first = underTest.get(attributeModified(1L, DITTO_HEADERS), "params", rendering(renderings));
+        final String second = underTest.get(attributeModified(1L, DITTO_HEADERS), "params", rendering(renderings));
+
+        assertThat(second).isSameAs(first);
+        assertThat(renderings).hasValue(1);
+    }
+
+    @Test
+    public void framesAreRenderedAgainForOtherEventsHeadersOrParameters() {
+        final StreamingFrameCache<String> underTest = newFrameCache(100);
+        final AtomicInteger renderings = new AtomicInteger();
+
+        underTest.get(attributeModified(1L, DITTO_HEADERS), "params", rendering(renderings));
+        underTest.get(attributeModified(2L, DITTO_HEADERS), "params", rendering(renderings));
+        underTest.get(attributeModified(1L, DittoHeaders.empty()), "params", rendering(renderings));
+        underTest.get(attributeModified(1L, DITTO_HEADERS), "other params", rendering(renderings));
+
+        assertThat(renderings).hasValue(4);
+    }
+
+    @Test
+    public void liveEventsAreNotShared() {
+        final StreamingFrameCache<String> underTest = newFrameCache(100);
+        final AtomicInteger renderings = new AtomicInteger();
+        final DittoHeaders liveHeaders = DittoHeaders.newBuilder().channel("live").build();
+
+        underTest.get(attributeModified(1L, liveHeaders), "params", rendering(renderings));
+        underTest.get(attributeModified(1L, liveHeaders), "params", rendering(renderings));
+
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    public void maximumSizeZeroDisablesSharing() {
+        final StreamingFrameCache<String> underTest = newFrameCache(0);
+        final AtomicInteger renderings = new AtomicInteger();
+
+        underTest.get(attributeModified(1L, DITTO_HEADERS), "params", rendering(renderings));
+        underTest.get(attributeModified(1L, DITTO_HEADERS), "params", rendering(renderings));
+
+        assertThat(renderings).hasValue(2);
+    }
+
+    private static StreamingFrameCache<String> newFrameCache(final int maximumSize) {
+        return StreamingFrameCache.of(DefaultStreamingConfig.of(
+                ConfigFactory.parseString("streaming.frame-cache.maximum-size = " + maximumSize)), "test");
+    }
+
+    private static AttributeModified attributeModified(final long revision, final DittoHeaders dittoHeaders) {
+        return AttributeModified.of(THING_ID, JsonPointer.of("type"), JsonValue.of("x"), revision, null,
+                dittoHeaders, null);
+    }
+
+    private static Supplier<String> rendering(final AtomicInteger counter) {
+        return () -> "frame " + counter.incrementAndGet();
+    }
+
+}
@@ -62,6 +62,9 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.connectionsRetrieveLimit())
                 .as(CommandConfig.CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT.getConfigPath())
                 .isEqualTo(100);
+        softly.assertThat(underTest.isDirectQueryEnabled())
+                .as(CommandConfig.CommandConfigValue.DIRECT_QUERY_ENABLED.getConfigPath())
+                .isFalse();
     }
 
     @Test
@@ -80,6 +83,9 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.connectionsRetrieveLimit())
                 .as(CommandConfig.CommandConfigValue.CONNECTIONS_RETRIEVE_LIMIT.getConfigPath())
                 .isEqualTo(77);
+        softly.assertThat(underTest.isDirectQueryEnabled())
+                .as(CommandConfig.CommandConfigValue.DIRECT_QUERY_ENABLED.getConfigPath())
+                .isTrue();
     }
 
 }
@@ -62,6 +62,12 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getDefaultValue());
+        softly.assertThat(underTest.getFrameCacheMaximumSize())
+                .as(StreamingConfig.StreamingConfigValue.FRAME_CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.FRAME_CACHE_MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getFrameCacheExpireAfterWrite())
+                .as(StreamingConfig.StreamingConfigValue.FRAME_CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.FRAME_CACHE_EXPIRE_AFTER_WRITE.getDefaultValue());
     }
 
     @Test
@@ -80,6 +86,12 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(Duration.ofHours(8));
+        softly.assertThat(underTest.getFrameCacheMaximumSize())
+                .as(StreamingConfig.StreamingConfigValue.FRAME_CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(123);
+        softly.assertThat(underTest.getFrameCacheExpireAfterWrite())
+                .as(StreamingConfig.StreamingConfigValue.FRAME_CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(11L));
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getInterval())
                 .as("websocket.throttling.interval")
                 .isEqualTo(Duration.ofSeconds(8L));
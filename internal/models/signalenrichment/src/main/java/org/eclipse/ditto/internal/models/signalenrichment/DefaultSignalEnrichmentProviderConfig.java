@@ -32,10 +32,12 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
 
     private final CacheConfig cacheConfig;
     private final boolean cachingEnabled;
+    private final CacheMode cacheMode;
 
     private DefaultSignalEnrichmentProviderConfig(final ConfigWithFallback configWithFallback) {
         cacheConfig = DefaultCacheConfig.of(configWithFallback, CACHE_CONFIG_PATH);
         cachingEnabled = configWithFallback.getBoolean(ConfigValue.CACHE_ENABLED.getConfigPath());
+        cacheMode = configWithFallback.getEnum(CacheMode.class, ConfigValue.CACHE_MODE.getConfigPath());
     }
 
     /**
@@ -59,6 +61,11 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
         return cachingEnabled;
     }
 
+    @Override
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,12 +76,13 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
         }
         final DefaultSignalEnrichmentProviderConfig that = (DefaultSignalEnrichmentProviderConfig) o;
         return Objects.equals(cacheConfig, that.cacheConfig) &&
-                cachingEnabled == that.cachingEnabled;
+                cachingEnabled == that.cachingEnabled &&
+                cacheMode == that.cacheMode;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cacheConfig, cachingEnabled);
+        return Objects.hash(cacheConfig, cachingEnabled, cacheMode);
     }
 
     @Override
@@ -82,6 +90,7 @@ public final class DefaultSignalEnrichmentProviderConfig implements SignalEnrich
         return getClass().getSimpleName() + " [" +
                 "cacheConfig=" + cacheConfig +
                 ", cachingEnabled=" + cachingEnabled +
+                ", cacheMode=" + cacheMode +
                 "]";
     }
 }
@@ -36,6 +36,7 @@ import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
@@ -67,6 +68,8 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
     private static final ThreadSafeDittoLogger LOGGER =
             DittoLoggerFactory.getThreadSafeLogger(DittoCachingSignalEnrichmentFacade.class);
     private static final String CACHE_NAME_SUFFIX = "_signal_enrichment_cache";
+    private static final String CACHE_NAME_TAG = "cache_name";
+    private static final String LOADED_ENTRY_SIZE_METRIC_NAME = "signal_enrichment_cache_loaded_entry_size";
 
     protected final Cache<SignalEnrichmentCacheKey, JsonObject> extraFieldsCache;
 
@@ -76,8 +79,10 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
             final Executor cacheLoaderExecutor,
             final String cacheNamePrefix) {
 
-        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade);
         final var cacheName = cacheNamePrefix + CACHE_NAME_SUFFIX;
+        final var loadedEntrySizes = DittoMetrics.histogram(LOADED_ENTRY_SIZE_METRIC_NAME)
+                .tag(CACHE_NAME_TAG, cacheName);
+        final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade, loadedEntrySizes);
 
         extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
     }
@@ -607,6 +612,16 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
             this.minAcceptableSeqNr = minAcceptableSeqNr;
         }
 
+        @Nullable
+        JsonFieldSelector getFieldSelector() {
+            return fieldSelector;
+        }
+
+        CachingParameters withFieldSelector(@Nullable final JsonFieldSelector fieldSelector) {
+            return new CachingParameters(fieldSelector, concernedEvents, invalidateCacheOnPolicyChange,
+                    minAcceptableSeqNr);
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() + " [" +
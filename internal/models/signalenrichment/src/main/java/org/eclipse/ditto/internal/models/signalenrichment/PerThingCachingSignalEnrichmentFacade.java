@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * Extension of {@code DittoCachingSignalEnrichmentFacade} which caches one entry per thing and authorization context
+ * instead of one entry per field selector.
+ * <p>
+ * The entry holds all fields of the thing the authorization context may read, including its revision, timestamps and
+ * metadata, and is updated once per event. The field selectors of the requests are projected from it when it is
+ * read, so requests with different "extraFields" share the entry. Requests selecting fields which are not part of the
+ * entry, e.g. the policy of the thing, are cached per field selector as before.
+ * </p>
+ *
+ * @since 3.10.0
+ */
+public final class PerThingCachingSignalEnrichmentFacade extends DittoCachingSignalEnrichmentFacade {
+
+    private static final String CACHE_NAME_PREFIX_SUFFIX = "_per_thing";
+
+    private static final JsonFieldSelector THING_FIELD_SELECTOR = JsonFactory.newFieldSelector(Thing.JsonFields.ID,
+            Thing.JsonFields.POLICY_ID, Thing.JsonFields.DEFINITION, Thing.JsonFields.ATTRIBUTES,
+            Thing.JsonFields.FEATURES, Thing.JsonFields.REVISION, Thing.JsonFields.CREATED, Thing.JsonFields.MODIFIED,
+            Thing.JsonFields.METADATA);
+
+    private static final Set<JsonKey> THING_FIELD_KEYS = THING_FIELD_SELECTOR.getPointers().stream()
+            .map(JsonPointer::getRoot)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private PerThingCachingSignalEnrichmentFacade(
+            final SignalEnrichmentFacade cacheLoaderFacade,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        super(cacheLoaderFacade, cacheConfig, cacheLoaderExecutor, cacheNamePrefix + CACHE_NAME_PREFIX_SUFFIX);
+    }
+
+    /**
+     * Returns a new {@code PerThingCachingSignalEnrichmentFacade} instance.
+     *
+     * @param cacheLoaderFacade the facade whose argument-result-pairs we are caching.
+     * @param cacheConfig the cache configuration to use for the cache.
+     * @param cacheLoaderExecutor the executor to use in order to asynchronously load cache entries.
+     * @param cacheNamePrefix the prefix to use as cacheName of the cache.
+     * @return the instance.
+     * @throws NullPointerException if any argument is null.
+     */
+    public static PerThingCachingSignalEnrichmentFacade newInstance(final SignalEnrichmentFacade cacheLoaderFacade,
+            final CacheConfig cacheConfig,
+            final Executor cacheLoaderExecutor,
+            final String cacheNamePrefix) {
+
+        return new PerThingCachingSignalEnrichmentFacade(checkNotNull(cacheLoaderFacade, "cacheLoaderFacade"),
+                checkNotNull(cacheConfig, "cacheConfig"),
+                checkNotNull(cacheLoaderExecutor, "cacheLoaderExecutor"),
+                checkNotNull(cacheNamePrefix, "cacheNamePrefix"));
+    }
+
+    @Override
+    protected CompletionStage<JsonObject> doRetrievePartialThing(final EntityId thingId,
+            final DittoHeaders dittoHeaders,
+            @Nullable final DittoHeaders dittoHeadersNotAddedToCacheKey,
+            final CachingParameters cachingParameters) {
+
+        final CachingParameters parameters;
+        if (isContainedInThingEntry(cachingParameters.getFieldSelector())) {
+            // the callers project the requested selector from the returned thing
+            parameters = cachingParameters.withFieldSelector(THING_FIELD_SELECTOR);
+        } else {
+            parameters = cachingParameters;
+        }
+        return super.doRetrievePartialThing(thingId, dittoHeaders, dittoHeadersNotAddedToCacheKey, parameters);
+    }
+
+    private static boolean isContainedInThingEntry(@Nullable final JsonFieldSelector fieldSelector) {
+        // without a selector, the returned thing must not contain the revision, timestamps and metadata
+        return null != fieldSelector && fieldSelector.getPointers().stream()
+                .allMatch(pointer -> pointer.getRoot().filter(THING_FIELD_KEYS::contains).isPresent());
+    }
+
+}
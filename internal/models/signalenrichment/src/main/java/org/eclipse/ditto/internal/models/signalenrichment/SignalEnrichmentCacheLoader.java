@@ -17,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.things.model.ThingId;
@@ -31,19 +32,23 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrichmentCacheKey, JsonObject> {
 
     private final SignalEnrichmentFacade facade;
+    private final Histogram loadedEntrySizes;
 
-    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade) {
+    private SignalEnrichmentCacheLoader(final SignalEnrichmentFacade facade, final Histogram loadedEntrySizes) {
         this.facade = facade;
+        this.loadedEntrySizes = loadedEntrySizes;
     }
 
     /**
-     * Creates a new cache loader which uses the passed {@code facade} in order to retrieve partial things.
+     * Creates a new cache loader which uses the passed {@code facade} in order to retrieve partial things and records
+     * the estimated size of each loaded partial thing in bytes.
      *
      * @param facade the SignalEnrichmentFacade to delegate loading of partial things to.
+     * @param loadedEntrySizes the histogram to record the sizes of the loaded partial things in.
      * @return the instantiated cache loader.
      */
-    static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade) {
-        return new SignalEnrichmentCacheLoader(facade);
+    static SignalEnrichmentCacheLoader of(final SignalEnrichmentFacade facade, final Histogram loadedEntrySizes) {
+        return new SignalEnrichmentCacheLoader(facade, loadedEntrySizes);
     }
 
     @Override
@@ -60,10 +65,17 @@ final class SignalEnrichmentCacheLoader implements AsyncCacheLoader<SignalEnrich
                     .map(extraHeaders -> (DittoHeaders) dittoHeaders.toBuilder().putHeaders(extraHeaders).build())
                     .orElse(dittoHeaders);
             return facade.retrievePartialThing(thingId, jsonFieldSelector, retrieveHeaders, null)
+                    .thenApply(this::recordSize)
                     .toCompletableFuture();
         } else {
             // no context; nothing to load.
             return CompletableFuture.completedFuture(JsonObject.empty());
         }
     }
+
+    private JsonObject recordSize(final JsonObject partialThing) {
+        loadedEntrySizes.record(partialThing.getUpperBoundForStringSize());
+        return partialThing;
+    }
+
 }
@@ -34,13 +34,43 @@ public interface SignalEnrichmentProviderConfig {
      */
     boolean isCachingEnabled();
 
+    /**
+     * Returns how the signal enrichment cache holds the retrieved things.
+     *
+     * @return the cache mode.
+     * @since 3.10.0
+     */
+    CacheMode getCacheMode();
+
+    /**
+     * The ways the signal enrichment cache holds the retrieved things.
+     *
+     * @since 3.10.0
+     */
+    enum CacheMode {
+
+        /**
+         * One entry per thing, authorization context and field selector, each holding only the selected fields.
+         */
+        PER_SELECTOR,
+
+        /**
+         * One entry per thing and authorization context holding all fields, from which each field selector is
+         * projected when it is read.
+         */
+        PER_THING
+
+    }
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachingSignalEnrichmentFacadeConfig}.
      */
     enum ConfigValue implements KnownConfigValue {
 
-        CACHE_ENABLED("cache.enabled", true);
+        CACHE_ENABLED("cache.enabled", true),
+
+        CACHE_MODE("cache.mode", CacheMode.PER_SELECTOR.name());
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.DittoTestSystem;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PerThingCachingSignalEnrichmentFacade}.
+ */
+public final class PerThingCachingSignalEnrichmentFacadeTest extends AbstractCachingSignalEnrichmentFacadeTest {
+
+    private static final JsonObject EXPECTED_THING_JSON = JsonObject.of("""
+            {
+              "policyId": "policy:id",
+              "attributes": {"x":  5},
+              "features": {"y": {"properties": {"z":  true}}},
+              "_metadata": {"attributes": {"x": {"type": "x attribute"}}}
+            }"""
+    );
+
+    private static final JsonFieldSelector THING_FIELD_SELECTOR = JsonFieldSelector.newInstance("thingId",
+            "policyId", "definition", "attributes", "features", "_revision", "_created", "_modified", "_metadata");
+
+    @Override
+    protected CachingSignalEnrichmentFacade createCachingSignalEnrichmentFacade(final TestKit kit,
+            final ByRoundTripSignalEnrichmentFacade cacheLoaderFacade, final CacheConfig cacheConfig) {
+        return PerThingCachingSignalEnrichmentFacade.newInstance(
+                cacheLoaderFacade,
+                cacheConfig,
+                kit.getSystem().getDispatcher(),
+                "test");
+    }
+
+    @Override
+    protected JsonFieldSelector actualSelectedFields(final JsonFieldSelector selector) {
+        return THING_FIELD_SELECTOR;
+    }
+
+    @Override
+    protected JsonObject getExpectedThingJson() {
+        return EXPECTED_THING_JSON;
+    }
+
+    /**
+     * Different field selectors share the cached thing, so unlike for the other facades no further retrieval is
+     * done.
+     */
+    @Override
+    @Test
+    public void differentFieldSelectorsLeadToCacheRetrievals() {
+        DittoTestSystem.run(this, CONFIG, kit -> {
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder()
+                    .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance(ISSUER_PREFIX + "user1")))
+                    .randomCorrelationId()
+                    .build();
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, getJsonFieldSelector(), headers, getThingEvent());
+
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getSelectedFields()).contains(THING_FIELD_SELECTOR);
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers));
+            askResult.toCompletableFuture().join();
+            softly.assertThat(askResult).isCompletedWithValue(getExpectedThingJson());
+
+            // WHEN: same thing is asked again with different selector for an event with one revision ahead
+            final CompletionStage<JsonObject> askResultCached =
+                    underTest.retrievePartialThing(thingId, JsonFieldSelector.newInstance("attributes"), headers,
+                            getThingEvent().setRevision(getThingEvent().getRevision() + 1));
+
+            // THEN: no cache lookup should be done and only the selected fields are returned
+            kit.expectNoMessage(Duration.ofSeconds(1));
+            askResultCached.toCompletableFuture().join();
+            softly.assertThat(askResultCached)
+                    .isCompletedWithValue(JsonObject.of("{\"attributes\": {\"x\": 5}}"));
+        });
+    }
+
+    @Test
+    public void selectorOfFieldsNotInCachedThingIsCachedSeparately() {
+        DittoTestSystem.run(this, CONFIG, kit -> {
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final JsonFieldSelector policySelector = JsonFieldSelector.newInstance("_policy", "attributes");
+
+            underTest.retrievePartialThing(thingId, policySelector, headers, getThingEvent());
+
+            final RetrieveThing retrieveThing = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing.getSelectedFields())
+                    .contains(JsonFieldSelector.newInstance("_policy", "attributes", "_revision"));
+        });
+    }
+
+}
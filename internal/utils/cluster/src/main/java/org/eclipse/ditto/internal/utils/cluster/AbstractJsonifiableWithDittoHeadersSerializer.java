@@ -148,18 +148,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         if (object instanceof Jsonifiable<? extends JsonValue> jsonifiable) {
             final var dittoHeaders = getDittoHeadersOrEmpty(object);
             final var startedSpan = startTracingSpanForSerialization(dittoHeaders, object);
-            final var jsonObject = JsonObject.newBuilder()
-                    .set(JSON_DITTO_HEADERS, getDittoHeadersWithSpanContextAsJson(dittoHeaders, startedSpan))
-                    .set(JSON_PAYLOAD, getAsJsonPayload(jsonifiable, dittoHeaders))
-                    .build();
+            final var dittoHeadersWithSpanContext = DittoHeaders.of(startedSpan.propagateContext(dittoHeaders));
+            final var payload = getAsJsonPayload(jsonifiable, dittoHeaders);
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeIntoByteBuffer(dittoHeadersWithSpanContext, payload, buf);
+                LOG.trace("toBinary payload about to send 'out': {}", payload);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final var errorMessage = MessageFormat.format(
                         "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow",
-                        jsonObject
+                        payload
                 );
                 LOG.error(errorMessage, e);
                 startedSpan.tagAsFailed(e);
@@ -168,7 +166,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 final var errorMessage = MessageFormat.format(
                         "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
                         e.getClass().getName(),
-                        jsonObject
+                        payload
                 );
                 LOG.warn(errorMessage, e);
                 startedSpan.tagAsFailed(e);
@@ -204,14 +202,6 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .startAt(startInstant);
     }
 
-    private static JsonObject getDittoHeadersWithSpanContextAsJson(
-            final DittoHeaders dittoHeaders,
-            final StartedSpan startedSpan
-    ) {
-        final var dittoHeadersWithSpanContext = DittoHeaders.of(startedSpan.propagateContext(dittoHeaders));
-        return dittoHeadersWithSpanContext.toJson();
-    }
-
     @SuppressWarnings("java:S3740")
     private static JsonValue getAsJsonPayload(
             final Jsonifiable<? extends JsonValue> jsonifiable,
@@ -229,6 +219,26 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return result;
     }
 
+    /**
+     * Serializes the passed {@code dittoHeaders} and {@code payload} into the passed {@code byteBuffer}.
+     * The default implementation wraps both into one JSON object and serializes it via
+     * {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}.
+     *
+     * @param dittoHeaders the DittoHeaders of the message to serialize.
+     * @param payload the JSON representation of the message to serialize.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @throws IOException in case writing to the ByteBuffer fails.
+     */
+    protected void serializeIntoByteBuffer(final DittoHeaders dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        final var jsonObject = JsonObject.newBuilder()
+                .set(JSON_DITTO_HEADERS, dittoHeaders.toJson())
+                .set(JSON_PAYLOAD, payload)
+                .build();
+        serializeIntoByteBuffer(jsonObject, byteBuffer);
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -318,9 +328,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final ByteBuffer byteBuffer
     ) throws NotSerializableException {
         final var beforeDeserializeInstant = StartInstant.now();
-        final var jsonObject = deserializeByteBufferAsJsonObjectOrThrow(byteBuffer, manifest);
-        final var dittoHeaders = deserializeDittoHeaders(jsonObject);
-        final var payload = deserializePayloadAsJsonObject(jsonObject, dittoHeaders);
+        final var headersAndPayload = deserializeHeadersAndPayload(byteBuffer, manifest);
+        final var dittoHeaders = headersAndPayload.dittoHeaders();
+        final var payload = headersAndPayload.payload();
         final var signalTypeOrErrorCodeOptional = getSignalTypeOrErrorCodeIfPresent(payload);
         final var startedSpan = startTracingSpanForDeserialization(
                 dittoHeaders,
@@ -338,7 +348,25 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             startedSpan.finish();
         }
     }
-    
+
+    /**
+     * Deserializes the DittoHeaders and the JSON payload of a message from the passed {@code byteBuffer}.
+     * The default implementation expects one JSON object wrapping both as written by
+     * {@link #serializeIntoByteBuffer(DittoHeaders, JsonValue, ByteBuffer)}.
+     *
+     * @param byteBuffer the ByteBuffer to deserialize.
+     * @param manifest the manifest of the message.
+     * @return the deserialized DittoHeaders and payload.
+     * @throws JsonRuntimeException if the ByteBuffer does not contain a valid message.
+     * @throws DittoRuntimeException if the payload is not a JSON object.
+     */
+    protected HeadersAndPayload deserializeHeadersAndPayload(final ByteBuffer byteBuffer, final String manifest) {
+        final var jsonObject = deserializeByteBufferAsJsonObjectOrThrow(byteBuffer, manifest);
+        final var dittoHeaders = deserializeDittoHeaders(jsonObject);
+        return new HeadersAndPayload(dittoHeaders,
+                deserializePayloadAsJsonObject(jsonObject.getValue(JSON_PAYLOAD).orElse(null), dittoHeaders));
+    }
+
     private JsonObject deserializeByteBufferAsJsonObjectOrThrow(final ByteBuffer byteBuffer, final String manifest) {
         final JsonObject result;
         final var jsonValue = deserializeFromByteBuffer(byteBuffer);
@@ -375,14 +403,20 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .orElseGet(DittoHeaders::empty);
     }
 
-    private static JsonObject deserializePayloadAsJsonObject(
-            final JsonObject sourceJsonObject,
+    /**
+     * Returns the passed payload as JSON object.
+     *
+     * @param payloadJson the deserialized payload or {@code null} if the message had no payload.
+     * @param dittoHeaders the deserialized DittoHeaders of the message.
+     * @return the payload as JSON object or an empty JSON object if the message had no payload.
+     * @throws DittoJsonException if the payload is not a JSON object.
+     */
+    protected static JsonObject deserializePayloadAsJsonObject(
+            @Nullable final JsonValue payloadJson,
             final DittoHeaders dittoHeaders
     ) {
         final JsonObject result;
-        final var payloadJsonOptional = sourceJsonObject.getValue(JSON_PAYLOAD);
-        if (payloadJsonOptional.isPresent()) {
-            final var payloadJson = payloadJsonOptional.get();
+        if (null != payloadJson) {
             if (!payloadJson.isObject()) {
                 throw new DittoJsonException(
                         JsonParseException.newBuilder()
@@ -448,4 +482,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .orElseThrow(() -> new NotSerializableException("No type found for inner JSON!"));
     }
 
+    /**
+     * DittoHeaders and JSON payload of a deserialized message.
+     *
+     * @param dittoHeaders the DittoHeaders of the message.
+     * @param payload the JSON payload of the message.
+     */
+    protected record HeadersAndPayload(DittoHeaders dittoHeaders, JsonObject payload) {}
+
 }
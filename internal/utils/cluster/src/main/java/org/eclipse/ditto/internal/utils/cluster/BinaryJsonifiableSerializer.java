@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Serializer of Jsonifiables which writes the DittoHeaders as a table of strings with interned keys, followed by the
+ * CBOR representation of the payload. In contrast to {@link CborJsonifiableSerializer}, no JSON object wrapping
+ * headers and payload is built.
+ * <p>
+ * The serializer is chosen per message class via the {@code pekko.actor.serialization-bindings} of a service.
+ * Messages serialized by it can only be deserialized by this serializer.
+ * </p>
+ */
+public final class BinaryJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 1398217034;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int LITERAL_KEY = 0;
+
+    /**
+     * Header keys encoded as their index in this list.
+     * The list is part of the wire format: new keys may only be appended.
+     */
+    private static final List<String> INTERNED_KEYS = List.of(
+            "ditto-auth-context",
+            "correlation-id",
+            "response-required",
+            "ditto-dry-run",
+            "dry-run",
+            "ditto-read-subjects",
+            "ditto-read-revoked-subjects",
+            "content-type",
+            "accept",
+            "authorization",
+            "reply-to",
+            "channel",
+            "live-channel-timeout-strategy",
+            "ditto-origin",
+            "etag",
+            "if-match",
+            "if-none-match",
+            "if-equal",
+            "ditto-reply-target",
+            "divert-response-to-connection",
+            "divert-expected-response-types",
+            "diverted-response-from-connection",
+            "ditto-expected-response-types",
+            "ditto-inbound-payload-mapper",
+            "ditto-originator",
+            "requested-acks",
+            "declared-acks",
+            "timeout",
+            "ditto-entity-id",
+            "www-authenticate",
+            "location",
+            "ditto-connection-id",
+            "put-metadata",
+            "get-metadata",
+            "delete-metadata",
+            "ditto-metadata",
+            "allow-policy-lockout",
+            "ditto-weak-ack",
+            "ditto-event-journal-tags",
+            "ditto-sudo",
+            "ditto-retrieve-deleted",
+            "ditto-ackgregator-address",
+            "condition",
+            "live-channel-condition",
+            "live-channel-condition-matched",
+            "at-historical-revision",
+            "at-historical-timestamp",
+            "historical-headers",
+            "entity-revision",
+            "ditto-pre-defined-extra-fields",
+            "ditto-pre-defined-extra-fields-read-grant",
+            "ditto-partial-access-paths",
+            "ditto-pre-defined-extra-fields-object",
+            "merge-thing-patch-conditions",
+            "policy-view",
+            "ditto-policy-view-fields-selector",
+            "traceparent",
+            "tracestate"
+    );
+
+    private static final Map<String, Integer> KEY_INDEXES = indexKeys();
+
+    private final CborFactory cborFactory;
+
+    /**
+     * Constructs a new {@code BinaryJsonifiableSerializer} object.
+     *
+     * @param actorSystem the ExtendedActorSystem to use in order to dynamically load mapping strategies in parent.
+     */
+    public BinaryJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "BINARY");
+        cborFactory = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final DittoHeaders dittoHeaders, final JsonValue payload,
+            final ByteBuffer byteBuffer) throws IOException {
+
+        byteBuffer.put(FORMAT_VERSION);
+        writeVarInt(dittoHeaders.size(), byteBuffer);
+        for (final Map.Entry<String, String> header : dittoHeaders.entrySet()) {
+            final Integer keyIndex = KEY_INDEXES.get(header.getKey());
+            if (null != keyIndex) {
+                writeVarInt(keyIndex + 1, byteBuffer);
+            } else {
+                writeVarInt(LITERAL_KEY, byteBuffer);
+                writeString(header.getKey(), byteBuffer);
+            }
+            writeString(header.getValue(), byteBuffer);
+        }
+        cborFactory.writeToByteBuffer(payload, byteBuffer);
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        serializeIntoByteBuffer(DittoHeaders.empty(), jsonObject, byteBuffer);
+    }
+
+    @Override
+    protected HeadersAndPayload deserializeHeadersAndPayload(final ByteBuffer byteBuffer, final String manifest) {
+        try {
+            return readHeadersAndPayload(byteBuffer, manifest);
+        } catch (final BufferUnderflowException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Message with manifest <{0}> ended unexpectedly!", manifest))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private HeadersAndPayload readHeadersAndPayload(final ByteBuffer byteBuffer, final String manifest) {
+        final byte formatVersion = byteBuffer.get();
+        if (formatVersion != FORMAT_VERSION) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Unknown binary format version <{0}> of message with " +
+                            "manifest <{1}>!", formatVersion, manifest))
+                    .build();
+        }
+        final int headerCount = readVarInt(byteBuffer);
+        final Map<String, String> headers = new HashMap<>(headerCount * 4 / 3 + 1);
+        for (int i = 0; i < headerCount; ++i) {
+            final int keyIndex = readVarInt(byteBuffer);
+            final String key = keyIndex == LITERAL_KEY ? readString(byteBuffer) : getInternedKey(keyIndex - 1);
+            headers.put(key, readString(byteBuffer));
+        }
+        final var dittoHeaders = DittoHeaders.of(headers);
+        final JsonValue payload = byteBuffer.hasRemaining() ? cborFactory.readFrom(byteBuffer) : null;
+        return new HeadersAndPayload(dittoHeaders, deserializePayloadAsJsonObject(payload, dittoHeaders));
+    }
+
+    @Override
+    protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        return cborFactory.readFrom(byteBuffer);
+    }
+
+    private static Map<String, Integer> indexKeys() {
+        final Map<String, Integer> keyIndexes = new HashMap<>();
+        for (int i = 0; i < INTERNED_KEYS.size(); ++i) {
+            keyIndexes.put(INTERNED_KEYS.get(i), i);
+        }
+        return Map.copyOf(keyIndexes);
+    }
+
+    private static String getInternedKey(final int index) {
+        if (index < 0 || index >= INTERNED_KEYS.size()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Unknown interned header key <{0}>!", index))
+                    .build();
+        }
+        return INTERNED_KEYS.get(index);
+    }
+
+    private static void writeString(final String string, final ByteBuffer byteBuffer) {
+        if (isAscii(string)) {
+            final int length = string.length();
+            writeVarInt(length, byteBuffer);
+            for (int i = 0; i < length; ++i) {
+                byteBuffer.put((byte) string.charAt(i));
+            }
+        } else {
+            final byte[] bytes = string.getBytes(CHARSET);
+            writeVarInt(bytes.length, byteBuffer);
+            byteBuffer.put(bytes);
+        }
+    }
+
+    private static boolean isAscii(final String string) {
+        for (int i = 0; i < string.length(); ++i) {
+            if (string.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String readString(final ByteBuffer byteBuffer) {
+        final int length = readVarInt(byteBuffer);
+        if (length > byteBuffer.remaining()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Header string of length <{0}> exceeds remaining <{1}> bytes!",
+                            length, byteBuffer.remaining()))
+                    .build();
+        }
+        final String result;
+        if (byteBuffer.hasArray()) {
+            result = new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length,
+                    CHARSET);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(byteBuffer.position(), bytes);
+            result = new String(bytes, CHARSET);
+        }
+        byteBuffer.position(byteBuffer.position() + length);
+        return result;
+    }
+
+    private static void writeVarInt(final int value, final ByteBuffer byteBuffer) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            byteBuffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        byteBuffer.put((byte) remaining);
+    }
+
+    private static int readVarInt(final ByteBuffer byteBuffer) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = byteBuffer.get();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw JsonParseException.newBuilder().message("Malformed variable-length integer!").build();
+    }
+
+}
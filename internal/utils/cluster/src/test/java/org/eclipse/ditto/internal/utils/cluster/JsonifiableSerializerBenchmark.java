@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.GlobalErrorRegistry;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandRegistry;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH micro-benchmark comparing {@link JsonJsonifiableSerializer}, {@link CborJsonifiableSerializer} and
+ * {@link BinaryJsonifiableSerializer} on a small hot signal (a feature property modification) and a large one
+ * (the creation of a thing with 20 features × 10 properties).
+ * The main method runs the benchmark with the GC profiler so that allocations per operation are reported next to
+ * the throughput.
+ *
+ * <h2>How to run</h2>
+ * <pre>
+ * mvn test-compile -pl internal/utils/cluster -am -Djapicmp.skip=true
+ * java -cp "$(mvn -pl internal/utils/cluster dependency:build-classpath -Dmdep.outputFile=/dev/stdout -q):internal/utils/cluster/target/classes:internal/utils/cluster/target/test-classes" \
+ *      org.eclipse.ditto.internal.utils.cluster.JsonifiableSerializerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonifiableSerializerBenchmark {
+
+    private static final ThingId THING_ID = ThingId.of("bench:thing");
+
+    @Param({"JSON", "CBOR", "BINARY"})
+    public String serializer;
+
+    private ExtendedActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer underTest;
+    private ByteBuffer buffer;
+
+    private ModifyFeatureProperty modifyFeatureProperty;
+    private String modifyFeaturePropertyManifest;
+    private ByteBuffer serializedModifyFeatureProperty;
+
+    private CreateThing createThing;
+    private String createThingManifest;
+    private ByteBuffer serializedCreateThing;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DittoTracing.init(DittoTracingInitResource.TracingConfigBuilder.defaultValues().withTracingDisabled().build());
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("benchmark", ConfigFactory.parseMap(
+                Map.of(MappingStrategies.CONFIG_KEY_DITTO_MAPPING_STRATEGY_IMPLEMENTATION,
+                        BenchmarkMappingStrategies.class.getName())));
+        underTest = switch (serializer) {
+            case "JSON" -> new JsonJsonifiableSerializer(actorSystem);
+            case "CBOR" -> new CborJsonifiableSerializer(actorSystem);
+            default -> new BinaryJsonifiableSerializer(actorSystem);
+        };
+        buffer = ByteBuffer.allocateDirect(256 * 1024);
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                        AuthorizationSubject.newInstance("integration:bench:device"),
+                        AuthorizationSubject.newInstance("google:1234567890")))
+                .correlationId("7fa6f2d5-56e7-4a4c-9c3e-2f7a0a0a3d1b")
+                .schemaVersion(JsonSchemaVersion.LATEST)
+                .responseRequired(true)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .putHeader("ditto-originator", "integration:bench:device")
+                .putHeader("content-type", "application/json")
+                .putHeader("x-custom-header", "custom")
+                .build();
+
+        modifyFeatureProperty = ModifyFeatureProperty.of(THING_ID, "environment",
+                JsonPointer.of("temperature/value"), JsonValue.of(23.5), dittoHeaders);
+        modifyFeaturePropertyManifest = underTest.manifest(modifyFeatureProperty);
+        serializedModifyFeatureProperty = serialize(modifyFeatureProperty);
+
+        createThing = CreateThing.of(buildThing(20, 10), null, dittoHeaders);
+        createThingManifest = underTest.manifest(createThing);
+        serializedCreateThing = serialize(createThing);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        DittoTracing.reset();
+    }
+
+    @Benchmark
+    public ByteBuffer serializeModifyFeatureProperty() {
+        buffer.clear();
+        underTest.toBinary(modifyFeatureProperty, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object deserializeModifyFeatureProperty() {
+        return underTest.fromBinary(serializedModifyFeatureProperty.duplicate(), modifyFeaturePropertyManifest);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeCreateThing() {
+        buffer.clear();
+        underTest.toBinary(createThing, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object deserializeCreateThing() {
+        return underTest.fromBinary(serializedCreateThing.duplicate(), createThingManifest);
+    }
+
+    private ByteBuffer serialize(final Object object) {
+        final ByteBuffer result = ByteBuffer.wrap(underTest.toBinary(object));
+        if (!object.equals(underTest.fromBinary(result.duplicate(), underTest.manifest(object)))) {
+            throw new IllegalStateException("Serializer <" + serializer + "> does not round-trip " + object);
+        }
+        return result;
+    }
+
+    private static Thing buildThing(final int featureCount, final int propertiesPerFeature) {
+        final var builder = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("location/latitude"), JsonValue.of(47.68))
+                .setAttribute(JsonPointer.of("location/longitude"), JsonValue.of(9.39));
+        for (int f = 0; f < featureCount; f++) {
+            final JsonObjectBuilder properties = JsonFactory.newObjectBuilder();
+            for (int p = 0; p < propertiesPerFeature; p++) {
+                properties.set("property" + p, JsonFactory.newObjectBuilder()
+                        .set("value", p * 1.5)
+                        .set("unit", "°C")
+                        .set("updated", "2026-01-01T00:00:00Z")
+                        .build());
+            }
+            builder.setFeature(ThingsModelFactory.newFeature("feature" + f, null,
+                    ThingsModelFactory.newFeatureProperties(properties.build())));
+        }
+        return builder.build();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(JsonifiableSerializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+
+    public static final class BenchmarkMappingStrategies extends MappingStrategies {
+
+        public BenchmarkMappingStrategies() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalCommandResponseRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
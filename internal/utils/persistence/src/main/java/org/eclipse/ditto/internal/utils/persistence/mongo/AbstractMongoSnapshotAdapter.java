@@ -78,7 +78,7 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         onSnapshotStoreConversion(snapshotEntity, json);
 
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return dittoBsonJson.parseToRawBsonDocument(json);
     }
 
     /**
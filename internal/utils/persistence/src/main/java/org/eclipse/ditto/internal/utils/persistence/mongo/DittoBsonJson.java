@@ -22,6 +22,7 @@ import javax.annotation.Nullable;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -30,6 +31,10 @@ import org.eclipse.ditto.json.JsonValue;
  * This is a specialized MongoDB BSON converter which additionally takes care that in JSON keys dots "." and dollar
  * signs "$" are replaced with their unicode representations in the {@link #parse(JsonObject)} {@link #parse(JsonArray)}
  * function and vice versa in the {@link #serialize(BsonValue)} function.
+ * <p>
+ * {@link #parseToRawBsonDocument(JsonObject)} writes JSON objects directly to BSON bytes and
+ * {@link RawBsonDocument}s are serialized to JSON objects which only decode the BSON bytes on demand.
+ * </p>
  */
 public final class DittoBsonJson {
 
@@ -38,17 +43,20 @@ public final class DittoBsonJson {
     private final JsonValueToDbEntityMapper jsonValueToDbEntityMapper;
     private final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper;
     private final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper;
+    private final RawBsonDocumentMapper rawBsonDocumentMapper;
 
     /*
      * Inhibit instantiation of this utility class.
      */
     private DittoBsonJson(final JsonValueToDbEntityMapper jsonValueToDbEntityMapper,
             final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper,
-            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper) {
+            final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper,
+            final RawBsonDocumentMapper rawBsonDocumentMapper) {
 
         this.jsonValueToDbEntityMapper = jsonValueToDbEntityMapper;
         this.bsonDocumentToJsonObjectMapper = bsonDocumentToJsonObjectMapper;
         this.bsonArrayToJsonObjectMapper = bsonArrayToJsonObjectMapper;
+        this.rawBsonDocumentMapper = rawBsonDocumentMapper;
     }
 
     /**
@@ -66,7 +74,8 @@ public final class DittoBsonJson {
 
         return new DittoBsonJson(JsonValueToDbEntityMapper.of(jsonToMongoDbKeyNameReviser),
                 BsonDocumentToJsonObjectMapper.getInstance(jsonKeyNameReviser),
-                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser));
+                BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser),
+                RawBsonDocumentMapper.of(jsonToMongoDbKeyNameReviser, jsonKeyNameReviser));
     }
 
     /**
@@ -93,13 +102,19 @@ public final class DittoBsonJson {
     /**
      * Serializes the specified {@link BsonDocument} to Json, applying replacement of "special" characters {@code "$"}
      * and {@code "."}.
+     * A {@link RawBsonDocument} is not decoded upfront: the returned JSON object decodes its fields from the bytes of
+     * the document when they are accessed.
      *
      * @param bsonDocument the BsonDocument to be serialized.
      * @return the BsonDocument serialized as JsonValue.
      * @throws NullPointerException if {@code bsonDocument} is {@code null}.
      */
     public JsonObject serialize(final BsonDocument bsonDocument) {
-        return bsonDocumentToJsonObjectMapper.apply(checkNotNull(bsonDocument, "BsonDocument to be serialized"));
+        checkNotNull(bsonDocument, "BsonDocument to be serialized");
+        if (bsonDocument instanceof RawBsonDocument rawBsonDocument) {
+            return rawBsonDocumentMapper.mapRawBsonDocumentToJsonObject(rawBsonDocument);
+        }
+        return bsonDocumentToJsonObjectMapper.apply(bsonDocument);
     }
 
     /**
@@ -125,6 +140,19 @@ public final class DittoBsonJson {
         return jsonValueToDbEntityMapper.mapJsonObjectToBsonDocument(jsonObject);
     }
 
+    /**
+     * Parses the specified {@link JsonObject} into an immutable {@link RawBsonDocument} by writing it directly to BSON
+     * bytes, i. e. without creating a {@code BsonValue} for each JSON value.
+     *
+     * @param jsonObject the JSON object to be parsed.
+     * @return the parsed JSON object as RawBsonDocument.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @since 3.10.0
+     */
+    public RawBsonDocument parseToRawBsonDocument(final JsonObject jsonObject) {
+        return rawBsonDocumentMapper.mapJsonObjectToRawBsonDocument(jsonObject);
+    }
+
     /**
      * Parses the passed in {@link JsonArray} into an {@link BsonArray}.
      *
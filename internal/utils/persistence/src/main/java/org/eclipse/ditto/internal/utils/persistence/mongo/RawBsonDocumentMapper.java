@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Maps JSON objects to {@link RawBsonDocument}s and back without building an intermediate tree of BSON values.
+ * <p>
+ * JSON objects are written straight into the BSON bytes of the returned document. JSON objects mapped from a
+ * {@code RawBsonDocument} are views over its bytes: the fields of an object are only decoded when they are accessed
+ * for the first time, nested objects stay undecoded until then, too.
+ * Key names are revised on the fly in both directions.
+ * The mapping of the values is the same as the one of {@link JsonValueToDbEntityMapper} and
+ * {@link BsonDocumentToJsonObjectMapper}.
+ * </p>
+ */
+@Immutable
+final class RawBsonDocumentMapper {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final Function<String, String> bsonKeyNameReviser;
+    private final Function<String, String> jsonKeyNameReviser;
+
+    private RawBsonDocumentMapper(final Function<String, String> bsonKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        this.bsonKeyNameReviser = checkNotNull(bsonKeyNameReviser, "BSON key name reviser");
+        this.jsonKeyNameReviser = checkNotNull(jsonKeyNameReviser, "JSON key name reviser");
+    }
+
+    /**
+     * Returns an instance of {@code RawBsonDocumentMapper}.
+     *
+     * @param bsonKeyNameReviser revises the key names of JSON objects before they are written to BSON.
+     * @param jsonKeyNameReviser revises the key names of BSON documents before they are read as JSON.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static RawBsonDocumentMapper of(final Function<String, String> bsonKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        return new RawBsonDocumentMapper(bsonKeyNameReviser, jsonKeyNameReviser);
+    }
+
+    /**
+     * Writes the given JSON object into a new {@code RawBsonDocument}.
+     *
+     * @param jsonObject the JSON object to be mapped.
+     * @return the document.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    RawBsonDocument mapJsonObjectToRawBsonDocument(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object to be mapped");
+        final BasicOutputBuffer outputBuffer = new BasicOutputBuffer(INITIAL_BUFFER_SIZE);
+        final BsonBinaryWriter writer = new BsonBinaryWriter(outputBuffer);
+        try {
+            writeJsonObject(writer, jsonObject);
+        } finally {
+            writer.close();
+        }
+        return new RawBsonDocument(outputBuffer.getInternalBuffer(), 0, outputBuffer.getPosition());
+    }
+
+    private void writeJsonObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(bsonKeyNameReviser.apply(jsonField.getKeyName()));
+            writeJsonValue(writer, jsonField.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    private void writeJsonArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        for (final JsonValue jsonValue : jsonArray) {
+            writeJsonValue(writer, jsonValue);
+        }
+        writer.writeEndArray();
+    }
+
+    private void writeJsonValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeJsonNumber(writer, jsonValue);
+        } else if (jsonValue.isObject()) {
+            writeJsonObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeJsonArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static void writeJsonNumber(final BsonWriter writer, final JsonValue jsonNumberValue) {
+        if (jsonNumberValue.isInt()) {
+            writer.writeInt32(jsonNumberValue.asInt());
+        } else if (jsonNumberValue.isLong()) {
+            writer.writeInt64(jsonNumberValue.asLong());
+        } else {
+            writer.writeDouble(jsonNumberValue.asDouble());
+        }
+    }
+
+    /**
+     * Returns a JSON object which decodes its fields from the bytes of the given document on demand.
+     * The returned object holds on to the bytes of the document but does not copy them.
+     *
+     * @param rawBsonDocument the document to be mapped.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code rawBsonDocument} is {@code null}.
+     */
+    JsonObject mapRawBsonDocumentToJsonObject(final RawBsonDocument rawBsonDocument) {
+        checkNotNull(rawBsonDocument, "RawBsonDocument to be mapped");
+        final ByteBuf byteBuf = rawBsonDocument.getByteBuffer();
+        return newLazyJsonObject(byteBuf.array(), byteBuf.position(), byteBuf.remaining());
+    }
+
+    private JsonObject newLazyJsonObject(final byte[] bytes, final int offset, final int length) {
+        return JsonFactory.createLazyJsonObject(() -> readFields(bytes, offset, length));
+    }
+
+    private Map<String, JsonField> readFields(final byte[] bytes, final int offset, final int length) {
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        final BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes, offset, length));
+        try {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                final String keyName = jsonKeyNameReviser.apply(reader.readName());
+                result.put(keyName, JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader, bytes)));
+            }
+            reader.readEndDocument();
+        } finally {
+            reader.close();
+        }
+        return result;
+    }
+
+    private JsonArray readArray(final BsonBinaryReader reader, final byte[] bytes) {
+        final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayBuilder.add(readValue(reader, bytes));
+        }
+        reader.readEndArray();
+        return arrayBuilder.build();
+    }
+
+    private JsonValue readValue(final BsonBinaryReader reader, final byte[] bytes) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                // positions are absolute within the bytes as the reader wraps them without slicing
+                final int documentStart = reader.getBsonInput().getPosition();
+                reader.skipValue();
+                result = newLazyJsonObject(bytes, documentStart,
+                        reader.getBsonInput().getPosition() - documentStart);
+                break;
+            case ARRAY:
+                result = readArray(reader, bytes);
+                break;
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            default:
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+}
@@ -15,7 +15,11 @@ package org.eclipse.ditto.internal.utils.persistence.mongo;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.json.JSONException;
 import org.junit.Before;
@@ -51,6 +55,13 @@ public final class DittoBsonJsonTest {
             "\"org．eclipse．ditto\": 42" +
             "}}";
 
+    private static final String JSON_WITH_ALL_TYPES = "{" +
+            "\"thingId\": \"org.eclipse.ditto:thing\"," +
+            "\"_revision\": 9007199254740993," +
+            "\"attributes\": {\"org.eclipse.ditto\": {\"$dollar\": [1, 2.5, true, null, \"x\", {\"a.b\": []}]}}," +
+            "\"features\": {\"lamp\": {\"properties\": {\"on\": false, \"empty\": {}}}}" +
+            "}";
+
     private DittoBsonJson underTest;
 
     @Before
@@ -146,4 +157,37 @@ public final class DittoBsonJsonTest {
         assertThat(parsed).isEqualTo(expected);
     }
 
+    @Test
+    public void parseToRawBsonDocumentEqualsParse() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON_WITH_ALL_TYPES);
+
+        final RawBsonDocument parsed = underTest.parseToRawBsonDocument(jsonObject);
+
+        assertThat(parsed).isEqualTo(underTest.parse(jsonObject));
+    }
+
+    @Test
+    public void serializeRawBsonDocumentEqualsSerialize() throws JSONException {
+        final BsonDocument bsonDocument = BsonDocument.parse(JSON_NESTED_WITH_UNICODE_DOTS_INKEYS);
+        bsonDocument.put("timestamp", new BsonTimestamp(1_700_000_000, 1));
+        final RawBsonDocument rawBsonDocument = new RawBsonDocument(bsonDocument, new BsonDocumentCodec());
+
+        final JsonObject serialized = underTest.serialize(rawBsonDocument);
+
+        assertThat(serialized).isEqualTo(underTest.serialize(bsonDocument));
+        JSONAssert.assertEquals(underTest.serialize(bsonDocument).toString(), serialized.toString(), true);
+    }
+
+    @Test
+    public void rawBsonDocumentRoundTrip() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON_WITH_ALL_TYPES);
+
+        final JsonObject roundTripped = underTest.serialize(underTest.parseToRawBsonDocument(jsonObject));
+
+        assertThat(roundTripped).isEqualTo(jsonObject);
+        assertThat(roundTripped.toString()).isEqualTo(jsonObject.toString());
+        assertThat(roundTripped.getValue("features/lamp/properties/on")).contains(JsonFactory.newValue(false));
+        assertThat(roundTripped.getValue("_revision")).contains(JsonFactory.newValue(9007199254740993L));
+    }
+
 }
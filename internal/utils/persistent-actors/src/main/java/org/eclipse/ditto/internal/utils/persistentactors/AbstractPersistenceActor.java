@@ -14,9 +14,15 @@ package org.eclipse.ditto.internal.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -51,11 +57,13 @@ import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
+import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
 import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StoppedTimer;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
@@ -69,7 +77,12 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckCo
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.historical.HistoricalEntityCache;
+import org.eclipse.ditto.internal.utils.persistentactors.historical.HistoricalEntityState;
+import org.eclipse.ditto.internal.utils.persistentactors.historical.HistoricalEntityStates;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultVisitor;
@@ -81,6 +94,8 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.ConfigFactory;
+
 import scala.Option;
 
 /**
@@ -107,10 +122,15 @@ public abstract class AbstractPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final GroupCommitConfig DISABLED_GROUP_COMMIT_CONFIG =
+            DefaultGroupCommitConfig.of(ConfigFactory.empty());
+    private static final long ONE_SECOND_NANOS = Duration.ofSeconds(1L).toNanos();
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private final MongoReadJournal mongoReadJournal;
+    private final HistoricalEntityCache historicalEntityCache;
     private final StartedTimer paRecoveryTimer;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
@@ -129,6 +149,7 @@ public abstract class AbstractPersistenceActor<
 
     private long accessCounter = 0L;
     private final BlockedNamespaces blockedNamespaces;
+    @Nullable private GroupCommit groupCommit = null;
 
     /**
      * Instantiate the actor.
@@ -143,6 +164,7 @@ public abstract class AbstractPersistenceActor<
         final var actorSystem = context().system();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
         this.snapshotAdapter = SnapshotAdapter.get(actorSystem, dittoExtensionsConfig);
+        historicalEntityCache = HistoricalEntityCache.get(actorSystem);
         paRecoveryTimer = DittoMetrics.timer("pa_recovery")
                 .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(entityId.getEntityType()))
                 .start();
@@ -170,6 +192,13 @@ public abstract class AbstractPersistenceActor<
         // default: no-op
     }
 
+    @Override
+    protected void onCleanupFinished() {
+        // cached historical states must not outlive the events and snapshots they were reconstructed from;
+        // the caches of other cluster nodes which hosted this entity before evict them after "expire-after-write"
+        historicalEntityCache.invalidate(persistenceId());
+    }
+
     @Override
     public abstract String persistenceId();
 
@@ -214,6 +243,18 @@ public abstract class AbstractPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the config of the group commit: if enabled, the events of modifying commands which arrive while a write
+     * to the event journal is in flight are applied to the in-memory entity right away and persisted together with
+     * the next write. Group commit is disabled unless overridden.
+     *
+     * @return configuration for the group commit.
+     * @since 3.10.0
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return DISABLED_GROUP_COMMIT_CONFIG;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -344,18 +385,25 @@ public abstract class AbstractPersistenceActor<
     protected void becomeCreatedHandler() {
         final CommandStrategy<C, S, K, E> commandStrategy = getCreatedStrategy();
 
+        if (null == groupCommit && getGroupCommitConfig().isEnabled()) {
+            groupCommit = new GroupCommit(getGroupCommitConfig().getMaxBatchSize());
+        }
+
         final Receive receive = handleCleanups.orElse(ReceiveBuilder.create()
+                        .match(commandStrategy.getMatchingClass(), this::isBlockedByGroupCommit,
+                                this::stashDuringGroupCommit)
                         .match(commandStrategy.getMatchingClass(), this::isHistoricalRetrieveCommand,
                                 this::handleHistoricalRetrieveCommand)
                         .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
+                        .match(PersistEmptyEvent.class, this::isBlockedByGroupCommit, this::stashDuringGroupCommit)
                         .match(PersistEmptyEvent.class, this::handlePersistEmptyEvent)
                         .match(CheckForActivity.class, this::checkForActivity)
                         .match(PingCommand.class, this::processPingCommand)
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
-                        .match(PersistEventAsync.class, persistEventAsync ->
-                                persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(PersistEventAsync.class, this::handlePersistEventAsync)
+                        .matchEquals(Control.STAGED_MUTATION_FAILED, this::stagedMutationFailed)
                         .build())
                 .orElse(matchAnyAfterInitialization());
 
@@ -382,8 +430,6 @@ public abstract class AbstractPersistenceActor<
             return;
         }
 
-        final CommandStrategy<C, S, K, E> commandStrategy = getCreatedStrategy();
-        final EventStrategy<E, S> eventStrategy = getEventStrategy();
         final ActorRef sender = getSender();
         final ActorRef self = getSelf();
         final Optional<Long> atHistoricalRevision = Optional
@@ -415,8 +461,18 @@ public abstract class AbstractPersistenceActor<
                 return;
             }
 
+            final Optional<HistoricalEntityStates<S, E>> historicalStates =
+                    historicalEntityCache.getStates(persistenceId());
+            final long toRevision = atHistoricalRevision.orElseGet(() ->
+                    getHistoricalRevisionUpperBound(historicalStates.orElse(null), atHistoricalTimestamp));
+            if (historicalStates.isPresent() &&
+                    historicalRetrieveFromCachedState(command, historicalStates.get(), toRevision,
+                            atHistoricalTimestamp)) {
+                return;
+            }
+
             loadSnapshot(persistenceId(), SnapshotSelectionCriteria.create(
-                    atHistoricalRevision.orElseGet(this::lastSequenceNr),
+                    toRevision,
                     atHistoricalTimestamp.equals(Instant.EPOCH) ? Long.MAX_VALUE : atHistoricalTimestamp.toEpochMilli(),
                     0L,
                     0L
@@ -429,12 +485,11 @@ public abstract class AbstractPersistenceActor<
             getContext().become(ReceiveBuilder.create()
                     .match(SnapshotProtocol.LoadSnapshotResult.class, loadSnapshotResult ->
                             historicalRetrieveHandleLoadSnapshotResult(command,
-                                    commandStrategy,
-                                    eventStrategy,
                                     sender,
                                     self,
-                                    atHistoricalRevision.orElseGet(this::lastSequenceNr),
+                                    toRevision,
                                     atHistoricalTimestamp,
+                                    historicalStates.orElse(null),
                                     cancellableSnapshotLoadTimeout,
                                     loadSnapshotResult
                             )
@@ -453,13 +508,72 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    /**
+     * Bounds the revision of the entity at a historical timestamp by the revision timestamps indexed for the entity,
+     * so that neither a later snapshot is selected nor events after the timestamp are read from the journal.
+     */
+    private long getHistoricalRevisionUpperBound(@Nullable final HistoricalEntityStates<S, E> historicalStates,
+            final Instant atHistoricalTimestamp) {
+
+        if (null != historicalStates && !atHistoricalTimestamp.equals(Instant.EPOCH)) {
+            final OptionalLong upperBound = historicalStates.getRevisionUpperBound(atHistoricalTimestamp);
+            if (upperBound.isPresent()) {
+                return Math.min(upperBound.getAsLong(), lastSequenceNr());
+            }
+        }
+        return lastSequenceNr();
+    }
+
+    /**
+     * Answers a historical retrieve command from the nearest cached historical state, replaying the events after it
+     * if necessary. Replaying from a cached state is only preferred over loading a snapshot if it replays no more
+     * events than the snapshot threshold, i.e. than a replay from the nearest snapshot would replay at most.
+     *
+     * @return whether the command is answered from the cached state.
+     */
+    private boolean historicalRetrieveFromCachedState(final C command,
+            final HistoricalEntityStates<S, E> historicalStates,
+            final long toRevision,
+            final Instant atHistoricalTimestamp) {
+
+        final boolean atTimestamp = !atHistoricalTimestamp.equals(Instant.EPOCH);
+        final OptionalLong resolvedRevision = atTimestamp
+                ? historicalStates.resolveRevision(atHistoricalTimestamp)
+                : OptionalLong.of(toRevision);
+        final long replayToRevision = resolvedRevision.orElse(toRevision);
+        final Optional<HistoricalEntityState<S, E>> nearestState = historicalStates.getNearestState(replayToRevision)
+                .filter(state -> !atTimestamp ||
+                        (null != state.timestamp() && state.timestamp().isBefore(atHistoricalTimestamp)));
+        if (nearestState.isEmpty()) {
+            return false;
+        }
+
+        final HistoricalEntityState<S, E> state = nearestState.get();
+        if (resolvedRevision.isPresent() && resolvedRevision.getAsLong() == state.revision()) {
+            historicalEntityCache.reportHit();
+            getCreatedStrategy().apply(getStrategyContext(), state.entity(), state.revision(), command)
+                    .accept(new HistoricalResultListener(getSender(), state.event().getDittoHeaders()), null);
+            return true;
+        } else if (replayToRevision - state.revision() <= getSnapshotConfig().getThreshold()) {
+            historicalRetrieveReplayEvents(command, getSender(), getSelf(),
+                    new EntityWithEvent(state.entity(), state.event()),
+                    state.revision() + 1,
+                    replayToRevision,
+                    atHistoricalTimestamp,
+                    historicalStates,
+                    true);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
     private void historicalRetrieveHandleLoadSnapshotResult(final C command,
-            final CommandStrategy<C, S, K, E> commandStrategy,
-            final EventStrategy<E, S> eventStrategy,
             final ActorRef sender,
             final ActorRef self,
             final long atHistoricalRevision,
             final Instant atHistoricalTimestamp,
+            @Nullable final HistoricalEntityStates<S, E> historicalStates,
             final Cancellable cancellableSnapshotLoadTimeout,
             final SnapshotProtocol.LoadSnapshotResult loadSnapshotResult) {
 
@@ -480,58 +594,13 @@ public abstract class AbstractPersistenceActor<
             }
 
             @Nullable final S entityFromSnapshot = snapshotIsPresent ? snapshotEntity.get() : null;
-            mongoReadJournal.currentEventsByPersistenceId(persistenceId(),
-                            fromSequenceNr,
-                            atHistoricalRevision
-                    )
-                    .map(AbstractPersistenceActor::mapJournalEntryToEvent)
-                    .map(journalEntryEvent -> new EntityWithEvent(
-                            eventStrategy.handle((E) journalEntryEvent, entityFromSnapshot,
-                                    journalEntryEvent.getRevision()),
-                            (E) journalEntryEvent
-                    ))
-                    .takeWhile(entityWithEvent -> {
-                        if (atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                            // no at-historical-timestamp was specified, so take all up to "at-historical-revision":
-                            return true;
-                        } else {
-                            // take while the timestamps of the events are before the specified "at-historical-timestamp":
-                            return entityWithEvent.event.getTimestamp()
-                                    .filter(ts -> ts.isBefore(atHistoricalTimestamp))
-                                    .isPresent();
-                        }
-                    })
-                    .fold(new EntityWithEvent(null, null), (ewe1, ewe2) -> {
-                        if (ewe1.event == null) {
-                            return ewe2; // for start element of "fold", use the first real element
-                        } else if (ewe2.event != null && ewe2.revision != null) {
-                            return new EntityWithEvent(
-                                    eventStrategy.handle(ewe2.event, ewe1.entity, ewe2.revision),
-                                    ewe2.event
-                            );
-                        } else {
-                            return ewe1;
-                        }
-                    })
-                    .runWith(Sink.foreach(entityWithEvent -> {
-                                if (entityWithEvent.event != null && entityWithEvent.revision != null) {
-                                    commandStrategy.apply(getStrategyContext(),
-                                            entityWithEvent.entity,
-                                            entityWithEvent.revision,
-                                            command
-                                    ).accept(new HistoricalResultListener(sender,
-                                            entityWithEvent.event.getDittoHeaders()), null);
-                                } else {
-                                    if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(),
-                                                self);
-                                    } else {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(),
-                                                self);
-                                    }
-                                }
-                            }),
-                            getContext().getSystem());
+            historicalRetrieveReplayEvents(command, sender, self,
+                    new EntityWithEvent(entityFromSnapshot, null),
+                    fromSequenceNr,
+                    atHistoricalRevision,
+                    atHistoricalTimestamp,
+                    historicalStates,
+                    false);
         } else {
             if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
                 sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(), self);
@@ -545,6 +614,86 @@ public abstract class AbstractPersistenceActor<
         unstashAll();
     }
 
+    /**
+     * Replays the events of the journal onto a snapshot or a cached historical state and answers the historical
+     * retrieve command with the result, which is then cached together with the timestamps of the replayed events.
+     */
+    @SuppressWarnings("unchecked")
+    private void historicalRetrieveReplayEvents(final C command,
+            final ActorRef sender,
+            final ActorRef self,
+            final EntityWithEvent start,
+            final long fromSequenceNr,
+            final long atHistoricalRevision,
+            final Instant atHistoricalTimestamp,
+            @Nullable final HistoricalEntityStates<S, E> historicalStates,
+            final boolean startsFromCachedState) {
+
+        final CommandStrategy<C, S, K, E> commandStrategy = getCreatedStrategy();
+        final EventStrategy<E, S> eventStrategy = getEventStrategy();
+        final AtomicLong replayedEvents = new AtomicLong();
+        mongoReadJournal.currentEventsByPersistenceId(persistenceId(),
+                        fromSequenceNr,
+                        atHistoricalRevision
+                )
+                .map(eventEnvelope -> (E) mapJournalEntryToEvent(eventEnvelope))
+                .map(journalEntryEvent -> {
+                    if (null != historicalStates) {
+                        journalEntryEvent.getTimestamp().ifPresent(timestamp ->
+                                historicalStates.indexTimestamp(journalEntryEvent.getRevision(), timestamp));
+                    }
+                    return journalEntryEvent;
+                })
+                .takeWhile(journalEntryEvent -> {
+                    if (atHistoricalTimestamp.equals(Instant.EPOCH)) {
+                        // no at-historical-timestamp was specified, so take all up to "at-historical-revision":
+                        return true;
+                    } else {
+                        // take while the timestamps of the events are before the specified "at-historical-timestamp":
+                        return journalEntryEvent.getTimestamp()
+                                .filter(ts -> ts.isBefore(atHistoricalTimestamp))
+                                .isPresent();
+                    }
+                })
+                .fold(start, (entityWithEvent, journalEntryEvent) -> {
+                    replayedEvents.incrementAndGet();
+                    return new EntityWithEvent(
+                            eventStrategy.handle(journalEntryEvent, entityWithEvent.entity,
+                                    journalEntryEvent.getRevision()),
+                            journalEntryEvent
+                    );
+                })
+                .runWith(Sink.foreach(entityWithEvent -> {
+                            if (entityWithEvent.event != null && entityWithEvent.revision != null) {
+                                if (startsFromCachedState) {
+                                    historicalEntityCache.reportIncrementalReplay(replayedEvents.get());
+                                } else {
+                                    historicalEntityCache.reportMiss(replayedEvents.get());
+                                }
+                                if (null != historicalStates) {
+                                    historicalStates.putState(new HistoricalEntityState<>(entityWithEvent.entity,
+                                            entityWithEvent.event, entityWithEvent.revision,
+                                            entityWithEvent.event.getTimestamp().orElse(null)));
+                                }
+                                commandStrategy.apply(getStrategyContext(),
+                                        entityWithEvent.entity,
+                                        entityWithEvent.revision,
+                                        command
+                                ).accept(new HistoricalResultListener(sender,
+                                        entityWithEvent.event.getDittoHeaders()), null);
+                            } else {
+                                if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
+                                    sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(),
+                                            self);
+                                } else {
+                                    sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(),
+                                            self);
+                                }
+                            }
+                        }),
+                        getContext().getSystem());
+    }
+
     /**
      * Processes a received {@link PingCommand}.
      * May be overwritten in order to hook into processing ping commands with additional functionality.
@@ -596,7 +745,8 @@ public abstract class AbstractPersistenceActor<
 
     private record PersistEventAsync<
             E extends EventsourcedEvent<? extends E>,
-            S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler) {}
+            S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler,
+            Consumer<Throwable> errorHandler, boolean changesLifecycle) {}
 
     /**
      * Persist an event, modify actor state by the event strategy, then invoke the handler.
@@ -607,16 +757,268 @@ public abstract class AbstractPersistenceActor<
      */
     protected void persistAndApplyEventAsync(final CompletionStage<E> eventStage, final BiConsumer<E, S> handler,
             final Consumer<Throwable> errorHandler) {
-        Patterns.pipe(eventStage.handle((e, throwable) -> {
+        persistAndApplyEventAsync(eventStage, false, handler, errorHandler);
+    }
+
+    private void persistAndApplyEventAsync(final CompletionStage<E> eventStage, final boolean changesLifecycle,
+            final BiConsumer<E, S> handler, final Consumer<Throwable> errorHandler) {
+        if (null != groupCommit && isEntityActive()) {
+            // commands arriving until the event is available are stashed in order to keep the revisions in sequence
+            groupCommit.stagedMutationInFlight = true;
+        }
+        Patterns.pipe(eventStage.<Object>handle((e, throwable) -> {
             if (throwable != null) {
                 errorHandler.accept(throwable);
-                return null;
+                return Control.STAGED_MUTATION_FAILED;
             } else {
-                return new PersistEventAsync<>(e, handler);
+                return new PersistEventAsync<>(e, handler, errorHandler, changesLifecycle);
             }
         }), getContext().getDispatcher()).to(getSelf());
     }
 
+    @SuppressWarnings("unchecked")
+    private void handlePersistEventAsync(final PersistEventAsync<?, ?> persistEventAsync) {
+        final E event = (E) persistEventAsync.event();
+        final BiConsumer<E, S> handler = (BiConsumer<E, S>) persistEventAsync.handler();
+        if (null != groupCommit && groupCommit.stagedMutationInFlight) {
+            groupCommit.stagedMutationInFlight = false;
+            if (groupCommit.stagedMutationInvalidated) {
+                // the event was computed from a pending state which contained a rejected event
+                groupCommit.stagedMutationInvalidated = false;
+                persistEventAsync.errorHandler().accept(getGroupCommitRejectedCause());
+            } else {
+                groupCommitEvent(event, persistEventAsync.changesLifecycle(), handler,
+                        persistEventAsync.errorHandler());
+            }
+            unstashAll();
+        } else {
+            persistAndApplyEvent(event, handler);
+        }
+    }
+
+    private void stagedMutationFailed(final Control stagedMutationFailed) {
+        if (null != groupCommit && groupCommit.stagedMutationInFlight) {
+            groupCommit.stagedMutationInFlight = false;
+            groupCommit.stagedMutationInvalidated = false;
+            unstashAll();
+        }
+    }
+
+    /**
+     * Persist an event or, if group commit is enabled, queue it for the next write to the event journal.
+     */
+    private void persistOrGroupCommitEvent(final E event, final boolean changesLifecycle,
+            final BiConsumer<E, S> handler, final Consumer<Throwable> errorHandler) {
+        if (null != groupCommit && isEntityActive()) {
+            groupCommitEvent(event, changesLifecycle, handler, errorHandler);
+        } else {
+            persistAndApplyEvent(event, handler);
+        }
+    }
+
+    /**
+     * Apply an event to the pending state of the entity and persist it with the next write to the event journal,
+     * starting the write right away if none is in flight.
+     */
+    private void groupCommitEvent(final E event, final boolean changesLifecycle, final BiConsumer<E, S> handler,
+            final Consumer<Throwable> errorHandler) {
+        final GroupCommit gc = checkNotNullGroupCommit();
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        if (modifiedEvent.getDittoHeaders().isDryRun()) {
+            handler.accept(modifiedEvent, getWorkEntity());
+        } else {
+            gc.pendingEntity = getEventStrategy().handle(modifiedEvent, getWorkEntity(), getNextRevisionNumber());
+            gc.queuedMutations.add(new QueuedMutation<>(modifiedEvent, handler, errorHandler, null));
+            if (changesLifecycle) {
+                // the commands following a created or deleted entity are handled by the next behavior
+                gc.draining = true;
+            }
+            if (gc.inFlightMutations.isEmpty()) {
+                flushGroupCommit();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flushGroupCommit() {
+        final GroupCommit gc = checkNotNullGroupCommit();
+        final int batchSize = Math.min(gc.queuedMutations.size(), gc.maxBatchSize);
+        final List<E> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final QueuedMutation<E, S> mutation = gc.queuedMutations.poll();
+            final var persistOperationSpan = DittoTracing.newPreparedSpan(
+                            mutation.event().getDittoHeaders(),
+                            SpanOperationName.of("persist_event")
+                    )
+                    .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(mutation.event().getType()))
+                    .start();
+            final E tracedEvent = (E) mutation.event().setDittoHeaders(
+                    DittoHeaders.of(persistOperationSpan.propagateContext(mutation.event().getDittoHeaders())));
+            events.add(tracedEvent);
+            gc.inFlightMutations.add(
+                    new QueuedMutation<>(tracedEvent, mutation.handler(), mutation.errorHandler(),
+                            persistOperationSpan));
+        }
+        log.debug("Persisting <{}> events with a single write, <{}> remain queued.", batchSize,
+                gc.queuedMutations.size());
+        gc.batchSizes.record((long) batchSize);
+
+        // the journal answers the events of a write in order; rejected events are removed in onPersistRejected
+        persistAllAsync(events, persistedEvent -> {
+            final QueuedMutation<E, S> mutation = gc.inFlightMutations.poll();
+            handlePersistedEvent(e -> {
+                // after the event was persisted, apply the event on the current actor state
+                applyEvent(e);
+                mutation.handler().accept(e, entity);
+            }, log.withCorrelationId(persistedEvent), mutation.persistOperationSpan(), persistedEvent);
+            if (gc.inFlightMutations.isEmpty()) {
+                groupCommitWritten(batchSize);
+            }
+        });
+    }
+
+    private void groupCommitWritten(final int batchSize) {
+        final GroupCommit gc = checkNotNullGroupCommit();
+        gc.countCommittedEvents(batchSize);
+        if (!gc.queuedMutations.isEmpty()) {
+            flushGroupCommit();
+        } else {
+            gc.pendingEntity = null;
+            if (gc.draining) {
+                gc.draining = false;
+                unstashAll();
+            }
+        }
+    }
+
+    /**
+     * Answers the command of a rejected event with an error. The queued mutations were computed from a pending state
+     * which contained the rejected event, thus they are answered with an error as well; commands arriving until the
+     * writes in flight are done are stashed and then handled based on the persisted state.
+     */
+    @Override
+    protected void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        if (null != groupCommit && !groupCommit.inFlightMutations.isEmpty()) {
+            final GroupCommit gc = groupCommit;
+            final QueuedMutation<E, S> rejected = gc.inFlightMutations.poll();
+            rejected.persistOperationSpan().tagAsFailed(cause);
+            rejected.persistOperationSpan().finish();
+            rejected.errorHandler().accept(cause);
+            failQueuedMutations(gc.queuedMutations, getGroupCommitRejectedCause());
+            if (gc.stagedMutationInFlight) {
+                gc.stagedMutationInvalidated = true;
+            }
+            gc.draining = true;
+            if (gc.inFlightMutations.isEmpty()) {
+                groupCommitWritten(0);
+            }
+        }
+        super.onPersistRejected(cause, event, seqNr);
+    }
+
+    /**
+     * Answers the commands of all pending writes with an error before the actor is stopped.
+     */
+    @Override
+    protected void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        if (null != groupCommit) {
+            failQueuedMutations(groupCommit.inFlightMutations, cause);
+            failQueuedMutations(groupCommit.queuedMutations, cause);
+        }
+        super.onPersistFailure(cause, event, seqNr);
+    }
+
+    private void failQueuedMutations(final Deque<QueuedMutation<E, S>> mutations, final Throwable cause) {
+        QueuedMutation<E, S> mutation;
+        while (null != (mutation = mutations.poll())) {
+            if (null != mutation.persistOperationSpan()) {
+                mutation.persistOperationSpan().tagAsFailed(cause);
+                mutation.persistOperationSpan().finish();
+            }
+            mutation.errorHandler().accept(cause);
+        }
+    }
+
+    private static Throwable getGroupCommitRejectedCause() {
+        // wrapped into a DittoInternalErrorException with the headers of the failed command by its error handler
+        return new IllegalStateException(
+                "A preceding modification of the same entity was rejected by the event journal.");
+    }
+
+    private GroupCommit checkNotNullGroupCommit() {
+        if (null == groupCommit) {
+            throw new IllegalStateException("Group commit is not enabled.");
+        }
+        return groupCommit;
+    }
+
+    /**
+     * @return the entity with the events of all pending writes applied.
+     */
+    @Nullable
+    private S getWorkEntity() {
+        if (null != groupCommit && groupCommit.hasPendingWrites()) {
+            return groupCommit.pendingEntity;
+        }
+        return entity;
+    }
+
+    private boolean isBlockedByGroupCommit(final Object message) {
+        return null != groupCommit && (groupCommit.stagedMutationInFlight ||
+                groupCommit.hasPendingWrites() && (groupCommit.draining || !isGroupCommittable(message)));
+    }
+
+    private static boolean isGroupCommittable(final Object message) {
+        if (message instanceof Command<?> command) {
+            return switch (command.getCategory()) {
+                case MODIFY, MERGE, DELETE -> true;
+                default -> false;
+            };
+        }
+        return false;
+    }
+
+    private void stashDuringGroupCommit(final Object message) {
+        final GroupCommit gc = checkNotNullGroupCommit();
+        if (!gc.stagedMutationInFlight) {
+            // e.g. queries must see the persisted state: stop queueing until all pending writes are done
+            gc.draining = true;
+        }
+        log.withCorrelationId(message instanceof WithDittoHeaders w ? w : null)
+                .debug("Stashing <{}> until the pending writes of the group commit are done.",
+                        message.getClass().getSimpleName());
+        stash();
+    }
+
+    /**
+     * Determines whether the supervisor may forward the next twin command before the passed one was persisted when
+     * group commit is enabled. Commands whose persistence changes how the following commands are enforced must not
+     * be pipelined.
+     *
+     * @param command the command about to be handled.
+     * @return whether the next twin command may be forwarded right away.
+     * @since 3.10.0
+     */
+    protected boolean shouldPipelineTwinCommand(final C command) {
+        return isGroupCommittable(command);
+    }
+
+    /**
+     * Tell the supervisor that a twin command was accepted, so that it forwards the next twin command without waiting
+     * for the response to this one: as this actor handles the commands in the order of its mailbox, the commands
+     * queued for the group commit keep their order.
+     */
+    private void acceptTwinCommandForGroupCommit(final C command) {
+        final GroupCommit gc = checkNotNullGroupCommit();
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        if (!(command instanceof SudoCommand) && !dittoHeaders.isSudo() && !Signal.isChannelLive(command) &&
+                !Signal.isChannelSmart(command) && gc.queuedMutations.size() < gc.maxBatchSize &&
+                shouldPipelineTwinCommand(command)) {
+            getContext().getParent()
+                    .tell(new AbstractPersistenceSupervisor.TwinCommandQueued(command), getSelf());
+        }
+    }
+
     /**
      * Allows to modify the passed in {@code event} before {@link #persistEvent(EventsourcedEvent, Consumer)} is invoked.
      * Overwrite this method and call the super method in order to additionally modify the event before persisting it.
@@ -687,8 +1089,8 @@ public abstract class AbstractPersistenceActor<
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
-                        .match(PersistEventAsync.class, persistEventAsync ->
-                                persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(PersistEventAsync.class, this::handlePersistEventAsync)
+                        .matchEquals(Control.STAGED_MUTATION_FAILED, this::stagedMutationFailed)
                         .build())
                 .orElse(matchAnyWhenDeleted());
     }
@@ -717,7 +1119,10 @@ public abstract class AbstractPersistenceActor<
     }
 
     protected void handleByCommandStrategy(final C command) {
-        handleByStrategy(command, entity, getCreatedStrategy());
+        if (null != groupCommit) {
+            acceptTwinCommandForGroupCommit(command);
+        }
+        handleByStrategy(command, getWorkEntity(), getCreatedStrategy());
     }
 
     @SuppressWarnings("unchecked")
@@ -768,7 +1173,7 @@ public abstract class AbstractPersistenceActor<
             final boolean becomeCreated, final boolean becomeDeleted, @Nullable final StartedSpan startedSpan) {
 
         final ActorRef sender = getSender();
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+        persistOrGroupCommitEvent(event, becomeCreated || becomeDeleted, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(sender, response);
             } else {
@@ -783,7 +1188,7 @@ public abstract class AbstractPersistenceActor<
             if (startedSpan != null) {
                 startedSpan.finish();
             }
-        });
+        }, getMutationErrorHandler(command, sender));
     }
 
     @Override
@@ -795,7 +1200,7 @@ public abstract class AbstractPersistenceActor<
             @Nullable final StartedSpan startedSpan) {
 
         final ActorRef sender = getSender();
-        persistAndApplyEventAsync(event, (persistedEvent, resultingEntity) -> {
+        persistAndApplyEventAsync(event, becomeCreated || becomeDeleted, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(sender, response);
             } else {
@@ -810,7 +1215,11 @@ public abstract class AbstractPersistenceActor<
             if (startedSpan != null) {
                 startedSpan.finish();
             }
-        }, throwable -> {
+        }, getMutationErrorHandler(command, sender));
+    }
+
+    private Consumer<Throwable> getMutationErrorHandler(final Command<?> command, final ActorRef sender) {
+        return throwable -> {
             final DittoRuntimeException dittoRuntimeException =
                     DittoRuntimeException.asDittoRuntimeException(throwable, t ->
                             DittoInternalErrorException.newBuilder()
@@ -822,7 +1231,7 @@ public abstract class AbstractPersistenceActor<
             } else {
                 sender.tell(StatusReply.error(dittoRuntimeException), getSelf());
             }
-        });
+        };
     }
 
     @Override
@@ -891,7 +1300,8 @@ public abstract class AbstractPersistenceActor<
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        final long pendingEvents = null != groupCommit ? groupCommit.getPendingEvents() : 0L;
+        return getRevisionNumber() + pendingEvents + 1;
     }
 
     @SuppressWarnings("unchecked")
@@ -1107,7 +1517,70 @@ public abstract class AbstractPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        STAGED_MUTATION_FAILED
+    }
+
+    private record QueuedMutation<
+            E extends EventsourcedEvent<? extends E>,
+            S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler,
+            Consumer<Throwable> errorHandler, @Nullable StartedSpan persistOperationSpan) {}
+
+    /**
+     * State of the group commit of this actor.
+     */
+    private final class GroupCommit {
+
+        private final int maxBatchSize;
+        private final Histogram batchSizes;
+        private final Histogram throughput;
+        private final Deque<QueuedMutation<E, S>> queuedMutations;
+        private final Deque<QueuedMutation<E, S>> inFlightMutations;
+        @Nullable private S pendingEntity;
+        private boolean stagedMutationInFlight;
+        private boolean stagedMutationInvalidated;
+        private boolean draining;
+        private long throughputWindowStart;
+        private long throughputWindowEvents;
+
+        private GroupCommit(final int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            batchSizes = DittoMetrics.histogram("pa_group_commit_batch_size")
+                    .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(entityId.getEntityType()));
+            throughput = DittoMetrics.histogram("pa_group_commit_throughput")
+                    .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(entityId.getEntityType()));
+            queuedMutations = new ArrayDeque<>();
+            inFlightMutations = new ArrayDeque<>();
+            pendingEntity = null;
+            stagedMutationInFlight = false;
+            stagedMutationInvalidated = false;
+            draining = false;
+            throughputWindowStart = System.nanoTime();
+            throughputWindowEvents = 0L;
+        }
+
+        private boolean hasPendingWrites() {
+            return !inFlightMutations.isEmpty() || !queuedMutations.isEmpty();
+        }
+
+        private long getPendingEvents() {
+            return (long) inFlightMutations.size() + queuedMutations.size();
+        }
+
+        /**
+         * Records the events persisted per second for this entity, once per second at most.
+         */
+        private void countCommittedEvents(final int events) {
+            throughputWindowEvents += events;
+            final long now = System.nanoTime();
+            final long elapsed = now - throughputWindowStart;
+            if (elapsed >= ONE_SECOND_NANOS) {
+                throughput.record(throughputWindowEvents * ONE_SECOND_NANOS / elapsed);
+                throughputWindowStart = now;
+                throughputWindowEvents = 0L;
+            }
+        }
+
     }
 
 
@@ -148,6 +148,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
     private int opCounter = 0;
     private int sudoOpCounter = 0;
     private boolean paRecovered = false;
+    @Nullable private Signal<?> awaitedTwinSignal = null;
+    @Nullable private Signal<?> awaitedEnforcedTwinSignal = null;
     private boolean loggedStartupMessage = false;
 
     protected AbstractPersistenceSupervisor(@Nullable final BlockedNamespaces blockedNamespaces,
@@ -234,6 +236,9 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                 .matchEquals(Control.PA_RECOVERED, this::paRecovered)
                 .matchEquals(Control.SUDO_COMMAND_DONE, this::decrementSudoOpCounter)
                 .match(ProcessNextTwinMessage.class, decrementOpCounter(matchProcessNextTwinMessageBehavior))
+                .match(TwinSignalEnforced.class, this::twinSignalEnforced)
+                .match(TwinCommandQueued.class, twinCommandQueued ->
+                        processNextTwinMessageIfQueued(twinCommandQueued, matchProcessNextTwinMessageBehavior))
                 .match(StopShardedActor.class, this::stopShardedActor)
                 .match(SudoCommand.class, this::forwardSudoCommandToChildIfAvailable)
                 .match(WithDittoHeaders.class, w -> w.getDittoHeaders().isSudo(),
@@ -516,7 +521,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
             final Runnable matchProcessNextTwinMessageBehavior) {
         return processNextTwinMessage -> {
             decrementOpCounter(processNextTwinMessage.signal());
-            matchProcessNextTwinMessageBehavior.run();
+            if (null == awaitedTwinSignal || awaitedTwinSignal == processNextTwinMessage.signal()) {
+                // the awaited signal may already have been released by a TwinCommandQueued of the persistence actor
+                matchProcessNextTwinMessageBehavior.run();
+            }
             if (inCoordinatedShutdown && opCounter == 0 && sudoOpCounter == 0) {
                 log.debug("Stopping after waiting for ongoing ops.");
                 getContext().stop(getSelf());
@@ -524,6 +532,27 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         };
     }
 
+    private void twinSignalEnforced(final TwinSignalEnforced twinSignalEnforced) {
+        if (null != awaitedTwinSignal && awaitedTwinSignal == twinSignalEnforced.signal()) {
+            awaitedEnforcedTwinSignal = twinSignalEnforced.enforcedSignal();
+        }
+    }
+
+    /**
+     * Processes the next twin signal before the awaited one was answered if the persistence actor reports that it
+     * queued the awaited command for its group commit: as the persistence actor processes its mailbox in order, the
+     * order of the twin commands is preserved.
+     * The queued command is identified by reference, as e.g. the correlation IDs of twin commands are not unique.
+     */
+    private void processNextTwinMessageIfQueued(final TwinCommandQueued twinCommandQueued,
+            final Runnable matchProcessNextTwinMessageBehavior) {
+        if (null != awaitedEnforcedTwinSignal && awaitedEnforcedTwinSignal == twinCommandQueued.command()) {
+            log.withCorrelationId(twinCommandQueued.command())
+                    .debug("Persistence actor queued the awaited twin command, processing next twin message");
+            matchProcessNextTwinMessageBehavior.run();
+        }
+    }
+
     private void decrementSudoOpCounter(final Control sudoCommandDone) {
         --sudoOpCounter;
         if (inCoordinatedShutdown && opCounter == 0 && sudoOpCounter == 0) {
@@ -624,6 +653,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
         getContext().become(
                 activeBehaviour(
                         () -> {
+                            awaitedTwinSignal = null;
+                            awaitedEnforcedTwinSignal = null;
                             unstashAll();
                             becomeActive(getShutdownBehaviour(entityId));
                         },
@@ -821,7 +852,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                                 entityId, message);
                 unhandled(message);
             } else {
-                if (shouldBecomeTwinSignalProcessingAwaiting(signal)) {
+                final boolean awaitTwinSignal = shouldBecomeTwinSignalProcessingAwaiting(signal);
+                if (awaitTwinSignal) {
+                    awaitedTwinSignal = signal;
+                    awaitedEnforcedTwinSignal = null;
                     becomeTwinSignalProcessingAwaiting();
                 }
                 final var syncCs = signalTransformer.apply(signal, persistenceActorChild)
@@ -830,7 +864,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                                 enforcementExecutor
                         )
                         .thenComposeAsync(transformed ->
-                                enforceSignalAndForwardToTargetActor((S) transformed, sender)
+                                enforceSignalAndForwardToTargetActor((S) transformed, sender,
+                                        awaitTwinSignal ? signal : null)
                                     .exceptionallyComposeAsync(error ->
                                             handleTargetActorAndEnforcerException(transformed, error), enforcementExecutor)
                                     .whenCompleteAsync((response, throwable) ->
@@ -966,6 +1001,15 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
      * cause
      */
     protected CompletionStage<Object> enforceSignalAndForwardToTargetActor(final S signal, final ActorRef sender) {
+        return enforceSignalAndForwardToTargetActor(signal, sender, null);
+    }
+
+    /**
+     * @param awaitedSignal the signal received by this actor if it awaits its processing, reported together with the
+     * enforced signal in a {@link TwinSignalEnforced} before the enforced signal is sent to the persistence actor.
+     */
+    private CompletionStage<Object> enforceSignalAndForwardToTargetActor(final S signal, final ActorRef sender,
+            @Nullable final Signal<?> awaitedSignal) {
         if (null != enforcerChild) {
             final var startedSpan = DittoTracing.newPreparedSpan(
                             signal.getDittoHeaders(),
@@ -993,7 +1037,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                         } else {
                             dittoHeaders = tracedSignal.getDittoHeaders();
                         }
-                        return enforcerResponseToTargetActor(dittoHeaders, enforcedCommand, sender)
+                        return enforcerResponseToTargetActor(dittoHeaders, enforcedCommand, sender, awaitedSignal)
                                 .whenComplete((result, error) -> {
                                     startedSpan.mark("processed");
                                     stopTimer(processingTimer).accept(result, error);
@@ -1057,7 +1101,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
     private CompletionStage<EnforcedSignalAndTargetActorResponse> enforcerResponseToTargetActor(
             final DittoHeaders dittoHeaders,
             @Nullable final Object enforcerResponse,
-            final ActorRef sender) {
+            final ActorRef sender,
+            @Nullable final Signal<?> awaitedSignal) {
 
         if (null == persistenceActorChild) {
             return CompletableFuture.failedFuture(getUnavailableExceptionBuilder(entityId)
@@ -1067,6 +1112,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
             log.withCorrelationId(enforcedSignal)
                     .debug("Received enforcedSignal from enforcerChild, forwarding to target actor: {}",
                             enforcedSignal);
+            if (null != awaitedSignal) {
+                // enqueued before the persistence actor can receive the enforced signal and answer TwinCommandQueued
+                getSelf().tell(new TwinSignalEnforced(awaitedSignal, enforcedSignal), getSelf());
+            }
             return askTargetActor(enforcedSignal, shouldSendResponse(enforcedSignal), sender)
                     .thenComposeAsync(response ->
                             modifyTargetActorCommandResponse(enforcedSignal, response), enforcementExecutor)
@@ -1219,6 +1268,22 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
      */
     private record ProcessNextTwinMessage(Signal<?> signal) {}
 
+    /**
+     * Reports the enforced signal of the awaited twin signal before it is sent to the persistence actor.
+     *
+     * @param signal the awaited twin signal as received by this actor.
+     * @param enforcedSignal the enforced signal sent to the persistence actor.
+     */
+    private record TwinSignalEnforced(Signal<?> signal, Signal<?> enforcedSignal) {}
+
+    /**
+     * Sent by the persistence actor when it queued a twin command for its group commit, so that the next twin
+     * message can be processed before the command was persisted.
+     *
+     * @param command the queued command as received by the persistence actor.
+     */
+    record TwinCommandQueued(Command<?> command) {}
+
     private record EnforcedSignalAndTargetActorResponse(@Nullable Signal<?> enforcedSignal,
                                                         @Nullable Object response) {}
 
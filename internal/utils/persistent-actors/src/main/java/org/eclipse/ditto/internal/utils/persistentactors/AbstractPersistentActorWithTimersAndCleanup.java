@@ -153,9 +153,17 @@ public abstract class AbstractPersistentActorWithTimersAndCleanup extends Abstra
                                         DittoHeaders.empty()), getSelf()));
             }
             finishCleanup();
+            onCleanupFinished();
         }
     }
 
+    /**
+     * Invoked after a cleanup deleted snapshots and events of this actor, whether it succeeded or not.
+     */
+    protected void onCleanupFinished() {
+        // default: no-op
+    }
+
     private void respondWithCleanupSuccess() {
         Optional.ofNullable(origin)
                 .ifPresent(o -> o.tell(
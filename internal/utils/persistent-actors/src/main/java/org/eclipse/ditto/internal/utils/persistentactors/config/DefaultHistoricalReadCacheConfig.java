@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link HistoricalReadCacheConfig}.
+ */
+@Immutable
+public final class DefaultHistoricalReadCacheConfig implements HistoricalReadCacheConfig {
+
+    private static final String CONFIG_PATH = "historical-read-cache";
+
+    private final boolean enabled;
+    private final int maximumEntities;
+    private final int maximumStatesPerEntity;
+    private final int maximumIndexedRevisionsPerEntity;
+    private final Duration expireAfterAccess;
+    private final Duration expireAfterWrite;
+
+    private DefaultHistoricalReadCacheConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(HistoricalReadCacheConfigValue.ENABLED.getConfigPath());
+        maximumEntities = config.getPositiveIntOrThrow(HistoricalReadCacheConfigValue.MAXIMUM_ENTITIES);
+        maximumStatesPerEntity =
+                config.getPositiveIntOrThrow(HistoricalReadCacheConfigValue.MAXIMUM_STATES_PER_ENTITY);
+        maximumIndexedRevisionsPerEntity =
+                config.getPositiveIntOrThrow(HistoricalReadCacheConfigValue.MAXIMUM_INDEXED_REVISIONS_PER_ENTITY);
+        expireAfterAccess =
+                config.getNonNegativeAndNonZeroDurationOrThrow(HistoricalReadCacheConfigValue.EXPIRE_AFTER_ACCESS);
+        expireAfterWrite =
+                config.getNonNegativeAndNonZeroDurationOrThrow(HistoricalReadCacheConfigValue.EXPIRE_AFTER_WRITE);
+    }
+
+    /**
+     * Returns an instance of {@code DefaultHistoricalReadCacheConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the historical read cache at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultHistoricalReadCacheConfig of(final Config config) {
+        return new DefaultHistoricalReadCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, HistoricalReadCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaximumEntities() {
+        return maximumEntities;
+    }
+
+    @Override
+    public int getMaximumStatesPerEntity() {
+        return maximumStatesPerEntity;
+    }
+
+    @Override
+    public int getMaximumIndexedRevisionsPerEntity() {
+        return maximumIndexedRevisionsPerEntity;
+    }
+
+    @Override
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultHistoricalReadCacheConfig that = (DefaultHistoricalReadCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumEntities == that.maximumEntities &&
+                maximumStatesPerEntity == that.maximumStatesPerEntity &&
+                maximumIndexedRevisionsPerEntity == that.maximumIndexedRevisionsPerEntity &&
+                Objects.equals(expireAfterAccess, that.expireAfterAccess) &&
+                Objects.equals(expireAfterWrite, that.expireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maximumEntities, maximumStatesPerEntity, maximumIndexedRevisionsPerEntity,
+                expireAfterAccess, expireAfterWrite);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maximumEntities=" + maximumEntities +
+                ", maximumStatesPerEntity=" + maximumStatesPerEntity +
+                ", maximumIndexedRevisionsPerEntity=" + maximumIndexedRevisionsPerEntity +
+                ", expireAfterAccess=" + expireAfterAccess +
+                ", expireAfterWrite=" + expireAfterWrite +
+                "]";
+    }
+
+}
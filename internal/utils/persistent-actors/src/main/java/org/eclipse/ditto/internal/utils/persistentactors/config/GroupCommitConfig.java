@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of persistence actors: the events of modifying commands which
+ * arrive while a write to the event journal is in flight are persisted together with a single write.
+ *
+ * @since 3.10.0
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether the events of queued modifying commands are persisted with a single write.
+     *
+     * @return {@code true} if group commit is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events persisted with a single write.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the events of queued modifying commands are persisted with a single write.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events persisted with a single write.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for caching the entity states reconstructed for reads at a historical revision or
+ * timestamp.
+ */
+@Immutable
+public interface HistoricalReadCacheConfig {
+
+    /**
+     * Indicates whether reconstructed historical entity states are cached.
+     *
+     * @return {@code true} if the cache is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of entities whose historical states are cached on one cluster node.
+     *
+     * @return the maximum number of entities.
+     */
+    int getMaximumEntities();
+
+    /**
+     * Returns the maximum number of reconstructed states cached per entity.
+     *
+     * @return the maximum number of states per entity.
+     */
+    int getMaximumStatesPerEntity();
+
+    /**
+     * Returns the maximum number of revision timestamps indexed per entity.
+     *
+     * @return the maximum number of indexed revisions per entity.
+     */
+    int getMaximumIndexedRevisionsPerEntity();
+
+    /**
+     * Returns the duration after which the historical states of an entity are evicted if they were not accessed.
+     *
+     * @return the expiry duration.
+     */
+    Duration getExpireAfterAccess();
+
+    /**
+     * Returns the duration after which the historical states of an entity are evicted after they were first cached,
+     * whether they were accessed or not.
+     *
+     * @return the expiry duration.
+     * @since 3.10.0
+     */
+    Duration getExpireAfterWrite();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code HistoricalReadCacheConfig}.
+     */
+    enum HistoricalReadCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether reconstructed historical entity states are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of entities whose historical states are cached.
+         */
+        MAXIMUM_ENTITIES("maximum-entities", 1000),
+
+        /**
+         * The maximum number of reconstructed states cached per entity.
+         */
+        MAXIMUM_STATES_PER_ENTITY("maximum-states-per-entity", 8),
+
+        /**
+         * The maximum number of revision timestamps indexed per entity.
+         */
+        MAXIMUM_INDEXED_REVISIONS_PER_ENTITY("maximum-indexed-revisions-per-entity", 256),
+
+        /**
+         * The duration after which the historical states of an entity are evicted if they were not accessed.
+         */
+        EXPIRE_AFTER_ACCESS("expire-after-access", Duration.ofMinutes(10L)),
+
+        /**
+         * The duration after which the historical states of an entity are evicted after they were first cached.
+         *
+         * @since 3.10.0
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofMinutes(30L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        HistoricalReadCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
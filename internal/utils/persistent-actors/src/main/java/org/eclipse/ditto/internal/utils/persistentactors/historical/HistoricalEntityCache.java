@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.historical;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultHistoricalReadCacheConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.HistoricalReadCacheConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the entity states which persistence actors of one cluster node reconstructed for reads at a historical
+ * revision or timestamp, keyed by persistence ID.
+ * <p>
+ * The states outlive the persistence actors, so that repeated reads of the same entities at nearby revisions are
+ * answered from memory or by replaying only the events after the nearest cached state.
+ * </p>
+ */
+public final class HistoricalEntityCache implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private static final String METRIC_NAME_READS = "historical_read_cache";
+    private static final String METRIC_NAME_REPLAYED_EVENTS = "historical_read_replayed_events";
+    private static final String TAG_RESULT = "result";
+
+    private final HistoricalReadCacheConfig config;
+    @Nullable private final Cache<String, HistoricalEntityStates<?, ?>> cache;
+    private final Counter hits;
+    private final Counter incrementalReplays;
+    private final Counter misses;
+    private final Histogram replayedEvents;
+
+    private HistoricalEntityCache(final HistoricalReadCacheConfig config) {
+        this.config = config;
+        if (config.isEnabled()) {
+            cache = Caffeine.newBuilder()
+                    .maximumSize(config.getMaximumEntities())
+                    .expireAfterAccess(config.getExpireAfterAccess())
+                    .expireAfterWrite(config.getExpireAfterWrite())
+                    .build();
+        } else {
+            cache = null;
+        }
+        hits = DittoMetrics.counter(METRIC_NAME_READS).tag(TAG_RESULT, "hit");
+        incrementalReplays = DittoMetrics.counter(METRIC_NAME_READS).tag(TAG_RESULT, "incremental");
+        misses = DittoMetrics.counter(METRIC_NAME_READS).tag(TAG_RESULT, "miss");
+        replayedEvents = DittoMetrics.histogram(METRIC_NAME_REPLAYED_EVENTS);
+    }
+
+    /**
+     * Returns the {@code HistoricalEntityCache} of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the cache.
+     */
+    public static HistoricalEntityCache get(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Returns a new {@code HistoricalEntityCache} which is not bound to an actor system.
+     *
+     * @param config the config of the cache.
+     * @return the cache.
+     */
+    static HistoricalEntityCache newInstance(final HistoricalReadCacheConfig config) {
+        return new HistoricalEntityCache(config);
+    }
+
+    /**
+     * Returns the historical states of an entity, creating them if absent.
+     * The entity type of the persistence ID determines the types of the states.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     * @param <S> the type of the entity.
+     * @param <E> the type of the events of the entity.
+     * @return the historical states, or an empty optional if the cache is disabled.
+     */
+    @SuppressWarnings("unchecked")
+    public <S, E> Optional<HistoricalEntityStates<S, E>> getStates(final String persistenceId) {
+        if (null == cache) {
+            return Optional.empty();
+        }
+        return Optional.of((HistoricalEntityStates<S, E>) cache.get(persistenceId,
+                pid -> new HistoricalEntityStates<>(config.getMaximumStatesPerEntity(),
+                        config.getMaximumIndexedRevisionsPerEntity())));
+    }
+
+    /**
+     * Removes the historical states of an entity, e.g. after its history was deleted.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     */
+    public void invalidate(final String persistenceId) {
+        if (null != cache) {
+            cache.invalidate(persistenceId);
+        }
+    }
+
+    /**
+     * Reports a historical read answered from a cached state.
+     */
+    public void reportHit() {
+        hits.increment();
+        replayedEvents.record(0L);
+    }
+
+    /**
+     * Reports a historical read which replayed events starting from a cached state.
+     *
+     * @param events the number of replayed events.
+     */
+    public void reportIncrementalReplay(final long events) {
+        incrementalReplays.increment();
+        replayedEvents.record(events);
+    }
+
+    /**
+     * Reports a historical read which replayed events starting from a snapshot.
+     *
+     * @param events the number of replayed events.
+     */
+    public void reportMiss(final long events) {
+        misses.increment();
+        replayedEvents.record(events);
+    }
+
+    static final class ExtensionId extends AbstractExtensionId<HistoricalEntityCache> {
+
+        @Override
+        public HistoricalEntityCache createExtension(final ExtendedActorSystem system) {
+            return newInstance(DefaultHistoricalReadCacheConfig.of(
+                    DefaultScopedConfig.dittoScoped(system.settings().config())));
+        }
+
+    }
+
+}
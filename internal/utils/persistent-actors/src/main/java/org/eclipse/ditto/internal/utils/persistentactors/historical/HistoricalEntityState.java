@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.historical;
+
+import java.time.Instant;
+
+import javax.annotation.Nullable;
+
+/**
+ * The state of an entity reconstructed at a historical revision.
+ *
+ * @param entity the entity at the revision.
+ * @param event the event which created the revision.
+ * @param revision the revision.
+ * @param timestamp the timestamp of the event, if known.
+ * @param <S> the type of the entity.
+ * @param <E> the type of the events of the entity.
+ */
+public record HistoricalEntityState<S, E>(@Nullable S entity, E event, long revision, @Nullable Instant timestamp) {}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.historical;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The cached historical states of one entity together with an index from revisions to the timestamps of the events
+ * which created them.
+ * <p>
+ * The timestamp index resolves reads at a historical timestamp to a revision: the state at a timestamp is the state
+ * at the last revision whose event happened before the timestamp, which is known exactly as soon as the index also
+ * contains the following revision. Both maps evict their lowest revisions first when they exceed their capacity.
+ * </p>
+ *
+ * @param <S> the type of the entity.
+ * @param <E> the type of the events of the entity.
+ */
+@ThreadSafe
+public final class HistoricalEntityStates<S, E> {
+
+    private final int maximumStates;
+    private final int maximumIndexedRevisions;
+    private final NavigableMap<Long, HistoricalEntityState<S, E>> states;
+    private final NavigableMap<Long, Instant> timestamps;
+
+    /**
+     * Creates empty historical states of an entity.
+     *
+     * @param maximumStates the maximum number of cached states.
+     * @param maximumIndexedRevisions the maximum number of indexed revision timestamps.
+     */
+    public HistoricalEntityStates(final int maximumStates, final int maximumIndexedRevisions) {
+        this.maximumStates = maximumStates;
+        this.maximumIndexedRevisions = maximumIndexedRevisions;
+        states = new TreeMap<>();
+        timestamps = new TreeMap<>();
+    }
+
+    /**
+     * Adds the timestamp of the event of a revision to the index.
+     *
+     * @param revision the revision.
+     * @param timestamp the timestamp of the event of the revision.
+     */
+    public synchronized void indexTimestamp(final long revision, final Instant timestamp) {
+        timestamps.put(revision, timestamp);
+        while (timestamps.size() > maximumIndexedRevisions) {
+            timestamps.pollFirstEntry();
+        }
+    }
+
+    /**
+     * Caches a reconstructed state and indexes its timestamp.
+     *
+     * @param state the state.
+     */
+    public synchronized void putState(final HistoricalEntityState<S, E> state) {
+        states.put(state.revision(), state);
+        while (states.size() > maximumStates) {
+            states.pollFirstEntry();
+        }
+        final Instant timestamp = state.timestamp();
+        if (null != timestamp) {
+            indexTimestamp(state.revision(), timestamp);
+        }
+    }
+
+    /**
+     * Returns the cached state with the highest revision not greater than the given revision.
+     *
+     * @param revision the revision.
+     * @return the nearest cached state at or before the revision, if any.
+     */
+    public synchronized Optional<HistoricalEntityState<S, E>> getNearestState(final long revision) {
+        return Optional.ofNullable(states.floorEntry(revision)).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Resolves the revision of the entity at a timestamp from the index, i.e. the last revision whose event happened
+     * before the timestamp.
+     *
+     * @param timestamp the timestamp.
+     * @return the revision at the timestamp, or an empty optional if the index does not determine it.
+     */
+    public synchronized OptionalLong resolveRevision(final Instant timestamp) {
+        @Nullable Map.Entry<Long, Instant> later = null;
+        for (final Map.Entry<Long, Instant> entry : timestamps.descendingMap().entrySet()) {
+            if (entry.getValue().isBefore(timestamp)) {
+                if (null != later && later.getKey() == entry.getKey() + 1) {
+                    return OptionalLong.of(entry.getKey());
+                }
+                return OptionalLong.empty();
+            }
+            later = entry;
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the highest revision which may have been the revision of the entity at a timestamp, i.e. the revision
+     * before the first indexed revision whose event did not happen before the timestamp.
+     *
+     * @param timestamp the timestamp.
+     * @return the upper bound of the revision at the timestamp, or an empty optional if the index does not bound it.
+     */
+    public synchronized OptionalLong getRevisionUpperBound(final Instant timestamp) {
+        for (final Map.Entry<Long, Instant> entry : timestamps.entrySet()) {
+            if (!entry.getValue().isBefore(timestamp)) {
+                return OptionalLong.of(entry.getKey() - 1);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Removes all cached states and indexed timestamps.
+     */
+    public synchronized void clear() {
+        states.clear();
+        timestamps.clear();
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig.GroupCommitConfigValue;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultGroupCommitConfig}.
+ */
+public final class DefaultGroupCommitConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultGroupCommitConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultGroupCommitConfig underTest = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(GroupCommitConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(GroupCommitConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultGroupCommitConfig underTest =
+                DefaultGroupCommitConfig.of(ConfigFactory.load("group-commit-test"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(25);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.persistentactors.config.HistoricalReadCacheConfig.HistoricalReadCacheConfigValue;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultHistoricalReadCacheConfig}.
+ */
+public final class DefaultHistoricalReadCacheConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultHistoricalReadCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultHistoricalReadCacheConfig underTest = DefaultHistoricalReadCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(HistoricalReadCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaximumEntities())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_ENTITIES.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.MAXIMUM_ENTITIES.getDefaultValue());
+        softly.assertThat(underTest.getMaximumStatesPerEntity())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_STATES_PER_ENTITY.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.MAXIMUM_STATES_PER_ENTITY.getDefaultValue());
+        softly.assertThat(underTest.getMaximumIndexedRevisionsPerEntity())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_INDEXED_REVISIONS_PER_ENTITY.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.MAXIMUM_INDEXED_REVISIONS_PER_ENTITY.getDefaultValue());
+        softly.assertThat(underTest.getExpireAfterAccess())
+                .as(HistoricalReadCacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.EXPIRE_AFTER_ACCESS.getDefaultValue());
+        softly.assertThat(underTest.getExpireAfterWrite())
+                .as(HistoricalReadCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(HistoricalReadCacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultHistoricalReadCacheConfig underTest =
+                DefaultHistoricalReadCacheConfig.of(ConfigFactory.load("historical-read-cache-test"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(HistoricalReadCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaximumEntities())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_ENTITIES.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getMaximumStatesPerEntity())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_STATES_PER_ENTITY.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getMaximumIndexedRevisionsPerEntity())
+                .as(HistoricalReadCacheConfigValue.MAXIMUM_INDEXED_REVISIONS_PER_ENTITY.getConfigPath())
+                .isEqualTo(64);
+        softly.assertThat(underTest.getExpireAfterAccess())
+                .as(HistoricalReadCacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(1L));
+        softly.assertThat(underTest.getExpireAfterWrite())
+                .as(HistoricalReadCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(5L));
+    }
+
+}
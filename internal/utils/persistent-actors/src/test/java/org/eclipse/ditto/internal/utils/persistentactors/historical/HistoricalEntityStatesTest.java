@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.historical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link HistoricalEntityStates}.
+ */
+public final class HistoricalEntityStatesTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    public void returnsNearestStateAtOrBeforeRevision() {
+        final HistoricalEntityStates<String, String> underTest = new HistoricalEntityStates<>(8, 8);
+        underTest.putState(state(3L));
+        underTest.putState(state(7L));
+
+        assertThat(underTest.getNearestState(2L)).isEmpty();
+        assertThat(underTest.getNearestState(3L)).contains(state(3L));
+        assertThat(underTest.getNearestState(6L)).contains(state(3L));
+        assertThat(underTest.getNearestState(100L)).contains(state(7L));
+    }
+
+    @Test
+    public void evictsLowestRevisionsFirst() {
+        final HistoricalEntityStates<String, String> underTest = new HistoricalEntityStates<>(2, 2);
+        underTest.putState(state(1L));
+        underTest.putState(state(5L));
+        underTest.putState(state(3L));
+
+        assertThat(underTest.getNearestState(2L)).isEmpty();
+        assertThat(underTest.getNearestState(4L)).contains(state(3L));
+        // the timestamp of revision 1 was evicted from the index as well
+        assertThat(underTest.getRevisionUpperBound(timestamp(1L))).hasValue(2L);
+    }
+
+    @Test
+    public void resolvesRevisionAtTimestampOnlyIfTheFollowingRevisionIsIndexed() {
+        final HistoricalEntityStates<String, String> underTest = new HistoricalEntityStates<>(8, 8);
+        underTest.indexTimestamp(4L, timestamp(4L));
+        underTest.indexTimestamp(5L, timestamp(5L));
+        underTest.indexTimestamp(8L, timestamp(8L));
+
+        assertThat(underTest.resolveRevision(timestamp(5L))).hasValue(4L);
+        assertThat(underTest.resolveRevision(timestamp(5L).plusMillis(1L))).isEmpty();
+        assertThat(underTest.resolveRevision(timestamp(9L))).isEmpty();
+        assertThat(underTest.resolveRevision(timestamp(4L))).isEmpty();
+
+        assertThat(underTest.getRevisionUpperBound(timestamp(5L))).hasValue(4L);
+        assertThat(underTest.getRevisionUpperBound(timestamp(6L))).hasValue(7L);
+        assertThat(underTest.getRevisionUpperBound(timestamp(9L))).isEmpty();
+    }
+
+    @Test
+    public void clearRemovesStatesAndTimestamps() {
+        final HistoricalEntityStates<String, String> underTest = new HistoricalEntityStates<>(8, 8);
+        underTest.putState(state(1L));
+        underTest.putState(state(2L));
+
+        underTest.clear();
+
+        assertThat(underTest.getNearestState(2L)).isEmpty();
+        assertThat(underTest.resolveRevision(timestamp(2L))).isEmpty();
+    }
+
+    private static HistoricalEntityState<String, String> state(final long revision) {
+        return new HistoricalEntityState<>("entity" + revision, "event" + revision, revision, timestamp(revision));
+    }
+
+    private static Instant timestamp(final long revision) {
+        return T0.plusSeconds(revision);
+    }
+
+}
@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.japi.Pair;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.pubsub.PubSubFactory;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+
+/**
+ * Index for publishing to a set of subscribers with groups, specialized for hashed topics of type {@code long}.
+ * <p>
+ * The index consists of one {@link Segment} per ddata key. A segment keeps its topic hashes in an open-addressing
+ * table without boxing and the subscriber/group pairs of all its topics in one packed {@code long[]} array, in which
+ * subscribers and groups are referenced by their index in the arrays of the segment. A change of one ddata key
+ * rebuilds only its segment; combining the segments to an index merely maps the subscribers and groups of each
+ * segment to global numbers. Global subscriber numbers follow the order of {@link ActorRef#compareTo(ActorRef)} so
+ * that the consistent choice of a subscriber per group needs no sorting of actor references.
+ * </p>
+ * <p>
+ * The publish path reuses scratch buffers of the index and allocates only the result. Therefore an index must only be
+ * used by one actor.
+ * </p>
+ */
+@NotThreadSafe
+final class LongPublisherIndex {
+
+    private static final int NO_TOPIC = -1;
+    private static final int NO_CHOICE = -1;
+    private static final int EMPTY_GROUP = 0;
+
+    private final Segment[] segments;
+    private final int[][] segmentSubscribers;
+    private final int[][] segmentGroups;
+    private final ActorRef[] subscribers;
+    private final String[] groups;
+
+    // scratch buffers of the publish path
+    private final int[] includedStamps;
+    private final int[] firstChoice;
+    private final int[] includedSubscribers;
+    private final int[] choiceGroup;
+    private final int[] choiceGroupSize;
+    private final int[] nextChoice;
+    private long[] groupedPairs;
+    private int stamp;
+
+    private LongPublisherIndex(final Segment[] segments, final int[][] segmentSubscribers,
+            final int[][] segmentGroups, final ActorRef[] subscribers, final String[] groups) {
+
+        this.segments = segments;
+        this.segmentSubscribers = segmentSubscribers;
+        this.segmentGroups = segmentGroups;
+        this.subscribers = subscribers;
+        this.groups = groups;
+
+        includedStamps = new int[subscribers.length];
+        firstChoice = new int[subscribers.length];
+        includedSubscribers = new int[subscribers.length];
+        choiceGroup = new int[groups.length];
+        choiceGroupSize = new int[groups.length];
+        nextChoice = new int[groups.length];
+        groupedPairs = new long[16];
+        stamp = 0;
+    }
+
+    /**
+     * @return an index without any subscriber.
+     */
+    static LongPublisherIndex empty() {
+        return of(List.of());
+    }
+
+    /**
+     * Combine the segments of all ddata keys to an index.
+     *
+     * @param segments the segments, one per ddata key.
+     * @return the index.
+     */
+    static LongPublisherIndex of(final Collection<Segment> segments) {
+        final TreeMap<ActorRef, Integer> sortedSubscribers = new TreeMap<>();
+        final Map<String, Integer> groupIndexes = new HashMap<>();
+        final List<String> groupList = new ArrayList<>();
+        groupIndexes.put("", EMPTY_GROUP);
+        groupList.add("");
+        for (final Segment segment : segments) {
+            for (final ActorRef subscriber : segment.subscribers) {
+                sortedSubscribers.put(subscriber, 0);
+            }
+            for (final String group : segment.groups) {
+                groupIndexes.computeIfAbsent(group, g -> {
+                    groupList.add(g);
+                    return groupList.size() - 1;
+                });
+            }
+        }
+        final ActorRef[] subscribers = sortedSubscribers.keySet().toArray(ActorRef[]::new);
+        for (int i = 0; i < subscribers.length; ++i) {
+            sortedSubscribers.put(subscribers[i], i);
+        }
+
+        final Segment[] segmentArray = segments.toArray(Segment[]::new);
+        final int[][] segmentSubscribers = new int[segmentArray.length][];
+        final int[][] segmentGroups = new int[segmentArray.length][];
+        for (int s = 0; s < segmentArray.length; ++s) {
+            final Segment segment = segmentArray[s];
+            segmentSubscribers[s] = new int[segment.subscribers.length];
+            for (int i = 0; i < segment.subscribers.length; ++i) {
+                segmentSubscribers[s][i] = sortedSubscribers.get(segment.subscribers[i]);
+            }
+            segmentGroups[s] = new int[segment.groups.length];
+            for (int i = 0; i < segment.groups.length; ++i) {
+                segmentGroups[s][i] = groupIndexes.get(segment.groups[i]);
+            }
+        }
+
+        return new LongPublisherIndex(segmentArray, segmentSubscribers, segmentGroups, subscribers,
+                groupList.toArray(String[]::new));
+    }
+
+    /**
+     * Compute the subscribers to send a signal to together with the groups for which each subscriber was chosen.
+     * Among the subscribers of a group, one is chosen consistently according to the group index key.
+     *
+     * @param signal the signal to publish.
+     * @param hashes the hashed topics of the signal.
+     * @param groupIndexKey the key by which a subscriber is chosen for each group.
+     * @return the subscribers with the signal to send them.
+     */
+    List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal, final long[] hashes,
+            final CharSequence groupIndexKey) {
+
+        final int currentStamp = nextStamp();
+        int includedCount = 0;
+        int pairCount = 0;
+        for (final long hash : hashes) {
+            for (int s = 0; s < segments.length; ++s) {
+                final Segment segment = segments[s];
+                final int topic = segment.findTopic(hash);
+                if (topic == NO_TOPIC) {
+                    continue;
+                }
+                final int[] subscriberNumbers = segmentSubscribers[s];
+                final int[] groupNumbers = segmentGroups[s];
+                for (int i = segment.topicOffsets[topic]; i < segment.topicOffsets[topic + 1]; ++i) {
+                    final long entry = segment.entries[i];
+                    final int subscriber = subscriberNumbers[subscriber(entry)];
+                    final int group = groupNumbers[group(entry)];
+                    if (group == EMPTY_GROUP) {
+                        includedCount = include(subscriber, currentStamp, includedCount);
+                    } else {
+                        if (pairCount == groupedPairs.length) {
+                            groupedPairs = Arrays.copyOf(groupedPairs, pairCount * 2);
+                        }
+                        // group in the high bits so that sorting puts the subscribers of each group together
+                        groupedPairs[pairCount++] = pack(group, subscriber);
+                    }
+                }
+            }
+        }
+
+        // choose a subscriber for each group consistently according to the group index key
+        final int groupIndexKeyHash = PubSubFactory.hashForPubSub(groupIndexKey);
+        Arrays.sort(groupedPairs, 0, pairCount);
+        int choiceCount = 0;
+        int runStart = 0;
+        while (runStart < pairCount) {
+            final int group = (int) (groupedPairs[runStart] >>> 32);
+            int runEnd = runStart + 1;
+            while (runEnd < pairCount && (int) (groupedPairs[runEnd] >>> 32) == group) {
+                ++runEnd;
+            }
+            // as in PublisherIndex, a subscriber of a group is a candidate once per published topic it subscribed
+            final int runSize = runEnd - runStart;
+            final int chosenSubscriber = (int) groupedPairs[runStart + groupIndexKeyHash % runSize];
+            includedCount = include(chosenSubscriber, currentStamp, includedCount);
+            choiceGroup[choiceCount] = group;
+            choiceGroupSize[choiceCount] = runSize;
+            nextChoice[choiceCount] = firstChoice[chosenSubscriber];
+            firstChoice[chosenSubscriber] = choiceCount;
+            ++choiceCount;
+            runStart = runEnd;
+        }
+
+        final List<Pair<ActorRef, PublishSignal>> result = new ArrayList<>(includedCount);
+        for (int i = 0; i < includedCount; ++i) {
+            final int subscriber = includedSubscribers[i];
+            result.add(Pair.create(subscribers[subscriber],
+                    PublishSignal.of(signal, getChosenGroups(subscriber), groupIndexKey)));
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of topic hashes in the index, counting hashes of several segments once per segment.
+     */
+    int getTopicCount() {
+        int topicCount = 0;
+        for (final Segment segment : segments) {
+            topicCount += segment.getTopicCount();
+        }
+        return topicCount;
+    }
+
+    private Map<String, Integer> getChosenGroups(final int subscriber) {
+        int choice = firstChoice[subscriber];
+        if (choice == NO_CHOICE) {
+            return Map.of();
+        }
+        final Map<String, Integer> chosenGroups = new HashMap<>();
+        while (choice != NO_CHOICE) {
+            chosenGroups.put(groups[choiceGroup[choice]], choiceGroupSize[choice]);
+            choice = nextChoice[choice];
+        }
+        return chosenGroups;
+    }
+
+    private int include(final int subscriber, final int currentStamp, final int includedCount) {
+        if (includedStamps[subscriber] == currentStamp) {
+            return includedCount;
+        }
+        includedStamps[subscriber] = currentStamp;
+        firstChoice[subscriber] = NO_CHOICE;
+        includedSubscribers[includedCount] = subscriber;
+        return includedCount + 1;
+    }
+
+    private int nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(includedStamps, 0);
+            stamp = 0;
+        }
+        return ++stamp;
+    }
+
+    private static int findSlot(final long[] tableKeys, final int[] tableTopics, final int mask, final long hash) {
+        int slot = mix(hash) & mask;
+        while (tableTopics[slot] != NO_TOPIC && tableKeys[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(final long hash) {
+        final long h = hash * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableCapacity(final int expectedKeys) {
+        // load factor of at most 0.5
+        final int minimum = Math.max(2, expectedKeys * 2);
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    private static long pack(final int high, final int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static int subscriber(final long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int group(final long entry) {
+        return (int) entry;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "segments=" + Arrays.toString(segments) +
+                ", subscribers=" + Arrays.toString(subscribers) +
+                ", groups=" + Arrays.toString(groups) +
+                "]";
+    }
+
+    /**
+     * Topic hashes and their subscriber/group pairs of one ddata key.
+     */
+    @Immutable
+    static final class Segment {
+
+        private final long[] tableKeys;
+        private final int[] tableTopics;
+        private final int tableMask;
+        private final int[] topicOffsets;
+        private final long[] entries;
+        private final ActorRef[] subscribers;
+        private final String[] groups;
+
+        private Segment(final long[] tableKeys, final int[] tableTopics, final int[] topicOffsets,
+                final long[] entries, final ActorRef[] subscribers, final String[] groups) {
+
+            this.tableKeys = tableKeys;
+            this.tableTopics = tableTopics;
+            tableMask = tableKeys.length - 1;
+            this.topicOffsets = topicOffsets;
+            this.entries = entries;
+            this.subscribers = subscribers;
+            this.groups = groups;
+        }
+
+        /**
+         * @return a builder of a segment.
+         */
+        static SegmentBuilder newBuilder() {
+            return new SegmentBuilder();
+        }
+
+        private int findTopic(final long hash) {
+            return tableTopics[findSlot(tableKeys, tableTopics, tableMask, hash)];
+        }
+
+        private int getTopicCount() {
+            return topicOffsets.length - 1;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "topics=" + getTopicCount() +
+                    ", entries=" + entries.length +
+                    ", subscribers=" + subscribers.length +
+                    ", groups=" + groups.length +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Mutable builder of a {@link Segment} collecting the topic hashes of subscribers in primitive arrays.
+     */
+    @NotThreadSafe
+    static final class SegmentBuilder {
+
+        private final Map<ActorRef, Integer> subscriberIndexes;
+        private final List<ActorRef> subscriberList;
+        private final Map<String, Integer> groupIndexes;
+        private final List<String> groupList;
+        private long[] hashes;
+        private long[] pairs;
+        private int size;
+
+        private SegmentBuilder() {
+            subscriberIndexes = new HashMap<>();
+            subscriberList = new ArrayList<>();
+            groupIndexes = new HashMap<>();
+            groupList = new ArrayList<>();
+            groupIndexes.put("", EMPTY_GROUP);
+            groupList.add("");
+            hashes = new long[16];
+            pairs = new long[16];
+            size = 0;
+        }
+
+        /**
+         * Add a topic hash of a subscriber.
+         *
+         * @param subscriber the subscriber.
+         * @param group the group of the subscription or null for a subscription without group.
+         * @param hash the hashed topic.
+         * @return this builder.
+         */
+        SegmentBuilder add(final ActorRef subscriber, @Nullable final String group, final long hash) {
+            return add(getSubscriberIndex(subscriber), getGroupIndex(group), hash);
+        }
+
+        /**
+         * Add a topic hash of a subscriber referenced by index.
+         *
+         * @param subscriberIndex the index returned by {@link #getSubscriberIndex(ActorRef)}.
+         * @param groupIndex the index returned by {@link #getGroupIndex(String)}.
+         * @param hash the hashed topic.
+         * @return this builder.
+         */
+        SegmentBuilder add(final int subscriberIndex, final int groupIndex, final long hash) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+                pairs = Arrays.copyOf(pairs, size * 2);
+            }
+            hashes[size] = hash;
+            pairs[size] = pack(subscriberIndex, groupIndex);
+            ++size;
+            return this;
+        }
+
+        /**
+         * @param subscriber a subscriber.
+         * @return the index of the subscriber in the segment.
+         */
+        int getSubscriberIndex(final ActorRef subscriber) {
+            return subscriberIndexes.computeIfAbsent(subscriber, s -> {
+                subscriberList.add(s);
+                return subscriberList.size() - 1;
+            });
+        }
+
+        /**
+         * @param group a group or null for subscriptions without group.
+         * @return the index of the group in the segment.
+         */
+        int getGroupIndex(@Nullable final String group) {
+            return groupIndexes.computeIfAbsent(null == group ? "" : group, g -> {
+                groupList.add(g);
+                return groupList.size() - 1;
+            });
+        }
+
+        /**
+         * @return the segment of all added topic hashes.
+         */
+        Segment build() {
+            // first pass: assign topic numbers to hashes and count the subscriber/group pairs per topic
+            final int capacity = tableCapacity(size);
+            final long[] tableKeys = new long[capacity];
+            final int[] tableTopics = new int[capacity];
+            Arrays.fill(tableTopics, NO_TOPIC);
+            final int[] entryTopics = new int[size];
+            int[] topicCounts = new int[16];
+            int topicCount = 0;
+            for (int i = 0; i < size; ++i) {
+                final int slot = findSlot(tableKeys, tableTopics, capacity - 1, hashes[i]);
+                if (tableTopics[slot] == NO_TOPIC) {
+                    tableKeys[slot] = hashes[i];
+                    tableTopics[slot] = topicCount;
+                    if (topicCount == topicCounts.length) {
+                        topicCounts = Arrays.copyOf(topicCounts, topicCount * 2);
+                    }
+                    ++topicCount;
+                }
+                entryTopics[i] = tableTopics[slot];
+                ++topicCounts[entryTopics[i]];
+            }
+            final int[] topicOffsets = new int[topicCount + 1];
+            for (int topic = 0; topic < topicCount; ++topic) {
+                topicOffsets[topic + 1] = topicOffsets[topic] + topicCounts[topic];
+            }
+
+            // second pass: fill in the packed subscriber/group pairs
+            final long[] entries = new long[size];
+            final int[] topicFill = Arrays.copyOf(topicOffsets, topicCount);
+            for (int i = 0; i < size; ++i) {
+                entries[topicFill[entryTopics[i]]++] = pairs[i];
+            }
+
+            // third pass: drop pairs added more than once for a topic, e.g. by several bindings of a subscriber
+            int entryCount = 0;
+            for (int topic = 0; topic < topicCount; ++topic) {
+                final int start = topicOffsets[topic];
+                final int end = topicOffsets[topic + 1];
+                Arrays.sort(entries, start, end);
+                topicOffsets[topic] = entryCount;
+                for (int i = start; i < end; ++i) {
+                    if (entryCount == topicOffsets[topic] || entries[entryCount - 1] != entries[i]) {
+                        entries[entryCount++] = entries[i];
+                    }
+                }
+            }
+            topicOffsets[topicCount] = entryCount;
+
+            return new Segment(tableKeys, tableTopics, topicOffsets,
+                    entryCount == size ? entries : Arrays.copyOf(entries, entryCount),
+                    subscriberList.toArray(ActorRef[]::new), groupList.toArray(String[]::new));
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.internal.utils.pubsub.actors;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +36,8 @@ import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.internal.utils.pubsub.api.RemoteAcksChanged;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
-import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompactGroupedHashes;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonValue;
 
 import org.apache.pekko.actor.AbstractActor;
 import org.apache.pekko.actor.ActorRef;
@@ -68,10 +67,10 @@ public final class Publisher extends AbstractActor {
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
     private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
-    private final Map<Key<?>, PublisherIndex<Long>> publisherIndexes = new HashMap<>();
+    private final Map<Key<?>, LongPublisherIndex.Segment> segments = new HashMap<>();
     private final int subscriberPoolSize;
 
-    private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
+    private LongPublisherIndex publisherIndex = LongPublisherIndex.empty();
     private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
 
     @SuppressWarnings("unused")
@@ -182,14 +181,18 @@ public final class Publisher extends AbstractActor {
             final CharSequence groupIndexKey) {
         messageCounter.increment();
         topicCounter.increment(topics.size());
-        final List<Long> hashes = topics.stream().map(ddataReader::approximate).toList();
+        final long[] hashes = new long[topics.size()];
+        int i = 0;
+        for (final String topic : topics) {
+            hashes[i++] = ddataReader.approximate(topic);
+        }
         final ActorRef sender = getSender();
 
         final List<Pair<ActorRef, PublishSignal>> subscribers =
                 publisherIndex.assignGroupsToSubscribers(signal, hashes, groupIndexKey);
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(signal);
         if (l.isDebugEnabled()) {
-            l.debug("Calculated hashes for signal <{}>: <{}>", signal, hashes);
+            l.debug("Calculated hashes for signal <{}>: <{}>", signal, Arrays.toString(hashes));
             l.debug("Publishing PublishSignal to subscribers: <{}>",
                     subscribers.stream().map(Pair::first).toList());
         }
@@ -210,23 +213,28 @@ public final class Publisher extends AbstractActor {
         log.debug("Topics changed <{}>", event.key());
         final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
                 CollectionConverters.asJava(((ORMultiMap<ActorRef, String>) event.dataValue()).entries());
-        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
-                .stream()
-                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
-                .collect(Collectors.toMap(Pair::first, Pair::second));
-        final PublisherIndex<Long> thePublisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
-        publisherIndexes.put(event.key(), thePublisherIndex);
-        publisherIndex = PublisherIndex.fromMultipleIndexes(publisherIndexes.values());
+        // only the segment of the changed key is rebuilt
+        segments.put(event.key(), toSegment(mmap));
+        publisherIndex = LongPublisherIndex.of(segments.values());
     }
 
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
 
-    private static List<Grouped<Long>> deserializeGroupedHashes(final scala.collection.immutable.Set<String> strings) {
-        return CollectionConverters.asJava(strings).stream()
-                .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
-                .toList();
+    static LongPublisherIndex.Segment toSegment(
+            final Map<ActorRef, scala.collection.immutable.Set<String>> mmap) {
+
+        final LongPublisherIndex.SegmentBuilder builder = LongPublisherIndex.Segment.newBuilder();
+        mmap.forEach((subscriber, bindings) -> {
+            final int subscriberIndex = builder.getSubscriberIndex(subscriber);
+            CollectionConverters.asJava(bindings).forEach(binding ->
+                    CompactGroupedHashes.deserializeInto(binding, group -> {
+                        final int groupIndex = builder.getGroupIndex(group);
+                        return hash -> builder.add(subscriberIndex, groupIndex, hash);
+                    }));
+        });
+        return builder.build();
     }
 
     /**
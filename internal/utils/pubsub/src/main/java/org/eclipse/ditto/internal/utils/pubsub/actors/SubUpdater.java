@@ -73,6 +73,12 @@ public final class SubUpdater extends AbstractActorWithTimers
     private final Subscriptions<LiteralUpdate> subscriptions;
     private final ActorRef subscriber;
     private final Gauge topicSizeMetric;
+    /**
+     * Number of characters of the bindings of this node's subscriber; neither the bindings of other nodes nor the
+     * overhead of the distributed data are included.
+     */
+    private final Gauge bindingsLengthMetric;
+    private final Gauge bindingsUpdateLengthMetric;
     private final Gauge awaitUpdateMetric;
     private final Gauge awaitSubAckMetric;
     private final DData<ActorRef, ?, LiteralUpdate> ddata;
@@ -114,6 +120,9 @@ public final class SubUpdater extends AbstractActorWithTimers
         // so that the tag is finite and distinct between twin and live topics and declared ack labels.
         final String tagName = getContext().getParent().path().name() + "/" + ACTOR_NAME_PREFIX;
         this.topicSizeMetric = DittoMetrics.gauge("pubsub-topics-size-bytes").tag("name", tagName);
+        this.bindingsLengthMetric = DittoMetrics.gauge("pubsub-local-bindings-chars").tag("name", tagName);
+        this.bindingsUpdateLengthMetric =
+                DittoMetrics.gauge("pubsub-local-bindings-update-chars").tag("name", tagName);
         this.awaitUpdateMetric = DittoMetrics.gauge("pubsub-await-update").tag("name", tagName);
         this.awaitSubAckMetric = DittoMetrics.gauge("pubsub-await-acknowledge").tag("name", tagName);
 
@@ -130,8 +139,10 @@ public final class SubUpdater extends AbstractActorWithTimers
      * @return the Props object.
      */
     public static Props props(final PubSubConfig config, final ActorRef subscriber, final CompressedDData topicsDData) {
-        return Props.create(SubUpdater.class, config, subscriber, CompressedSubscriptions.of(topicsDData.getSeeds()),
-                topicsDData);
+        final CompressedSubscriptions subscriptions = config.isCompactSubscriptionsEnabled()
+                ? CompressedSubscriptions.compact(topicsDData.getSeeds(), config.getCompactChunkSize())
+                : CompressedSubscriptions.of(topicsDData.getSeeds());
+        return Props.create(SubUpdater.class, config, subscriber, subscriptions, topicsDData);
     }
 
     @Override
@@ -211,11 +222,13 @@ public final class SubUpdater extends AbstractActorWithTimers
             snapshot = subscriptions.snapshot();
             previousUpdate = nextUpdate;
             topicSizeMetric.set(subscriptions.estimateSize());
+            setBindingsLengthMetrics(nextUpdate, length(nextUpdate.getInserts()));
         } else if (subscriptions.isEmpty()) {
             ddataOp = ddata.getWriter().removeSubscriber(subscriber, writeConsistency);
             snapshot = subscriptions.snapshot();
             previousUpdate = LiteralUpdate.empty();
             topicSizeMetric.set(0L);
+            setBindingsLengthMetrics(previousUpdate, 0L);
         } else {
             // export before taking snapshot so that implementations may output incremental update.
             final LiteralUpdate nextUpdate = subscriptions.export();
@@ -224,16 +237,34 @@ public final class SubUpdater extends AbstractActorWithTimers
             final var diff = nextUpdate.diff(previousUpdate);
             log().debug("diff.isEmpty=<{}>", diff.isEmpty());
             if (!diff.isEmpty()) {
-                ddataOp = ddata.getWriter().put(subscriber, nextUpdate.diff(previousUpdate), writeConsistency);
+                ddataOp = ddata.getWriter().put(subscriber, diff, writeConsistency);
             } else {
                 ddataOp = CompletableFuture.completedFuture(null);
             }
             previousUpdate = nextUpdate;
             topicSizeMetric.set(subscriptions.estimateSize());
+            setBindingsLengthMetrics(nextUpdate, length(diff.getInserts()) + length(diff.getDeletes()));
         }
         return ddataOp.thenApply(unused -> snapshot);
     }
 
+    /**
+     * Report the number of characters of the bindings of this node's subscriber and of the bindings written in this
+     * tick. The characters approximate the bytes written to the distributed data, as the bindings are ASCII except
+     * for non-ASCII group names.
+     *
+     * @param update the bindings of this subscriber after this tick.
+     * @param updateLength number of characters of the bindings written in this tick.
+     */
+    private void setBindingsLengthMetrics(final LiteralUpdate update, final long updateLength) {
+        bindingsLengthMetric.set(length(update.getInserts()));
+        bindingsUpdateLengthMetric.set(updateLength);
+    }
+
+    private static long length(final Collection<String> bindings) {
+        return bindings.stream().mapToLong(String::length).sum();
+    }
+
     /**
      * What to do when DData update failed.
      *
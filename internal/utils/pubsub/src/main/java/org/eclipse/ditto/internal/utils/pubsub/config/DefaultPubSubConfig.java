@@ -41,6 +41,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration updateInterval;
     private final Duration syncInterval;
     private final double resetProbability;
+    private final boolean compactSubscriptionsEnabled;
+    private final int compactChunkSize;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +50,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         syncInterval = config.getDuration(ConfigValue.SYNC_INTERVAL.getConfigPath());
         resetProbability = config.getDouble(ConfigValue.RESET_PROBABILITY.getConfigPath());
+        compactSubscriptionsEnabled = config.getBoolean(ConfigValue.COMPACT_SUBSCRIPTIONS_ENABLED.getConfigPath());
+        compactChunkSize = config.getPositiveIntOrThrow(ConfigValue.COMPACT_CHUNK_SIZE);
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,12 +83,24 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return resetProbability;
     }
 
+    @Override
+    public boolean isCompactSubscriptionsEnabled() {
+        return compactSubscriptionsEnabled;
+    }
+
+    @Override
+    public int getCompactChunkSize() {
+        return compactChunkSize;
+    }
+
     private String[] getFieldNames() {
-        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability"};
+        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability",
+                "compactSubscriptionsEnabled", "compactChunkSize"};
     }
 
     private Object[] getFieldValues() {
-        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability};
+        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability,
+                compactSubscriptionsEnabled, compactChunkSize};
     }
 
     @Override
@@ -51,6 +51,19 @@ public interface PubSubConfig {
      */
     double getResetProbability();
 
+    /**
+     * @return Whether to write subscribed topics to the distributed data as compact chunks of sorted hashes instead
+     * of JSON.
+     * @since 3.10.0
+     */
+    boolean isCompactSubscriptionsEnabled();
+
+    /**
+     * @return Average number of topic hashes per compact chunk, the unit of updates of the distributed data.
+     * @since 3.10.0
+     */
+    int getCompactChunkSize();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -106,7 +119,18 @@ public interface PubSubConfig {
         /**
          * Probability to reset the distributed data of a subscriber.
          */
-        RESET_PROBABILITY("reset-probability", 0.01);
+        RESET_PROBABILITY("reset-probability", 0.01),
+
+        /**
+         * Whether to write subscribed topics as compact chunks of sorted hashes.
+         * Enable only after all cluster members are able to read them.
+         */
+        COMPACT_SUBSCRIPTIONS_ENABLED("compact-subscriptions-enabled", false),
+
+        /**
+         * Average number of topic hashes per compact chunk.
+         */
+        COMPACT_CHUNK_SIZE("compact-chunk-size", 1024);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Compact string representation of grouped topic hashes in the distributed data.
+ * <p>
+ * The hashes of a group are sorted and split into a power of two of chunks by their highest bits, so that each chunk
+ * holds at most {@code maxChunkSize} hashes on average. A subscription change rewrites only the chunk the hash falls
+ * into as long as the number of chunks stays the same. If the number of hashes of the group crosses a power-of-two
+ * multiple of {@code maxChunkSize}, the number of chunks changes and all chunks of the group are rewritten.
+ * Each chunk is written as the marker {@value #MARKER} followed by the Base64 encoding of the varint-encoded group
+ * length, the group name, the number of hashes and the deltas between the sorted hashes.
+ * </p>
+ * <p>
+ * Readers accept both this format and the JSON format of {@link Grouped}, so that cluster members writing either
+ * format can be mixed during a rolling update.
+ * </p>
+ *
+ * @since 3.10.0
+ */
+public final class CompactGroupedHashes {
+
+    /**
+     * First character of compact chunks. JSON objects of {@link Grouped} start with <code>&#123;</code> instead.
+     */
+    static final char MARKER = '~';
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private CompactGroupedHashes() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Encode hashes of a group as chunks of at most {@code maxChunkSize} hashes on average.
+     *
+     * @param group the group name, or null for hashes without a group.
+     * @param hashes the hashes of the topics; sorted in place.
+     * @param maxChunkSize the average number of hashes above which the hashes are split into more chunks.
+     * @return the chunks.
+     */
+    public static Set<String> encodeChunks(@Nullable final String group, final long[] hashes,
+            final int maxChunkSize) {
+        Arrays.sort(hashes);
+        final int size = distinct(hashes);
+        final int bucketBits = getBucketBits(size, maxChunkSize);
+        final Set<String> chunks = new HashSet<>();
+        int start = 0;
+        while (start < size) {
+            final long bucket = getBucket(hashes[start], bucketBits);
+            int end = start + 1;
+            while (end < size && getBucket(hashes[end], bucketBits) == bucket) {
+                ++end;
+            }
+            chunks.add(encode(group, hashes, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Deserialize a binding of the distributed data of topics, which is either a compact chunk or a JSON object.
+     *
+     * @param binding the binding.
+     * @return the grouped hashes.
+     */
+    public static Grouped<Long> deserialize(final String binding) {
+        if (!binding.isEmpty() && binding.charAt(0) == MARKER) {
+            return decode(binding);
+        } else {
+            return Grouped.fromJson(JsonObject.of(binding), JsonValue::asLong);
+        }
+    }
+
+    /**
+     * Deserialize a binding of the distributed data of topics without collecting its hashes.
+     *
+     * @param binding the binding, which is either a compact chunk or a JSON object.
+     * @param hashConsumerForGroup called once with the group of the binding, or null for hashes without a group;
+     * returns the consumer of the hashes of the binding.
+     */
+    public static void deserializeInto(final String binding,
+            final Function<String, LongConsumer> hashConsumerForGroup) {
+        if (!binding.isEmpty() && binding.charAt(0) == MARKER) {
+            decodeInto(binding, hashConsumerForGroup);
+        } else {
+            final Grouped<Long> grouped = Grouped.fromJson(JsonObject.of(binding), JsonValue::asLong);
+            final LongConsumer hashConsumer = hashConsumerForGroup.apply(grouped.getGroup().orElse(null));
+            grouped.getValues().forEach(hashConsumer::accept);
+        }
+    }
+
+    static String encode(@Nullable final String group, final long[] sortedHashes, final int start, final int end) {
+        final byte[] groupBytes = group == null ? new byte[0] : group.getBytes(StandardCharsets.UTF_8);
+        final byte[] bytes = new byte[MAX_VARINT_BYTES * (end - start + 2) + groupBytes.length];
+        int position = writeVarint(bytes, 0, group == null ? 0 : groupBytes.length + 1L);
+        System.arraycopy(groupBytes, 0, bytes, position, groupBytes.length);
+        position = writeVarint(bytes, position + groupBytes.length, end - start);
+        long previous = 0L;
+        for (int i = start; i < end; ++i) {
+            // deltas of signed-sorted longs are exact when read as unsigned
+            position = writeVarint(bytes, position, sortedHashes[i] - previous);
+            previous = sortedHashes[i];
+        }
+        return MARKER + Base64.getEncoder().withoutPadding().encodeToString(Arrays.copyOf(bytes, position));
+    }
+
+    static Grouped<Long> decode(final String chunk) {
+        final String[] group = {null};
+        final Set<Long> hashes = new HashSet<>();
+        decodeInto(chunk, decodedGroup -> {
+            group[0] = decodedGroup;
+            return hashes::add;
+        });
+        return Grouped.of(group[0], hashes);
+    }
+
+    private static void decodeInto(final String chunk, final Function<String, LongConsumer> hashConsumerForGroup) {
+        final byte[] bytes = Base64.getDecoder().decode(chunk.substring(1));
+        final int[] position = {0};
+        final int groupLength = (int) readVarint(bytes, position);
+        final String group;
+        if (groupLength == 0) {
+            group = null;
+        } else {
+            group = new String(bytes, position[0], groupLength - 1, StandardCharsets.UTF_8);
+            position[0] += groupLength - 1;
+        }
+        final LongConsumer hashConsumer = hashConsumerForGroup.apply(group);
+        final int count = (int) readVarint(bytes, position);
+        long hash = 0L;
+        for (int i = 0; i < count; ++i) {
+            hash += readVarint(bytes, position);
+            hashConsumer.accept(hash);
+        }
+    }
+
+    private static int distinct(final long[] sortedHashes) {
+        int size = 0;
+        for (int i = 0; i < sortedHashes.length; ++i) {
+            if (i == 0 || sortedHashes[i] != sortedHashes[size - 1]) {
+                sortedHashes[size++] = sortedHashes[i];
+            }
+        }
+        return size;
+    }
+
+    private static int getBucketBits(final int size, final int maxChunkSize) {
+        final int buckets = (size + maxChunkSize - 1) / Math.max(1, maxChunkSize);
+        return buckets <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(buckets - 1);
+    }
+
+    private static long getBucket(final long hash, final int bucketBits) {
+        // flip the sign bit so that the buckets are contiguous in signed order
+        return bucketBits == 0 ? 0L : (hash ^ Long.MIN_VALUE) >>> (Long.SIZE - bucketBits);
+    }
+
+    private static int writeVarint(final byte[] bytes, final int position, final long value) {
+        int i = position;
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            bytes[i++] = (byte) ((remaining & 0x7FL) | 0x80L);
+            remaining >>>= 7;
+        }
+        bytes[i++] = (byte) remaining;
+        return i;
+    }
+
+    private static long readVarint(final byte[] bytes, final int[] position) {
+        long value = 0L;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position[0]++];
+            value |= (b & 0x7FL) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+}
@@ -12,9 +12,11 @@
  */
 package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -43,12 +45,19 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
      */
     private final Collection<Integer> seeds;
 
+    /**
+     * Average number of hashes per compact chunk, or 0 to export the hashes of each subscriber as JSON.
+     */
+    private final int maxChunkSize;
+
     private CompressedSubscriptions(
             final Collection<Integer> seeds,
+            final int maxChunkSize,
             final Map<ActorRef, SubscriberData> subscriberDataMap,
             final Map<String, TopicData> topicToData) {
         super(subscriberDataMap, topicToData);
         this.seeds = seeds;
+        this.maxChunkSize = maxChunkSize;
     }
 
     /**
@@ -58,7 +67,24 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
      * @return the compressed subscriptions object.
      */
     public static CompressedSubscriptions of(final Collection<Integer> seeds) {
-        return new CompressedSubscriptions(seeds, new HashMap<>(), new HashMap<>());
+        return new CompressedSubscriptions(seeds, 0, new HashMap<>(), new HashMap<>());
+    }
+
+    /**
+     * Create a new compressed subscriptions object exporting the hashes of each group as
+     * {@link CompactGroupedHashes} chunks.
+     *
+     * @param seeds seeds of the family of hash functions.
+     * @param maxChunkSize average number of hashes per chunk.
+     * @return the compressed subscriptions object.
+     * @throws IllegalArgumentException if {@code maxChunkSize} is not positive.
+     * @since 3.10.0
+     */
+    public static CompressedSubscriptions compact(final Collection<Integer> seeds, final int maxChunkSize) {
+        if (maxChunkSize <= 0) {
+            throw new IllegalArgumentException("maxChunkSize must be positive, but was: " + maxChunkSize);
+        }
+        return new CompressedSubscriptions(seeds, maxChunkSize, new HashMap<>(), new HashMap<>());
     }
 
     @Override
@@ -82,6 +108,9 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
 
     @Override
     public LiteralUpdate export() {
+        if (maxChunkSize > 0) {
+            return exportCompact();
+        }
         final Set<String> serializedGroupedTopics = new HashSet<>();
         subscriberDataMap.forEach((subscriber, data) -> {
             final Set<Long> topicHashes = data.getTopics()
@@ -94,11 +123,28 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
         return LiteralUpdate.withInserts(serializedGroupedTopics);
     }
 
+    private LiteralUpdate exportCompact() {
+        // the ddata key is the node-wide subscriber; local subscribers of the same group share their hashes.
+        // the null key of the HashMap collects subscribers without group.
+        final Map<String, List<SubscriberData>> groupToData = new HashMap<>();
+        subscriberDataMap.values().forEach(data ->
+                groupToData.computeIfAbsent(data.getGroup().orElse(null), group -> new ArrayList<>()).add(data));
+        final Set<String> chunks = new HashSet<>();
+        groupToData.forEach((group, dataList) -> {
+            final long[] hashes = dataList.stream()
+                    .flatMap(data -> data.getTopics().stream())
+                    .mapToLong(this::hashAsLong)
+                    .toArray();
+            chunks.addAll(CompactGroupedHashes.encodeChunks(group, hashes, maxChunkSize));
+        });
+        return LiteralUpdate.withInserts(chunks);
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof CompressedSubscriptions) {
             final CompressedSubscriptions that = (CompressedSubscriptions) other;
-            return seeds.equals(that.seeds) && super.equals(other);
+            return seeds.equals(that.seeds) && maxChunkSize == that.maxChunkSize && super.equals(other);
         } else {
             return false;
         }
@@ -106,7 +152,7 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
 
     @Override
     public int hashCode() {
-        return Objects.hash(seeds, super.hashCode());
+        return Objects.hash(seeds, maxChunkSize, super.hashCode());
     }
 
 }
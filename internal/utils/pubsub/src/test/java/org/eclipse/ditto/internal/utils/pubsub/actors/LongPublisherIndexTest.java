@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompactGroupedHashes;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Tests {@link LongPublisherIndex} by comparing its published signals with those of {@link PublisherIndex} built
+ * from the same subscriptions.
+ * <p>
+ * The publisher index of the publisher never had subscriber filters; those are applied by the index of the
+ * subscribers, which receives the chosen groups compared here.
+ * </p>
+ */
+public final class LongPublisherIndexTest {
+
+    private static final Signal<?> SIGNAL = Acknowledgement.of(AcknowledgementLabel.of("test"),
+            EntityId.of(EntityType.of("thing"), "test:thing"), HttpStatus.OK, DittoHeaders.empty());
+
+    private static ActorSystem system;
+    private static List<ActorRef> subscribers;
+
+    @BeforeClass
+    public static void startActorSystem() {
+        system = ActorSystem.create("LongPublisherIndexTest");
+        subscribers = new ArrayList<>();
+        for (int i = 0; i < 12; ++i) {
+            subscribers.add(system.actorOf(Props.empty(), "subscriber" + i));
+        }
+    }
+
+    @AfterClass
+    public static void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void emptyIndexPublishesToNobody() {
+        final LongPublisherIndex underTest = LongPublisherIndex.empty();
+
+        assertThat(underTest.assignGroupsToSubscribers(SIGNAL, new long[]{0L, 1L, -1L}, "key")).isEmpty();
+        assertThat(underTest.getTopicCount()).isZero();
+    }
+
+    @Test
+    public void publishesLikePublisherIndexForRandomSubscriptions() {
+        for (final long seed : new long[]{1L, 2L, 3L, 42L}) {
+            final Random random = new Random(seed);
+            final Subscriptions subscriptions = randomSubscriptions(random, 3, 2000);
+            final long[] subscribedHashes = subscriptions.hashes();
+
+            assertPublishesLikePublisherIndex(subscriptions, randomSignalHashes(random, subscribedHashes, 500));
+        }
+    }
+
+    @Test
+    public void publishesLikePublisherIndexForCollidingAndExtremeHashes() {
+        final Subscriptions subscriptions = new Subscriptions(2);
+        final long[] extremeHashes = {0L, -1L, 1L, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (final long hash : extremeHashes) {
+            subscriptions.add(0, subscriber(0), null, hash);
+            subscriptions.add(1, subscriber(1), "group", hash);
+        }
+        // hashes differing only in their high or low bits probe the same slots of the topic tables
+        final List<long[]> signals = new ArrayList<>();
+        for (int i = 0; i < 512; ++i) {
+            final long highBitsHash = (long) i << 40;
+            final long lowBitsHash = i * 1024L;
+            subscriptions.add(0, subscriber(2 + i % 3), i % 2 == 0 ? null : "group", highBitsHash);
+            subscriptions.add(1, subscriber(5 + i % 3), "group", lowBitsHash);
+            signals.add(new long[]{highBitsHash, lowBitsHash, highBitsHash + 1L});
+        }
+        signals.add(extremeHashes);
+        // the same hash twice, e.g. of two topics whose hashes collide
+        signals.add(new long[]{0L, 0L, Long.MIN_VALUE});
+
+        assertPublishesLikePublisherIndex(subscriptions, signals);
+    }
+
+    @Test
+    public void unknownHashesArePublishedToNobody() {
+        final Subscriptions subscriptions = new Subscriptions(1);
+        for (long hash = 1L; hash <= 1000L; ++hash) {
+            subscriptions.add(0, subscriber((int) (hash % 3)), null, hash);
+        }
+        final LongPublisherIndex underTest = subscriptions.toLongPublisherIndex();
+
+        assertThat(underTest.getTopicCount()).isEqualTo(1000);
+        assertThat(underTest.assignGroupsToSubscribers(SIGNAL, new long[]{0L, -1L, 1001L, Long.MIN_VALUE}, "key"))
+                .isEmpty();
+    }
+
+    @Test
+    public void choosesSubscribersOfGroupsLikePublisherIndex() {
+        final Subscriptions subscriptions = new Subscriptions(2);
+        for (int i = 0; i < 6; ++i) {
+            // all subscribers subscribe topic 1, only some of them topic 2 and 3
+            subscriptions.add(i % 2, subscriber(i), "connection", 1L);
+            if (i % 3 == 0) {
+                subscriptions.add(i % 2, subscriber(i), "connection", 2L);
+            }
+            if (i < 2) {
+                subscriptions.add(i % 2, subscriber(i), "other-connection", 3L);
+                subscriptions.add(i % 2, subscriber(i), null, 3L);
+            }
+        }
+        final List<long[]> signals = List.of(new long[]{1L}, new long[]{1L, 2L}, new long[]{1L, 2L, 3L},
+                new long[]{2L, 3L}, new long[]{3L, 3L});
+
+        assertPublishesLikePublisherIndex(subscriptions, signals);
+    }
+
+    @Test
+    public void subscriberChosenForGroupsIsPublishedTheGroupsAndTheirSizes() {
+        final Subscriptions subscriptions = new Subscriptions(1);
+        subscriptions.add(0, subscriber(0), "connection", 1L);
+        subscriptions.add(0, subscriber(0), "connection", 2L);
+        subscriptions.add(0, subscriber(1), "connection", 1L);
+        subscriptions.add(0, subscriber(1), "other-connection", 1L);
+        subscriptions.add(0, subscriber(2), null, 2L);
+        final LongPublisherIndex underTest = subscriptions.toLongPublisherIndex();
+
+        final Map<ActorRef, Map<String, Integer>> chosenGroups = new HashMap<>();
+        underTest.assignGroupsToSubscribers(SIGNAL, new long[]{1L, 2L}, "key")
+                .forEach(pair -> chosenGroups.put(pair.first(), pair.second().getGroups()));
+
+        // the groups decide which declared acknowledgement labels the publisher expects from a subscriber
+        assertThat(chosenGroups.get(subscriber(2))).isEmpty();
+        assertThat(chosenGroups.get(subscriber(1))).containsEntry("other-connection", 1);
+        assertThat(chosenGroups.values().stream().filter(groups -> groups.containsKey("connection")))
+                .singleElement()
+                .satisfies(groups -> assertThat(groups).containsEntry("connection", 3));
+        assertPublishesLikePublisherIndex(subscriptions, List.of(new long[]{1L, 2L}));
+    }
+
+    @Test
+    public void rebuildingSegmentOfChangedKeyPublishesLikeRebuiltPublisherIndex() {
+        final Random random = new Random(7L);
+        final Subscriptions subscriptions = randomSubscriptions(random, 3, 1000);
+        final List<long[]> signals = randomSignalHashes(random, subscriptions.hashes(), 300);
+        final List<LongPublisherIndex.Segment> segments = subscriptions.toSegments();
+        assertPublishesLikePublisherIndex(subscriptions, LongPublisherIndex.of(segments), signals);
+
+        // a subscriber of key 1 unsubscribes everything
+        final ActorRef removedSubscriber = subscriptions.keys.get(1).keySet().iterator().next();
+        subscriptions.keys.get(1).remove(removedSubscriber);
+        segments.set(1, subscriptions.toSegment(1));
+        assertPublishesLikePublisherIndex(subscriptions, LongPublisherIndex.of(segments), signals);
+
+        // key 2 loses all its subscribers
+        subscriptions.keys.get(2).clear();
+        segments.set(2, subscriptions.toSegment(2));
+        assertPublishesLikePublisherIndex(subscriptions, LongPublisherIndex.of(segments), signals);
+
+        // a subscriber of key 0 subscribes more topics in a new group
+        subscriptions.add(0, subscriber(11), "new-group", subscriptions.hashes()[0]);
+        subscriptions.add(0, subscriber(11), "new-group", 4711L);
+        segments.set(0, subscriptions.toSegment(0));
+        final List<long[]> moreSignals = new ArrayList<>(signals);
+        moreSignals.add(new long[]{4711L});
+        assertPublishesLikePublisherIndex(subscriptions, LongPublisherIndex.of(segments), moreSignals);
+    }
+
+    @Test
+    public void compactChunksAndJsonBindingsDecodeIntoTheSameSegment() {
+        final Random random = new Random(11L);
+        final Subscriptions subscriptions = randomSubscriptions(random, 1, 3000);
+        final Map<ActorRef, scala.collection.immutable.Set<String>> mmap = new HashMap<>();
+        final boolean[] json = {false};
+        subscriptions.keys.get(0).forEach((subscriber, groups) -> {
+            final Set<String> bindings = new HashSet<>();
+            groups.forEach((group, hashes) -> {
+                final String nullableGroup = group.isEmpty() ? null : group;
+                // mix both formats of bindings as during a rolling update
+                json[0] = !json[0];
+                if (json[0]) {
+                    bindings.add(Grouped.of(nullableGroup, hashes).toJsonString());
+                } else {
+                    final long[] hashArray = hashes.stream().mapToLong(Long::longValue).toArray();
+                    bindings.addAll(CompactGroupedHashes.encodeChunks(nullableGroup, hashArray, 16));
+                }
+            });
+            mmap.put(subscriber, CollectionConverters.asScala(bindings).<String>toSet());
+        });
+
+        final LongPublisherIndex underTest = LongPublisherIndex.of(List.of(Publisher.toSegment(mmap)));
+
+        assertThat(underTest.getTopicCount()).isEqualTo(subscriptions.hashes().length);
+        assertPublishesLikePublisherIndex(subscriptions, underTest,
+                randomSignalHashes(random, subscriptions.hashes(), 500));
+    }
+
+    @Test
+    public void hashesInSeveralBindingsOfSubscriberArePublishedOnce() {
+        final LongPublisherIndex.SegmentBuilder builder = LongPublisherIndex.Segment.newBuilder();
+        builder.add(subscriber(0), "connection", 1L);
+        builder.add(subscriber(0), "connection", 1L);
+        builder.add(subscriber(1), "connection", 1L);
+        builder.add(subscriber(2), null, 1L);
+        builder.add(subscriber(2), null, 1L);
+        final LongPublisherIndex underTest = LongPublisherIndex.of(List.of(builder.build()));
+
+        final Subscriptions subscriptions = new Subscriptions(1);
+        subscriptions.add(0, subscriber(0), "connection", 1L);
+        subscriptions.add(0, subscriber(1), "connection", 1L);
+        subscriptions.add(0, subscriber(2), null, 1L);
+
+        assertThat(underTest.getTopicCount()).isOne();
+        assertPublishesLikePublisherIndex(subscriptions, underTest, List.of(new long[]{1L}));
+    }
+
+    private static void assertPublishesLikePublisherIndex(final Subscriptions subscriptions,
+            final List<long[]> signalHashes) {
+
+        assertPublishesLikePublisherIndex(subscriptions, subscriptions.toLongPublisherIndex(), signalHashes);
+    }
+
+    private static void assertPublishesLikePublisherIndex(final Subscriptions subscriptions,
+            final LongPublisherIndex underTest,
+            final List<long[]> signalHashes) {
+
+        final PublisherIndex<Long> expectedIndex = subscriptions.toPublisherIndex();
+        for (int i = 0; i < signalHashes.size(); ++i) {
+            final long[] hashes = signalHashes.get(i);
+            final List<Long> boxedHashes = Arrays.stream(hashes).boxed().toList();
+            for (final String groupIndexKey : List.of("thing:" + i, "thing:" + (i + 1) * 7919, "")) {
+                final Map<ActorRef, PublishSignal> expected = toMap(
+                        expectedIndex.assignGroupsToSubscribers(SIGNAL, boxedHashes, groupIndexKey));
+                final Map<ActorRef, PublishSignal> actual = toMap(
+                        underTest.assignGroupsToSubscribers(SIGNAL, hashes, groupIndexKey));
+
+                assertThat(actual).as("published to for hashes %s and key <%s>", boxedHashes, groupIndexKey)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private static Map<ActorRef, PublishSignal> toMap(final List<Pair<ActorRef, PublishSignal>> pairs) {
+        final Map<ActorRef, PublishSignal> map = pairs.stream().collect(Collectors.toMap(Pair::first, Pair::second));
+        assertThat(map).hasSameSizeAs(pairs);
+        return map;
+    }
+
+    private static ActorRef subscriber(final int i) {
+        return subscribers.get(i);
+    }
+
+    private static Subscriptions randomSubscriptions(final Random random, final int keyCount, final int topicCount) {
+        final Subscriptions subscriptions = new Subscriptions(keyCount);
+        for (int topic = 0; topic < topicCount; ++topic) {
+            final long hash = random.nextLong();
+            final int subscriberCount = topic < topicCount / 10 ? 1 + random.nextInt(6) : 1;
+            for (int j = 0; j < subscriberCount; ++j) {
+                final int subscriber = random.nextInt(subscribers.size());
+                final String group = subscriber < 6 && random.nextBoolean() ? "connection" + random.nextInt(3) : null;
+                // a subscriber belongs to one ddata key as in the sharded ddata of the subscribers of a node
+                subscriptions.add(subscriber % keyCount, subscriber(subscriber), group, hash);
+            }
+        }
+        return subscriptions;
+    }
+
+    private static List<long[]> randomSignalHashes(final Random random, final long[] subscribedHashes,
+            final int signalCount) {
+
+        final List<long[]> signals = new ArrayList<>(signalCount);
+        for (int i = 0; i < signalCount; ++i) {
+            final long[] hashes = new long[1 + random.nextInt(4)];
+            for (int j = 0; j < hashes.length; ++j) {
+                // mostly subscribed hashes, some of them several times, and some unknown ones
+                hashes[j] = random.nextInt(5) == 0 ? random.nextLong() :
+                        subscribedHashes[random.nextInt(Math.min(subscribedHashes.length, 1 + random.nextInt(50)))];
+            }
+            signals.add(hashes);
+        }
+        return signals;
+    }
+
+    /**
+     * Subscriptions of the subscribers per ddata key, per group (empty for no group) in the order of subscription.
+     */
+    private static final class Subscriptions {
+
+        private final List<Map<ActorRef, Map<String, Set<Long>>>> keys;
+        private final Set<Long> allHashes;
+        private final List<Long> hashesInOrder;
+
+        private Subscriptions(final int keyCount) {
+            keys = new ArrayList<>(keyCount);
+            for (int i = 0; i < keyCount; ++i) {
+                keys.add(new HashMap<>());
+            }
+            allHashes = new HashSet<>();
+            hashesInOrder = new ArrayList<>();
+        }
+
+        private void add(final int key, final ActorRef subscriber, @Nullable final String group, final long hash) {
+            keys.get(key)
+                    .computeIfAbsent(subscriber, s -> new HashMap<>())
+                    .computeIfAbsent(null == group ? "" : group, g -> new HashSet<>())
+                    .add(hash);
+            if (allHashes.add(hash)) {
+                hashesInOrder.add(hash);
+            }
+        }
+
+        private long[] hashes() {
+            return hashesInOrder.stream().mapToLong(Long::longValue).toArray();
+        }
+
+        private PublisherIndex<Long> toPublisherIndex() {
+            final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
+            keys.forEach(key -> key.forEach((subscriber, groups) -> groups.forEach((group, hashes) ->
+                    hashes.forEach(hash -> index.computeIfAbsent(hash, h -> new HashMap<>())
+                            .computeIfAbsent(subscriber, s -> new HashSet<>())
+                            .add(group)))));
+            return new PublisherIndex<>(index, Map.of());
+        }
+
+        private LongPublisherIndex.Segment toSegment(final int key) {
+            final LongPublisherIndex.SegmentBuilder builder = LongPublisherIndex.Segment.newBuilder();
+            keys.get(key).forEach((subscriber, groups) -> groups.forEach((group, hashes) ->
+                    hashes.forEach(hash -> builder.add(subscriber, group.isEmpty() ? null : group, hash))));
+            return builder.build();
+        }
+
+        private List<LongPublisherIndex.Segment> toSegments() {
+            final List<LongPublisherIndex.Segment> segments = new ArrayList<>(keys.size());
+            for (int key = 0; key < keys.size(); ++key) {
+                segments.add(toSegment(key));
+            }
+            return segments;
+        }
+
+        private LongPublisherIndex toLongPublisherIndex() {
+            return LongPublisherIndex.of(toSegments());
+        }
+
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH micro-benchmark comparing the generic {@link PublisherIndex} with boxed {@code Long} topics against
+ * {@link LongPublisherIndex} for updating the index on a change of one ddata key and for publishing signals.
+ * <p>
+ * The replayed subscription distribution resembles a cluster with one pub-sub subscriber per gateway and
+ * connectivity node: every topic (a hashed authorization subject) is subscribed by one node, popular topics follow
+ * a Zipf-like distribution and are subscribed by several nodes, and connectivity nodes subscribe with the group of
+ * their connection.
+ * </p>
+ *
+ * <h2>How to run</h2>
+ * <pre>
+ * mvn test-compile -pl internal/utils/pubsub -am -Djapicmp.skip=true
+ * java -cp "$(mvn -pl internal/utils/pubsub dependency:build-classpath -Dmdep.outputFile=/dev/stdout -q):internal/utils/pubsub/target/classes:internal/utils/pubsub/target/test-classes" \
+ *      org.eclipse.ditto.internal.utils.pubsub.actors.PublisherIndexBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PublisherIndexBenchmark {
+
+    private static final int SUBSCRIBERS = 24;
+    private static final int GROUPED_SUBSCRIBERS = 8;
+    private static final int POPULAR_TOPICS = 1000;
+    private static final int TOPICS_PER_SIGNAL = 4;
+    private static final int SIGNALS = 4096;
+
+    @Param({"100000", "1000000"})
+    public int topics;
+
+    private ActorSystem actorSystem;
+    private List<Map<ActorRef, List<Grouped<Long>>>> mmaps;
+    private PublisherIndex<Long> boxedIndex;
+    private List<LongPublisherIndex.Segment> segments;
+    private LongPublisherIndex primitiveIndex;
+    private Signal<?> signal;
+    private long[][] signalHashes;
+    private List<List<Long>> boxedSignalHashes;
+    private int nextSignal;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        actorSystem = ActorSystem.create("benchmark");
+        final Random random = new Random(42L);
+        final List<ActorRef> subscribers = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; ++i) {
+            subscribers.add(actorSystem.actorOf(Props.empty(), "subscriber" + i));
+        }
+
+        // one ddata key per 8 subscribers as in the sharded ddata of compressed pub-sub
+        mmaps = new ArrayList<>();
+        final List<Map<ActorRef, Map<String, Set<Long>>>> subscriptions = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i += 8) {
+            subscriptions.add(new HashMap<>());
+        }
+        final long[] hashes = new long[topics];
+        for (int topic = 0; topic < topics; ++topic) {
+            hashes[topic] = random.nextLong();
+            final int subscriberCount = topic < POPULAR_TOPICS ? 1 + random.nextInt(SUBSCRIBERS / 2) : 1;
+            for (int j = 0; j < subscriberCount; ++j) {
+                final int subscriber = (int) Math.floor(SUBSCRIBERS * Math.pow(random.nextDouble(), 2));
+                final String group = subscriber < GROUPED_SUBSCRIBERS ? "connection" + random.nextInt(4) : "";
+                subscriptions.get(subscriber / 8)
+                        .computeIfAbsent(subscribers.get(subscriber), s -> new HashMap<>())
+                        .computeIfAbsent(group, g -> new HashSet<>())
+                        .add(hashes[topic]);
+            }
+        }
+        for (final Map<ActorRef, Map<String, Set<Long>>> keySubscriptions : subscriptions) {
+            final Map<ActorRef, List<Grouped<Long>>> mmap = new HashMap<>();
+            keySubscriptions.forEach((subscriber, groups) -> mmap.put(subscriber, groups.entrySet()
+                    .stream()
+                    .map(entry -> Grouped.of(entry.getKey().isEmpty() ? null : entry.getKey(), entry.getValue()))
+                    .toList()));
+            mmaps.add(mmap);
+        }
+
+        boxedIndex = buildBoxedIndex();
+        segments = new ArrayList<>(mmaps.stream().map(PublisherIndexBenchmark::toSegment).toList());
+        primitiveIndex = LongPublisherIndex.of(segments);
+
+        signal = Acknowledgement.of(AcknowledgementLabel.of("bench"),
+                EntityId.of(EntityType.of("thing"), "bench:thing"), HttpStatus.OK, DittoHeaders.empty());
+        signalHashes = new long[SIGNALS][TOPICS_PER_SIGNAL];
+        boxedSignalHashes = new ArrayList<>(SIGNALS);
+        for (int i = 0; i < SIGNALS; ++i) {
+            final List<Long> boxed = new ArrayList<>(TOPICS_PER_SIGNAL);
+            for (int j = 0; j < TOPICS_PER_SIGNAL; ++j) {
+                // the first topic is often a popular one, the last one is frequently not subscribed at all
+                final long hash = j == 0 ? hashes[random.nextInt(POPULAR_TOPICS)]
+                        : j == TOPICS_PER_SIGNAL - 1 ? random.nextLong()
+                        : hashes[random.nextInt(topics)];
+                signalHashes[i][j] = hash;
+                boxed.add(hash);
+            }
+            boxedSignalHashes.add(boxed);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public Object buildBoxed() {
+        return buildBoxedIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public Object buildPrimitive() {
+        // the primitive index rebuilds only the segment of the changed ddata key
+        segments.set(0, toSegment(mmaps.get(0)));
+        return LongPublisherIndex.of(segments);
+    }
+
+    @Benchmark
+    public Object publishBoxed() {
+        final int i = nextSignal++ & (SIGNALS - 1);
+        return boxedIndex.assignGroupsToSubscribers(signal, boxedSignalHashes.get(i), "bench:thing" + i);
+    }
+
+    @Benchmark
+    public Object publishPrimitive() {
+        final int i = nextSignal++ & (SIGNALS - 1);
+        return primitiveIndex.assignGroupsToSubscribers(signal, signalHashes[i], "bench:thing" + i);
+    }
+
+    private static LongPublisherIndex.Segment toSegment(final Map<ActorRef, List<Grouped<Long>>> mmap) {
+        final LongPublisherIndex.SegmentBuilder builder = LongPublisherIndex.Segment.newBuilder();
+        mmap.forEach((subscriber, groupedList) -> groupedList.forEach(grouped ->
+                grouped.getValues().forEach(hash -> builder.add(subscriber, grouped.getGroup().orElse(null), hash))
+        ));
+        return builder.build();
+    }
+
+    private PublisherIndex<Long> buildBoxedIndex() {
+        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
+        mmaps.forEach(mmap -> mmap.forEach((subscriber, groupedList) -> groupedList.forEach(grouped ->
+                grouped.getValues().forEach(hash -> index.computeIfAbsent(hash, h -> new HashMap<>())
+                        .computeIfAbsent(subscriber, s -> new HashSet<>())
+                        .add(grouped.getGroup().orElse("")))
+                )));
+        return new PublisherIndex<>(index, Map.of());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(PublisherIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+
+}
@@ -68,6 +68,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.isCompactSubscriptionsEnabled())
+                .as(PubSubConfig.ConfigValue.COMPACT_SUBSCRIPTIONS_ENABLED.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getCompactChunkSize())
+                .as(PubSubConfig.ConfigValue.COMPACT_CHUNK_SIZE.getConfigPath())
+                .isEqualTo(1024);
     }
 
     @Test
@@ -93,6 +101,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.6, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.isCompactSubscriptionsEnabled())
+                .as(PubSubConfig.ConfigValue.COMPACT_SUBSCRIPTIONS_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getCompactChunkSize())
+                .as(PubSubConfig.ConfigValue.COMPACT_CHUNK_SIZE.getConfigPath())
+                .isEqualTo(64);
     }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.junit.Test;
+
+/**
+ * Tests {@link CompactGroupedHashes}.
+ */
+public final class CompactGroupedHashesTest {
+
+    private static final int MAX_CHUNK_SIZE = 64;
+
+    @Test
+    public void roundTripWithAndWithoutGroup() {
+        final long[] hashes = {Long.MIN_VALUE, -1L, 0L, 1L, 42L, 42L, Long.MAX_VALUE};
+        final Set<Long> expectedHashes = Arrays.stream(hashes).boxed().collect(Collectors.toSet());
+
+        for (final String group : new String[]{null, "", "gröup"}) {
+            final Set<String> chunks = CompactGroupedHashes.encodeChunks(group, hashes.clone(), MAX_CHUNK_SIZE);
+            assertThat(chunks).hasSize(1);
+            final Grouped<Long> decoded = CompactGroupedHashes.deserialize(chunks.iterator().next());
+            assertThat(decoded.getGroup()).isEqualTo(Optional.ofNullable(group));
+            assertThat(decoded.getValues()).isEqualTo(expectedHashes);
+        }
+    }
+
+    @Test
+    public void deserializeJson() {
+        final Grouped<Long> grouped = Grouped.of("group", Set.of(-5L, 7L));
+
+        final Grouped<Long> decoded = CompactGroupedHashes.deserialize(grouped.toJsonString());
+
+        assertThat(decoded.getGroup()).contains("group");
+        assertThat(decoded.getValues()).containsExactlyInAnyOrder(-5L, 7L);
+    }
+
+    @Test
+    public void deserializeIntoConsumerOfGroup() {
+        final long[] hashes = {-5L, 7L, 42L};
+        final String chunk = CompactGroupedHashes.encodeChunks("group", hashes.clone(), MAX_CHUNK_SIZE)
+                .iterator()
+                .next();
+
+        for (final String binding : List.of(chunk, Grouped.of("group", Set.of(-5L, 7L, 42L)).toJsonString())) {
+            final List<String> groups = new ArrayList<>();
+            final List<Long> decodedHashes = new ArrayList<>();
+            CompactGroupedHashes.deserializeInto(binding, group -> {
+                groups.add(group);
+                return decodedHashes::add;
+            });
+            assertThat(groups).containsExactly("group");
+            assertThat(decodedHashes).containsExactlyInAnyOrder(-5L, 7L, 42L);
+        }
+    }
+
+    @Test
+    public void chunksAreSmallerThanJson() {
+        final long[] hashes = new Random(0L).longs(10_000).toArray();
+        final Set<Long> hashSet = Arrays.stream(hashes).boxed().collect(Collectors.toSet());
+
+        final Set<String> chunks = CompactGroupedHashes.encodeChunks(null, hashes.clone(), MAX_CHUNK_SIZE);
+
+        final long compactSize = chunks.stream().mapToLong(String::length).sum();
+        assertThat(compactSize).isLessThan(Grouped.of(hashSet).toJsonString().length() * 2L / 3L);
+        assertThat(chunks.stream()
+                .map(CompactGroupedHashes::deserialize)
+                .flatMap(Grouped::streamValues)
+                .collect(Collectors.toSet()))
+                .isEqualTo(hashSet);
+    }
+
+    @Test
+    public void addingHashRewritesOneChunk() {
+        final Random random = new Random(1L);
+        final long[] hashes = random.longs(5_000).toArray();
+        final long[] moreHashes = Arrays.copyOf(hashes, hashes.length + 1);
+        moreHashes[hashes.length] = random.nextLong();
+
+        final Set<String> chunks = CompactGroupedHashes.encodeChunks("group", hashes, MAX_CHUNK_SIZE);
+        final Set<String> moreChunks = CompactGroupedHashes.encodeChunks("group", moreHashes, MAX_CHUNK_SIZE);
+
+        final Set<String> deleted = new HashSet<>(chunks);
+        deleted.removeAll(moreChunks);
+        final Set<String> inserted = new HashSet<>(moreChunks);
+        inserted.removeAll(chunks);
+        assertThat(deleted).hasSizeLessThanOrEqualTo(1);
+        assertThat(inserted).hasSize(1);
+        assertThat(chunks.stream()
+                .mapToInt(chunk -> CompactGroupedHashes.deserialize(chunk).getValues().size())
+                .average()
+                .orElseThrow())
+                .isLessThanOrEqualTo(MAX_CHUNK_SIZE);
+    }
+
+    @Test
+    public void changingTheNumberOfChunksRewritesAllChunks() {
+        final Random random = new Random(2L);
+        final long[] hashes = random.longs(2 * MAX_CHUNK_SIZE).toArray();
+        final long[] moreHashes = Arrays.copyOf(hashes, hashes.length + 1);
+        moreHashes[hashes.length] = random.nextLong();
+
+        final Set<String> chunks = CompactGroupedHashes.encodeChunks("group", hashes, MAX_CHUNK_SIZE);
+        final Set<String> moreChunks = CompactGroupedHashes.encodeChunks("group", moreHashes, MAX_CHUNK_SIZE);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(moreChunks).hasSize(4).doesNotContainAnyElementsOf(chunks);
+    }
+
+}
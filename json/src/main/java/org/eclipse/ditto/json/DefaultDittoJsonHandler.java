@@ -99,7 +99,7 @@ public final class DefaultDittoJsonHandler extends DittoJsonHandler<List<JsonVal
         valueString = string;
     }
 
-    private static JsonNumber getNumberFor(final String string) {
+    static JsonNumber getNumberFor(final String string) {
         if (isDecimal(string)) {
             return parseToDouble(string);
         }
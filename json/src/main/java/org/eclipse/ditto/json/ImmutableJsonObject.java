@@ -31,6 +31,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -84,6 +85,43 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which takes ownership of the given fields without copying
+     * them. The map must not be modified afterwards.
+     *
+     * @param fields the fields of the new JSON object.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if {@code fields} is {@code null}.
+     */
+    static ImmutableJsonObject ofOwnedFields(final Map<String, JsonField> fields) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofOwnedFields(fields));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are parsed from the given string representation
+     * when they are accessed for the first time.
+     *
+     * @param stringRepresentation the string representation of the returned object as Ditto would render it, i. e.
+     * without whitespace and with escaped strings.
+     * @return a new JSON object.
+     * @throws NullPointerException if {@code stringRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject ofStringRepresentation(final String stringRepresentation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofStringRepresentation(stringRepresentation));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} whose fields are loaded by the given supplier when they are accessed
+     * for the first time and again whenever the garbage collector cleared them.
+     *
+     * @param fieldsLoader supplies a new map of the fields on each call.
+     * @return the JSON object.
+     * @throws NullPointerException if {@code fieldsLoader} is {@code null}.
+     */
+    static ImmutableJsonObject ofFieldsLoader(final Supplier<Map<String, JsonField>> fieldsLoader) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofFieldsLoader(fieldsLoader));
+    }
+
     /**
      * Returns a new {@code ImmutableJsonObject} instance which contains the given fields.
      *
@@ -623,6 +661,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         // cleared) or a SoftReference<Map<String, JsonField>> once a representation is
         // available. {@link #fields()} unwraps both cases.
         private volatile Object fieldsRef;
+        // Rebuilds the fields from a representation outside of ditto-json, e.g. a BSON document, if present.
+        @Nullable private final Supplier<Map<String, JsonField>> fieldsLoader;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
@@ -641,6 +681,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             } else {
                 this.fieldsRef = immutable;
             }
+            fieldsLoader = null;
+            hashCode = 0;
+        }
+
+        private SoftReferencedFieldMap(@Nullable final Supplier<Map<String, JsonField>> fieldsLoader,
+                final Object fieldsRef, @Nullable final String stringRepresentation) {
+            jsonObjectStringRepresentation = stringRepresentation;
+            cborObjectRepresentation = null;
+            this.fieldsRef = fieldsRef;
+            this.fieldsLoader = fieldsLoader;
             hashCode = 0;
         }
 
@@ -652,6 +702,24 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(fieldMap, null, null);
         }
 
+        static SoftReferencedFieldMap ofOwnedFields(final Map<String, JsonField> fieldMap) {
+            requireNonNull(fieldMap, "The fields of JSON object must not be null!");
+            return new SoftReferencedFieldMap(null, Collections.unmodifiableMap(fieldMap), null);
+        }
+
+        static SoftReferencedFieldMap ofStringRepresentation(final String stringRepresentation) {
+            requireNonNull(stringRepresentation, "The string representation of JSON object must not be null!");
+            // the empty soft reference makes fields() recover the fields from the string representation on demand
+            return new SoftReferencedFieldMap(null, new SoftReference<Map<String, JsonField>>(null),
+                    stringRepresentation);
+        }
+
+        static SoftReferencedFieldMap ofFieldsLoader(final Supplier<Map<String, JsonField>> fieldsLoader) {
+            requireNonNull(fieldsLoader, "The loader of the fields of JSON object must not be null!");
+            // the empty soft reference makes fields() load the fields on demand and again after a soft-clear
+            return new SoftReferencedFieldMap(fieldsLoader, new SoftReference<Map<String, JsonField>>(null), null);
+        }
+
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
@@ -755,7 +823,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         private Map<String, JsonField> recoverFields() {
             final Map<String, JsonField> recovered;
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
+            if (fieldsLoader != null) {
+                recovered = fieldsLoader.get();
+            } else if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
                 recovered = parseToMap(cborObjectRepresentation);
             } else if (jsonObjectStringRepresentation != null) {
                 recovered = parseToMap(jsonObjectStringRepresentation);
@@ -14,9 +14,9 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -27,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -203,6 +204,50 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes to a JSON value without decoding them to a string first. Nested JSON
+     * objects of the result which are already in compact form parse their fields only when these are accessed.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 3.10.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        return JsonValueParser.fromUtf8Bytes().apply(jsonData);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer to a JSON value without decoding them to a string
+     * first. The position of the buffer is not changed.
+     *
+     * @param jsonData the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if these are no valid JSON.
+     * @since 3.10.0
+     * @see #readFrom(byte[])
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
+    /**
+     * Reads the given input stream until its end and parses the read UTF-8 encoded bytes to a JSON value without
+     * decoding them to a string first. The input stream is not closed.
+     *
+     * @param inputStream the input stream to read the JSON value from.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code inputStream} is {@code null}.
+     * @throws JsonParseException if an I/O error occurred or if the input is empty or no valid JSON.
+     * @since 3.10.0
+     * @see #readFrom(byte[])
+     */
+    public static JsonValue readFrom(final InputStream inputStream) {
+        return JsonValueParser.fromInputStream().apply(inputStream);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -289,8 +334,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromUtf8Bytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -942,6 +986,24 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} whose fields are loaded from a representation outside of ditto-json, e.g. a BSON
+     * document, when they are accessed for the first time.
+     * The fields are only softly referenced afterwards and loaded again after the garbage collector cleared them.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param fieldsLoader supplies a new map of the JSON fields by their key names on each call.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code fieldsLoader} is {@code null}.
+     * @since 3.10.0
+     */
+    public static JsonObject createLazyJsonObject(final Supplier<Map<String, JsonField>> fieldsLoader) {
+        return ImmutableJsonObject.ofFieldsLoader(fieldsLoader);
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
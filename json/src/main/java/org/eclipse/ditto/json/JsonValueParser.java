@@ -15,8 +15,11 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -32,6 +35,8 @@ import com.eclipsesource.json.ParseException;
 @Immutable
 public final class JsonValueParser {
 
+    private static final int INITIAL_INPUT_STREAM_BUFFER_SIZE = 8192;
+
     @Nullable private static Function<String, JsonValue> fromStringInstance = null;
 
     private JsonValueParser() {
@@ -78,6 +83,74 @@ public final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue} without decoding them to
+     * a string first.
+     *
+     * @return the function.
+     * @since 3.10.0
+     */
+    public static Function<byte[], JsonValue> fromUtf8Bytes() {
+        return bytes -> Utf8JsonParser.parse(requireNonNull(bytes, "The JSON bytes to be parsed must not be null!"),
+                0, bytes.length);
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue} without decoding them to a string first. The position of the buffer is not changed.
+     *
+     * @return the function.
+     * @since 3.10.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::parseByteBuffer;
+    }
+
+    /**
+     * Returns a Function for obtaining an instance of {@link JsonValue} from the UTF-8 encoded bytes of an
+     * {@code InputStream} without decoding them to a string first. The stream is read until its end but not closed.
+     *
+     * @return the function.
+     * @since 3.10.0
+     */
+    public static Function<InputStream, JsonValue> fromInputStream() {
+        return JsonValueParser::tryToReadJsonValueFromInputStream;
+    }
+
+    private static JsonValue parseByteBuffer(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The JSON byte buffer to be parsed must not be null!");
+        if (byteBuffer.hasArray()) {
+            return Utf8JsonParser.parse(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining());
+        }
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return Utf8JsonParser.parse(bytes, 0, bytes.length);
+    }
+
+    private static JsonValue tryToReadJsonValueFromInputStream(final InputStream inputStream) {
+        requireNonNull(inputStream, "The input stream must not be null!");
+        final byte[] bytes;
+        int length = 0;
+        try {
+            byte[] buffer = new byte[Math.max(INITIAL_INPUT_STREAM_BUFFER_SIZE, inputStream.available())];
+            int read;
+            while ((read = inputStream.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+            bytes = buffer;
+        } catch (final IOException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from input stream!")
+                    .cause(e)
+                    .build();
+        }
+        return Utf8JsonParser.parse(bytes, 0, length);
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Parses UTF-8 encoded JSON directly from bytes without materializing the input as {@code String} first.
+ * <ul>
+ * <li>The fields of a top-level object are put into their final map without intermediate lists.</li>
+ * <li>Nested objects are only validated. If their bytes already are in the compact form Ditto renders JSON objects
+ * to, they become JSON objects which only hold their string representation and parse their fields when these are
+ * accessed for the first time. Otherwise they are parsed eagerly.</li>
+ * <li>Frequently used keys like {@code thingId} or {@code features} are mapped to shared {@link JsonKey} instances
+ * without decoding them.</li>
+ * </ul>
+ * <p>
+ * <em>Instances of this class are not safe to be re-used!</em>
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8JsonParser {
+
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+
+    private static final String[] INTERNED_KEY_NAMES = {
+            "thingId", "policyId", "definition", "attributes", "features", "properties", "desiredProperties",
+            "_revision", "_modified", "_created", "_metadata", "_namespace", "_policy", "value", "topic", "headers",
+            "path", "status", "extra", "correlation-id", "content-type", "response-required", "version"
+    };
+
+    private static final JsonKey[][] INTERNED_KEYS_BY_LENGTH = internKeys();
+    private static final byte[][][] INTERNED_KEY_BYTES_BY_LENGTH = internKeyBytes();
+
+    private final byte[] bytes;
+    private final int end;
+    private int position;
+    private boolean canonical;
+
+    private Utf8JsonParser(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        end = offset + length;
+        position = offset;
+        canonical = true;
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes to a JSON value.
+     *
+     * @param bytes the bytes to parse.
+     * @param offset the index of the first byte to parse.
+     * @param length the number of bytes to parse.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} do not denote a range of {@code bytes}.
+     * @throws JsonParseException if the bytes are empty or no valid JSON.
+     */
+    static JsonValue parse(final byte[] bytes, final int offset, final int length) {
+        requireNonNull(bytes, "The bytes to be parsed must not be null!");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(MessageFormat.format(
+                    "Range [{0}, {0} + {1}) is out of bounds for length {2}!", offset, length, bytes.length));
+        }
+        try {
+            return new Utf8JsonParser(bytes, offset, length).parseDocument();
+        } catch (final StackOverflowError | IllegalArgumentException e) {
+            // too deeply nested input overflows the stack, empty keys and too large numbers are rejected with
+            // IllegalArgumentException
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON from UTF-8 bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private JsonValue parseDocument() {
+        skipWhitespace();
+        if (position == end) {
+            throw new JsonParseException("The JSON bytes to read from must not be empty!");
+        }
+        final int start = position;
+        final JsonValue result;
+        switch (bytes[position]) {
+            case '{':
+                result = parseObject(true);
+                break;
+            case '[':
+                result = parseArray(start, true);
+                break;
+            default:
+                result = parseScalar();
+        }
+        skipWhitespace();
+        if (position != end) {
+            throw unexpected("end of input");
+        }
+        return result;
+    }
+
+    private JsonValue parseValue(final boolean deferObjects) {
+        final int start = position;
+        switch (bytes[position]) {
+            case '{':
+                return deferObjects ? parseDeferredObject(start) : parseObject(false);
+            case '[':
+                return parseArray(start, deferObjects);
+            default:
+                return parseScalar();
+        }
+    }
+
+    private JsonValue parseScalar() {
+        switch (bytes[position]) {
+            case '"':
+                return ImmutableJsonString.of(parseString());
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            default:
+                return parseNumber();
+        }
+    }
+
+    private JsonValue parseDeferredObject(final int start) {
+        final boolean outerCanonical = canonical;
+        canonical = true;
+        skipObject();
+        if (canonical) {
+            canonical = outerCanonical;
+            if (position - start == 2) {
+                return ImmutableJsonObject.empty();
+            }
+            return ImmutableJsonObject.ofStringRepresentation(decode(start, position));
+        }
+
+        // the string representation would differ from the bytes, thus parse the whole object now
+        position = start;
+        canonical = true;
+        final JsonValue result = parseObject(false);
+        canonical = false;
+        return result;
+    }
+
+    private JsonObject parseObject(final boolean deferNestedObjects) {
+        position++;
+        skipWhitespace();
+        if (tryRead('}')) {
+            return ImmutableJsonObject.empty();
+        }
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        do {
+            skipWhitespace();
+            final JsonKey key = parseKey();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            requireMoreInput("value");
+            final JsonValue value = parseValue(deferNestedObjects);
+            fields.put(key.toString(), JsonFactory.newField(key, value));
+            skipWhitespace();
+        } while (tryRead(','));
+        expect('}');
+        return ImmutableJsonObject.ofOwnedFields(fields);
+    }
+
+    private JsonArray parseArray(final int start, final boolean deferObjects) {
+        final boolean outerCanonical = canonical;
+        canonical = true;
+        position++;
+        skipWhitespace();
+        final List<JsonValue> values;
+        if (tryRead(']')) {
+            values = new ArrayList<>(0);
+        } else {
+            values = new ArrayList<>();
+            do {
+                skipWhitespace();
+                requireMoreInput("value");
+                values.add(parseValue(deferObjects));
+                skipWhitespace();
+            } while (tryRead(','));
+            expect(']');
+        }
+
+        // without a string representation the array would render itself eagerly
+        final JsonArray result = canonical
+                ? ImmutableJsonArray.of(values, decode(start, position))
+                : ImmutableJsonArray.of(values);
+        canonical = outerCanonical && canonical;
+        return result;
+    }
+
+    private JsonKey parseKey() {
+        requireMoreInput("key");
+        if (bytes[position] != '"') {
+            throw unexpected("key");
+        }
+        final int start = position + 1;
+        final int plainEnd = scanPlainString(start);
+        if (plainEnd < end && bytes[plainEnd] == '"') {
+            final JsonKey internedKey = getInternedKey(start, plainEnd - start);
+            if (null != internedKey) {
+                position = plainEnd + 1;
+                return internedKey;
+            }
+        }
+        return JsonKey.of(parseString());
+    }
+
+    private String parseString() {
+        final int start = ++position;
+        final int plainEnd = scanPlainString(start);
+        if (plainEnd < end && bytes[plainEnd] == '"') {
+            position = plainEnd + 1;
+            return decode(start, plainEnd);
+        }
+        return parseEscapedString(start, plainEnd);
+    }
+
+    /**
+     * Returns the index of the first byte at or after {@code from} which is a quote, a backslash, a control character
+     * or beyond the input.
+     */
+    private int scanPlainString(final int from) {
+        int i = from;
+        while (i < end) {
+            final byte b = bytes[i];
+            if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private String parseEscapedString(final int start, final int plainEnd) {
+        final StringBuilder stringBuilder = new StringBuilder(plainEnd - start + 16);
+        stringBuilder.append(decode(start, plainEnd));
+        position = plainEnd;
+        while (true) {
+            requireMoreInput("string character");
+            final byte b = bytes[position];
+            if (b == '"') {
+                position++;
+                return stringBuilder.toString();
+            } else if (b == '\\') {
+                stringBuilder.append(readEscapeSequence());
+            } else if (b >= 0 && b < 0x20) {
+                throw unexpected("valid string character");
+            } else {
+                final int runStart = position;
+                position = scanPlainString(position);
+                stringBuilder.append(decode(runStart, position));
+            }
+        }
+    }
+
+    private char readEscapeSequence() {
+        position++;
+        requireMoreInput("valid escape sequence");
+        final byte b = bytes[position++];
+        switch (b) {
+            case '"':
+            case '\\':
+                return (char) b;
+            case '/':
+                canonical = false;
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicodeEscape();
+            default:
+                position--;
+                throw unexpected("valid escape sequence");
+        }
+    }
+
+    private char readUnicodeEscape() {
+        if (end - position < 4) {
+            position = end;
+            throw unexpected("hexadecimal digit");
+        }
+        boolean upperCase = true;
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final byte b = bytes[position];
+            final int digit;
+            if (b >= '0' && b <= '9') {
+                digit = b - '0';
+            } else if (b >= 'A' && b <= 'F') {
+                digit = b - 'A' + 10;
+            } else if (b >= 'a' && b <= 'f') {
+                digit = b - 'a' + 10;
+                upperCase = false;
+            } else {
+                throw unexpected("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            position++;
+        }
+        final char c = (char) result;
+        if (!upperCase || !isRenderedAsUnicodeEscape(c)) {
+            canonical = false;
+        }
+        return c;
+    }
+
+    private static boolean isRenderedAsUnicodeEscape(final char c) {
+        return c < 0x20 && c != '\b' && c != '\f' && c != '\n' && c != '\r' && c != '\t';
+    }
+
+    private JsonNumber parseNumber() {
+        final int start = position;
+        final boolean negative = tryRead('-');
+        final int integerStart = position;
+        readIntegerPart();
+        final int integerEnd = position;
+        final boolean decimal = readFractionAndExponent();
+        final int digits = integerEnd - integerStart;
+        if (!decimal && digits <= MAX_FAST_PATH_DIGITS) {
+            long value = 0;
+            for (int i = integerStart; i < integerEnd; i++) {
+                value = value * 10 + (bytes[i] - '0');
+            }
+            if (negative) {
+                value = -value;
+            }
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return ImmutableJsonInt.of((int) value);
+            }
+            return ImmutableJsonLong.of(value);
+        }
+        return DefaultDittoJsonHandler.getNumberFor(new String(bytes, start, position - start,
+                StandardCharsets.ISO_8859_1));
+    }
+
+    private void skipNumber() {
+        final int start = position;
+        tryRead('-');
+        final int integerStart = position;
+        readIntegerPart();
+        final int digits = position - integerStart;
+        if (!readFractionAndExponent() && digits > MAX_FAST_PATH_DIGITS) {
+            // fails for integers beyond the range of long just like parsing them when they are accessed
+            Long.parseLong(new String(bytes, start, position - start, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private void readIntegerPart() {
+        if (tryRead('0')) {
+            return;
+        }
+        if (!readDigits()) {
+            throw unexpected("digit");
+        }
+    }
+
+    private boolean readFractionAndExponent() {
+        boolean decimal = false;
+        if (tryRead('.')) {
+            if (!readDigits()) {
+                throw unexpected("digit");
+            }
+            decimal = true;
+        }
+        if (tryRead('e') || tryRead('E')) {
+            if (!tryRead('+')) {
+                tryRead('-');
+            }
+            if (!readDigits()) {
+                throw unexpected("digit");
+            }
+            decimal = true;
+        }
+        return decimal;
+    }
+
+    private boolean readDigits() {
+        final int start = position;
+        while (position < end && bytes[position] >= '0' && bytes[position] <= '9') {
+            position++;
+        }
+        return position > start;
+    }
+
+    private void skipValue() {
+        requireMoreInput("value");
+        switch (bytes[position]) {
+            case '{':
+                skipObject();
+                break;
+            case '[':
+                skipArray();
+                break;
+            case '"':
+                skipString();
+                break;
+            case 't':
+                readLiteral("true");
+                break;
+            case 'f':
+                readLiteral("false");
+                break;
+            case 'n':
+                readLiteral("null");
+                break;
+            default:
+                skipNumber();
+        }
+    }
+
+    private void skipObject() {
+        position++;
+        skipWhitespace();
+        if (tryRead('}')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            requireMoreInput("key");
+            if (bytes[position] != '"') {
+                throw unexpected("key");
+            }
+            final int keyStart = position;
+            skipString();
+            if (position - keyStart == 2) {
+                throw new IllegalArgumentException("The key string must not be empty!");
+            }
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (tryRead(','));
+        expect('}');
+    }
+
+    private void skipArray() {
+        position++;
+        skipWhitespace();
+        if (tryRead(']')) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            skipValue();
+            skipWhitespace();
+        } while (tryRead(','));
+        expect(']');
+    }
+
+    private void skipString() {
+        position = scanPlainString(position + 1);
+        while (true) {
+            requireMoreInput("string character");
+            final byte b = bytes[position];
+            if (b == '"') {
+                position++;
+                return;
+            } else if (b == '\\') {
+                readEscapeSequence();
+            } else if (b >= 0 && b < 0x20) {
+                throw unexpected("valid string character");
+            }
+            position = scanPlainString(position);
+        }
+    }
+
+    private void readLiteral(final String literal) {
+        final int length = literal.length();
+        if (end - position < length) {
+            position = end;
+            throw unexpected("'" + literal + "'");
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[position] != literal.charAt(i)) {
+                throw unexpected("'" + literal + "'");
+            }
+            position++;
+        }
+    }
+
+    private void skipWhitespace() {
+        final int start = position;
+        while (position < end) {
+            final byte b = bytes[position];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                break;
+            }
+            position++;
+        }
+        if (position != start) {
+            canonical = false;
+        }
+    }
+
+    private boolean tryRead(final char c) {
+        if (position < end && bytes[position] == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (!tryRead(c)) {
+            throw unexpected("'" + c + "'");
+        }
+    }
+
+    private void requireMoreInput(final String expected) {
+        if (position >= end) {
+            throw unexpected(expected);
+        }
+    }
+
+    private JsonParseException unexpected(final String expected) {
+        final String found = position < end ? "byte <" + (bytes[position] & 0xFF) + ">" : "end of input";
+        return new JsonParseException(MessageFormat.format("Expected {0} at byte offset <{1}> but found {2}!",
+                expected, position, found));
+    }
+
+    private String decode(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] < 0) {
+                return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+            }
+        }
+        // ISO-8859-1 decodes ASCII without the overhead of the UTF-8 decoder
+        return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    @Nullable
+    private JsonKey getInternedKey(final int from, final int length) {
+        if (length >= INTERNED_KEY_BYTES_BY_LENGTH.length) {
+            return null;
+        }
+        final byte[][] candidates = INTERNED_KEY_BYTES_BY_LENGTH[length];
+        for (int c = 0; c < candidates.length; c++) {
+            if (regionMatches(candidates[c], from)) {
+                return INTERNED_KEYS_BY_LENGTH[length][c];
+            }
+        }
+        return null;
+    }
+
+    private boolean regionMatches(final byte[] candidate, final int from) {
+        for (int i = 0; i < candidate.length; i++) {
+            if (bytes[from + i] != candidate[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getMaxInternedKeyLength() {
+        int result = 0;
+        for (final String keyName : INTERNED_KEY_NAMES) {
+            result = Math.max(result, keyName.length());
+        }
+        return result;
+    }
+
+    private static JsonKey[][] internKeys() {
+        final List<List<JsonKey>> keysByLength = new ArrayList<>();
+        for (int length = 0; length <= getMaxInternedKeyLength(); length++) {
+            keysByLength.add(new ArrayList<>());
+        }
+        for (final String keyName : INTERNED_KEY_NAMES) {
+            keysByLength.get(keyName.length()).add(JsonKey.of(keyName));
+        }
+        final JsonKey[][] result = new JsonKey[keysByLength.size()][];
+        for (int length = 0; length < result.length; length++) {
+            result[length] = keysByLength.get(length).toArray(new JsonKey[0]);
+        }
+        return result;
+    }
+
+    private static byte[][][] internKeyBytes() {
+        final byte[][][] result = new byte[INTERNED_KEYS_BY_LENGTH.length][][];
+        for (int length = 0; length < result.length; length++) {
+            final JsonKey[] keys = INTERNED_KEYS_BY_LENGTH[length];
+            result[length] = new byte[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                result[length][i] = keys[i].toString().getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+        return result;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.json;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -56,6 +57,18 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
  *       Should be substantially faster after the refactor since no encoding happens.</li>
  * </ul>
  *
+ * <p>The {@code parse...} benchmarks compare the ingest path of a thing with 20 features: parsing its JSON string
+ * with {@link JsonFactory#readFrom(String)} against parsing its UTF-8 bytes with
+ * {@link JsonFactory#readFrom(byte[])}, which defers the fields of nested objects until they are accessed.</p>
+ *
+ * <ul>
+ *   <li><b>parseThingFromString</b> / <b>parseThingFromUtf8Bytes</b> &mdash; parse, read the thing ID.</li>
+ *   <li><b>parseThingFromStringAccessFeature</b> / <b>parseThingFromUtf8BytesAccessFeature</b> &mdash; parse,
+ *       read one property of one feature, which materialises only the objects on that path.</li>
+ *   <li><b>parseThingFromStringThenToString</b> / <b>parseThingFromUtf8BytesThenToString</b> &mdash; parse and
+ *       serialise again, as when a signal is only passed through.</li>
+ * </ul>
+ *
  * <h2>How to run</h2>
  * <pre>
  * mvn test-compile -pl json -am -Djapicmp.skip=true
@@ -78,6 +91,8 @@ public class ImmutableJsonObjectBenchmark {
     private JsonValue[] smallValues;
     private String[] largeKeys;
     private JsonValue[] largeValues;
+    private String thingString;
+    private byte[] thingBytes;
 
     @Setup
     public void setup() {
@@ -96,6 +111,32 @@ public class ImmutableJsonObjectBenchmark {
             largeKeys[i] = "feature_" + i;
             largeValues[i] = JsonValue.of("value_" + i);
         }
+
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 20; i++) {
+            featuresBuilder.set("feature_" + i, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("ditto:sensor:1.0.0").build())
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", i * 0.5)
+                            .set("unit", "°C")
+                            .set("status", JsonFactory.newObjectBuilder()
+                                    .set("active", true)
+                                    .set("lastSeen", "2026-05-26T07:11:46Z")
+                                    .build())
+                            .build())
+                    .build());
+        }
+        thingString = JsonFactory.newObjectBuilder()
+                .set("thingId", "ns:thing-1")
+                .set("policyId", "ns:policy-1")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonFactory.newObjectBuilder().set("lat", 48.1).set("lon", 11.5).build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build()
+                .toString();
+        thingBytes = thingString.getBytes(StandardCharsets.UTF_8);
     }
 
     @Benchmark
@@ -146,6 +187,38 @@ public class ImmutableJsonObjectBenchmark {
         }
     }
 
+    @Benchmark
+    public void parseThingFromString(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingString).asObject().getValue("thingId"));
+    }
+
+    @Benchmark
+    public void parseThingFromUtf8Bytes(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingBytes).asObject().getValue("thingId"));
+    }
+
+    @Benchmark
+    public void parseThingFromStringAccessFeature(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingString).asObject()
+                .getValue(JsonPointer.of("features/feature_7/properties/value")));
+    }
+
+    @Benchmark
+    public void parseThingFromUtf8BytesAccessFeature(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingBytes).asObject()
+                .getValue(JsonPointer.of("features/feature_7/properties/value")));
+    }
+
+    @Benchmark
+    public void parseThingFromStringThenToString(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingString).toString());
+    }
+
+    @Benchmark
+    public void parseThingFromUtf8BytesThenToString(final Blackhole bh) {
+        bh.consume(JsonFactory.readFrom(thingBytes).toString());
+    }
+
     public static void main(final String[] args) throws RunnerException {
         final Options opt = new OptionsBuilder()
                 .include(ImmutableJsonObjectBenchmark.class.getSimpleName())
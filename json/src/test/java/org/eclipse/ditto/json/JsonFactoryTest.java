@@ -22,6 +22,7 @@ import java.io.StringReader;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -600,6 +601,25 @@ public final class JsonFactoryTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void createLazyJsonObjectLoadsFieldsOnFirstAccess() {
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING);
+        final AtomicInteger loads = new AtomicInteger();
+
+        final JsonObject underTest = JsonFactory.createLazyJsonObject(() -> {
+            loads.incrementAndGet();
+            final Map<String, JsonField> fields = new LinkedHashMap<>();
+            expected.forEach(field -> fields.put(field.getKeyName(), field));
+            return fields;
+        });
+
+        assertThat(loads).hasValue(0);
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.toString()).isEqualTo(expected.toString());
+        assertThat(underTest.setValue("foo", 1)).isEqualTo(expected.setValue("foo", 1));
+        assertThat(loads).hasValue(1);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void newJsonObjectThrowsExceptionIfRootIsNotAnObject() {
         JsonFactory.newObject(JsonPointer.empty(), JsonValue.of(1));
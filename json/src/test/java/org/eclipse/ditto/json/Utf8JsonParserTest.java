@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String THING = "{\"thingId\":\"ns:thing\",\"policyId\":\"ns:policy\",\"_revision\":9007199254740993," +
+            "\"attributes\":{\"name\":\"Grüße \\\"aus\\\" \\\\ Köln \uD83D\uDE00\",\"tags\":[\"a\",{\"b\":null}]," +
+            "\"control\":\"\\b\\f\\n\\r\\t\\u0001\"}," +
+            "\"features\":{\"lamp\":{\"definition\":[\"ns:lamp:1.0.0\"],\"properties\":{\"on\":true,\"dim\":-0.5," +
+            "\"big\":12345678901234567890.0,\"exp\":1E+3,\"zero\":-0,\"empty\":{},\"emptyArray\":[]}}}}";
+
+    @Test
+    public void parsesLikeStringParser() {
+        final List<String> jsonStrings = Arrays.asList(THING,
+                "{ \"a\" : [ 1 , { \"b\" : \"c\\/d\" } ] ,\n\"e\":{\"f\":\"\\u00e4\", \"g\":{}}}",
+                "[{\"a\":1},{\"b\":[2147483648,-2147483649,1.5e-7]}]",
+                "\"\\u00E4\"", "true", "false", "null", "-12", " 3.25 ", "{}", "[]");
+
+        for (final String jsonString : jsonStrings) {
+            final JsonValue expected = JsonFactory.readFrom(jsonString);
+            final JsonValue actual = parse(jsonString);
+
+            assertThat(actual).describedAs(jsonString).isEqualTo(expected);
+            assertThat(actual.toString()).describedAs(jsonString).isEqualTo(expected.toString());
+            assertThat(expected).describedAs(jsonString).isEqualTo(actual);
+        }
+    }
+
+    @Test
+    public void compactNestedObjectsAreParsedWhenAccessed() {
+        // the field map of a parsed object would only contain the last of duplicate keys
+        final JsonObject parsed = parse("{\"a\":{\"x\":1,\"x\":2}}").asObject();
+
+        final JsonValue nested = parsed.getValue("a").get();
+
+        assertThat(nested.toString()).isEqualTo("{\"x\":1,\"x\":2}");
+        assertThat(nested.asObject().getValue("x")).contains(JsonValue.of(2));
+        assertThat(nested.asObject().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void nestedObjectsWithWhitespaceAreParsedEagerly() {
+        final JsonObject parsed = parse("{\"a\":{\"x\":1, \"x\":2}}").asObject();
+
+        assertThat(parsed.getValue("a").get().toString()).isEqualTo("{\"x\":2}");
+        assertThat(parsed.toString()).isEqualTo("{\"a\":{\"x\":2}}");
+    }
+
+    @Test
+    public void commonKeysAreInterned() {
+        final JsonObject first = parse("{\"thingId\":\"ns:a\",\"features\":{}}").asObject();
+        final JsonObject second = parse("{\"thingId\":\"ns:b\",\"features\":{}}").asObject();
+
+        assertThat(first.getKeys().get(0)).isSameAs(second.getKeys().get(0));
+        assertThat(first.getKeys().get(1)).isSameAs(second.getKeys().get(1));
+    }
+
+    @Test
+    public void readsFromByteBufferWithoutChangingItsPosition() {
+        final byte[] bytes = ("xx" + THING).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer heapBuffer = ByteBuffer.wrap(bytes);
+        heapBuffer.position(2);
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).position(2);
+
+        assertThat(JsonFactory.readFrom(heapBuffer)).isEqualTo(JsonFactory.readFrom(THING));
+        assertThat(JsonFactory.readFrom(directBuffer)).isEqualTo(JsonFactory.readFrom(THING));
+        assertThat(heapBuffer.position()).isEqualTo(2);
+        assertThat(directBuffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void readsFromInputStream() {
+        final StringBuilder largeArray = new StringBuilder("[");
+        for (int i = 0; i < 10_000; i++) {
+            largeArray.append(i).append(',');
+        }
+        largeArray.append(THING).append(']');
+
+        final JsonValue actual = JsonFactory.readFrom(
+                new ByteArrayInputStream(largeArray.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(actual).isEqualTo(JsonFactory.readFrom(largeArray.toString()));
+    }
+
+    @Test
+    public void rejectsInvalidJson() {
+        final List<String> invalidJsonStrings = Arrays.asList("", "  ", "{", "{\"a\":1", "{\"a\" 1}", "{\"a\":1,}",
+                "[1,]", "{\"\":1}", "{\"a\":{\"\":1}}", "{\"a\":{\"b\":01}}", "{\"a\":{\"b\":1.}}",
+                "{\"a\":{\"b\":\"\\x\"}}", "{\"a\":{\"b\":\"\\u00G0\"}}", "{\"a\":{\"b\":\"\t\"}}", "\"abc",
+                "tru", "nul", "{\"a\":1} x", "{\"a\":{\"b\":99999999999999999999}}", "-", "{a:1}");
+
+        for (final String invalidJsonString : invalidJsonStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .describedAs(invalidJsonString)
+                    .isThrownBy(() -> parse(invalidJsonString));
+        }
+    }
+
+    @Test
+    public void rejectsTooDeeplyNestedJson() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            stringBuilder.append("{\"a\":");
+        }
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> parse(stringBuilder.toString()));
+    }
+
+    private static JsonValue parse(final String jsonString) {
+        return JsonFactory.readFrom(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
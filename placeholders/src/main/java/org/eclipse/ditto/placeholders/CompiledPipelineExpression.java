@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+
+/**
+ * A pipeline expression, e.g. {@code thing:name | fn:substring-before(':') | fn:default(thing:name)}, compiled into
+ * its input placeholder and its function stages.
+ * Expressions which cannot be compiled are resolved as strings, so that they fail the same way as before.
+ */
+@Immutable
+final class CompiledPipelineExpression {
+
+    private final String expression;
+    private final boolean compiled;
+    private final boolean startsWithFunction;
+    private final String firstExpression;
+    @Nullable private final String placeholderPrefix;
+    @Nullable private final String placeholderName;
+    private final List<Stage> stages;
+
+    private CompiledPipelineExpression(final String expression,
+            final boolean compiled,
+            final boolean startsWithFunction,
+            final String firstExpression,
+            @Nullable final String placeholderPrefix,
+            @Nullable final String placeholderName,
+            final List<Stage> stages) {
+
+        this.expression = expression;
+        this.compiled = compiled;
+        this.startsWithFunction = startsWithFunction;
+        this.firstExpression = firstExpression;
+        this.placeholderPrefix = placeholderPrefix;
+        this.placeholderName = placeholderName;
+        this.stages = Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * Compiles a pipeline expression.
+     *
+     * @param expression the expression between the curly braces of a placeholder.
+     * @return the compiled expression.
+     */
+    static CompiledPipelineExpression compile(final String expression) {
+        final List<String> stageExpressions;
+        try {
+            stageExpressions = ImmutableExpressionResolver.getPipelineStagesExpressions(expression);
+        } catch (final DittoRuntimeException e) {
+            // resolved as string in order to throw the exception for each resolution
+            return new CompiledPipelineExpression(expression, false, false, "", null, null, Collections.emptyList());
+        }
+        final String firstExpression = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        final boolean startsWithFunction = ImmutableExpressionResolver.isFirstPlaceholderFunction(firstExpression);
+
+        String placeholderPrefix = null;
+        String placeholderName = null;
+        if (!startsWithFunction) {
+            final int separatorIndex = firstExpression.indexOf(Expression.SEPARATOR);
+            if (separatorIndex != -1) {
+                placeholderPrefix = firstExpression.substring(0, separatorIndex).trim();
+                placeholderName = firstExpression.substring(placeholderPrefix.length() + 1);
+            }
+        }
+
+        final List<Stage> stages = new ArrayList<>(stageExpressions.size());
+        for (int i = startsWithFunction ? 0 : 1; i < stageExpressions.size(); i++) {
+            stages.add(Stage.compile(stageExpressions.get(i)));
+        }
+        return new CompiledPipelineExpression(expression, true, startsWithFunction, firstExpression, placeholderPrefix, placeholderName,
+                stages);
+    }
+
+    /**
+     * @return the original expression.
+     */
+    String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return whether the expression was compiled; if not, it has to be resolved as string.
+     */
+    boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * @return whether the pipeline starts with a function instead of a placeholder.
+     */
+    boolean startsWithFunction() {
+        return startsWithFunction;
+    }
+
+    /**
+     * @return the first expression of the pipeline.
+     */
+    String getFirstExpression() {
+        return firstExpression;
+    }
+
+    /**
+     * @return the prefix of the input placeholder or {@code null} if the first expression has none.
+     */
+    @Nullable
+    String getPlaceholderPrefix() {
+        return placeholderPrefix;
+    }
+
+    /**
+     * @return the name of the input placeholder or {@code null} if the first expression has no prefix.
+     */
+    @Nullable
+    String getPlaceholderName() {
+        return placeholderName;
+    }
+
+    /**
+     * Executes the function stages of the pipeline.
+     *
+     * @param pipelineInput the input of the first function stage.
+     * @param expressionResolver the resolver of placeholders in function parameters.
+     * @return the output of the last function stage.
+     */
+    PipelineElement executeStages(final PipelineElement pipelineInput, final ExpressionResolver expressionResolver) {
+        PipelineElement element = pipelineInput;
+        for (final Stage stage : stages) {
+            element = stage.apply(element, expressionResolver);
+        }
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "expression=" + expression +
+                ", compiled=" + compiled +
+                ", stages=" + stages +
+                "]";
+    }
+
+    /**
+     * A function stage with its function and its parameters.
+     */
+    @Immutable
+    private static final class Stage {
+
+        private final String stageExpression;
+        @Nullable private final PipelineFunction.BoundFunction function;
+
+        private Stage(final String stageExpression, @Nullable final PipelineFunction.BoundFunction function) {
+            this.stageExpression = stageExpression;
+            this.function = function;
+        }
+
+        private static Stage compile(final String stageExpression) {
+            final PipelineFunction function = ImmutableFunctionExpression.INSTANCE.getFunction(stageExpression);
+            if (null == function) {
+                // unknown functions are resolved as string in order to throw the exception for each resolution
+                return new Stage(stageExpression, null);
+            }
+            final String functionPrefix = FunctionExpression.PREFIX + FunctionExpression.SEPARATOR + function.getName();
+            // parse the parameters once, only placeholders among them are resolved for each resolution
+            return new Stage(stageExpression,
+                    function.bind(stageExpression.substring(functionPrefix.length()).trim()));
+        }
+
+        private PipelineElement apply(final PipelineElement element, final ExpressionResolver expressionResolver) {
+            if (null == function) {
+                return ImmutableFunctionExpression.INSTANCE.resolve(stageExpression, element, expressionResolver);
+            }
+            return function.apply(element, expressionResolver);
+        }
+
+        @Override
+        public String toString() {
+            return stageExpression;
+        }
+
+    }
+
+}
@@ -15,13 +15,10 @@ package org.eclipse.ditto.placeholders;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.regex.Matcher;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.ditto.base.model.common.Placeholders;
 
@@ -142,17 +139,6 @@ public interface ExpressionResolver {
             elements.add(PipelineElement.resolved(tailBuffer.toString()));
         }
 
-        if (elements.isEmpty()) {
-            return PipelineElement.resolved("");
-        } else if (elements.stream().allMatch(PipelineElementDeleted.class::isInstance)) {
-            return PipelineElement.deleted();
-        } else {
-            return PipelineElement.resolved(elements.stream()
-                    .filter(e -> !(e instanceof PipelineElementDeleted))
-                    .reduce(Collections.singletonList(""), (results, nextElement) -> results.stream()
-                                    .flatMap(result -> nextElement.toStream().map(next -> result + next))
-                                    .collect(Collectors.toList()),
-                            (x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList())));
-        }
+        return ImmutableExpressionTemplate.combine(elements);
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.Collection;
+
+/**
+ * A template with placeholder expressions, e.g. {@code {{ thing:namespace }}/{{ thing:name | fn:upper() }}}, compiled
+ * into its literal parts and the placeholders and function stages of its pipeline expressions. A compiled template
+ * is resolved without parsing the template again.
+ *
+ * @since 3.10.0
+ */
+public interface ExpressionTemplate {
+
+    /**
+     * Returns the compiled template.
+     *
+     * @return the template.
+     */
+    String getTemplate();
+
+    /**
+     * Resolves the template with the passed expression resolver.
+     *
+     * @param expressionResolver the expression resolver which resolves the placeholders of the template.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is unknown.
+     * @throws PlaceholderFunctionTooComplexException if the template contains a placeholder function chain which is
+     * too complex.
+     * @see ExpressionResolver#resolve(String)
+     */
+    PipelineElement resolve(ExpressionResolver expressionResolver);
+
+    /**
+     * Resolves the template with the passed expression resolver. Keeps unresolvable expressions as they are.
+     *
+     * @param expressionResolver the expression resolver which resolves the placeholders of the template.
+     * @param forbiddenUnresolvedExpressionPrefixes a collection of expression prefixes which must be resolved.
+     * @return the resolved PipelineElement.
+     * @throws UnresolvedPlaceholderException if placeholders could not be resolved which contained prefixed in the
+     * provided {@code forbiddenUnresolvedExpressionPrefixes} list.
+     * @see ExpressionResolver#resolvePartiallyAsPipelineElement(String, Collection)
+     */
+    PipelineElement resolvePartially(ExpressionResolver expressionResolver,
+            Collection<String> forbiddenUnresolvedExpressionPrefixes);
+
+}
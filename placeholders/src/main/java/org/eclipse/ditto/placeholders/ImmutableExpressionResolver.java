@@ -16,6 +16,7 @@ import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -100,13 +101,55 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 });
     }
 
+    @Override
+    public PipelineElement resolve(final String expressionTemplate) {
+        return ImmutableExpressionTemplate.of(expressionTemplate).resolve(this);
+    }
+
+    @Override
+    public PipelineElement resolvePartiallyAsPipelineElement(final String expressionTemplate,
+            final Collection<String> forbiddenUnresolvedExpressionPrefixes) {
+
+        return ImmutableExpressionTemplate.of(expressionTemplate)
+                .resolvePartially(this, forbiddenUnresolvedExpressionPrefixes);
+    }
+
+    /**
+     * Resolves a compiled pipeline expression without parsing it again.
+     *
+     * @param expression the compiled pipeline expression.
+     * @return the pipeline element after evaluation.
+     * @throws UnresolvedPlaceholderException if not all placeholders were resolved
+     */
+    PipelineElement resolveCompiled(final CompiledPipelineExpression expression) {
+        if (!expression.isCompiled()) {
+            return resolveAsPipelineElement(expression.getExpression());
+        }
+        final PipelineElement pipelineInput;
+        if (expression.startsWithFunction()) {
+            pipelineInput = PipelineElement.unresolved();
+        } else {
+            final String prefix = expression.getPlaceholderPrefix();
+            final String name = expression.getPlaceholderName();
+            final PlaceholderResolver<?> resolver = null != prefix ? placeholderResolvers.get(prefix) : null;
+            if (null == resolver || null == name || !resolver.supports(name)) {
+                throw UnresolvedPlaceholderException.newBuilder(expression.getFirstExpression()).build();
+            }
+            pipelineInput = resolvePlaceholder(resolver, name);
+        }
+        return expression.executeStages(pipelineInput, this);
+    }
+
     private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
         final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
                 .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
+        return resolvePlaceholder(resolverPair.getKey(), resolverPair.getValue());
+    }
 
+    private PipelineElement resolvePlaceholder(final PlaceholderResolver<?> resolver, final String name) {
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            final List<String> resolvedValues = resolverPair.getKey().resolveValues(resolverPair.getValue());
+            final List<String> resolvedValues = resolver.resolveValues(name);
             return PipelineElement.resolved(resolvedValues);
         } else {
             // validation mode: all placeholders resolve to dummy value.
@@ -114,7 +157,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -183,7 +226,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
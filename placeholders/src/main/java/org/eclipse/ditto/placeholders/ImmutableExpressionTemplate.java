@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.Placeholders;
+
+/**
+ * Immutable implementation of {@link ExpressionTemplate}. Compiled templates are cached, as the same few templates of
+ * e.g. the target addresses and header mappings of connections are resolved for every message.
+ * The cache keeps the least recently used templates containing placeholders only, so that arbitrary strings resolved
+ * as templates, e.g. header values of messages, neither fill it nor evict the templates of connections.
+ */
+@Immutable
+final class ImmutableExpressionTemplate implements ExpressionTemplate {
+
+    private static final int CACHE_STRIPES = 16;
+    private static final int MAX_CACHED_TEMPLATES_PER_STRIPE = 256;
+
+    private static final TemplateCacheStripe[] CACHE = newCache();
+
+    private final String template;
+    private final List<Segment> segments;
+
+    private ImmutableExpressionTemplate(final String template, final List<Segment> segments) {
+        this.template = template;
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Returns the compiled template, compiling it if it was not cached.
+     *
+     * @param template the template to compile.
+     * @return the compiled template.
+     */
+    static ImmutableExpressionTemplate of(final String template) {
+        final TemplateCacheStripe stripe = CACHE[stripeIndex(template)];
+        final ImmutableExpressionTemplate cached;
+        synchronized (stripe) {
+            cached = stripe.get(template);
+        }
+        if (null != cached) {
+            return cached;
+        }
+        final ImmutableExpressionTemplate compiled = compile(template);
+        if (compiled.containsExpressions()) {
+            synchronized (stripe) {
+                stripe.putIfAbsent(template, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    private static TemplateCacheStripe[] newCache() {
+        final TemplateCacheStripe[] cache = new TemplateCacheStripe[CACHE_STRIPES];
+        for (int i = 0; i < CACHE_STRIPES; i++) {
+            cache[i] = new TemplateCacheStripe();
+        }
+        return cache;
+    }
+
+    private static int stripeIndex(final String template) {
+        final int hash = template.hashCode();
+        return (hash ^ (hash >>> 16)) & (CACHE_STRIPES - 1);
+    }
+
+    private static ImmutableExpressionTemplate compile(final String template) {
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            String placeholderExpression = "";
+            for (final String groupName : Placeholders.groupNames()) {
+                final String group = matcher.group(groupName);
+                if (null != group) {
+                    placeholderExpression = group;
+                    break;
+                }
+            }
+            if (matcher.start() > literalStart) {
+                segments.add(Segment.literal(template.substring(literalStart, matcher.start())));
+            }
+            segments.add(Segment.expression(CompiledPipelineExpression.compile(placeholderExpression)));
+            literalStart = matcher.end();
+        }
+        if (template.length() > literalStart) {
+            segments.add(Segment.literal(template.substring(literalStart)));
+        }
+        return new ImmutableExpressionTemplate(template, segments);
+    }
+
+    private boolean containsExpressions() {
+        for (final Segment segment : segments) {
+            if (null != segment.expression) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        return substitute(expression -> resolveExpression(expression, expressionResolver));
+    }
+
+    @Override
+    public PipelineElement resolvePartially(final ExpressionResolver expressionResolver,
+            final Collection<String> forbiddenUnresolvedExpressionPrefixes) {
+
+        return substitute(compiledExpression -> {
+            final String expression = compiledExpression.getExpression();
+            final PipelineElement pipelineElement;
+            try {
+                pipelineElement = resolveExpression(compiledExpression, expressionResolver);
+            } catch (final UnresolvedPlaceholderException e) {
+                if (startsWithAny(expression, forbiddenUnresolvedExpressionPrefixes)) {
+                    throw e;
+                } else {
+                    // placeholder is not supported; return the expression without resolution.
+                    return PipelineElement.resolved("{{" + expression + "}}");
+                }
+            }
+
+            return pipelineElement.onUnresolved(() -> {
+                if (startsWithAny(expression, forbiddenUnresolvedExpressionPrefixes)) {
+                    throw UnresolvedPlaceholderException.newBuilder(expression).build();
+                }
+                return PipelineElement.resolved("{{" + expression + "}}");
+            });
+        });
+    }
+
+    private PipelineElement substitute(final Function<CompiledPipelineExpression, PipelineElement> resolveFunction) {
+        final List<PipelineElement> elements = new ArrayList<>(segments.size());
+        for (final Segment segment : segments) {
+            if (null != segment.literal) {
+                elements.add(segment.literal);
+            } else if (null != segment.expression) {
+                elements.add(resolveFunction.apply(segment.expression));
+            }
+        }
+        return combine(elements);
+    }
+
+    /**
+     * Combines the elements resolved for the literal parts and expressions of a template: deleted elements are
+     * skipped unless all elements are deleted, the values of all other elements are combined with each other.
+     *
+     * @param elements the elements in the order of the template.
+     * @return the combined element.
+     */
+    static PipelineElement combine(final List<PipelineElement> elements) {
+        if (elements.isEmpty()) {
+            return PipelineElement.resolved("");
+        }
+        List<String> results = null;
+        for (final PipelineElement element : elements) {
+            if (!(element instanceof PipelineElementDeleted)) {
+                final List<String> values = getValues(element);
+                if (null == results) {
+                    results = values;
+                } else if (results.isEmpty() || values.isEmpty()) {
+                    results = Collections.emptyList();
+                } else {
+                    final List<String> combinedResults = new ArrayList<>(results.size() * values.size());
+                    for (final String result : results) {
+                        for (final String value : values) {
+                            combinedResults.add(result + value);
+                        }
+                    }
+                    results = combinedResults;
+                }
+            }
+        }
+        if (null == results) {
+            return PipelineElement.deleted();
+        }
+        return PipelineElement.resolved(results);
+    }
+
+    private static List<String> getValues(final PipelineElement element) {
+        if (element instanceof PipelineElementResolved) {
+            return ((PipelineElementResolved) element).getValues();
+        }
+        return element.toStream().collect(Collectors.toList());
+    }
+
+    private static PipelineElement resolveExpression(final CompiledPipelineExpression expression,
+            final ExpressionResolver expressionResolver) {
+        if (expressionResolver instanceof ImmutableExpressionResolver) {
+            return ((ImmutableExpressionResolver) expressionResolver).resolveCompiled(expression);
+        }
+        return expressionResolver.resolveAsPipelineElement(expression.getExpression());
+    }
+
+    private static boolean startsWithAny(final String expression, final Collection<String> prefixes) {
+        for (final String prefix : prefixes) {
+            if (expression.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableExpressionTemplate that = (ImmutableExpressionTemplate) o;
+        return template.equals(that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", segments=" + segments +
+                "]";
+    }
+
+    /**
+     * Either a literal part of the template or a pipeline expression.
+     */
+    @Immutable
+    private static final class Segment {
+
+        @Nullable private final PipelineElement literal;
+        @Nullable private final CompiledPipelineExpression expression;
+
+        private Segment(@Nullable final PipelineElement literal, @Nullable final CompiledPipelineExpression expression) {
+            this.literal = literal;
+            this.expression = expression;
+        }
+
+        private static Segment literal(final String literal) {
+            return new Segment(PipelineElement.resolved(literal), null);
+        }
+
+        private static Segment expression(final CompiledPipelineExpression expression) {
+            return new Segment(null, expression);
+        }
+
+        @Override
+        public String toString() {
+            return null != literal ? String.valueOf(literal) : String.valueOf(expression);
+        }
+
+    }
+
+    /**
+     * The compiled templates of one stripe of the cache in access order, evicting the least recently used template
+     * when full. Access has to be synchronized on the stripe.
+     */
+    private static final class TemplateCacheStripe extends LinkedHashMap<String, ImmutableExpressionTemplate> {
+
+        private static final long serialVersionUID = -1829342374928164123L;
+
+        private TemplateCacheStripe() {
+            super(16, 0.75F, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ImmutableExpressionTemplate> eldest) {
+            return size() > MAX_CACHED_TEMPLATES_PER_STRIPE;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -90,4 +91,21 @@ final class ImmutableFunctionExpression implements FunctionExpression {
                 .orElse(PipelineElement.unresolved());
     }
 
+    /**
+     * Returns the function applied by {@link #resolve(String, PipelineElement, ExpressionResolver)} to the passed
+     * function expression.
+     *
+     * @param expression the function expression, e.g. {@code fn:default('fallback')}.
+     * @return the function or {@code null} if the expression does not start with a supported function.
+     */
+    @Nullable
+    PipelineFunction getFunction(final String expression) {
+        for (final PipelineFunction pipelineFunction : SUPPORTED) {
+            if (expression.startsWith(getPrefix() + ":" + pipelineFunction.getName() + "(")) {
+                return pipelineFunction;
+            }
+        }
+        return null;
+    }
+
 }
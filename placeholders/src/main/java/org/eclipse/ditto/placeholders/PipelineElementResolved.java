@@ -43,6 +43,13 @@ final class PipelineElementResolved implements PipelineElement {
         return new PipelineElementResolved(values);
     }
 
+    /**
+     * @return the resolved values.
+     */
+    List<String> getValues() {
+        return values;
+    }
+
     @Override
     public Type getType() {
         return Type.RESOLVED;
@@ -53,6 +53,40 @@ interface PipelineFunction {
     PipelineElement apply(PipelineElement value, String paramsIncludingParentheses,
             ExpressionResolver expressionResolver);
 
+    /**
+     * Parses the passed in function parameters once, e.g. when compiling a pipeline, so that applying the returned
+     * function only resolves the placeholders occurring in the parameters.
+     * Parameters not matching the function's signature are reported when the returned function is applied.
+     *
+     * @param paramsIncludingParentheses the passed in function parameters including parentheses, e.g.: {@code
+     * ('fallback')}
+     * @return the function applying to the parsed parameters.
+     * @since 3.10.0
+     */
+    default BoundFunction bind(final String paramsIncludingParentheses) {
+        return (value, expressionResolver) -> apply(value, paramsIncludingParentheses, expressionResolver);
+    }
+
+    /**
+     * A pipeline function whose parameters are already parsed.
+     *
+     * @since 3.10.0
+     */
+    @FunctionalInterface
+    interface BoundFunction {
+
+        /**
+         * Executes the function by passing in a value and returning a processed result.
+         *
+         * @param value the input value to process.
+         * @param expressionResolver the expressionResolver to use in order to resolve placeholders occurring in the
+         * function's parameters.
+         * @return processed output value, or an empty optional otherwise.
+         */
+        PipelineElement apply(PipelineElement value, ExpressionResolver expressionResolver);
+
+    }
+
     /**
      * Defines a function's signature.
      */
@@ -43,6 +43,18 @@ final class PipelineFunctionBase64Encode implements PipelineFunction {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
+        return applyTo(value);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        if (PipelineFunctionParameterResolverFactory.forEmptyParameters().test(paramsIncludingParentheses)) {
+            return (value, expressionResolver) -> applyTo(value);
+        }
+        return PipelineFunction.super.bind(paramsIncludingParentheses);
+    }
+
+    private static PipelineElement applyTo(final PipelineElement value) {
         return value.map(v -> Base64.getEncoder().encodeToString(v.getBytes(StandardCharsets.UTF_8)));
     }
 
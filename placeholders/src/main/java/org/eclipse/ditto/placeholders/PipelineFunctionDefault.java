@@ -17,6 +17,8 @@ import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:default('...')} function implementation.
  */
@@ -39,18 +41,34 @@ final class PipelineFunctionDefault implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
         // parse + resolve the specified default value for unresolved placeholders
         // if previous stage does not resolve to a value. deleted pipeline elements remain deleted.
         // evaluate parameter first to fail fast.
-        final PipelineElement parameter = parseAndResolveThrow(paramsIncludingParentheses, expressionResolver);
+        final PipelineElement parameter = resolveThrow(parsedParameters, expressionResolver);
         return value.onUnresolved(() -> parameter);
     }
 
-    private PipelineElement parseAndResolveThrow(final String paramsIncludingParentheses,
+    private PipelineElement resolveThrow(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
+        return parsedParameters.resolve(expressionResolver).get(0);
+    }
+
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
         return PipelineFunctionParameterResolverFactory.forStringOrPlaceholderParameter()
-                .apply(paramsIncludingParentheses, expressionResolver, this);
+                .parse(paramsIncludingParentheses, this);
     }
 
     /**
@@ -41,6 +41,18 @@ final class PipelineFunctionDelete implements PipelineFunction {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
+        return applyTo(value);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        if (PipelineFunctionParameterResolverFactory.forEmptyParameters().test(paramsIncludingParentheses)) {
+            return (value, expressionResolver) -> applyTo(value);
+        }
+        return PipelineFunction.super.bind(paramsIncludingParentheses);
+    }
+
+    private static PipelineElement applyTo(final PipelineElement value) {
         return PipelineElement.deleted();
     }
 
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
 import org.eclipse.ditto.placeholders.filter.FilterFunction;
 import org.eclipse.ditto.placeholders.filter.FilterFunctions;
 
@@ -48,7 +49,19 @@ final class PipelineFunctionFilter implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final Parameters parameters = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final Parameters parameters = resolve(parsedParameters, expressionResolver);
         final boolean filterValuesArePreviousValues = !parameters.getFilterValues().isPresent();
         final boolean shouldKeepAnyValue = applyRqlFunction(parameters);
         return value.onResolved(valueThatShouldBeFilteredConditionally -> {
@@ -114,13 +127,12 @@ final class PipelineFunctionFilter implements PipelineFunction {
                 .collect(Collectors.toSet());
     }
 
-    private Parameters parseAndResolve(final String paramsIncludingParentheses,
+    private Parameters resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
         final Parameters result;
-        final List<PipelineElement> parameterElements =
-                PipelineFunctionParameterResolverFactory.forDoubleOrTripleStringOrPlaceholderParameter()
-                        .apply(paramsIncludingParentheses, expressionResolver, this);
+        final List<PipelineElement> parameterElements = parsedParameters.resolve(expressionResolver);
 
         final PipelineElement firstElement = parameterElements.get(0);
         final PipelineElement secondElement = parameterElements.get(1);
@@ -145,6 +157,11 @@ final class PipelineFunctionFilter implements PipelineFunction {
 
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return PipelineFunctionParameterResolverFactory.forDoubleOrTripleStringOrPlaceholderParameter()
+                .parse(paramsIncludingParentheses, this);
+    }
+
     private static boolean isExistsFilter(final PipelineElement element) {
         final Optional<String> second = element.findFirst();
         return second.isPresent() && second.get().equals("exists");
@@ -25,6 +25,7 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
 
 /**
  * Provides the {@code fn:format('{field1}#{field2}')} function implementation.
@@ -87,7 +88,19 @@ final class PipelineFunctionFormat implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final String template = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final String template = resolve(parsedParameters, expressionResolver);
         final List<TemplatePart> templateParts = parseTemplate(template);
 
         final List<String> allResults = new ArrayList<>();
@@ -111,16 +124,21 @@ final class PipelineFunctionFormat implements PipelineFunction {
         return PipelineElement.resolved(allResults);
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
+    private String resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
+        return parsedParameters.resolve(expressionResolver).get(0)
                 .findFirst()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                                 .build());
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return parameterResolver.parse(paramsIncludingParentheses, this);
+    }
+
     /**
      * Parses the template into a list of static text parts, field reference parts, and section parts.
      * Sections are detected first via {@code {#name}...{/name}}, then the remaining fragments are
@@ -18,6 +18,8 @@ import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:join('delimiter')} function implementation.
  */
@@ -43,7 +45,19 @@ final class PipelineFunctionJoin implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final String joinDelimiter = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final String joinDelimiter = resolve(parsedParameters, expressionResolver);
         if (value.toStream().count() == 0) {
             return PipelineElement.unresolved();
         } else {
@@ -53,16 +67,21 @@ final class PipelineFunctionJoin implements PipelineFunction {
         }
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
+    private String resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
+        return parsedParameters.resolve(expressionResolver).get(0)
                 .findFirst()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                                 .build());
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return parameterResolver.parse(paramsIncludingParentheses, this);
+    }
+
     /**
      * Describes the signature of the {@code join('delimiter')} function.
      */
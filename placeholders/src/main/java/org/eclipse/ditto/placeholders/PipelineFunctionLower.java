@@ -41,6 +41,18 @@ final class PipelineFunctionLower implements PipelineFunction {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
+        return applyTo(element);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        if (PipelineFunctionParameterResolverFactory.forEmptyParameters().test(paramsIncludingParentheses)) {
+            return (element, expressionResolver) -> applyTo(element);
+        }
+        return PipelineFunction.super.bind(paramsIncludingParentheses);
+    }
+
+    private static PipelineElement applyTo(final PipelineElement element) {
         return element.map(String::toLowerCase);
     }
 
@@ -14,12 +14,14 @@ package org.eclipse.ditto.placeholders;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -212,62 +214,113 @@ final class PipelineFunctionParameterResolverFactory {
             return PLACEHOLDER_GROUP_NAME_PREFIX + parameterIndex;
         }
 
-        private static Optional<PipelineElement> apply(final Matcher matcher, final int parameterIndex,
-                final ExpressionResolver expressionResolver) {
+        public List<PipelineElement> apply(final String paramsIncludingParentheses,
+                final ExpressionResolver resolver,
+                final PipelineFunction pipelineFunction) {
 
-            final String singleQuotedStringConstant = matcher.group(buildSingleQuotedConstantGroupName(parameterIndex));
+            return parse(paramsIncludingParentheses, pipelineFunction).resolve(resolver);
+        }
 
-            if (singleQuotedStringConstant != null) {
-                return Optional.of(PipelineElement.resolved(singleQuotedStringConstant));
-            } else {
-                final String doubleQuotedStringConstant =
-                        matcher.group(buildDoubleQuotedConstantGroupName(parameterIndex));
-                if (doubleQuotedStringConstant != null) {
-                    return Optional.of(PipelineElement.resolved(doubleQuotedStringConstant));
+        /**
+         * Parses the parameters without resolving the placeholders among them. Invalid parameters are not reported
+         * before the parsed parameters are resolved.
+         *
+         * @param paramsIncludingParentheses the parameters including parentheses.
+         * @param pipelineFunction the function the parameters are passed to.
+         * @return the parsed parameters.
+         */
+        ParsedParameters parse(final String paramsIncludingParentheses, final PipelineFunction pipelineFunction) {
+            final Matcher matcher = pattern.matcher(paramsIncludingParentheses);
+            if (!matcher.matches()) {
+                return ParsedParameters.invalid(paramsIncludingParentheses, pipelineFunction);
+            }
+            final List<ParsedParameter> parameters = new ArrayList<>(requiredParameters + optionalParameters);
+            for (int parameterIndex = 0; parameterIndex < requiredParameters + optionalParameters; parameterIndex++) {
+                final Optional<ParsedParameter> parameter = parse(matcher, parameterIndex);
+                if (parameterIndex < requiredParameters && parameter.isEmpty()) {
+                    return ParsedParameters.invalid(paramsIncludingParentheses, pipelineFunction);
                 }
+                parameter.ifPresent(parameters::add);
             }
+            return new ParsedParameters(paramsIncludingParentheses, pipelineFunction, parameters);
+        }
 
-            final String placeholder = matcher.group(buildPlaceholderGroupName(parameterIndex));
-            if (placeholder != null) {
-                return Optional.of(expressionResolver.resolveAsPipelineElement(placeholder));
+        private static Optional<ParsedParameter> parse(final Matcher matcher, final int parameterIndex) {
+            final String singleQuotedStringConstant = matcher.group(buildSingleQuotedConstantGroupName(parameterIndex));
+            if (singleQuotedStringConstant != null) {
+                return Optional.of(new ParsedParameter(PipelineElement.resolved(singleQuotedStringConstant), null));
+            }
+            final String doubleQuotedStringConstant = matcher.group(buildDoubleQuotedConstantGroupName(parameterIndex));
+            if (doubleQuotedStringConstant != null) {
+                return Optional.of(new ParsedParameter(PipelineElement.resolved(doubleQuotedStringConstant), null));
             }
+            return Optional.ofNullable(matcher.group(buildPlaceholderGroupName(parameterIndex)))
+                    .map(placeholder -> new ParsedParameter(null, placeholder));
+        }
+
+    }
 
-            return Optional.empty();
+    /**
+     * Parameters of a function parsed once, e.g. for a compiled pipeline, which only need their placeholders to be
+     * resolved on each application of the function.
+     */
+    @Immutable
+    static final class ParsedParameters {
+
+        private final String paramsIncludingParentheses;
+        private final PipelineFunction pipelineFunction;
+        @Nullable private final List<ParsedParameter> parameters;
+
+        private ParsedParameters(final String paramsIncludingParentheses, final PipelineFunction pipelineFunction,
+                @Nullable final List<ParsedParameter> parameters) {
+
+            this.paramsIncludingParentheses = paramsIncludingParentheses;
+            this.pipelineFunction = pipelineFunction;
+            this.parameters = null != parameters ? Collections.unmodifiableList(parameters) : null;
         }
 
-        public List<PipelineElement> apply(final String paramsIncludingParentheses,
-                final ExpressionResolver resolver,
+        private static ParsedParameters invalid(final String paramsIncludingParentheses,
                 final PipelineFunction pipelineFunction) {
 
-            final Matcher matcher = pattern.matcher(paramsIncludingParentheses);
-
-            if (matcher.matches()) {
-                final ArrayList<PipelineElement> parameters = new ArrayList<>(requiredParameters);
-                parameters.addAll(extractParameters(matcher, resolver, paramsIncludingParentheses, pipelineFunction,
-                        0, requiredParameters, false));
-                parameters.addAll(extractParameters(matcher, resolver, paramsIncludingParentheses, pipelineFunction,
-                        requiredParameters, optionalParameters, true));
-                return parameters;
-            }
+            return new ParsedParameters(paramsIncludingParentheses, pipelineFunction, null);
+        }
 
-            throw PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, pipelineFunction)
-                    .build();
+        /**
+         * @return the parameters including parentheses as passed to the function.
+         */
+        String getParamsIncludingParentheses() {
+            return paramsIncludingParentheses;
         }
 
-        private List<PipelineElement> extractParameters(final Matcher matcher, final ExpressionResolver resolver,
-                final String paramsIncludingParentheses, final PipelineFunction pipelineFunction,
-                final int startIndex, final int amount, final boolean optional) {
-            final List<PipelineElement> parameters = new ArrayList<>(amount);
-            for (int parameterIndex = startIndex; parameterIndex < startIndex + amount; parameterIndex++) {
-                final Optional<PipelineElement> applied = apply(matcher, parameterIndex, resolver);
-                if (!optional && !applied.isPresent()) {
-                    throw PlaceholderFunctionSignatureInvalidException.newBuilder(
-                            paramsIncludingParentheses,
-                            pipelineFunction).build();
-                }
-                applied.ifPresent(parameters::add);
+        /**
+         * Resolves the placeholders among the parameters.
+         *
+         * @param resolver the resolver of the placeholders.
+         * @return the resolved parameters.
+         * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the signature of the
+         * function.
+         */
+        List<PipelineElement> resolve(final ExpressionResolver resolver) {
+            if (null == parameters) {
+                throw PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses,
+                        pipelineFunction).build();
+            }
+            final List<PipelineElement> resolved = new ArrayList<>(parameters.size());
+            for (final ParsedParameter parameter : parameters) {
+                resolved.add(parameter.resolve(resolver));
             }
-            return parameters;
+            return resolved;
+        }
+
+    }
+
+    /**
+     * Either a string constant or a placeholder.
+     */
+    private record ParsedParameter(@Nullable PipelineElement constant, @Nullable String placeholder) {
+
+        private PipelineElement resolve(final ExpressionResolver resolver) {
+            return null != constant ? constant : resolver.resolveAsPipelineElement(placeholder);
         }
 
     }
@@ -287,6 +340,17 @@ final class PipelineFunctionParameterResolverFactory {
             return parameterResolver.apply(paramsIncludingParentheses, resolver, pipelineFunction).get(0);
         }
 
+        /**
+         * Parses the parameter without resolving it.
+         *
+         * @param paramsIncludingParentheses the parameters including parentheses.
+         * @param pipelineFunction the function the parameter is passed to.
+         * @return the parsed parameter; resolving it yields a list with exactly one element.
+         */
+        ParsedParameters parse(final String paramsIncludingParentheses, final PipelineFunction pipelineFunction) {
+            return parameterResolver.parse(paramsIncludingParentheses, pipelineFunction);
+        }
+
     }
 
     static class EmptyParameterResolver implements Predicate<String> {
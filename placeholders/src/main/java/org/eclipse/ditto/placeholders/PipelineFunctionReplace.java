@@ -19,6 +19,8 @@ import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:replace('from', 'to')} function implementation.
  */
@@ -41,17 +43,28 @@ final class PipelineFunctionReplace implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final Parameters parameters = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final Parameters parameters = resolve(parsedParameters, expressionResolver);
 
         return value.map(str -> str.replace(parameters.getFrom(), parameters.getTo()));
     }
 
-    private PipelineFunctionReplace.Parameters parseAndResolve(final String paramsIncludingParentheses,
+    private PipelineFunctionReplace.Parameters resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
-        final List<PipelineElement> parameterElements =
-                PipelineFunctionParameterResolverFactory.forDoubleOrTripleStringOrPlaceholderParameter()
-                        .apply(paramsIncludingParentheses, expressionResolver, this);
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
+        final List<PipelineElement> parameterElements = parsedParameters.resolve(expressionResolver);
 
         final PipelineFunctionReplace.ParametersBuilder parametersBuilder =
                 new PipelineFunctionReplace.ParametersBuilder();
@@ -69,6 +82,11 @@ final class PipelineFunctionReplace implements PipelineFunction {
         return parametersBuilder.build();
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return PipelineFunctionParameterResolverFactory.forDoubleOrTripleStringOrPlaceholderParameter()
+                .parse(paramsIncludingParentheses, this);
+    }
+
     /**
      * Describes the signature of the {@code replace('from', 'to')} function.
      */
@@ -20,6 +20,8 @@ import java.util.stream.Stream;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:split('separator')} function implementation.
  */
@@ -45,7 +47,19 @@ final class PipelineFunctionSplit implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final String splitValue = resolve(parsedParameters, expressionResolver);
         return PipelineElement.resolved(value.toStream()
                 .flatMap(valueToSplit -> {
                     if (valueToSplit.contains(splitValue)) {
@@ -57,16 +71,21 @@ final class PipelineFunctionSplit implements PipelineFunction {
                 .collect(Collectors.toList()));
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
+    private String resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
+        return parsedParameters.resolve(expressionResolver).get(0)
                 .findFirst()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                                 .build());
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return parameterResolver.parse(paramsIncludingParentheses, this);
+    }
+
     /**
      * Describes the signature of the {@code split('separator')} function.
      */
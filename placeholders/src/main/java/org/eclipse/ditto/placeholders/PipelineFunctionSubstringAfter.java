@@ -18,6 +18,8 @@ import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:substring-after('...')} function implementation.
  */
@@ -40,7 +42,19 @@ final class PipelineFunctionSubstringAfter implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final PipelineElement resolved = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final PipelineElement resolved = resolve(parsedParameters, expressionResolver);
 
         return value.onResolved(previousStage -> PipelineElement.resolved(resolved.toStream()
                 .filter(previousStage::contains)
@@ -49,11 +63,15 @@ final class PipelineFunctionSubstringAfter implements PipelineFunction {
                 .collect(Collectors.toList())));
     }
 
-    private PipelineElement parseAndResolve(final String paramsIncludingParentheses,
+    private PipelineElement resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
+        return parsedParameters.resolve(expressionResolver).get(0);
+    }
+
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
         return PipelineFunctionParameterResolverFactory.forStringParameter()
-                .apply(paramsIncludingParentheses, expressionResolver, this);
+                .parse(paramsIncludingParentheses, this);
     }
 
     /**
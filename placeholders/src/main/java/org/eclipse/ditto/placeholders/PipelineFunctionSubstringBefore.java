@@ -17,6 +17,8 @@ import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.placeholders.PipelineFunctionParameterResolverFactory.ParsedParameters;
+
 /**
  * Provides the {@code fn:substring-before('...')} function implementation.
  */
@@ -42,7 +44,19 @@ final class PipelineFunctionSubstringBefore implements PipelineFunction {
     public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
             final ExpressionResolver expressionResolver) {
 
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        return apply(value, parse(paramsIncludingParentheses), expressionResolver);
+    }
+
+    @Override
+    public BoundFunction bind(final String paramsIncludingParentheses) {
+        final ParsedParameters parsedParameters = parse(paramsIncludingParentheses);
+        return (value, expressionResolver) -> apply(value, parsedParameters, expressionResolver);
+    }
+
+    private PipelineElement apply(final PipelineElement value, final ParsedParameters parsedParameters,
+            final ExpressionResolver expressionResolver) {
+
+        final String splitValue = resolve(parsedParameters, expressionResolver);
 
         return value.onResolved(previousStage -> {
             if (previousStage.contains(splitValue)) {
@@ -53,16 +67,21 @@ final class PipelineFunctionSubstringBefore implements PipelineFunction {
         });
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
+    private String resolve(final ParsedParameters parsedParameters,
             final ExpressionResolver expressionResolver) {
 
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
+        final String paramsIncludingParentheses = parsedParameters.getParamsIncludingParentheses();
+        return parsedParameters.resolve(expressionResolver).get(0)
                 .findFirst()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                                 .build());
     }
 
+    private ParsedParameters parse(final String paramsIncludingParentheses) {
+        return parameterResolver.parse(paramsIncludingParentheses, this);
+    }
+
     /**
      * Describes the signature of the {@code substring-before('givenString')} function.
      */
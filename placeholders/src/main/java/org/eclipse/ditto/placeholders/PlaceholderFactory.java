@@ -130,6 +130,18 @@ public final class PlaceholderFactory {
                 stringUsedInPlaceholderReplacement);
     }
 
+    /**
+     * Returns the compiled form of an expression template, e.g. {@code prefix/{{ thing:id | fn:lower() }}}, which
+     * can be resolved repeatedly without parsing the template again.
+     *
+     * @param template the expression template.
+     * @return the compiled template.
+     * @since 3.10.0
+     */
+    public static ExpressionTemplate newExpressionTemplate(final String template) {
+        return ImmutableExpressionTemplate.of(template);
+    }
+
     private static ExpressionResolver newExpressionResolver(final List<PlaceholderResolver<?>> placeholderResolvers,
             final String stringUsedInPlaceholderValidation) {
         return new ImmutableExpressionResolver(placeholderResolvers, stringUsedInPlaceholderValidation);
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link ImmutableExpressionTemplate} against the resolution of the template as string.
+ */
+public final class ImmutableExpressionTemplateTest {
+
+    private static final HeadersPlaceholder HEADERS_PLACEHOLDER = PlaceholderFactory.newHeadersPlaceholder();
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "",
+            "literal/only",
+            "{{ header:header-name }}",
+            "prefix/{{ header:header-name | fn:upper() }}/{{header:header:with:colon|fn:substring-after(':')}}/suffix",
+            "{{ header:nonexistent | fn:default(header:header-name) | fn:replace('-', '_') }}",
+            "{{ fn:default('constant') | fn:upper() }}",
+            "{{ header:nonexistent }}",
+            "{{ header:header-name | fn:filter('like','none*') }}",
+            "a{{ header:header-name | fn:delete() }}b",
+            "{{ header:header-name | fn:delete() }}",
+            "{{ header:header-name | fn:split('-') }}:{{ header:header:with:colon | fn:split(':') }}"
+    );
+
+    private ExpressionResolver expressionResolver;
+
+    @Before
+    public void setupExpressionResolver() {
+        final Map<String, String> headersMap = new HashMap<>();
+        headersMap.put("header-name", "header-val");
+        headersMap.put("header:with:colon", "value:with:colon");
+        expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER, headersMap)
+        );
+    }
+
+    @Test
+    public void compiledTemplateResolvesLikeStringTemplate() {
+        for (final String template : TEMPLATES) {
+            assertThat(PlaceholderFactory.newExpressionTemplate(template).resolve(expressionResolver))
+                    .describedAs(template)
+                    .isEqualTo(ExpressionResolver.substitute(template, expressionResolver::resolveAsPipelineElement));
+        }
+    }
+
+    @Test
+    public void compiledTemplateResolvesPartiallyLikeStringTemplate() {
+        final String template = "{{ header:header-name }}/{{ thing:id }}/{{ header:nonexistent }}";
+        final ExpressionResolver stringResolver = expressionResolver::resolveAsPipelineElement;
+
+        assertThat(PlaceholderFactory.newExpressionTemplate(template)
+                .resolvePartially(expressionResolver, Collections.emptyList()))
+                .isEqualTo(stringResolver.resolvePartiallyAsPipelineElement(template, Collections.emptyList()))
+                .contains("header-val/{{thing:id }}/{{header:nonexistent }}");
+        assertThatThrownBy(() -> PlaceholderFactory.newExpressionTemplate(template)
+                .resolvePartially(expressionResolver, Collections.singleton("header:")))
+                .isInstanceOf(UnresolvedPlaceholderException.class);
+    }
+
+    @Test
+    public void unknownPlaceholderIsUnresolvedForEachResolution() {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate("{{ thing:id }}");
+
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(UnresolvedPlaceholderException.class);
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(UnresolvedPlaceholderException.class);
+    }
+
+    @Test
+    public void unknownFunctionFailsForEachResolution() {
+        final ExpressionTemplate underTest =
+                PlaceholderFactory.newExpressionTemplate("{{ header:header-name | fn:unknown() }}");
+
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionUnknownException.class);
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionUnknownException.class);
+    }
+
+    @Test
+    public void tooComplexPipelineFailsForEachResolution() {
+        final StringBuilder template = new StringBuilder("{{ header:header-name");
+        for (int i = 0; i < 11; i++) {
+            template.append(" | fn:trim()");
+        }
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate(template.append(" }}").toString());
+
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionTooComplexException.class);
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionTooComplexException.class);
+    }
+
+    @Test
+    public void compiledTemplatesAreCached() {
+        final String template = "{{ header:header-name }}/cached";
+
+        assertThat(PlaceholderFactory.newExpressionTemplate(template))
+                .isSameAs(PlaceholderFactory.newExpressionTemplate(template));
+    }
+
+    @Test
+    public void templatesWithoutPlaceholdersAreNotCached() {
+        final String template = "literal/not-cached";
+
+        assertThat(PlaceholderFactory.newExpressionTemplate(template))
+                .isNotSameAs(PlaceholderFactory.newExpressionTemplate(template));
+    }
+
+    @Test
+    public void leastRecentlyUsedTemplatesAreEvicted() {
+        final String template = "{{ header:header-name }}/evicted";
+        final ExpressionTemplate compiled = PlaceholderFactory.newExpressionTemplate(template);
+        for (int i = 0; i < 8192; i++) {
+            PlaceholderFactory.newExpressionTemplate("{{ header:header-name }}/" + i);
+        }
+
+        assertThat(PlaceholderFactory.newExpressionTemplate(template)).isNotSameAs(compiled);
+    }
+
+    @Test
+    public void placeholdersInParsedFunctionParametersAreResolvedForEachResolution() {
+        final ExpressionTemplate underTest =
+                PlaceholderFactory.newExpressionTemplate("{{ header:nonexistent | fn:default(header:header-name) }}");
+        final ExpressionResolver otherExpressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER,
+                        Collections.singletonMap("header-name", "other-val"))
+        );
+
+        assertThat(underTest.resolve(expressionResolver)).containsExactly("header-val");
+        assertThat(underTest.resolve(otherExpressionResolver)).containsExactly("other-val");
+    }
+
+    @Test
+    public void invalidFunctionParametersFailForEachResolution() {
+        final ExpressionTemplate underTest =
+                PlaceholderFactory.newExpressionTemplate("{{ header:header-name | fn:upper('invalid') }}");
+
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionSignatureInvalidException.class);
+        assertThatThrownBy(() -> underTest.resolve(expressionResolver))
+                .isInstanceOf(PlaceholderFunctionSignatureInvalidException.class);
+    }
+
+}
@@ -38,6 +38,9 @@ import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.enforcement.config.DefaultNamespacePoliciesConfig;
 import org.eclipse.ditto.policies.enforcement.config.NamespacePoliciesConfig;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
@@ -48,13 +51,21 @@ import org.slf4j.Logger;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 /**
- * Transparent caching layer for {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}
+ * Transparent caching layer for {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}.
+ * <p>
+ * Lookups read the concurrent {@link PolicyEnforcerCache} directly from the calling thread. The
+ * {@code CachingPolicyEnforcerProviderActor} only handles cache invalidations via pub/sub and changes of the blocked
+ * namespaces, so lookups are not serialized through its mailbox.
+ * </p>
  */
 final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider implements Invalidatable {
 
     private static final Logger LOGGER = DittoLoggerFactory.getThreadSafeLogger(CachingPolicyEnforcerProvider.class);
-    private static final Duration LOCAL_POLICY_RETRIEVAL_TIMEOUT = Duration.ofSeconds(60);
+    private static final String LOOKUP_TIMER = "policy_enforcer_lookup";
+    private static final String LOOKUP_TIMER_TAG_CACHED = "cached";
+    private static final Gauge LOOKUPS_IN_FLIGHT = DittoMetrics.gauge("policy_enforcer_lookups_in_flight");
 
+    private final PolicyEnforcerCache policyEnforcerCache;
     private final ActorRef cachingPolicyEnforcerProviderActor;
 
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem) {
@@ -73,8 +84,7 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
         this(actorSystem,
                 buildCache(actorSystem, namespacePoliciesConfig, cacheDispatcher, cacheConfig),
                 BlockedNamespaces.of(actorSystem),
-                DistributedPubSub.get(actorSystem).mediator(),
-                cacheDispatcher
+                DistributedPubSub.get(actorSystem).mediator()
         );
     }
 
@@ -102,12 +112,11 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
     CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
             final PolicyEnforcerCache policyEnforcerCache,
             final BlockedNamespaces blockedNamespaces,
-            final ActorRef pubSubMediator,
-            final MessageDispatcher cacheDispatcher) {
+            final ActorRef pubSubMediator) {
 
+        this.policyEnforcerCache = policyEnforcerCache;
         this.cachingPolicyEnforcerProviderActor = actorSystem.actorOf(
-                CachingPolicyEnforcerProviderActor.props(policyEnforcerCache, blockedNamespaces,
-                        pubSubMediator, cacheDispatcher));
+                CachingPolicyEnforcerProviderActor.props(policyEnforcerCache, blockedNamespaces, pubSubMediator));
     }
 
     @Override
@@ -116,25 +125,23 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
             LOGGER.debug("Returning empty loaded PolicyEnforcer for provided <null> PolicyId");
             return CompletableFuture.completedFuture(Optional.empty());
         }
-        return Patterns.ask(cachingPolicyEnforcerProviderActor, policyId, LOCAL_POLICY_RETRIEVAL_TIMEOUT)
-                .thenApply(response -> {
-                    final Optional<PolicyEnforcer> result;
-                    if (response instanceof Optional<?> optional) {
-                        result = optional.map(value -> {
-                            if (value instanceof PolicyEnforcer policyEnforcer) {
-                                return policyEnforcer;
-                            } else {
-                                LOGGER.warn("Did receive Optional holding an unexpected type. " +
-                                                "Did expect a PolicyEnforcer but got <{}>.",
-                                        value.getClass());
-                                return null;
-                            }
-                        });
-                    } else {
-                        result = Optional.empty();
-                    }
-                    return result;
-                });
+        final StartedTimer lookupTimer = DittoMetrics.timer(LOOKUP_TIMER).start();
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cacheLookup = policyEnforcerCache.get(policyId);
+        if (cacheLookup.isDone()) {
+            // the common case of a cache hit does not need any bookkeeping for completion
+            lookupTimer.tag(LOOKUP_TIMER_TAG_CACHED, true).stop();
+            return cacheLookup.thenApply(CachingPolicyEnforcerProvider::toPolicyEnforcer);
+        }
+        LOOKUPS_IN_FLIGHT.increment();
+        return cacheLookup.whenComplete((result, error) -> {
+                    LOOKUPS_IN_FLIGHT.decrement();
+                    lookupTimer.tag(LOOKUP_TIMER_TAG_CACHED, false).stop();
+                })
+                .thenApply(CachingPolicyEnforcerProvider::toPolicyEnforcer);
+    }
+
+    private static Optional<PolicyEnforcer> toPolicyEnforcer(final Optional<Entry<PolicyEnforcer>> optionalEntry) {
+        return optionalEntry.flatMap(Entry::get);
     }
 
     @Override
@@ -155,21 +162,18 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
     protected record PolicyTagEnvelope(PolicyTag policyTag, String correlationId){}
 
     /**
-     * Actor which handles the actual cache lookup and invalidation.
+     * Actor which handles the invalidation of the cache.
      */
     private static final class CachingPolicyEnforcerProviderActor extends AbstractActor {
 
         private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
         private final PolicyEnforcerCache policyEnforcerCache;
-        private final MessageDispatcher cacheDispatcher;
 
         CachingPolicyEnforcerProviderActor(final PolicyEnforcerCache policyEnforcerCache,
                 @Nullable final BlockedNamespaces blockedNamespaces,
-                final ActorRef pubSubMediator,
-                final MessageDispatcher cacheDispatcher) {
+                final ActorRef pubSubMediator) {
 
             this.policyEnforcerCache = policyEnforcerCache;
-            this.cacheDispatcher = cacheDispatcher;
 
             if (blockedNamespaces != null) {
                 blockedNamespaces.subscribeForChanges(getSelf());
@@ -182,16 +186,15 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
         private static Props props(final PolicyEnforcerCache policyEnforcerCache,
                 @Nullable final BlockedNamespaces blockedNamespaces,
-                final ActorRef pubSubMediator, final MessageDispatcher cacheDispatcher) {
+                final ActorRef pubSubMediator) {
 
             return Props.create(CachingPolicyEnforcerProviderActor.class, policyEnforcerCache, blockedNamespaces,
-                    pubSubMediator, cacheDispatcher);
+                    pubSubMediator);
         }
 
         @Override
         public Receive createReceive() {
             return ReceiveBuilder.create()
-                    .match(PolicyId.class, this::doGetPolicyEnforcer)
                     .match(DistributedPubSubMediator.SubscribeAck.class, s -> log.debug("Got subscribeAck <{}>.", s))
                     .match(PolicyTag.class, policyTag -> policyEnforcerCache.invalidate(policyTag.getEntityId()))
                     .match(PolicyTagEnvelope.class, policyTagEnvelope -> {
@@ -204,13 +207,6 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
                     .build();
         }
 
-        private void doGetPolicyEnforcer(final PolicyId policyId) {
-            final ActorRef sender = getSender();
-            final CompletableFuture<Optional<PolicyEnforcer>> policyEnforcerCS =
-                    policyEnforcerCache.get(policyId).thenApply(optionalEntry -> optionalEntry.flatMap(Entry::get));
-            Patterns.pipe(policyEnforcerCS, cacheDispatcher).to(sender);
-        }
-
         @SuppressWarnings("unchecked")
         private void handleChangedBlockedNamespaces(final Replicator.Changed<?> changed) {
             if (changed.dataValue() instanceof ORSet<?> orSet) {
@@ -32,7 +32,6 @@ import org.apache.pekko.cluster.ddata.ORSet;
 import org.apache.pekko.cluster.ddata.Replicator;
 import org.apache.pekko.cluster.ddata.SelfUniqueAddress;
 import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
-import org.apache.pekko.dispatch.MessageDispatcher;
 import org.apache.pekko.testkit.TestProbe;
 import org.apache.pekko.testkit.javadsl.TestKit;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
@@ -84,8 +83,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 system,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -106,8 +104,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 system,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -119,67 +116,46 @@ public final class CachingPolicyEnforcerProviderTest {
     }
 
     @Test
-    public void getPolicyEnforcerAsksCachingActorForPolicyEnforcer() {
+    public void getPolicyEnforcerReadsCacheWithoutAskingCachingActor() {
         final ActorSystem system = mock(ActorSystem.class);
         when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
         final var underTest = new CachingPolicyEnforcerProvider(
                 system,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
             final PolicyId policyId = PolicyId.generateRandom();
+            final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cacheLookup = new CompletableFuture<>();
+            when(cache.get(policyId)).thenReturn(cacheLookup);
+
             final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
+            assertThat(policyEnforcer).isNotDone();
+
             final PolicyEnforcer enforcer = mock(PolicyEnforcer.class);
-            cachingActorTestProbe.reply(Optional.of(enforcer));
+            cacheLookup.complete(Optional.of(Entry.of(0L, enforcer)));
             assertThat(policyEnforcer.join()).contains(enforcer);
+            cachingActorTestProbe.expectNoMsg();
         }};
 
     }
 
     @Test
-    public void getPolicyEnforcerReturnsEmptyOptionalIfChildActorReturnsOptionalOfWrongType() {
-        final ActorSystem system = mock(ActorSystem.class);
-        when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
+    public void getPolicyEnforcerReturnsEmptyOptionalIfPolicyIsNotCached() {
         final var underTest = new CachingPolicyEnforcerProvider(
-                system,
+                actorSystem,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
             final PolicyId policyId = PolicyId.generateRandom();
-            final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
-            cachingActorTestProbe.reply(Optional.of("wrong"));
-            assertThat(policyEnforcer.join()).isEmpty();
-        }};
-
-    }
+            when(cache.get(policyId)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
-    @Test
-    public void getPolicyEnforcerReturnsEmptyOptionalIfChildActorReturnsEmptyOptional() {
-        final ActorSystem system = mock(ActorSystem.class);
-        when(system.actorOf(any())).thenReturn(cachingActorTestProbe.ref());
-        final var underTest = new CachingPolicyEnforcerProvider(
-                system,
-                cache,
-                blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
-        );
-
-        new TestKit(actorSystem) {{
-            final PolicyId policyId = PolicyId.generateRandom();
             final var policyEnforcer = underTest.getPolicyEnforcer(policyId).toCompletableFuture();
-            cachingActorTestProbe.expectMsg(policyId);
-            cachingActorTestProbe.reply(Optional.empty());
             assertThat(policyEnforcer.join()).isEmpty();
         }};
 
@@ -191,8 +167,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 actorSystem,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -214,8 +189,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 actorSystem,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -234,8 +208,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 actorSystem,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -256,8 +229,7 @@ public final class CachingPolicyEnforcerProviderTest {
                 actorSystem,
                 cache,
                 blockedNamespaces,
-                pubSubMediatorProbe.ref(),
-                (MessageDispatcher) actorSystem.dispatcher()
+                pubSubMediatorProbe.ref()
         );
 
         new TestKit(actorSystem) {{
@@ -20,6 +20,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.CompiledTrieBasedPolicyEnforcer;
 import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
 
 /**
@@ -49,6 +50,9 @@ public final class PolicyEnforcers {
                 .filter(entry -> !entry.getSubjects().isEmpty() && !entry.getResources().isEmpty())
                 .collect(Collectors.toList());
         if (FeatureToggle.isPolicyEnforcementUseThroughputOptimizedEvaluatorEnabled()) {
+            if (FeatureToggle.isPolicyEnforcementUseCompiledEvaluatorEnabled()) {
+                return compiledEvaluator(effectiveEntries);
+            }
             return throughputOptimizedEvaluator(effectiveEntries);
         } else {
             return memoryOptimizedEvaluator(effectiveEntries);
@@ -70,6 +74,20 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policyEntries);
     }
 
+    /**
+     * Returns a variant of the {@link #throughputOptimizedEvaluator(Iterable)} which evaluates permissions on bit sets
+     * of interned subjects and caches its most recent permission decisions. It is best suited for policies which are
+     * shared by many things and thus checked with the same authorization subjects over and over.
+     *
+     * @param policyEntries the Policy entries to initialize the evaluator with.
+     * @return the initialized compiled throughput optimized Enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     * @since 3.10.0
+     */
+    public static Enforcer compiledEvaluator(final Iterable<PolicyEntry> policyEntries) {
+        return CompiledTrieBasedPolicyEnforcer.newInstance(policyEntries);
+    }
+
     /**
      * Returns an Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link GrantRevokeIndex} whose subjects are compiled to {@link WeightedSubjectBitSets}. It answers the same
+ * queries as the grant-revoke-index it was compiled from.
+ */
+@Immutable
+final class CompiledGrantRevokeIndex {
+
+    private final Map<String, WeightedSubjectBitSets> granted;
+    private final Map<String, WeightedSubjectBitSets> revoked;
+
+    private CompiledGrantRevokeIndex(final Map<String, WeightedSubjectBitSets> granted,
+            final Map<String, WeightedSubjectBitSets> revoked) {
+
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles a grant-revoke-index.
+     *
+     * @param grantRevokeIndex the grant-revoke-index.
+     * @param subjectIndex the index to intern the subject IDs with.
+     * @return the compiled grant-revoke-index.
+     */
+    static CompiledGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex, final SubjectIndex subjectIndex) {
+        return new CompiledGrantRevokeIndex(compile(grantRevokeIndex.getGranted(), subjectIndex),
+                compile(grantRevokeIndex.getRevoked(), subjectIndex));
+    }
+
+    private static Map<String, WeightedSubjectBitSets> compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectIndex subjectIndex) {
+
+        final Map<String, WeightedSubjectBitSets> result = new HashMap<>(permissionSubjectsMap.size());
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                result.put(permission, WeightedSubjectBitSets.of(subjectWeights, subjectIndex)));
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjects the interned subject IDs to check.
+     * @param permissions the permissions to check.
+     * @return the result of the check.
+     * @see GrantRevokeIndex#hasPermissions(Collection, Collection)
+     */
+    boolean hasPermissions(final BitSet subjects, final Collection<String> permissions) {
+        int grantWeight = WeightedSubjectBitSets.NO_WEIGHT;
+        for (final String permission : permissions) {
+            final int weight = getMaxWeight(granted.get(permission), subjects);
+            if (weight == WeightedSubjectBitSets.NO_WEIGHT) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        if (grantWeight == WeightedSubjectBitSets.NO_WEIGHT) {
+            return false;
+        }
+        for (final String permission : permissions) {
+            if (getMaxWeight(revoked.get(permission), subjects) >= grantWeight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getMaxWeight(@Nullable final WeightedSubjectBitSets weightedSubjects, final BitSet subjects) {
+        return null != weightedSubjects ? weightedSubjects.getMaxWeight(subjects) : WeightedSubjectBitSets.NO_WEIGHT;
+    }
+
+    /**
+     * Returns the subjects related to all of those given permissions which occur in the grant-map.
+     *
+     * @param permissions the permissions.
+     * @return the interned subject IDs.
+     * @see GrantRevokeIndex#getGrantedSubjects(Set)
+     */
+    BitSet getGrantedSubjects(final Set<String> permissions) {
+        @Nullable BitSet result = null;
+        for (final String permission : permissions) {
+            final WeightedSubjectBitSets weightedSubjects = granted.get(permission);
+            if (null != weightedSubjects) {
+                if (null == result) {
+                    result = (BitSet) weightedSubjects.getAllSubjects().clone();
+                } else {
+                    result.and(weightedSubjects.getAllSubjects());
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    /**
+     * Returns the subjects related to some of the given permissions in the revoke-map.
+     *
+     * @param permissions the permissions.
+     * @return the interned subject IDs.
+     * @see GrantRevokeIndex#getRevokedSubjects(Set)
+     */
+    BitSet getRevokedSubjects(final Set<String> permissions) {
+        final BitSet result = new BitSet();
+        for (final String permission : permissions) {
+            final WeightedSubjectBitSets weightedSubjects = revoked.get(permission);
+            if (null != weightedSubjects) {
+                result.or(weightedSubjects.getAllSubjects());
+            }
+        }
+        return result;
+    }
+
+}
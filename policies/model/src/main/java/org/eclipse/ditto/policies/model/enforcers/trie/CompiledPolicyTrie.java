@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.Permissions;
+
+/**
+ * A {@link PolicyTrie} whose grant-revoke-indices are compiled to {@link CompiledGrantRevokeIndex}es. Subjects are
+ * given as bit sets of subject IDs interned by the {@link SubjectIndex} the trie was compiled with.
+ */
+@Immutable
+final class CompiledPolicyTrie {
+
+    private final CompiledGrantRevokeIndex grantRevokeIndex;
+    private final Map<JsonKey, CompiledPolicyTrie> children;
+
+    /**
+     * Node with the grant-revoke-index of this node but without children, relevant for JSON fields which are not
+     * mentioned in the policy.
+     */
+    private final CompiledPolicyTrie leaf;
+
+    private CompiledPolicyTrie(final CompiledGrantRevokeIndex grantRevokeIndex,
+            final Map<JsonKey, CompiledPolicyTrie> children) {
+
+        this.grantRevokeIndex = grantRevokeIndex;
+        this.children = children;
+        leaf = children.isEmpty() ? this : new CompiledPolicyTrie(grantRevokeIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Compiles a policy trie.
+     *
+     * @param policyTrie the policy trie.
+     * @param subjectIndex the index to intern the subject IDs with.
+     * @return the compiled policy trie.
+     */
+    static CompiledPolicyTrie of(final PolicyTrie policyTrie, final SubjectIndex subjectIndex) {
+        final Map<JsonKey, PolicyTrie> oldChildren = policyTrie.getChildren();
+        final Map<JsonKey, CompiledPolicyTrie> newChildren;
+        if (oldChildren.isEmpty()) {
+            newChildren = Collections.emptyMap();
+        } else {
+            newChildren = new HashMap<>(oldChildren.size());
+            oldChildren.forEach((key, child) -> newChildren.put(key, of(child, subjectIndex)));
+        }
+        return new CompiledPolicyTrie(CompiledGrantRevokeIndex.of(policyTrie.getGrantRevokeIndex(), subjectIndex),
+                newChildren);
+    }
+
+    /**
+     * Returns the compiled grant-revoke-index at this node.
+     *
+     * @return the compiled grant-revoke-index.
+     */
+    CompiledGrantRevokeIndex getGrantRevokeIndex() {
+        return grantRevokeIndex;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey Key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path The path key to match.
+     * @return The best matched node.
+     */
+    CompiledPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        CompiledPolicyTrie node = this;
+        while (path.hasNext()) {
+            final CompiledPolicyTrie child = node.children.get(path.next());
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path The resource path to match.
+     * @return The exactly matched trie node, or {@code null} if no trie node matches {@code path} exactly.
+     */
+    @Nullable
+    CompiledPolicyTrie seekToExactNode(final Iterator<JsonKey> path) {
+        CompiledPolicyTrie node = this;
+        while (null != node && path.hasNext()) {
+            node = node.children.get(path.next());
+        }
+        return node;
+    }
+
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjects,
+            final Permissions permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final JsonValue jsonView = getRelevantTrie(field.getKey())
+                    .getViewForJsonValueOrNull(field.getValue(), subjects, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    Set<JsonPointer> getAccessiblePaths(final Iterable<JsonField> jsonFields, final BitSet subjects,
+            final Permissions permissions, final JsonPointer basePath) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return Collections.emptySet();
+        }
+
+        final Set<JsonPointer> accessiblePaths = new HashSet<>();
+        for (final JsonField field : jsonFields) {
+            final JsonPointer fieldPath = basePath.isEmpty()
+                    ? JsonPointer.of("/" + field.getKey())
+                    : basePath.append(JsonPointer.of("/" + field.getKey()));
+            getRelevantTrie(field.getKey())
+                    .addPathsForJsonValue(field.getValue(), subjects, permissions, fieldPath, accessiblePaths);
+        }
+
+        return accessiblePaths;
+    }
+
+    private CompiledPolicyTrie getRelevantTrie(final JsonKey key) {
+        return children.getOrDefault(key, leaf);
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final BitSet subjects,
+            final Permissions permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjects, permissions), subjects,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjects, permissions);
+        } else if (grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate, final BitSet subjects,
+            final Permissions permissions) {
+
+        if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray,
+            final BitSet subjects, final Permissions permissions) {
+
+        final JsonArray candidate = jsonArray.stream()
+                .map(value -> getViewForJsonValueOrNull(value, subjects, permissions))
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+
+        return filterCandidate(candidate, subjects, permissions);
+    }
+
+    private void addPathsForJsonValue(final JsonValue jsonValue, final BitSet subjects,
+            final Permissions permissions, final JsonPointer currentPath, final Set<JsonPointer> paths) {
+
+        if (jsonValue.isObject()) {
+            paths.addAll(getAccessiblePaths(jsonValue.asObject(), subjects, permissions, currentPath));
+        }
+        if (grantRevokeIndex.hasPermissions(subjects, permissions)) {
+            paths.add(currentPath);
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Variant of the {@link TrieBasedPolicyEnforcer} which compiles its tries after construction:
+ * <ul>
+ * <li>The subject IDs of the policy are interned into consecutive integers, and the granted and revoked subjects of
+ * each trie node are stored as bit sets per permission and weight. A permission check intersects the bit set of the
+ * authorization context with those bit sets instead of building and intersecting sets of strings.</li>
+ * <li>The results of {@link #hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)} and
+ * {@link #hasPartialPermissions(ResourceKey, AuthorizationContext, Permissions)} are kept in a small per-enforcer
+ * least-recently-used cache, so that the same checks against a policy shared by many things are evaluated only
+ * once.</li>
+ * </ul>
+ * The decisions of this enforcer are the same as those of the {@link TrieBasedPolicyEnforcer}.
+ */
+public final class CompiledTrieBasedPolicyEnforcer implements Enforcer {
+
+    /**
+     * Default number of decisions cached per enforcer.
+     */
+    public static final int DEFAULT_DECISION_CACHE_SIZE = 256;
+
+    private final SubjectIndex subjectIndex;
+    private final CompiledPolicyTrie inheritedTrie;
+    private final CompiledPolicyTrie bottomUpGrantTrie;
+    private final CompiledPolicyTrie bottomUpRevokeTrie;
+    private final DecisionCache decisionCache;
+
+    private CompiledTrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy, final int decisionCacheSize) {
+        final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
+        final PolicyTrie inherited = rawTree.getTransitiveClosure();
+        subjectIndex = new SubjectIndex();
+        inheritedTrie = CompiledPolicyTrie.of(inherited, subjectIndex);
+        bottomUpGrantTrie = CompiledPolicyTrie.of(inherited.getBottomUpGrantTrie(), subjectIndex);
+        bottomUpRevokeTrie = CompiledPolicyTrie.of(inherited.getBottomUpRevokeTrie(), subjectIndex);
+        decisionCache = DecisionCache.newInstance(decisionCacheSize);
+    }
+
+    /**
+     * Constructs a compiled trie-based policy enforcer from a policy which caches up to
+     * {@value #DEFAULT_DECISION_CACHE_SIZE} decisions.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    public static CompiledTrieBasedPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries) {
+        return newInstance(policyEntries, DEFAULT_DECISION_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a compiled trie-based policy enforcer from a policy.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @param decisionCacheSize The maximum number of cached decisions; {@code 0} disables the decision cache.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     * @throws IllegalArgumentException if {@code decisionCacheSize} is negative.
+     */
+    public static CompiledTrieBasedPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries,
+            final int decisionCacheSize) {
+
+        return new CompiledTrieBasedPolicyEnforcer(checkNotNull(policyEntries, "policy entries to interpret"),
+                decisionCacheSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the same tries as {@link TrieBasedPolicyEnforcer#hasUnrestrictedPermissions(ResourceKey,
+     * AuthorizationContext, Permissions)}.
+     */
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final BitSet subjects = getSubjects(authorizationContext);
+        return decisionCache.get(resourceKey, subjects, permissions, false,
+                () -> seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie)
+                        .getGrantRevokeIndex()
+                        .hasPermissions(subjects, permissions));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses the same tries as {@link TrieBasedPolicyEnforcer#hasPartialPermissions(ResourceKey, AuthorizationContext,
+     * Permissions)}.
+     */
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final BitSet subjects = getSubjects(authorizationContext);
+        return decisionCache.get(resourceKey, subjects, permissions, true,
+                () -> seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie)
+                        .getGrantRevokeIndex()
+                        .hasPermissions(subjects, permissions));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex grantRevokeIndex =
+                inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)).getGrantRevokeIndex();
+        return DefaultEffectedSubjects.of(
+                subjectIndex.toAuthorizationSubjects(grantRevokeIndex.getGrantedSubjects(permissions)),
+                subjectIndex.toAuthorizationSubjects(grantRevokeIndex.getRevokedSubjects(permissions)));
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex grantRevokeIndex =
+                seekWithFallback(resourceKey, bottomUpGrantTrie, inheritedTrie).getGrantRevokeIndex();
+        return subjectIndex.toAuthorizationSubjects(grantRevokeIndex.getGrantedSubjects(permissions));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex grantRevokeIndex =
+                seekWithFallback(resourceKey, bottomUpRevokeTrie, inheritedTrie).getGrantRevokeIndex();
+        final BitSet grantedSubjects = grantRevokeIndex.getGrantedSubjects(permissions);
+        grantedSubjects.andNot(grantRevokeIndex.getRevokedSubjects(permissions));
+        return subjectIndex.toAuthorizationSubjects(grantedSubjects);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (inheritedTrie.hasChild(JsonKey.of(resourceKey.getResourceType()))) {
+            final CompiledPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields, getSubjects(authorizationContext), permissions);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    @Override
+    public Set<JsonPointer> getAccessiblePaths(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (inheritedTrie.hasChild(JsonKey.of(resourceKey.getResourceType()))) {
+            final CompiledPolicyTrie start =
+                    inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.getAccessiblePaths(jsonFields, getSubjects(authorizationContext), permissions,
+                    resourceKey.getResourcePath());
+        } else {
+            return Collections.emptySet();
+        }
+    }
+
+    private BitSet getSubjects(final AuthorizationContext authorizationContext) {
+        return subjectIndex.toBitSet(authorizationContext.getAuthorizationSubjectIds());
+    }
+
+    /**
+     * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
+     * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
+     * best.
+     *
+     * @param resourceKey Pointer to a resource.
+     * @param firstTry The policy trie to attempt an exact match.
+     * @param fallback The policy trie to traverse if no exact match is found in {@code firstTry}.
+     * @return The result trie node.
+     */
+    private static CompiledPolicyTrie seekWithFallback(final ResourceKey resourceKey,
+            final CompiledPolicyTrie firstTry, final CompiledPolicyTrie fallback) {
+
+        final CompiledPolicyTrie exactNode = firstTry.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        return null != exactNode
+                ? exactNode
+                : fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+}
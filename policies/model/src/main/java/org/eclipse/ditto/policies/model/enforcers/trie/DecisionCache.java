@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.ResourceKey;
+
+/**
+ * Small least-recently-used cache of the permission checks of one {@link CompiledTrieBasedPolicyEnforcer}.
+ * <p>
+ * Decisions are keyed by resource key, interned subjects, permissions and the kind of the check. As the enforcer is
+ * immutable, cached decisions never become stale.
+ * </p>
+ */
+@ThreadSafe
+final class DecisionCache {
+
+    private final int maximumSize;
+    private final Map<Key, Boolean> decisions;
+
+    private DecisionCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        decisions = new LinkedHashMap<Key, Boolean>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Boolean> eldest) {
+                return size() > DecisionCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a new cache holding at most the given number of decisions.
+     *
+     * @param maximumSize the maximum number of decisions; {@code 0} disables caching.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    static DecisionCache newInstance(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative but it was <" +
+                    maximumSize + ">!");
+        }
+        return new DecisionCache(maximumSize);
+    }
+
+    /**
+     * Returns the cached decision for the given check, computing and caching it if absent.
+     * The subjects must not be modified afterwards.
+     *
+     * @param resourceKey the checked resource key.
+     * @param subjects the interned subject IDs.
+     * @param permissions the checked permissions.
+     * @param partial whether partial rather than unrestricted permissions are checked.
+     * @param decision computes the decision.
+     * @return the decision.
+     */
+    boolean get(final ResourceKey resourceKey, final BitSet subjects, final Permissions permissions,
+            final boolean partial, final Supplier<Boolean> decision) {
+
+        if (0 == maximumSize) {
+            return decision.get();
+        }
+        final Key key = new Key(resourceKey, subjects, permissions, partial);
+        Boolean result;
+        synchronized (decisions) {
+            result = decisions.get(key);
+        }
+        if (null == result) {
+            // computed outside the lock; concurrent computations of the same decision yield the same result
+            result = decision.get();
+            synchronized (decisions) {
+                decisions.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of cached decisions.
+     *
+     * @return the number of cached decisions.
+     */
+    int size() {
+        synchronized (decisions) {
+            return decisions.size();
+        }
+    }
+
+    private static final class Key {
+
+        private final ResourceKey resourceKey;
+        private final BitSet subjects;
+        private final Permissions permissions;
+        private final boolean partial;
+        private final int hashCode;
+
+        private Key(final ResourceKey resourceKey, final BitSet subjects, final Permissions permissions,
+                final boolean partial) {
+
+            this.resourceKey = resourceKey;
+            this.subjects = subjects;
+            this.permissions = permissions;
+            this.partial = partial;
+            hashCode = Objects.hash(resourceKey, subjects, permissions, partial);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return partial == that.partial &&
+                    Objects.equals(resourceKey, that.resourceKey) &&
+                    Objects.equals(subjects, that.subjects) &&
+                    Objects.equals(permissions, that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+
+/**
+ * Interns the subject IDs of a policy into consecutive integer IDs, so that sets of subjects can be represented as
+ * {@link BitSet}s.
+ * <p>
+ * Subject IDs are only interned while a {@link CompiledTrieBasedPolicyEnforcer} is constructed; afterwards the index
+ * is only read and may be shared between threads via the final fields of the enforcer.
+ * </p>
+ */
+@NotThreadSafe
+final class SubjectIndex {
+
+    private final Map<String, Integer> ids;
+    private final List<String> subjectIds;
+
+    SubjectIndex() {
+        ids = new HashMap<>();
+        subjectIds = new ArrayList<>();
+    }
+
+    /**
+     * Returns the integer ID of a subject ID, assigning the next free one if the subject ID is new.
+     *
+     * @param subjectId the subject ID.
+     * @return the integer ID.
+     */
+    int intern(final String subjectId) {
+        return ids.computeIfAbsent(subjectId, id -> {
+            subjectIds.add(id);
+            return subjectIds.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the set of the integer IDs of those of the given subject IDs which are known to this index.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the bit set of integer IDs.
+     */
+    BitSet toBitSet(final Collection<String> subjectIds) {
+        final BitSet result = new BitSet(ids.size());
+        for (final String subjectId : subjectIds) {
+            final Integer id = ids.get(subjectId);
+            if (null != id) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the authorization subjects of a set of integer IDs.
+     *
+     * @param bitSet the integer IDs.
+     * @return the authorization subjects.
+     */
+    Set<AuthorizationSubject> toAuthorizationSubjects(final BitSet bitSet) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        bitSet.stream().forEach(id -> result.add(AuthorizationSubject.newInstance(subjectIds.get(id))));
+        return result;
+    }
+
+}
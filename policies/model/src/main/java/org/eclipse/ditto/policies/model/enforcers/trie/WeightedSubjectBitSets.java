@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The subjects related to one permission in a {@link PermissionSubjectsMap}, grouped by their weight into bit sets of
+ * interned subject IDs in descending order of weight.
+ */
+@Immutable
+final class WeightedSubjectBitSets {
+
+    /**
+     * Weight returned if none of the queried subjects is related to the permission.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final int[] weights;
+    private final BitSet[] subjectsByWeight;
+    private final BitSet allSubjects;
+
+    private WeightedSubjectBitSets(final int[] weights, final BitSet[] subjectsByWeight, final BitSet allSubjects) {
+        this.weights = weights;
+        this.subjectsByWeight = subjectsByWeight;
+        this.allSubjects = allSubjects;
+    }
+
+    /**
+     * Compiles the weighted subjects of a permission.
+     *
+     * @param subjectWeights the weight of each subject ID.
+     * @param subjectIndex the index to intern the subject IDs with.
+     * @return the compiled subjects.
+     */
+    static WeightedSubjectBitSets of(final Map<String, Integer> subjectWeights, final SubjectIndex subjectIndex) {
+        final Map<Integer, BitSet> byWeight = new TreeMap<>(Comparator.reverseOrder());
+        final BitSet allSubjects = new BitSet();
+        subjectWeights.forEach((subjectId, weight) -> {
+            final int id = subjectIndex.intern(subjectId);
+            byWeight.computeIfAbsent(weight, w -> new BitSet()).set(id);
+            allSubjects.set(id);
+        });
+        final int[] weights = new int[byWeight.size()];
+        final BitSet[] subjectsByWeight = new BitSet[byWeight.size()];
+        int i = 0;
+        for (final Map.Entry<Integer, BitSet> entry : byWeight.entrySet()) {
+            weights[i] = entry.getKey();
+            subjectsByWeight[i] = entry.getValue();
+            ++i;
+        }
+        return new WeightedSubjectBitSets(weights, subjectsByWeight, allSubjects);
+    }
+
+    /**
+     * Returns the maximum weight of the given subjects.
+     *
+     * @param subjects the interned subject IDs.
+     * @return the maximum weight, or {@link #NO_WEIGHT} if none of the subjects is related to the permission.
+     */
+    int getMaxWeight(final BitSet subjects) {
+        for (int i = 0; i < weights.length; ++i) {
+            if (subjectsByWeight[i].intersects(subjects)) {
+                return weights[i];
+            }
+        }
+        return NO_WEIGHT;
+    }
+
+    /**
+     * Returns all subjects related to the permission. The result must not be modified.
+     *
+     * @return the interned subject IDs.
+     */
+    BitSet getAllSubjects() {
+        return allSubjects;
+    }
+
+}
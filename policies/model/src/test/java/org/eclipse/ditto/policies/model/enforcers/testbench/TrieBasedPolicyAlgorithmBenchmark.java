@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.policies.model.enforcers.testbench;
 
+import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.CompiledTrieBasedPolicyAlgorithm;
 import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.PolicyAlgorithm;
 import org.eclipse.ditto.policies.model.enforcers.testbench.algorithms.TrieBasedPolicyAlgorithm;
 import org.eclipse.ditto.policies.model.Policy;
@@ -23,4 +24,26 @@ public class TrieBasedPolicyAlgorithmBenchmark extends AbstractPoliciesBenchmark
     protected PolicyAlgorithm getPolicyAlgorithm(final Policy policy) {
         return new TrieBasedPolicyAlgorithm(policy);
     }
+
+    /**
+     * Runs the same benchmarks with the compiled trie-based algorithm and its decision cache.
+     */
+    public static class Compiled extends TrieBasedPolicyAlgorithmBenchmark {
+
+        @Override
+        protected PolicyAlgorithm getPolicyAlgorithm(final Policy policy) {
+            return new CompiledTrieBasedPolicyAlgorithm(policy);
+        }
+    }
+
+    /**
+     * Runs the same benchmarks with the compiled trie-based algorithm without decision cache.
+     */
+    public static class CompiledWithoutDecisionCache extends TrieBasedPolicyAlgorithmBenchmark {
+
+        @Override
+        protected PolicyAlgorithm getPolicyAlgorithm(final Policy policy) {
+            return new CompiledTrieBasedPolicyAlgorithm(policy, 0);
+        }
+    }
 }
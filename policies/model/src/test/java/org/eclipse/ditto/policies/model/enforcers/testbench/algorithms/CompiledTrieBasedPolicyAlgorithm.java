@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench.algorithms;
+
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.trie.CompiledTrieBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.ResourceKey;
+
+
+public final class CompiledTrieBasedPolicyAlgorithm implements PolicyAlgorithm {
+
+    private final CompiledTrieBasedPolicyEnforcer trieBasedPolicyEvaluator;
+
+    public CompiledTrieBasedPolicyAlgorithm(final Policy policy) {
+        this(policy, CompiledTrieBasedPolicyEnforcer.DEFAULT_DECISION_CACHE_SIZE);
+    }
+
+    public CompiledTrieBasedPolicyAlgorithm(final Policy policy, final int decisionCacheSize) {
+        trieBasedPolicyEvaluator = CompiledTrieBasedPolicyEnforcer.newInstance(policy, decisionCacheSize);
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+        return trieBasedPolicyEvaluator.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return trieBasedPolicyEvaluator.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return trieBasedPolicyEvaluator.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return trieBasedPolicyEvaluator.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+        return trieBasedPolicyEvaluator.getSubjectsWithUnrestrictedPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+        return trieBasedPolicyEvaluator.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    @Override
+    public Set<JsonPointer> getAccessiblePaths(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+        return trieBasedPolicyEvaluator.getAccessiblePaths(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledGrantRevokeIndex}.
+ */
+public final class CompiledGrantRevokeIndexTest {
+
+    private static final String SUBJECT = "test:subject";
+    private static final String ANOTHER_SUBJECT = "test:another-subject";
+    private static final String UNKNOWN_SUBJECT = "test:unknown-subject";
+    private static final Set<String> READ = Collections.singleton("READ");
+    private static final Set<String> WRITE = Collections.singleton("WRITE");
+    private static final Set<String> READ_WRITE = new HashSet<>(Arrays.asList("READ", "WRITE"));
+
+    private GrantRevokeIndex grantRevokeIndex;
+    private SubjectIndex subjectIndex;
+
+    @Before
+    public void setUp() {
+        final PermissionSubjectsMap granted = new PermissionSubjectsMap();
+        granted.addTotalRelationOfWeightZero(READ_WRITE, Collections.singleton(SUBJECT));
+        granted.addTotalRelationOfWeightZero(READ, Collections.singleton(ANOTHER_SUBJECT));
+        final PermissionSubjectsMap revoked = new PermissionSubjectsMap();
+        revoked.addTotalRelationOfWeightZero(WRITE, Collections.singleton(ANOTHER_SUBJECT));
+        grantRevokeIndex = new GrantRevokeIndex(granted.copyWithDecrementedWeight(), revoked);
+        subjectIndex = new SubjectIndex();
+    }
+
+    @Test
+    public void hasPermissionsLikeGrantRevokeIndex() {
+        final CompiledGrantRevokeIndex underTest = CompiledGrantRevokeIndex.of(grantRevokeIndex, subjectIndex);
+
+        final List<Collection<String>> subjectCombinations = Arrays.asList(
+                Collections.emptySet(),
+                Collections.singleton(SUBJECT),
+                Collections.singleton(ANOTHER_SUBJECT),
+                Collections.singleton(UNKNOWN_SUBJECT),
+                Arrays.asList(SUBJECT, ANOTHER_SUBJECT),
+                Arrays.asList(SUBJECT, UNKNOWN_SUBJECT));
+        final List<Set<String>> permissionCombinations =
+                Arrays.asList(Collections.emptySet(), READ, WRITE, READ_WRITE);
+
+        for (final Collection<String> subjects : subjectCombinations) {
+            for (final Set<String> permissions : permissionCombinations) {
+                assertThat(underTest.hasPermissions(subjectIndex.toBitSet(subjects), permissions))
+                        .describedAs("subjects %s, permissions %s", subjects, permissions)
+                        .isEqualTo(grantRevokeIndex.hasPermissions(subjects, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void grantedAndRevokedSubjectsLikeGrantRevokeIndex() {
+        final CompiledGrantRevokeIndex underTest = CompiledGrantRevokeIndex.of(grantRevokeIndex, subjectIndex);
+
+        for (final Set<String> permissions : Arrays.asList(READ, WRITE, READ_WRITE)) {
+            assertThat(subjectIndex.toAuthorizationSubjects(underTest.getGrantedSubjects(permissions)))
+                    .isEqualTo(grantRevokeIndex.getGrantedSubjects(permissions));
+            assertThat(subjectIndex.toAuthorizationSubjects(underTest.getRevokedSubjects(permissions)))
+                    .isEqualTo(grantRevokeIndex.getRevokedSubjects(permissions));
+        }
+    }
+
+}
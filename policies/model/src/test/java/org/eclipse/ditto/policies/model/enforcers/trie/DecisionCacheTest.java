@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DecisionCache}.
+ */
+public final class DecisionCacheTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+
+    @Test
+    public void computesEachDecisionOnce() {
+        final DecisionCache underTest = DecisionCache.newInstance(4);
+        final AtomicInteger computations = new AtomicInteger();
+
+        assertThat(underTest.get(key("/a"), subjects(1), READ, false, () -> computations.incrementAndGet() > 0))
+                .isTrue();
+        assertThat(underTest.get(key("/a"), subjects(1), READ, false, () -> computations.incrementAndGet() < 0))
+                .isTrue();
+        assertThat(underTest.get(key("/a"), subjects(1), READ, true, () -> computations.incrementAndGet() < 0))
+                .isFalse();
+        assertThat(underTest.get(key("/a"), subjects(2), READ, false, () -> computations.incrementAndGet() < 0))
+                .isFalse();
+
+        assertThat(computations).hasValue(3);
+        assertThat(underTest.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedDecision() {
+        final DecisionCache underTest = DecisionCache.newInstance(2);
+        underTest.get(key("/a"), subjects(1), READ, false, () -> true);
+        underTest.get(key("/b"), subjects(1), READ, false, () -> true);
+        underTest.get(key("/a"), subjects(1), READ, false, () -> false);
+        underTest.get(key("/c"), subjects(1), READ, false, () -> true);
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.get(key("/a"), subjects(1), READ, false, () -> false)).isTrue();
+        assertThat(underTest.get(key("/b"), subjects(1), READ, false, () -> false)).isFalse();
+    }
+
+    @Test
+    public void maximumSizeZeroDisablesCaching() {
+        final DecisionCache underTest = DecisionCache.newInstance(0);
+        underTest.get(key("/a"), subjects(1), READ, false, () -> true);
+
+        assertThat(underTest.get(key("/a"), subjects(1), READ, false, () -> false)).isFalse();
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void negativeMaximumSizeIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> DecisionCache.newInstance(-1));
+    }
+
+    private static ResourceKey key(final String path) {
+        return PoliciesResourceType.thingResource(path);
+    }
+
+    private static BitSet subjects(final int... ids) {
+        final BitSet result = new BitSet();
+        for (final int id : ids) {
+            result.set(id);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * RQL criteria compiled into a tree of predicates of {@link Thing}s which evaluates like the predicate created by the
+ * {@link ThingPredicateVisitor}. In contrast to that predicate, a compiled predicate is independent of the
+ * {@code PlaceholderResolver}s, so it can be cached and evaluated for many things and requests: the JSON pointers
+ * of the fields, the numeric literals and the patterns of {@code like} are prepared once, and the thing is converted
+ * to JSON only once per evaluation instead of once per compared field.
+ *
+ * @since 3.10.0
+ */
+@Immutable
+public final class CompiledThingPredicate {
+
+    private final Node root;
+
+    private CompiledThingPredicate(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the passed {@code criteria}.
+     *
+     * @param criteria the RQL criteria to compile.
+     * @return the compiled predicate.
+     */
+    public static CompiledThingPredicate compile(final Criteria criteria) {
+        return new CompiledThingPredicate(criteria.accept(new NodeCriteriaVisitor()));
+    }
+
+    /**
+     * Tests whether the passed thing matches the compiled criteria.
+     *
+     * @param thing the thing to test.
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return whether the thing matches.
+     */
+    public boolean test(final Thing thing, final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+        return root.test(new Evaluation(thing, placeholderResolvers));
+    }
+
+    /**
+     * Tests whether the passed thing matches the compiled criteria.
+     *
+     * @param thing the thing to test.
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return whether the thing matches.
+     */
+    public boolean test(final Thing thing, final PlaceholderResolver<?>... placeholderResolvers) {
+        return test(thing, Arrays.asList(placeholderResolvers));
+    }
+
+    /**
+     * Returns a predicate evaluating the compiled criteria with the passed {@code PlaceholderResolver}s.
+     *
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return the predicate of a thing to test.
+     */
+    public Predicate<Thing> withPlaceholderResolvers(final PlaceholderResolver<?>... placeholderResolvers) {
+        final List<PlaceholderResolver<?>> resolvers = Arrays.asList(placeholderResolvers);
+        return thing -> test(thing, resolvers);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "root=" + root +
+                "]";
+    }
+
+    /**
+     * The state of one evaluation: the thing, its JSON representation once required and the placeholder resolvers.
+     */
+    private static final class Evaluation {
+
+        private final Thing thing;
+        private final Collection<PlaceholderResolver<?>> placeholderResolvers;
+        @Nullable private JsonObject thingJson;
+
+        private Evaluation(final Thing thing, final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+            this.thing = thing;
+            this.placeholderResolvers = placeholderResolvers;
+        }
+
+        private JsonObject getThingJson() {
+            if (null == thingJson) {
+                thingJson = thing.toJson(field -> true);
+            }
+            return thingJson;
+        }
+
+        @Nullable
+        private String resolveFirst(final String prefix, final String name) {
+            for (final PlaceholderResolver<?> resolver : placeholderResolvers) {
+                if (prefix.equals(resolver.getPrefix()) && resolver.supports(name)) {
+                    final List<String> values = resolver.resolveValues(name);
+                    if (!values.isEmpty()) {
+                        return values.get(0);
+                    }
+                }
+            }
+            return null;
+        }
+
+    }
+
+    private interface Node {
+
+        boolean test(Evaluation evaluation);
+
+    }
+
+    private static final class NodeCriteriaVisitor implements CriteriaVisitor<Node> {
+
+        @Override
+        public Node visitAnd(final List<Node> conjuncts) {
+            return new JunctionNode("and", conjuncts, true, false);
+        }
+
+        @Override
+        public Node visitAny() {
+            return new AnyNode();
+        }
+
+        @Override
+        public Node visitExists(final ExistsFieldExpression fieldExpression) {
+            return new ExistsNode(fieldExpression, false);
+        }
+
+        @Override
+        public Node visitEmpty(final ExistsFieldExpression fieldExpression) {
+            return new ExistsNode(fieldExpression, true);
+        }
+
+        @Override
+        public Node visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.rql.query.criteria.Predicate predicate) {
+
+            return new FieldNode(fieldExpression.acceptFilterVisitor(FieldNameVisitor.INSTANCE),
+                    predicate.accept(ValueMatcherVisitor.INSTANCE));
+        }
+
+        @Override
+        public Node visitNor(final List<Node> negativeDisjoints) {
+            return new JunctionNode("nor", negativeDisjoints, false, true);
+        }
+
+        @Override
+        public Node visitOr(final List<Node> disjoints) {
+            return new JunctionNode("or", disjoints, false, false);
+        }
+
+    }
+
+    private static final class AnyNode implements Node {
+
+        @Override
+        public boolean test(final Evaluation evaluation) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "any";
+        }
+
+    }
+
+    /**
+     * And, or and nor: the junction short-circuits as soon as a child evaluates to {@code shortCircuitOn}.
+     */
+    private static final class JunctionNode implements Node {
+
+        private final String name;
+        private final Node[] children;
+        private final boolean conjunction;
+        private final boolean negated;
+
+        private JunctionNode(final String name, final List<Node> children, final boolean conjunction,
+                final boolean negated) {
+            this.name = name;
+            this.children = children.toArray(new Node[0]);
+            this.conjunction = conjunction;
+            this.negated = negated;
+        }
+
+        @Override
+        public boolean test(final Evaluation evaluation) {
+            for (final Node child : children) {
+                if (child.test(evaluation) != conjunction) {
+                    return conjunction == negated;
+                }
+            }
+            return conjunction != negated;
+        }
+
+        @Override
+        public String toString() {
+            return name + Arrays.toString(children);
+        }
+
+    }
+
+    private static final class ExistsNode implements Node {
+
+        private final ExistsFieldExpression fieldExpression;
+        private final boolean empty;
+
+        private ExistsNode(final ExistsFieldExpression fieldExpression, final boolean empty) {
+            this.fieldExpression = fieldExpression;
+            this.empty = empty;
+        }
+
+        @Override
+        public boolean test(final Evaluation evaluation) {
+            final Predicate<Thing> predicate = empty
+                    ? EmptyThingPredicateVisitor.apply(fieldExpression, evaluation.placeholderResolvers)
+                    : ExistsThingPredicateVisitor.apply(fieldExpression, evaluation.placeholderResolvers);
+            return predicate.test(evaluation.thing);
+        }
+
+        @Override
+        public String toString() {
+            return (empty ? "empty(" : "exists(") + fieldExpression + ")";
+        }
+
+    }
+
+    /**
+     * A field compared with a value: the field is looked up in the JSON of the thing or, if absent, resolved as
+     * placeholder.
+     */
+    private static final class FieldNode implements Node {
+
+        private final String fieldName;
+        @Nullable private final JsonPointer pointer;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+        private final ValueMatcher valueMatcher;
+
+        private FieldNode(final String fieldName, final ValueMatcher valueMatcher) {
+            this.fieldName = fieldName;
+            this.valueMatcher = valueMatcher;
+            pointer = parsePointer(fieldName);
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                placeholderPrefix = fieldNameSplit[0];
+                placeholderName = fieldNameSplit[1];
+            } else {
+                placeholderPrefix = null;
+                placeholderName = null;
+            }
+        }
+
+        @Nullable
+        private static JsonPointer parsePointer(final String fieldName) {
+            try {
+                return JsonPointer.of(fieldName);
+            } catch (final JsonRuntimeException e) {
+                // parsed again on each evaluation in order to fail like the ThingPredicateVisitor
+                return null;
+            }
+        }
+
+        @Override
+        public boolean test(final Evaluation evaluation) {
+            final JsonValue fieldValue = getFieldValue(evaluation);
+            if (null == fieldValue) {
+                return valueMatcher.negated;
+            }
+            final List<Object> values = new ArrayList<>();
+            addJavaValues(fieldValue, values);
+            return valueMatcher.matchesAny(values, evaluation) != valueMatcher.negated;
+        }
+
+        @Nullable
+        private JsonValue getFieldValue(final Evaluation evaluation) {
+            final Optional<JsonValue> thingValue = evaluation.getThingJson()
+                    .getValueFlatteningArrays(null != pointer ? pointer : fieldName);
+            if (thingValue.isPresent()) {
+                return thingValue.get();
+            } else if (null != placeholderPrefix && null != placeholderName) {
+                final String resolvedValue = evaluation.resolveFirst(placeholderPrefix, placeholderName);
+                return null != resolvedValue ? JsonValue.of(resolvedValue) : null;
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return valueMatcher + "(" + fieldName + ")";
+        }
+
+    }
+
+    private static void addJavaValues(final JsonValue jsonValue, final List<Object> values) {
+        if (jsonValue.isString()) {
+            values.add(jsonValue.asString());
+        } else if (jsonValue.isBoolean()) {
+            values.add(jsonValue.asBoolean());
+        } else if (jsonValue.isNull()) {
+            values.add(ThingPredicatePredicateVisitor.NULL_LITERAL);
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isInt()) {
+                values.add(jsonValue.asInt());
+            } else if (jsonValue.isLong()) {
+                values.add(jsonValue.asLong());
+            } else {
+                values.add(jsonValue.asDouble());
+            }
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            for (final JsonValue element : jsonArray) {
+                addJavaValues(element, values);
+            }
+        }
+        // filtering objects is not supported
+    }
+
+    private enum Operator {
+        EQ, NE, GE, GT, LE, LT, IN, LIKE, ILIKE
+    }
+
+    /**
+     * The comparison of the values of a field with the literal value(s) of a predicate. Numeric literals are
+     * converted once; literal placeholders are resolved for each evaluation.
+     */
+    private static final class ValueMatcher {
+
+        private final Operator operator;
+        private final boolean negated;
+        private final List<Object> literals;
+        @Nullable private final Pattern pattern;
+
+        private ValueMatcher(final Operator operator, final List<?> literals, @Nullable final Pattern pattern) {
+            this.operator = operator;
+            negated = operator == Operator.NE;
+            this.literals = new ArrayList<>(literals.size());
+            for (final Object literal : literals) {
+                this.literals.add(literal instanceof Comparable && !(literal instanceof ParsedPlaceholder)
+                        ? ThingPredicatePredicateVisitor.asNumber((Comparable<?>) literal)
+                        : literal);
+            }
+            this.pattern = pattern;
+        }
+
+        private boolean matchesAny(final List<Object> values, final Evaluation evaluation) {
+            switch (operator) {
+                case LIKE:
+                case ILIKE:
+                    return matchesPattern(values);
+                case IN:
+                    return matchesIn(values, evaluation);
+                default:
+                    return matchesComparison(values, resolve(literals.get(0), evaluation));
+            }
+        }
+
+        private boolean matchesComparison(final List<Object> values, @Nullable final Object literal) {
+            for (final Object value : values) {
+                if (operator == Operator.EQ || operator == Operator.NE) {
+                    // special NULL handling
+                    if (ThingPredicatePredicateVisitor.NULL_LITERAL == value && null == literal) {
+                        return true;
+                    }
+                }
+                if (value instanceof Comparable && literal instanceof Comparable &&
+                        matchesComparisonResult(compare(literal, value))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesComparisonResult(final int comparison) {
+            switch (operator) {
+                case GE:
+                    return comparison >= 0;
+                case GT:
+                    return comparison > 0;
+                case LE:
+                    return comparison <= 0;
+                case LT:
+                    return comparison < 0;
+                default:
+                    return comparison == 0;
+            }
+        }
+
+        private boolean matchesIn(final List<Object> values, final Evaluation evaluation) {
+            for (final Object value : values) {
+                if (value instanceof Comparable) {
+                    for (final Object literal : literals) {
+                        if (compare(resolve(literal, evaluation), value) == 0) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesPattern(final List<Object> values) {
+            final Object literal = literals.get(0);
+            if (null == literal) {
+                return false;
+            }
+            for (final Object value : values) {
+                final Pattern valuePattern = null != pattern ? pattern : compilePattern((String) literal);
+                if (valuePattern.matcher(String.valueOf(value)).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Pattern compilePattern(final String regex) {
+            return operator == Operator.ILIKE ? Pattern.compile(regex, Pattern.CASE_INSENSITIVE) : Pattern.compile(regex);
+        }
+
+        @Nullable
+        private static Object resolve(@Nullable final Object literal, final Evaluation evaluation) {
+            if (literal instanceof ParsedPlaceholder) {
+                final ParsedPlaceholder placeholder = (ParsedPlaceholder) literal;
+                final String resolvedValue = evaluation.resolveFirst(placeholder.getPrefix(), placeholder.getName());
+                return resolvedValue;
+            }
+            return literal;
+        }
+
+        @SuppressWarnings({"rawtypes", "java:S3740"})
+        private static int compare(@Nullable final Object convertedLiteral, final Object value) {
+            return ThingPredicatePredicateVisitor.compareNumbers((Comparable) convertedLiteral,
+                    ThingPredicatePredicateVisitor.asNumber((Comparable<?>) value));
+        }
+
+        @Override
+        public String toString() {
+            return operator.name().toLowerCase() + literals;
+        }
+
+    }
+
+    private static final class ValueMatcherVisitor implements PredicateVisitor<ValueMatcher> {
+
+        private static final ValueMatcherVisitor INSTANCE = new ValueMatcherVisitor();
+
+        @Override
+        public ValueMatcher visitEq(@Nullable final Object value) {
+            return new ValueMatcher(Operator.EQ, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitGe(@Nullable final Object value) {
+            return new ValueMatcher(Operator.GE, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitGt(@Nullable final Object value) {
+            return new ValueMatcher(Operator.GT, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitLe(@Nullable final Object value) {
+            return new ValueMatcher(Operator.LE, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitLt(@Nullable final Object value) {
+            return new ValueMatcher(Operator.LT, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitNe(@Nullable final Object value) {
+            return new ValueMatcher(Operator.NE, Collections.singletonList(value), null);
+        }
+
+        @Override
+        public ValueMatcher visitLike(@Nullable final String value) {
+            return new ValueMatcher(Operator.LIKE, Collections.singletonList(value),
+                    precompile(value, 0));
+        }
+
+        @Override
+        public ValueMatcher visitILike(@Nullable final String value) {
+            return new ValueMatcher(Operator.ILIKE, Collections.singletonList(value),
+                    precompile(value, Pattern.CASE_INSENSITIVE));
+        }
+
+        @Override
+        public ValueMatcher visitIn(final List<?> values) {
+            return new ValueMatcher(Operator.IN, values, null);
+        }
+
+        @Nullable
+        private static Pattern precompile(@Nullable final String regex, final int flags) {
+            if (null == regex) {
+                return null;
+            }
+            try {
+                return Pattern.compile(regex, flags);
+            } catch (final PatternSyntaxException e) {
+                // compiled again on each evaluation in order to fail like the ThingPredicateVisitor
+                return null;
+            }
+        }
+
+    }
+
+    private static final class FieldNameVisitor implements FilterFieldExpressionVisitor<String> {
+
+        private static final FieldNameVisitor INSTANCE = new FieldNameVisitor();
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureDefinition(final String featureId) {
+            return "/features/" + featureId + "/definition";
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return "/features/" + featureId + "/desiredProperties/" + desiredProperty;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+        @Override
+        public String visitMetadata(final String key) {
+            return "_metadata/" + key;
+        }
+
+    }
+
+}
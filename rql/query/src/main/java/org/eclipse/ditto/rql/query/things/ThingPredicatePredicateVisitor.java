@@ -39,7 +39,7 @@ import org.eclipse.ditto.things.model.Thing;
  */
 public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Function<String, Predicate<Thing>>> {
 
-    private static final Object NULL_LITERAL = new Object();
+    static final Object NULL_LITERAL = new Object();
 
     private static ThingPredicatePredicateVisitor instance;
 
@@ -191,8 +191,11 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @SuppressWarnings({"rawtypes", "java:S3740"})
     private static int compare(final Comparable value, final Comparable obj) {
-        final Comparable comparableObj = asNumber(obj);
-        final Comparable comparableValue = asNumber(value);
+        return compareNumbers(asNumber(value), asNumber(obj));
+    }
+
+    @SuppressWarnings({"rawtypes", "java:S3740"})
+    static int compareNumbers(final Comparable comparableValue, final Comparable comparableObj) {
         // best effort try to convert both values to a BigDecimal in order to compare them:
         if (comparableValue instanceof String && comparableObj instanceof BigDecimal) {
             try {
@@ -220,7 +223,7 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
     }
 
     @SuppressWarnings({"rawtypes", "java:S3740"})
-    private static Comparable asNumber(final Comparable<?> comparable) {
+    static Comparable asNumber(final Comparable<?> comparable) {
         return comparable instanceof Number ? new BigDecimal(comparable.toString()) : comparable;
     }
 
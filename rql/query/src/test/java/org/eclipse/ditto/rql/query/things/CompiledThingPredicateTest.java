@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.FeatureProperties;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}: the compiled predicate has to evaluate like the predicate of the
+ * {@link ThingPredicateVisitor}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final PlaceholderResolver<String> PLACEHOLDER_RESOLVER = PlaceholderFactory.newPlaceholderResolver(
+            new ThingPredicateTestPlaceholder(), "LoreM");
+
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), PLACEHOLDER_RESOLVER);
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setAttribute(JsonPointer.of("anInteger"), JsonValue.of(42))
+            .setAttribute(JsonPointer.of("aDouble"), JsonValue.of(22.26))
+            .setAttribute(JsonPointer.of("aString"), JsonValue.of("ccc_string"))
+            .setAttribute(JsonPointer.of("aNull"), JsonValue.nullLiteral())
+            .setAttribute(JsonPointer.of("lower"), JsonValue.of("lorem"))
+            .setAttribute(JsonPointer.of("anArray"), JsonArray.newBuilder()
+                    .add(1)
+                    .add("two")
+                    .add(JsonObject.newBuilder().set("anInteger", 3).build())
+                    .build())
+            .setFeature("foo", FeatureProperties.newBuilder()
+                    .set(JsonPointer.of("aLong"), JsonValue.of(42456489489489L))
+                    .build())
+            .build();
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(attributes/anInteger,42)",
+            "eq(attributes/anInteger,\"42\")",
+            "ne(attributes/anInteger,42)",
+            "ne(attributes/missing,42)",
+            "gt(attributes/aDouble,22.25)",
+            "ge(attributes/aDouble,22.26)",
+            "lt(features/foo/properties/aLong,42456489489490)",
+            "le(attributes/aString,\"bbb\")",
+            "eq(attributes/aNull,null)",
+            "ne(attributes/aNull,null)",
+            "in(attributes/anArray,\"two\",5)",
+            "eq(attributes/anArray/anInteger,3)",
+            "like(attributes/aString,\"ccc*\")",
+            "ilike(attributes/aString,\"CCC*\")",
+            "eq(attributes/lower,test:lower)",
+            "eq(test:upper,\"LOREM\")",
+            "exists(attributes/anArray)",
+            "exists(test:lower)",
+            "empty(attributes/aNull)",
+            "and(eq(attributes/anInteger,42),like(attributes/aString,\"*string\"),exists(features/foo))",
+            "or(eq(attributes/anInteger,41),gt(attributes/aDouble,100),eq(thingId,\"org.eclipse.ditto:compiled\"))",
+            "not(or(eq(attributes/anInteger,41),eq(_namespace,\"org.eclipse.ditto\")))"
+    );
+
+    @Test
+    public void compiledPredicateEvaluatesLikeThingPredicateVisitor() {
+        for (final String filter : FILTERS) {
+            final Criteria criteria = QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+
+            assertThat(CompiledThingPredicate.compile(criteria).test(THING, PLACEHOLDER_RESOLVER))
+                    .as("Filtering '%s'", filter)
+                    .isEqualTo(ThingPredicateVisitor.apply(criteria, PLACEHOLDER_RESOLVER).test(THING));
+        }
+    }
+
+    @Test
+    public void compiledPredicateIsIndependentOfPlaceholderResolvers() {
+        final CompiledThingPredicate underTest = CompiledThingPredicate.compile(QUERY_FILTER_CRITERIA_FACTORY
+                .filterCriteria("eq(attributes/lower,test:lower)", DittoHeaders.empty()));
+
+        assertThat(underTest.test(THING, PLACEHOLDER_RESOLVER)).isTrue();
+        assertThat(underTest.test(THING, PlaceholderFactory.newPlaceholderResolver(new ThingPredicateTestPlaceholder(),
+                "ipsum"))).isFalse();
+        assertThat(underTest.withPlaceholderResolvers(PLACEHOLDER_RESOLVER).test(THING)).isTrue();
+    }
+
+}
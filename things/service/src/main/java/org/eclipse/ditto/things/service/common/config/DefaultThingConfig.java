@@ -30,6 +30,8 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshot
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.NamespaceActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
@@ -51,6 +53,7 @@ public final class DefaultThingConfig implements ThingConfig {
     private final ThingEventConfig eventConfig;
     private final ThingMessageConfig messageConfig;
     private final CleanupConfig cleanupConfig;
+    private final GroupCommitConfig groupCommitConfig;
     private final boolean mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
@@ -62,6 +65,7 @@ public final class DefaultThingConfig implements ThingConfig {
         eventConfig = DefaultThingEventConfig.of(scopedConfig);
         messageConfig = DefaultThingMessageConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
         mergeRemoveEmptyObjectsAfterPatchConditionFiltering = scopedConfig.getBoolean(
                 ThingConfig.ConfigValue.MERGE_REMOVE_EMPTY_OBJECTS_AFTER_PATCH_CONDITION_FILTERING.getConfigPath());
     }
@@ -120,6 +124,11 @@ public final class DefaultThingConfig implements ThingConfig {
         return messageConfig;
     }
 
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
     @Override
     public boolean isMergeRemoveEmptyObjectsAfterPatchConditionFiltering() {
         return mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
@@ -150,6 +159,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(eventConfig, that.eventConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout) &&
                 mergeRemoveEmptyObjectsAfterPatchConditionFiltering ==
                         that.mergeRemoveEmptyObjectsAfterPatchConditionFiltering;
@@ -158,7 +168,7 @@ public final class DefaultThingConfig implements ThingConfig {
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, namespaceActivityCheckConfigs, snapshotConfig,
-                eventConfig, messageConfig, cleanupConfig, shutdownTimeout,
+                eventConfig, messageConfig, cleanupConfig, groupCommitConfig, shutdownTimeout,
                 mergeRemoveEmptyObjectsAfterPatchConditionFiltering);
     }
 
@@ -172,6 +182,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", eventConfig=" + eventConfig +
                 ", messageConfig=" + messageConfig +
                 ", cleanupConfig=" + cleanupConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
                 ", shutdownTimeout=" + shutdownTimeout +
                 ", mergeRemoveEmptyObjectsAfterPatchConditionFiltering=" +
                 mergeRemoveEmptyObjectsAfterPatchConditionFiltering +
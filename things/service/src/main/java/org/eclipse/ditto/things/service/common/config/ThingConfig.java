@@ -23,6 +23,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.NamespaceActivi
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 
 /**
  * Provides configuration settings for thing entities.
@@ -45,6 +46,14 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
      */
     ThingMessageConfig getMessageConfig();
 
+    /**
+     * Returns the config of the group commit of the events of modifying commands queued for a thing.
+     *
+     * @return the config.
+     * @since 3.10.0
+     */
+    GroupCommitConfig getGroupCommitConfig();
+
     /**
      * Get the timeout waiting for responses and acknowledgements during coordinated shutdown.
      *
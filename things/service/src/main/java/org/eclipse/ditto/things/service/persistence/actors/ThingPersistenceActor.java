@@ -40,11 +40,13 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJou
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
@@ -233,6 +235,19 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
+    @Override
+    protected boolean shouldPipelineTwinCommand(final Command<?> command) {
+        // the following commands are enforced with the policy of the thing, so its policy ID must not change meanwhile
+        final JsonPointer resourcePath = command.getResourcePath();
+        return super.shouldPipelineTwinCommand(command) && !resourcePath.isEmpty() &&
+                !resourcePath.equals(Thing.JsonFields.POLICY_ID.getPointer());
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -46,14 +46,12 @@ import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
 import org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider;
 import org.eclipse.ditto.policies.model.PolicyId;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.service.common.config.PreDefinedExtraFieldsConfig;
+import org.eclipse.ditto.things.service.utils.ConditionPredicateCache;
 import org.eclipse.ditto.things.service.utils.PartialAccessPathCalculator;
 import org.eclipse.ditto.things.service.utils.ReadGrant;
 import org.eclipse.ditto.things.service.utils.ReadGrantCollector;
@@ -200,21 +198,16 @@ public final class ThingEventEnricher {
             final String rqlCondition = optCondition.get();
 
             try {
-                final Criteria criteria = QueryFilterCriteriaFactory
-                        .modelBased(RqlPredicateParser.getInstance())
-                        .filterCriteria(rqlCondition, withDittoHeaders.getDittoHeaders());
-
-                final Predicate<Thing> predicate =
-                        ThingPredicateVisitor.apply(
-                                criteria,
-                                PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()),
-                                PlaceholderFactory.newPlaceholderResolver(
-                                        HEADERS_PLACEHOLDER,
-                                        withDittoHeaders.getDittoHeaders()
-                                )
-                        );
-
-                return predicate.test(thing);
+                final CompiledThingPredicate predicate = ConditionPredicateCache.getInstance()
+                        .getPredicate(rqlCondition, withDittoHeaders.getDittoHeaders());
+
+                return predicate.test(thing,
+                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()),
+                        PlaceholderFactory.newPlaceholderResolver(
+                                HEADERS_PLACEHOLDER,
+                                withDittoHeaders.getDittoHeaders()
+                        )
+                );
 
             } catch (final InvalidRqlExpressionException e) {
                 LOGGER.withCorrelationId(withDittoHeaders.getDittoHeaders())
@@ -95,6 +95,7 @@ final class MergeThingStrategy extends AbstractThingModifyCommandStrategy<MergeT
                         .or(() -> Optional.ofNullable(previousThing).flatMap(Thing::getDefinition))
                         .orElse(null),
                 command,
+                previousThing,
                 Optional.ofNullable(previewThing).orElseThrow(),
                 command.getResourcePath(),
                 command.getDittoHeaders()
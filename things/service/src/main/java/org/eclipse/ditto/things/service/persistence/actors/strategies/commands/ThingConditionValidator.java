@@ -23,12 +23,10 @@ import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingConditionFailedException;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.service.utils.ConditionPredicateCache;
 
 @Immutable
 public final class ThingConditionValidator {
@@ -65,15 +63,10 @@ public final class ThingConditionValidator {
             final Thing entity,
             final DittoHeaders dittoHeaders) {
 
-        final var criteria = QueryFilterCriteriaFactory
-                .modelBased(RqlPredicateParser.getInstance())
-                .filterCriteria(condition, dittoHeaders);
-
-        final var predicate = ThingPredicateVisitor.apply(criteria,
-                PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()));
+        final var predicate = ConditionPredicateCache.getInstance().getPredicate(condition, dittoHeaders);
 
         final ThingConditionFailedException validationError;
-        if (predicate.test(entity)) {
+        if (predicate.test(entity, PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()))) {
             validationError = null;
         } else {
             validationError = ThingConditionFailedException.newBuilder(dittoHeaders).build();
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.utils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-node cache of the compiled predicates of the RQL conditions evaluated against things, e.g. the
+ * {@code condition} header of requests, the patch conditions of merge commands and the conditions of pre-defined
+ * extra fields. The same few conditions are usually sent with many requests, so they are parsed and compiled only
+ * once. Hits, misses and the size of the cache are reported as metrics of the cache {@value #CACHE_NAME}.
+ *
+ * @since 3.10.0
+ */
+@ThreadSafe
+public final class ConditionPredicateCache {
+
+    private static final String CACHE_NAME = "thing_condition_predicates";
+    private static final long MAXIMUM_SIZE = 10_000L;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1L);
+
+    private static final ConditionPredicateCache INSTANCE = new ConditionPredicateCache();
+
+    private final CaffeineCache<String, CompiledThingPredicate> cache;
+
+    private ConditionPredicateCache() {
+        cache = CaffeineCache.of(Caffeine.newBuilder()
+                        .maximumSize(MAXIMUM_SIZE)
+                        .expireAfterAccess(EXPIRE_AFTER_ACCESS),
+                CACHE_NAME);
+    }
+
+    /**
+     * Returns the cache of the node.
+     *
+     * @return the cache.
+     */
+    public static ConditionPredicateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the compiled predicate of an RQL condition, parsing and compiling the condition if it was not cached.
+     *
+     * @param condition the RQL condition.
+     * @param dittoHeaders the headers of the request containing the condition, used for errors.
+     * @return the compiled predicate.
+     * @throws InvalidRqlExpressionException if the condition is no valid RQL expression.
+     */
+    public CompiledThingPredicate getPredicate(final String condition, final DittoHeaders dittoHeaders) {
+        try {
+            return cache.get(condition, (key, executor) -> CompletableFuture.supplyAsync(() ->
+                    compile(key, DittoHeaders.empty()), Runnable::run)).join();
+        } catch (final CompletionException e) {
+            // failed compilations are not cached; compile again in order to fail with the headers of the request
+            return compile(condition, dittoHeaders);
+        }
+    }
+
+    private static CompiledThingPredicate compile(final String condition, final DittoHeaders dittoHeaders) {
+        return CompiledThingPredicate.compile(QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance())
+                .filterCriteria(condition, dittoHeaders));
+    }
+
+}
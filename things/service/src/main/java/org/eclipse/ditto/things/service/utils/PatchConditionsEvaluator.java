@@ -26,10 +26,6 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.policies.model.ResourceKey;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
 
@@ -171,14 +167,11 @@ public final class PatchConditionsEvaluator {
             final String conditionExpression,
             final DittoHeaders dittoHeaders) {
         try {
-            final Criteria criteria = QueryFilterCriteriaFactory
-                    .modelBased(RqlPredicateParser.getInstance())
-                    .filterCriteria(conditionExpression, dittoHeaders);
+            final var predicate =
+                    ConditionPredicateCache.getInstance().getPredicate(conditionExpression, dittoHeaders);
 
-            final var predicate = ThingPredicateVisitor.apply(criteria,
+            return predicate.test(existingThing,
                     PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()));
-
-            return predicate.test(existingThing);
         } catch (final Exception e) {
             throw InvalidRqlExpressionException.newBuilder()
                     .message(e.getMessage())
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.apache.pekko.persistence.journal.japi.AsyncWriteJournal;
+
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.jdk.javaapi.FutureConverters;
+
+/**
+ * Event journal which holds each write until the test completes it, in order to control which events are in flight.
+ * It does not store any event: persistence actors using it must have fresh persistence IDs.
+ */
+public final class GroupCommitTestJournal extends AsyncWriteJournal {
+
+    private static final BlockingQueue<PendingWrite> PENDING_WRITES = new LinkedBlockingQueue<>();
+
+    /**
+     * Discards the writes of previous tests.
+     */
+    static void reset() {
+        PENDING_WRITES.clear();
+    }
+
+    /**
+     * Waits for the next write to the journal.
+     *
+     * @return the write to complete.
+     */
+    static PendingWrite expectWrite() {
+        try {
+            final PendingWrite pendingWrite = PENDING_WRITES.poll(5, TimeUnit.SECONDS);
+            if (null == pendingWrite) {
+                throw new AssertionError("Expected a write to the journal, but got none.");
+            }
+            return pendingWrite;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for a write to the journal.", e);
+        }
+    }
+
+    /**
+     * Asserts that no write to the journal happens within the passed duration.
+     *
+     * @param duration how long to wait.
+     */
+    static void expectNoWrite(final Duration duration) {
+        try {
+            final PendingWrite pendingWrite = PENDING_WRITES.poll(duration.toMillis(), TimeUnit.MILLISECONDS);
+            if (null != pendingWrite) {
+                throw new AssertionError("Expected no write to the journal, but got: " + pendingWrite);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for a write to the journal.", e);
+        }
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<AtomicWrite> atomicWrites = new ArrayList<>();
+        messages.forEach(atomicWrites::add);
+        final PendingWrite pendingWrite = new PendingWrite(atomicWrites);
+        PENDING_WRITES.add(pendingWrite);
+        return FutureConverters.asScala(pendingWrite.result);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        return Future.successful(0L);
+    }
+
+    /**
+     * A write to the journal which was not completed yet.
+     */
+    static final class PendingWrite {
+
+        private final List<AtomicWrite> atomicWrites;
+        private final CompletableFuture<Iterable<Optional<Exception>>> result;
+
+        private PendingWrite(final List<AtomicWrite> atomicWrites) {
+            this.atomicWrites = atomicWrites;
+            result = new CompletableFuture<>();
+        }
+
+        /**
+         * @return the sequence numbers of the written events in order.
+         */
+        List<Long> getSequenceNumbers() {
+            final List<Long> sequenceNumbers = new ArrayList<>();
+            atomicWrites.forEach(atomicWrite -> CollectionConverters.asJava(atomicWrite.payload())
+                    .forEach(persistentRepr -> sequenceNumbers.add(persistentRepr.sequenceNr())));
+            return sequenceNumbers;
+        }
+
+        /**
+         * Completes the write successfully.
+         */
+        void succeed() {
+            final List<Optional<Exception>> results = new ArrayList<>();
+            atomicWrites.forEach(atomicWrite -> results.add(Optional.empty()));
+            result.complete(results);
+        }
+
+        /**
+         * Completes the write rejecting the atomic write at the passed index, e.g. because its event could not be
+         * serialized, and storing all other atomic writes.
+         *
+         * @param index the index of the rejected atomic write.
+         */
+        void reject(final int index) {
+            final List<Optional<Exception>> results = new ArrayList<>();
+            for (int i = 0; i < atomicWrites.size(); i++) {
+                results.add(i == index
+                        ? Optional.of(new IllegalArgumentException("Rejected by GroupCommitTestJournal."))
+                        : Optional.empty());
+            }
+            result.complete(results);
+        }
+
+        /**
+         * Fails the write, e.g. because the database is unavailable.
+         */
+        void fail() {
+            result.completeExceptionally(new IllegalStateException("Failed by GroupCommitTestJournal."));
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "sequenceNumbers=" + getSequenceNumbers() +
+                    "]";
+        }
+
+    }
+
+}
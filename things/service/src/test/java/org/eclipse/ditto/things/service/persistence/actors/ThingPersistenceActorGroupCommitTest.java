@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.enforcement.PolicyEnforcer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicy;
+import org.eclipse.ditto.policies.model.signals.commands.modify.CreatePolicyResponse;
+import org.eclipse.ditto.things.api.Permission;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributes;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributesResponse;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Tests the group commit of {@link ThingPersistenceActor} and the pipelining of twin commands by
+ * {@link ThingSupervisorActor} with an event journal whose writes are completed by the tests.
+ */
+public final class ThingPersistenceActorGroupCommitTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final Duration NO_WRITE_TIMEOUT = Duration.ofMillis(500L);
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LoggerFactory.getLogger(getClass()));
+
+    @Before
+    public void setUp() {
+        GroupCommitTestJournal.reset();
+        final Config customConfig = ConfigFactory.empty()
+                .withValue("pekko.actor.provider",
+                        ConfigValueFactory.fromAnyRef("org.apache.pekko.cluster.ClusterActorRefProvider"))
+                .withValue("ditto.things.thing.group-commit.enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue("pekko-contrib-mongodb-persistence-things-journal.class",
+                        ConfigValueFactory.fromAnyRef(GroupCommitTestJournal.class.getName()));
+        setup(customConfig);
+    }
+
+    @Test
+    public void eventsQueuedWhileAWriteIsInFlightArePersistedWithConsecutiveRevisions() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thingId);
+
+            for (int i = 0; i < 5; i++) {
+                underTest.tell(modifyAttribute(thingId, "a" + i, dittoHeadersV2), getRef());
+            }
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(firstWrite.getSequenceNumbers()).containsExactly(2L);
+            GroupCommitTestJournal.expectNoWrite(NO_WRITE_TIMEOUT);
+            firstWrite.succeed();
+            expectModifyAttributeResponse(this, "a0", 2L);
+
+            final GroupCommitTestJournal.PendingWrite secondWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(secondWrite.getSequenceNumbers()).containsExactly(3L, 4L, 5L, 6L);
+            secondWrite.succeed();
+            for (int i = 1; i < 5; i++) {
+                expectModifyAttributeResponse(this, "a" + i, 2L + i);
+            }
+
+            underTest.tell(modifyAttribute(thingId, "b", dittoHeadersV2), getRef());
+            final GroupCommitTestJournal.PendingWrite thirdWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(thirdWrite.getSequenceNumbers()).containsExactly(7L);
+            thirdWrite.succeed();
+            expectModifyAttributeResponse(this, "b", 7L);
+        }};
+    }
+
+    @Test
+    public void eachSenderOfAGroupCommittedCommandGetsExactlyOneResponse() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thingId);
+
+            final List<TestKit> senders = List.of(new TestKit(actorSystem), new TestKit(actorSystem),
+                    new TestKit(actorSystem));
+            for (int i = 0; i < senders.size(); i++) {
+                underTest.tell(modifyAttribute(thingId, "a" + i, dittoHeadersV2), senders.get(i).getRef());
+            }
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            GroupCommitTestJournal.expectNoWrite(NO_WRITE_TIMEOUT);
+            firstWrite.succeed();
+            final GroupCommitTestJournal.PendingWrite secondWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(secondWrite.getSequenceNumbers()).containsExactly(3L, 4L);
+            secondWrite.succeed();
+
+            for (int i = 0; i < senders.size(); i++) {
+                expectModifyAttributeResponse(senders.get(i), "a" + i, 2L + i);
+            }
+            for (final TestKit sender : senders) {
+                sender.expectNoMessage(NO_WRITE_TIMEOUT);
+            }
+        }};
+    }
+
+    @Test
+    public void queriesSeeThePersistedStateAndKeepTheOrderOfTheFollowingCommands() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thingId);
+
+            underTest.tell(modifyAttribute(thingId, "a", dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "b", dittoHeadersV2), getRef());
+            underTest.tell(RetrieveAttributes.of(thingId, dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "c", dittoHeadersV2), getRef());
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(firstWrite.getSequenceNumbers()).containsExactly(2L);
+            expectNoMessage(NO_WRITE_TIMEOUT);
+            firstWrite.succeed();
+            expectModifyAttributeResponse(this, "a", 2L);
+
+            // the modification following the query is stashed until the query was answered
+            final GroupCommitTestJournal.PendingWrite secondWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(secondWrite.getSequenceNumbers()).containsExactly(3L);
+            secondWrite.succeed();
+            expectModifyAttributeResponse(this, "b", 3L);
+            final RetrieveAttributesResponse retrieveAttributesResponse =
+                    expectMsgClass(RetrieveAttributesResponse.class);
+            assertThat(retrieveAttributesResponse.getAttributes().toJson())
+                    .isEqualTo(JsonObject.newBuilder().set("a", true).set("b", true).build());
+
+            final GroupCommitTestJournal.PendingWrite thirdWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(thirdWrite.getSequenceNumbers()).containsExactly(4L);
+            thirdWrite.succeed();
+            expectModifyAttributeResponse(this, "c", 4L);
+        }};
+    }
+
+    @Test
+    public void rejectedEventFailsItsCommandAndTheQueuedCommands() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thingId);
+
+            underTest.tell(modifyAttribute(thingId, "a", dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "b", dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "c", dittoHeadersV2), getRef());
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            expectNoMessage(NO_WRITE_TIMEOUT);
+            firstWrite.reject(0);
+            expectMsgClass(DittoInternalErrorException.class);
+            expectMsgClass(DittoInternalErrorException.class);
+            expectMsgClass(DittoInternalErrorException.class);
+            GroupCommitTestJournal.expectNoWrite(NO_WRITE_TIMEOUT);
+
+            // the sequence number of the rejected event is not reused
+            underTest.tell(modifyAttribute(thingId, "d", dittoHeadersV2), getRef());
+            final GroupCommitTestJournal.PendingWrite secondWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(secondWrite.getSequenceNumbers()).containsExactly(3L);
+            secondWrite.succeed();
+            expectModifyAttributeResponse(this, "d", 3L);
+
+            underTest.tell(RetrieveAttributes.of(thingId, dittoHeadersV2), getRef());
+            final RetrieveAttributesResponse retrieveAttributesResponse =
+                    expectMsgClass(RetrieveAttributesResponse.class);
+            assertThat(retrieveAttributesResponse.getAttributes().toJson())
+                    .isEqualTo(JsonObject.newBuilder().set("d", true).build());
+        }};
+    }
+
+    @Test
+    public void failedWriteFailsAllPendingCommandsAndStopsThePersistenceActor() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thingId);
+            watch(underTest);
+
+            underTest.tell(modifyAttribute(thingId, "a", dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "b", dittoHeadersV2), getRef());
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            expectNoMessage(NO_WRITE_TIMEOUT);
+            firstWrite.fail();
+            expectMsgClass(DittoInternalErrorException.class);
+            expectMsgClass(DittoInternalErrorException.class);
+            expectTerminated(underTest);
+        }};
+    }
+
+    @Test
+    public void supervisorPipelinesTwinCommandsWithTheSameCorrelationId() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(SubjectIssuer.newInstance("test"), AUTH_SUBJECT)
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()),
+                        Permissions.newInstance(Permission.READ, Permission.WRITE))
+                .setGrantedPermissions(PoliciesResourceType.policyResource(JsonPointer.empty()),
+                        Permissions.newInstance(Permission.READ, Permission.WRITE))
+                .build();
+        when(policyEnforcerProvider.getPolicyEnforcer(POLICY_ID))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(PolicyEnforcer.of(policy))));
+
+        new TestKit(actorSystem) {{
+            final ThingId thingId = randomThingId();
+            final ActorRef underTest = createSupervisorActorFor(thingId);
+            final Thing thing = ThingsModelFactory.newThingBuilder().setId(thingId).setPolicyId(POLICY_ID).build();
+            underTest.tell(CreateThing.of(thing, policy.toJson(FieldType.all()), dittoHeadersV2), getRef());
+            policiesShardRegionTestProbe.expectMsgClass(CreatePolicy.class);
+            policiesShardRegionTestProbe.reply(CreatePolicyResponse.of(POLICY_ID, policy, DittoHeaders.empty()));
+            GroupCommitTestJournal.expectWrite().succeed();
+            expectMsgClass(CreateThingResponse.class);
+
+            final DittoHeaders sameCorrelationId = dittoHeadersV2.toBuilder().correlationId("same").build();
+            for (int i = 0; i < 3; i++) {
+                underTest.tell(modifyAttribute(thingId, "a" + i, sameCorrelationId), getRef());
+            }
+
+            final GroupCommitTestJournal.PendingWrite firstWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(firstWrite.getSequenceNumbers()).containsExactly(2L);
+            // the supervisor forwards the following commands before the first one was persisted
+            expectNoMessage(Duration.ofSeconds(1L));
+            firstWrite.succeed();
+            final GroupCommitTestJournal.PendingWrite secondWrite = GroupCommitTestJournal.expectWrite();
+            assertThat(secondWrite.getSequenceNumbers()).containsExactly(3L, 4L);
+            secondWrite.succeed();
+
+            for (int i = 0; i < 3; i++) {
+                expectModifyAttributeResponse(this, "a" + i, 2L + i);
+            }
+            expectNoMessage(NO_WRITE_TIMEOUT);
+        }};
+    }
+
+    private void createThing(final TestKit testKit, final ActorRef underTest, final ThingId thingId) {
+        final Thing thing = ThingsModelFactory.newThingBuilder().setId(thingId).setPolicyId(POLICY_ID).build();
+        underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), testKit.getRef());
+        final GroupCommitTestJournal.PendingWrite creation = GroupCommitTestJournal.expectWrite();
+        assertThat(creation.getSequenceNumbers()).containsExactly(1L);
+        creation.succeed();
+        testKit.expectMsgClass(CreateThingResponse.class);
+    }
+
+    private static ThingId randomThingId() {
+        return ThingId.of(THING_ID.getNamespace(), THING_ID.getName() + UUID.randomUUID());
+    }
+
+    private static ModifyAttribute modifyAttribute(final ThingId thingId, final String attribute,
+            final DittoHeaders dittoHeaders) {
+        return ModifyAttribute.of(thingId, JsonPointer.of(attribute), JsonValue.of(true), dittoHeaders);
+    }
+
+    private static void expectModifyAttributeResponse(final TestKit testKit, final String attribute,
+            final long revision) {
+        final ModifyAttributeResponse response = testKit.expectMsgClass(ModifyAttributeResponse.class);
+        assertThat(response.getAttributePointer()).isEqualTo(JsonPointer.of(attribute));
+        assertThat(response.getDittoHeaders().get(DittoHeaderDefinition.ENTITY_REVISION.getKey()))
+                .isEqualTo(String.valueOf(revision));
+    }
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.persistence.journal.Tagged;
+import org.apache.pekko.persistence.query.EventEnvelope;
+import org.apache.pekko.persistence.query.Offset;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.base.api.persistence.cleanup.CleanupPersistence;
+import org.eclipse.ditto.base.api.persistence.cleanup.CleanupPersistenceResponse;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingHistoryNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoEventAdapter;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Unit test for the historical read cache of {@link ThingPersistenceActor}, which is implemented by
+ * {@link org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor}.
+ */
+public final class ThingPersistenceActorHistoricalReadCacheTest extends PersistenceActorTestBaseWithSnapshotting {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingPersistenceActorHistoricalReadCacheTest.class);
+
+    private static final JsonPointer COUNTER = JsonPointer.of("counter");
+    private static final int LAST_REVISION = 7;
+
+    @Rule
+    public final TestWatcher watchman = new TestedMethodLoggingWatcher(LOGGER);
+
+    private final List<EventsourcedEvent<?>> journal = new ArrayList<>();
+    private final MongoReadJournal readJournal = mock(MongoReadJournal.class);
+
+    @Test
+    public void repeatedReadAtRevisionIsAnsweredFromCache() {
+        setup(createNewDefaultTestConfig().withValue("ditto.historical-read-cache.enabled",
+                ConfigValueFactory.fromAnyRef(true)));
+
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithRevisions(this);
+            final ActorRef underTest = createPersistenceActor(thingId);
+
+            // the first read replays the event after the snapshot of revision 2
+            assertCounterAtRevision(this, underTest, thingId, 3);
+            verify(readJournal).currentEventsByPersistenceId(persistenceId(thingId), 3L, 3L);
+
+            // the second read does not read the journal
+            assertCounterAtRevision(this, underTest, thingId, 3);
+            verifyNoMoreInteractions(readJournal);
+        }};
+    }
+
+    @Test
+    public void readAtLaterRevisionReplaysOnlyEventsAfterCachedState() {
+        setup(createNewDefaultTestConfig().withValue("ditto.historical-read-cache.enabled",
+                ConfigValueFactory.fromAnyRef(true)));
+
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithRevisions(this);
+            final ActorRef underTest = createPersistenceActor(thingId);
+
+            assertCounterAtRevision(this, underTest, thingId, 3);
+            verify(readJournal).currentEventsByPersistenceId(persistenceId(thingId), 3L, 3L);
+
+            // revision 5 is within the snapshot threshold of the cached revision 3
+            assertCounterAtRevision(this, underTest, thingId, 5);
+            verify(readJournal).currentEventsByPersistenceId(persistenceId(thingId), 4L, 5L);
+            verifyNoMoreInteractions(readJournal);
+        }};
+    }
+
+    @Test
+    public void cleanupInvalidatesCachedStates() {
+        setup(createNewDefaultTestConfig().withValue("ditto.historical-read-cache.enabled",
+                ConfigValueFactory.fromAnyRef(true)));
+
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithRevisions(this);
+            final ActorRef underTest = createPersistenceActor(thingId);
+            assertCounterAtRevision(this, underTest, thingId, 3);
+
+            // the cleanup deletes the snapshots and events before the latest snapshot of revision 6
+            underTest.tell(CleanupPersistence.of(thingId, DittoHeaders.empty()), getRef());
+            expectMsg(CleanupPersistenceResponse.success(thingId, DittoHeaders.empty()));
+            journal.removeIf(event -> event.getRevision() <= 6L);
+
+            underTest.tell(retrieveThingAtRevision(thingId, 3), getRef());
+            expectMsgClass(ThingHistoryNotAccessibleException.class);
+        }};
+    }
+
+    @Test
+    public void disabledCacheReadsJournalForEveryRead() {
+        setup(createNewDefaultTestConfig());
+
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithRevisions(this);
+            final ActorRef underTest = createPersistenceActor(thingId);
+
+            assertCounterAtRevision(this, underTest, thingId, 3);
+            assertCounterAtRevision(this, underTest, thingId, 3);
+            verify(readJournal, times(2))
+                    .currentEventsByPersistenceId(persistenceId(thingId), 3L, 3L);
+        }};
+    }
+
+    private ThingId createThingWithRevisions(final TestKit testKit) {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+        final ActorRef writer = createPersistenceActorFor(thingId);
+
+        final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+        writer.tell(createThing, testKit.getRef());
+        final Thing createdThing = testKit.expectMsgClass(testKit.dilated(Duration.ofSeconds(5)),
+                CreateThingResponse.class).getThingCreated().orElseThrow();
+        journal.add(toEvent(createThing, createdThing));
+
+        final List<Thing> expectedSnapshots = new ArrayList<>();
+        for (int revision = 2; revision <= LAST_REVISION; revision++) {
+            final Thing modifiedThing = ThingsModelFactory.newThingBuilder(thing)
+                    .setAttribute(COUNTER, JsonValue.of(revision))
+                    .setRevision(revision)
+                    .build();
+            final ModifyThing modifyThing = ModifyThing.of(thingId, modifiedThing, null, dittoHeadersV2);
+            writer.tell(modifyThing, testKit.getRef());
+            testKit.expectMsgClass(ModifyThingResponse.class);
+            journal.add(toEvent(modifyThing, modifiedThing));
+            if (revision % DEFAULT_TEST_SNAPSHOT_THRESHOLD == 0) {
+                expectedSnapshots.add(modifiedThing);
+            }
+        }
+        assertSnapshots(thingId, expectedSnapshots);
+        testKit.watch(writer);
+        actorSystem.stop(writer);
+        testKit.expectTerminated(writer);
+
+        final ThingMongoEventAdapter eventAdapter = new ThingMongoEventAdapter((ExtendedActorSystem) actorSystem);
+        when(readJournal.currentEventsByPersistenceId(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            final long fromSequenceNr = invocation.getArgument(1);
+            final long toSequenceNr = invocation.getArgument(2);
+            return Source.from(List.copyOf(journal))
+                    .filter(event -> event.getRevision() >= fromSequenceNr && event.getRevision() <= toSequenceNr)
+                    .map(event -> new EventEnvelope(Offset.sequence(event.getRevision()),
+                            invocation.getArgument(0),
+                            event.getRevision(),
+                            (BsonDocument) ((Tagged) eventAdapter.toJournal(event)).payload(),
+                            0L,
+                            scala.Option.empty()));
+        });
+
+        return thingId;
+    }
+
+    private ActorRef createPersistenceActor(final ThingId thingId) {
+        return actorSystem.actorOf(ThingPersistenceActor.props(thingId, readJournal, thingsConfig.getThingConfig(),
+                getDistributedPub(), null, policyEnforcerProvider));
+    }
+
+    private RetrieveThing retrieveThingAtRevision(final ThingId thingId, final long revision) {
+        return RetrieveThing.of(thingId, dittoHeadersV2.toBuilder()
+                .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), String.valueOf(revision))
+                .build());
+    }
+
+    private void assertCounterAtRevision(final TestKit testKit, final ActorRef underTest, final ThingId thingId,
+            final long revision) {
+
+        underTest.tell(retrieveThingAtRevision(thingId, revision), testKit.getRef());
+        final Thing historicalThing = testKit.expectMsgClass(RetrieveThingResponse.class).getThing();
+
+        assertThat(historicalThing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                .contains(JsonValue.of(revision));
+    }
+
+    private static String persistenceId(final ThingId thingId) {
+        return ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+    }
+
+}
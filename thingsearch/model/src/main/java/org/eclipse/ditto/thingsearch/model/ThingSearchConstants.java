@@ -33,4 +33,29 @@ public final class ThingSearchConstants {
      */
     public static final EntityType ENTITY_TYPE = EntityType.of("thing-search");
 
+    /**
+     * Value of the {@code search-consistency} header of search responses, see
+     * {@link org.eclipse.ditto.base.model.headers.DittoHeaderDefinition#SEARCH_CONSISTENCY}, if all things were
+     * retrieved from the things service at their current revision.
+     *
+     * @since 3.10.0
+     */
+    public static final String CONSISTENCY_TWIN = "twin";
+
+    /**
+     * Value of the {@code search-consistency} header of search responses if all things were projected from the search
+     * index at the revision last indexed, which may lag behind the things service.
+     *
+     * @since 3.10.0
+     */
+    public static final String CONSISTENCY_INDEX = "index";
+
+    /**
+     * Value of the {@code search-consistency} header of search responses if some things were projected from the search
+     * index and the others were retrieved from the things service.
+     *
+     * @since 3.10.0
+     */
+    public static final String CONSISTENCY_MIXED = "mixed";
+
 }
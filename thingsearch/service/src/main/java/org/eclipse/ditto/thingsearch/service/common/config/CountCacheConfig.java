@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for caching the results of search "count" queries.
+ *
+ * @since 3.10.0
+ */
+@Immutable
+public interface CountCacheConfig {
+
+    /**
+     * Returns whether the results of count queries are cached.
+     * Cached counts are only eventually consistent with the search index; requesters may still ask for an exact count.
+     *
+     * @return true if enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of cached counts.
+     *
+     * @return the maximum size.
+     */
+    int getMaximumSize();
+
+    /**
+     * Returns the age after which a cached count is refreshed in the background on its next request.
+     *
+     * @return the refresh interval.
+     */
+    Duration getRefreshAfterWrite();
+
+    /**
+     * Returns the age after which a cached count is no longer returned.
+     *
+     * @return the maximum age of a returned count.
+     */
+    Duration getExpireAfterWrite();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * CountCacheConfig.
+     */
+    enum CountCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the results of count queries are cached.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of cached counts.
+         */
+        MAXIMUM_SIZE("maximum-size", 10_000),
+
+        /**
+         * The age after which a cached count is refreshed in the background.
+         */
+        REFRESH_AFTER_WRITE("refresh-after-write", Duration.ofSeconds(10)),
+
+        /**
+         * The age after which a cached count is no longer returned.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofMinutes(1));
+
+        private final String path;
+        private final Object defaultValue;
+
+        CountCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link CountCacheConfig}.
+ *
+ * @since 3.10.0
+ */
+@Immutable
+public final class DefaultCountCacheConfig implements CountCacheConfig {
+
+    /**
+     * Path where the count cache config values are expected.
+     */
+    static final String CONFIG_PATH = "count-cache";
+
+    private final boolean enabled;
+    private final int maximumSize;
+    private final Duration refreshAfterWrite;
+    private final Duration expireAfterWrite;
+
+    private DefaultCountCacheConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(CountCacheConfigValue.ENABLED.getConfigPath());
+        maximumSize = configWithFallback.getPositiveIntOrThrow(CountCacheConfigValue.MAXIMUM_SIZE);
+        refreshAfterWrite =
+                configWithFallback.getNonNegativeAndNonZeroDurationOrThrow(CountCacheConfigValue.REFRESH_AFTER_WRITE);
+        expireAfterWrite =
+                configWithFallback.getNonNegativeAndNonZeroDurationOrThrow(CountCacheConfigValue.EXPIRE_AFTER_WRITE);
+    }
+
+    /**
+     * Returns an instance of DefaultCountCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountCacheConfig of(final Config config) {
+        return new DefaultCountCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CountCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountCacheConfig that = (DefaultCountCacheConfig) o;
+        return enabled == that.enabled &&
+                maximumSize == that.maximumSize &&
+                Objects.equals(refreshAfterWrite, that.refreshAfterWrite) &&
+                Objects.equals(expireAfterWrite, that.expireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maximumSize, refreshAfterWrite, expireAfterWrite);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", refreshAfterWrite=" + refreshAfterWrite +
+                ", expireAfterWrite=" + expireAfterWrite +
+                "]";
+    }
+
+}
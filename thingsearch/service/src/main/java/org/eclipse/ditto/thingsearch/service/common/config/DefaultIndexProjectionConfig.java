@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation for {@link IndexProjectionConfig}.
+ */
+@Immutable
+public final class DefaultIndexProjectionConfig implements IndexProjectionConfig {
+
+    /**
+     * Path where the index projection config values are expected.
+     */
+    static final String CONFIG_PATH = "index-projection";
+
+    private final boolean enabled;
+
+    private DefaultIndexProjectionConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(IndexProjectionConfigValue.ENABLED.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultIndexProjectionConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the index projection config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultIndexProjectionConfig of(final Config config) {
+        return new DefaultIndexProjectionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, IndexProjectionConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultIndexProjectionConfig that = (DefaultIndexProjectionConfig) o;
+        return enabled == that.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(enabled);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                "]";
+    }
+
+}
@@ -37,6 +37,9 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
 
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int maxBulkSize;
+    private final Duration maxBulkLinger;
+    private final int bulkQueueSize;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -52,6 +55,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        maxBulkSize = persistenceStreamScopedConfig.getPositiveIntOrThrow(PersistenceStreamConfigValue.MAX_BULK_SIZE);
+        maxBulkLinger = persistenceStreamScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                PersistenceStreamConfigValue.MAX_BULK_LINGER);
+        bulkQueueSize =
+                persistenceStreamScopedConfig.getPositiveIntOrThrow(PersistenceStreamConfigValue.BULK_QUEUE_SIZE);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -78,6 +86,21 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getMaxBulkSize() {
+        return maxBulkSize;
+    }
+
+    @Override
+    public Duration getMaxBulkLinger() {
+        return maxBulkLinger;
+    }
+
+    @Override
+    public int getBulkQueueSize() {
+        return bulkQueueSize;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -99,12 +122,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                maxBulkSize == that.maxBulkSize &&
+                Objects.equals(maxBulkLinger, that.maxBulkLinger) &&
+                bulkQueueSize == that.bulkQueueSize &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, maxBulkSize, maxBulkLinger, bulkQueueSize,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -112,6 +139,9 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return getClass().getSimpleName() + " [" +
                 "ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", maxBulkSize=" + maxBulkSize +
+                ", maxBulkLinger=" + maxBulkLinger +
+                ", bulkQueueSize=" + bulkQueueSize +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
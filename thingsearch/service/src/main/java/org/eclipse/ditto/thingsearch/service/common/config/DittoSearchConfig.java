@@ -85,6 +85,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final DefaultOperatorMetricsConfig operatorMetricsConfig;
     private final Map<String, CustomSearchIndexConfig> customIndexes;
     private final SlowQueryLogConfig slowQueryLogConfig;
+    private final IndexProjectionConfig indexProjectionConfig;
+    private final CountCacheConfig countCacheConfig;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -104,6 +106,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 : ConfigFactory.empty();
         queryPersistenceConfig = DefaultSearchPersistenceConfig.of(queryConfig);
         slowQueryLogConfig = DefaultSlowQueryLogConfig.of(queryConfig);
+        indexProjectionConfig = DefaultIndexProjectionConfig.of(queryConfig);
+        countCacheConfig = DefaultCountCacheConfig.of(queryConfig);
         simpleFieldMappings =
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
         namespaceIndexedFields = loadNamespaceSearchIndexList(configWithFallback);
@@ -188,6 +192,16 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return slowQueryLogConfig;
     }
 
+    @Override
+    public IndexProjectionConfig getIndexProjectionConfig() {
+        return indexProjectionConfig;
+    }
+
+    @Override
+    public CountCacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -260,6 +274,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings) &&
                 Objects.equals(operatorMetricsConfig, that.operatorMetricsConfig) &&
                 Objects.equals(slowQueryLogConfig, that.slowQueryLogConfig) &&
+                Objects.equals(indexProjectionConfig, that.indexProjectionConfig) &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
                 Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields) &&
                 Objects.equals(customIndexes, that.customIndexes);
     }
@@ -269,7 +285,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return Objects.hash(mongoHintsByNamespace, mongoCountHintIndexName, updaterConfig, dittoServiceConfig,
                 healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig,
                 queryPersistenceConfig, simpleFieldMappings, operatorMetricsConfig, slowQueryLogConfig,
-                namespaceIndexedFields, customIndexes);
+                indexProjectionConfig, countCacheConfig, namespaceIndexedFields, customIndexes);
     }
 
     @Override
@@ -289,6 +305,8 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", operatorMetricsConfig=" + operatorMetricsConfig +
                 ", customIndexes=" + customIndexes +
                 ", slowQueryLogConfig=" + slowQueryLogConfig +
+                ", indexProjectionConfig=" + indexProjectionConfig +
+                ", countCacheConfig=" + countCacheConfig +
                 "]";
     }
 
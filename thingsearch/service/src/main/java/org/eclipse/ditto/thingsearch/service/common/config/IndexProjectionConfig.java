@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for projecting the things of search results from the search index instead of
+ * retrieving them from the things shards.
+ */
+@Immutable
+public interface IndexProjectionConfig {
+
+    /**
+     * Returns whether search results are projected from the search index.
+     * Projected things reflect the revision last written to the search index and are therefore only eventually
+     * consistent with the things shards.
+     * Search index documents written by earlier versions are not marked as projectable; their things are retrieved
+     * from the things shards until they are indexed again.
+     *
+     * @return true if enabled, false otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * IndexProjectionConfig.
+     */
+    enum IndexProjectionConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether search results are projected from the search index.
+         */
+        ENABLED("enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        IndexProjectionConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
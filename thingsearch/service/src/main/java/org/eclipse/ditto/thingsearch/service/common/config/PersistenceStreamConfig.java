@@ -41,6 +41,30 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the maximum number of write models of different things to combine into one bulk write.
+     * A value of {@code 1} disables the shared batching of write models and lets each thing updater perform its own
+     * bulk write.
+     *
+     * @return the maximum bulk size.
+     */
+    int getMaxBulkSize();
+
+    /**
+     * Returns the maximum duration a write model waits for other write models to fill up a bulk write.
+     *
+     * @return the maximum bulk linger.
+     */
+    Duration getMaxBulkLinger();
+
+    /**
+     * Returns the maximum number of write models waiting for a shared bulk write. Write models exceeding this number
+     * are rejected and retried by their thing updaters.
+     *
+     * @return the size of the queue of pending write models.
+     */
+    int getBulkQueueSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -57,7 +81,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * Maximum number of write models of different things to combine into one bulk write.
+         */
+        MAX_BULK_SIZE("max-bulk-size", 1),
+
+        /**
+         * Maximum duration to wait for more write models before executing a bulk write.
+         */
+        MAX_BULK_LINGER("max-bulk-linger", Duration.ofMillis(10L)),
+
+        /**
+         * Maximum number of write models waiting for a shared bulk write.
+         */
+        BULK_QUEUE_SIZE("bulk-queue-size", 8192);
 
         private final String configPath;
         private final Object defaultValue;
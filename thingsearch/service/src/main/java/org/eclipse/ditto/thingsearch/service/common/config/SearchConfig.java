@@ -98,6 +98,21 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     SlowQueryLogConfig getSlowQueryLogConfig();
 
+    /**
+     * Returns the configuration for projecting the things of search results from the search index.
+     *
+     * @return the index projection configuration.
+     */
+    IndexProjectionConfig getIndexProjectionConfig();
+
+    /**
+     * Returns the configuration for caching the results of search "count" queries.
+     *
+     * @return the count cache configuration.
+     * @since 3.10.0
+     */
+    CountCacheConfig getCountCacheConfig();
+
     /**
      * Returns a map of fields scoped by namespaces that will be explicitly included in the search index.
      *
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.model;
+
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.ThingId;
+
+/**
+ * Thing ID with the thing JSON projected from the search index, if the search index holds all requested fields of
+ * the thing.
+ */
+public record ProjectedThing(ThingId thingId, Optional<JsonObject> projection) {}
@@ -199,6 +199,13 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_PATH_MODIFIED = FIELD_THING + DOT + FIELD_MODIFIED;
 
+    /**
+     * Field name of the flag marking documents whose {@link #FIELD_THING} is a complete copy of the thing, i.e. the
+     * thing was not retrieved with only the indexed fields of its namespace and no value was truncated or dropped to
+     * satisfy the index length restrictions. Only such documents may be used to project search results from the index.
+     */
+    public static final String FIELD_PROJECTABLE = "__projectable";
+
     private PersistenceConstants() {
     }
 
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Projects the things of search results from the documents of the search index.
+ * <p>
+ * A search index document holds the thing in {@value PersistenceConstants#FIELD_THING} and the subjects granted and
+ * revoked READ permission on each path of the thing in {@value PersistenceConstants#FIELD_POLICY}. A value is
+ * visible to a set of subjects if one of them is granted on the path to or at the value and none of them is revoked
+ * on that path or below it, so that a grant on a deeper path re-allows reading values revoked on a parent path.
+ * These are the same semantics the search filters and the policy enforcer apply.
+ * </p>
+ */
+final class IndexProjection {
+
+    private static final Set<String> FIELDS_NOT_IN_INDEX = Set.of(Policy.INLINED_FIELD_NAME, "_context");
+    private static final String WILDCARD = "*";
+    private static final String THING_PATH_PREFIX = PersistenceConstants.FIELD_THING + PersistenceConstants.DOT;
+
+    private IndexProjection() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Test whether the search index holds all fields selected by a field selector.
+     *
+     * @param fieldSelector the field selector, or null to select the regular fields.
+     * @return whether things may be projected from the search index for the field selector.
+     */
+    static boolean isProjectable(@Nullable final JsonFieldSelector fieldSelector) {
+        if (null == fieldSelector) {
+            return true;
+        }
+        for (final JsonPointer pointer : fieldSelector) {
+            final boolean notInIndex = pointer.getRoot()
+                    .filter(root -> FIELDS_NOT_IN_INDEX.contains(root.toString()))
+                    .isPresent();
+            if (notInIndex || pointer.toString().contains(WILDCARD)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create the MongoDB projection of the fields required to project things together with the sort values.
+     *
+     * @param sortOptions the sort options of the query.
+     * @return the projection.
+     */
+    static Document projections(final List<SortOption> sortOptions) {
+        final Document document = new Document().append(PersistenceConstants.FIELD_THING, true)
+                .append(PersistenceConstants.FIELD_POLICY, true)
+                .append(PersistenceConstants.FIELD_PROJECTABLE, true);
+        // sort keys inside the thing are projected as part of the whole thing; projecting both is a path collision
+        GetSortBsonVisitor.projections(sortOptions)
+                .keySet()
+                .stream()
+                .filter(path -> !path.startsWith(THING_PATH_PREFIX))
+                .forEach(path -> document.append(path, true));
+        return document;
+    }
+
+    /**
+     * Project the thing of a search index document.
+     *
+     * @param thingId the ID of the thing.
+     * @param document the search index document with the fields of {@link #projections(List)}.
+     * @param authorizationSubjectIds the subjects to filter the thing for, or null to skip filtering.
+     * @param fieldSelector the selected fields, or null to project the regular fields.
+     * @return the projected thing always containing the thing ID, or an empty optional if the document does not hold
+     * a complete copy of the thing, e.g. because its values were truncated or it was indexed by an earlier version
+     * without the {@value PersistenceConstants#FIELD_PROJECTABLE} flag.
+     */
+    static Optional<JsonObject> project(final ThingId thingId,
+            final Document document,
+            @Nullable final Collection<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector fieldSelector) {
+
+        final Document thing = document.get(PersistenceConstants.FIELD_THING, Document.class);
+        if (null == thing || !document.getBoolean(PersistenceConstants.FIELD_PROJECTABLE, false)) {
+            return Optional.empty();
+        }
+        final BsonDocument visibleThing;
+        if (null == authorizationSubjectIds) {
+            visibleThing = thing.toBsonDocument();
+        } else {
+            final Document policy = document.get(PersistenceConstants.FIELD_POLICY, Document.class);
+            visibleThing = filter(thing.toBsonDocument(), null != policy ? policy.toBsonDocument() : null,
+                    Set.copyOf(authorizationSubjectIds), false);
+        }
+        final JsonObject thingJson = null != visibleThing
+                ? DittoBsonJson.getInstance().serialize(visibleThing)
+                : JsonObject.empty();
+        final JsonObject selected = null != fieldSelector
+                ? thingJson.get(fieldSelector)
+                : thingJson.stream()
+                        .filter(field -> !field.getKeyName().startsWith("_"))
+                        .collect(JsonCollectors.fieldsToObject());
+        return Optional.of(JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, thingId.toString())
+                .setAll(selected)
+                .build());
+    }
+
+    /**
+     * Remove all values of a thing which are not visible to the subjects.
+     *
+     * @param thing the thing or a part of it.
+     * @param policy the evaluated policy at the same path as the thing.
+     * @param subjectIds the subjects.
+     * @param grantedAbove whether the parent path is visible to the subjects.
+     * @return the visible part of the thing, or null if nothing is visible.
+     */
+    @Nullable
+    private static BsonDocument filter(final BsonDocument thing,
+            @Nullable final BsonDocument policy,
+            final Set<String> subjectIds,
+            final boolean grantedAbove) {
+
+        // values below a revoked path may still be visible if a subject is granted on a deeper path
+        final boolean granted = isGranted(policy, subjectIds, grantedAbove);
+        final BsonDocument result = new BsonDocument();
+        for (final var field : thing.entrySet()) {
+            final BsonDocument childPolicy = getChild(policy, field.getKey());
+            final BsonValue value = field.getValue();
+            if (value.isDocument()) {
+                final BsonDocument visibleChild = filter(value.asDocument(), childPolicy, subjectIds, granted);
+                if (null != visibleChild) {
+                    result.append(field.getKey(), visibleChild);
+                }
+            } else if (isGranted(childPolicy, subjectIds, granted)) {
+                result.append(field.getKey(), value);
+            }
+        }
+        return granted || !result.isEmpty() ? result : null;
+    }
+
+    private static boolean isGranted(@Nullable final BsonDocument policy, final Set<String> subjectIds,
+            final boolean grantedAbove) {
+
+        return !containsAny(policy, PersistenceConstants.FIELD_REVOKED, subjectIds) &&
+                (grantedAbove || containsAny(policy, PersistenceConstants.FIELD_GRANTED, subjectIds));
+    }
+
+    @Nullable
+    private static BsonDocument getChild(@Nullable final BsonDocument policy, final String key) {
+        if (null != policy) {
+            final BsonValue child = policy.get(key);
+            if (null != child && child.isDocument()) {
+                return child.asDocument();
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsAny(@Nullable final BsonDocument policy, final String permissionField,
+            final Set<String> subjectIds) {
+
+        if (null != policy) {
+            final BsonValue subjects = policy.get(permissionField);
+            if (null != subjects && subjects.isArray()) {
+                final BsonArray array = subjects.asArray();
+                for (final BsonValue subject : array) {
+                    if (subject.isString() && subjectIds.contains(subject.asString().getValue())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +52,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.IndexInitializa
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.api.PolicyTag;
 import org.eclipse.ditto.policies.model.PolicyId;
@@ -62,6 +64,7 @@ import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ProjectedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -252,14 +255,47 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final Set<String> namespaces,
             final DittoHeaders dittoHeaders) {
 
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return findAllPaged(query, authorizationSubjectIds, namespaces, projection,
+                MongoThingsSearchPersistence::toTimestampedThingId, dittoHeaders);
+    }
+
+    @Override
+    public Source<ResultList<ProjectedThing>, NotUsed> findAllWithIndexProjection(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fieldSelector,
+            final DittoHeaders dittoHeaders) {
+
+        if (!IndexProjection.isProjectable(fieldSelector)) {
+            return ThingsSearchPersistence.super.findAllWithIndexProjection(query, authorizationSubjectIds,
+                    namespaces, fieldSelector, dittoHeaders);
+        }
+        final Bson projection = IndexProjection.projections(query.getSortOptions());
+        return findAllPaged(query, authorizationSubjectIds, namespaces, projection, doc -> {
+            final ThingId thingId = toThingId(doc);
+            return new ProjectedThing(thingId,
+                    IndexProjection.project(thingId, doc, authorizationSubjectIds, fieldSelector));
+        }, dittoHeaders);
+    }
+
+    private <T> Source<ResultList<T>, NotUsed> findAllPaged(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            final Bson projection,
+            final Function<Document, T> resultMapper,
+            final DittoHeaders dittoHeaders) {
+
         final int skip = query.getSkip();
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, dittoHeaders)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime, projection,
+                dittoHeaders)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(), dittoHeaders))
+                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                        resultMapper, dittoHeaders))
                 .mapError(handleMongoExecutionTimeExceededException(dittoHeaders))
                 .withAttributes(ActorAttributes.supervisionStrategy(exc -> {
                             if (exc instanceof DittoRuntimeException dre) {
@@ -280,7 +316,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final Set<String> namespaces, final DittoHeaders headers) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, headers)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null,
+                GetSortBsonVisitor.projections(query.getSortOptions()), headers)
                 .map(MongoThingsSearchPersistence::toThingId)
                 .idleTimeout(maxQueryTime);
     }
@@ -307,6 +344,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
             @Nullable final Duration maxQueryTime,
+            final Bson projection,
             final DittoHeaders dittoHeaders) {
 
         checkNotNull(query, "query");
@@ -319,7 +357,6 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -359,9 +396,10 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
-    private ResultList<TimestampedThingId> toResultList(final List<Document> resultsPlus0ne, final int skip,
+    private <T> ResultList<T> toResultList(final List<Document> resultsPlus0ne, final int skip,
             final int limit,
             final List<SortOption> sortOptions,
+            final Function<Document, T> resultMapper,
             final DittoHeaders headers) {
 
         if (LOGGER.isDebugEnabled()) {
@@ -370,16 +408,16 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                             resultsPlus0ne, skip, limit);
         }
 
-        final ResultList<TimestampedThingId> pagedResultList;
+        final ResultList<T> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toTimestampedThingIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(mapResults(resultsPlus0ne, resultMapper), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
             final List<Document> results = resultsPlus0ne.subList(0, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toTimestampedThingIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(mapResults(results, resultMapper), nextPageOffset, sortValues);
         }
 
         if (LOGGER.isDebugEnabled()) {
@@ -388,9 +426,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         return pagedResultList;
     }
 
-    private static List<TimestampedThingId> toTimestampedThingIds(final List<Document> docs) {
+    private static <T> List<T> mapResults(final List<Document> docs, final Function<Document, T> resultMapper) {
         return docs.stream()
-                .map(MongoThingsSearchPersistence::toTimestampedThingId)
+                .map(resultMapper)
                 .toList();
     }
 
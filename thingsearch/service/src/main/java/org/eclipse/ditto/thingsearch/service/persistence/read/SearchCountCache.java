@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.pf.PFBuilder;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.SearchCountMode;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import scala.PartialFunction;
+
+/**
+ * Caches the results of search "count" queries per criteria, skip, limit and authorization subjects.
+ * <p>
+ * A cached count is returned until it expires; once it reached the configured refresh age, its next request triggers
+ * counting again in the background while still returning the cached count. Requests with the header
+ * {@code search-count-mode} set to {@link SearchCountMode#EXACT} are always counted by the search persistence, as are
+ * all requests if the cache is disabled.
+ * </p>
+ *
+ * @since 3.10.0
+ */
+@ThreadSafe
+public final class SearchCountCache {
+
+    private final ThingsSearchPersistence searchPersistence;
+    @Nullable private final AsyncLoadingCache<CountKey, Count> counts;
+    private final Counter hits;
+    private final Counter misses;
+
+    private SearchCountCache(final ThingsSearchPersistence searchPersistence,
+            @Nullable final AsyncLoadingCache<CountKey, Count> counts) {
+
+        this.searchPersistence = searchPersistence;
+        this.counts = counts;
+        hits = DittoMetrics.counter("search_count_cache_hits");
+        misses = DittoMetrics.counter("search_count_cache_misses");
+    }
+
+    /**
+     * Returns a new {@code SearchCountCache} counting with the given search persistence.
+     *
+     * @param countCacheConfig the config of the cache.
+     * @param searchPersistence the search persistence counting the things.
+     * @param materializer the materializer to run the counts with.
+     * @return the cache.
+     */
+    public static SearchCountCache of(final CountCacheConfig countCacheConfig,
+            final ThingsSearchPersistence searchPersistence,
+            final Materializer materializer) {
+
+        @Nullable final AsyncLoadingCache<CountKey, Count> counts;
+        if (countCacheConfig.isEnabled()) {
+            counts = Caffeine.newBuilder()
+                    .maximumSize(countCacheConfig.getMaximumSize())
+                    .refreshAfterWrite(countCacheConfig.getRefreshAfterWrite())
+                    .expireAfterWrite(countCacheConfig.getExpireAfterWrite())
+                    .buildAsync(new CountLoader(searchPersistence, materializer));
+        } else {
+            counts = null;
+        }
+        return new SearchCountCache(searchPersistence, counts);
+    }
+
+    /**
+     * Returns the count of things found by the given query, either from the cache or counted for this request.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds the authorization subject IDs of the requester.
+     * @param dittoHeaders the headers of the request.
+     * @return a source emitting the count.
+     */
+    public Source<Count, NotUsed> count(final Query query, final List<String> authorizationSubjectIds,
+            final DittoHeaders dittoHeaders) {
+
+        if (null == counts || isExactCountRequested(dittoHeaders)) {
+            return searchPersistence.count(query, authorizationSubjectIds, dittoHeaders)
+                    .map(count -> new Count(count, Instant.now(), false));
+        }
+        final CountKey countKey = new CountKey(query, authorizationSubjectIds);
+        if (null != counts.getIfPresent(countKey)) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return Source.completionStage(counts.get(countKey))
+                .mapError(toErrorOfRequest(dittoHeaders));
+    }
+
+    private static boolean isExactCountRequested(final DittoHeaders dittoHeaders) {
+        return Optional.ofNullable(dittoHeaders.get(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey()))
+                .flatMap(SearchCountMode::forOption)
+                .filter(SearchCountMode.EXACT::equals)
+                .isPresent();
+    }
+
+    private static PartialFunction<Throwable, Throwable> toErrorOfRequest(final DittoHeaders dittoHeaders) {
+        // counts may be shared by several requests, thus errors get the headers of each request
+        return new PFBuilder<Throwable, Throwable>()
+                .match(CompletionException.class, error -> null != error.getCause() ?
+                        withHeadersOfRequest(error.getCause(), dittoHeaders) : error)
+                .match(DittoRuntimeException.class, error -> error.setDittoHeaders(dittoHeaders))
+                .build();
+    }
+
+    private static Throwable withHeadersOfRequest(final Throwable error, final DittoHeaders dittoHeaders) {
+        if (error instanceof DittoRuntimeException dittoRuntimeException) {
+            return dittoRuntimeException.setDittoHeaders(dittoHeaders);
+        }
+        return error;
+    }
+
+    /**
+     * A count of things.
+     *
+     * @param value the number of things.
+     * @param countedAt when the things were counted.
+     * @param cached whether the count was returned from the cache, possibly after counting for this request.
+     */
+    public record Count(long value, Instant countedAt, boolean cached) {
+
+        /**
+         * Returns the age of a cached count.
+         *
+         * @return the age, or an empty optional if the count was not cached.
+         */
+        public Optional<Duration> getAge() {
+            return cached ? Optional.of(Duration.between(countedAt, Instant.now())) : Optional.empty();
+        }
+
+    }
+
+    private record CountLoader(ThingsSearchPersistence searchPersistence, Materializer materializer)
+            implements AsyncCacheLoader<CountKey, Count> {
+
+        @Override
+        public CompletableFuture<Count> asyncLoad(final CountKey key, final Executor executor) {
+            // counting is not bound to one of the requests sharing the count, thus it gets none of their headers
+            return searchPersistence.count(key.query, key.authorizationSubjectIds, DittoHeaders.empty())
+                    .map(count -> new Count(count, Instant.now(), true))
+                    .runWith(Sink.head(), materializer)
+                    .toCompletableFuture();
+        }
+
+    }
+
+    /**
+     * Key of a cached count. Only the parts of the query determining the count and the sorted subjects are compared;
+     * the query of the request creating the entry is kept to refresh it.
+     */
+    private static final class CountKey {
+
+        private final Query query;
+        private final List<String> authorizationSubjectIds;
+        private final List<String> sortedAuthorizationSubjectIds;
+
+        private CountKey(final Query query, final List<String> authorizationSubjectIds) {
+            this.query = query;
+            this.authorizationSubjectIds = authorizationSubjectIds;
+            sortedAuthorizationSubjectIds = authorizationSubjectIds.stream().sorted().distinct().toList();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountKey that = (CountKey) o;
+            return query.getSkip() == that.query.getSkip() &&
+                    query.getLimit() == that.query.getLimit() &&
+                    Objects.equals(query.getCriteria(), that.query.getCriteria()) &&
+                    Objects.equals(sortedAuthorizationSubjectIds, that.sortedAuthorizationSubjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query.getSkip(), query.getLimit(), query.getCriteria(), sortedAuthorizationSubjectIds);
+        }
+
+    }
+
+}
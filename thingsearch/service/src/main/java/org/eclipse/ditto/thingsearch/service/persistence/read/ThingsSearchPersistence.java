@@ -13,6 +13,7 @@
 package org.eclipse.ditto.thingsearch.service.persistence.read;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
@@ -22,11 +23,13 @@ import org.apache.pekko.NotUsed;
 import org.apache.pekko.stream.javadsl.Source;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.IndexInitializationConfig;
 import org.eclipse.ditto.rql.query.Query;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
+import org.eclipse.ditto.thingsearch.service.common.model.ProjectedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
@@ -104,6 +107,35 @@ public interface ThingsSearchPersistence {
             @Nullable Set<String> namespaces,
             DittoHeaders dittoHeaders);
 
+    /**
+     * Returns the IDs for all found documents together with the things projected from the search index, filtered by
+     * the read permissions of the given authorization subjects and reduced to the selected fields.
+     * Things are not projected if the search index does not hold all selected fields of them.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs, or null to skip read permission filtering.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fieldSelector the selected fields, or null to project the regular fields of the things.
+     * @param dittoHeaders the headers of the request.
+     * @return an {@link Source} which emits the IDs with the projected things.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    default Source<ResultList<ProjectedThing>, NotUsed> findAllWithIndexProjection(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fieldSelector,
+            final DittoHeaders dittoHeaders) {
+
+        return findAll(query, authorizationSubjectIds, namespaces, dittoHeaders)
+                .map(resultList -> {
+                    final var projectedThings = resultList.stream()
+                            .map(id -> new ProjectedThing(id.thingId(), Optional.empty()))
+                            .toList();
+                    return new ResultListImpl<>(projectedThings, resultList.nextPageOffset(),
+                            resultList.lastResultSortValues().orElse(null));
+                });
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -20,6 +20,7 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_PROJECTABLE;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REFERENCED_POLICIES;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
@@ -32,6 +33,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import org.bson.BsonArray;
+import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonInt64;
 import org.bson.BsonString;
@@ -77,6 +79,29 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             @Nullable final Metadata oldMetadata, final int maxArraySize) {
 
+        return toWriteModel(thing, policy, referencedPolicies, policyRevision, oldMetadata, maxArraySize, true);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param policy the policy-enforcer of the Thing.
+     * @param policyRevision revision of the policy for a policy enforcer.
+     * @param referencedPolicies all policies referenced by the policy.
+     * @param oldMetadata the metadata that triggered the search update, possibly containing sender information.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param complete whether the Thing JSON contains all fields of the Thing; search results are only projected
+     * from the search index for complete things.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Policy policy,
+            final Set<PolicyTag> referencedPolicies,
+            final long policyRevision,
+            @Nullable final Metadata oldMetadata, final int maxArraySize, final boolean complete) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final var thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -108,15 +133,15 @@ public final class EnforcedThingMapper {
                                 .orElse(List.of(UpdateReason.UNKNOWN))
                 );
 
-        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize));
+        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize, complete));
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata) {
-        return toBsonDocument(thing, policy, metadata, -1);
+        return toBsonDocument(thing, policy, metadata, -1, true);
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata,
-            final int maxArraySize) {
+            final int maxArraySize, final boolean complete) {
 
         final var enforced = IndexLengthRestrictionEnforcerVisitor.enforce(thing, maxArraySize);
         final var thingId = metadata.getThingId();
@@ -137,7 +162,8 @@ public final class EnforcedThingMapper {
                 .append(FIELD_REFERENCED_POLICIES, referencedPolicies)
                 .append(FIELD_THING, thingBson)
                 .append(FIELD_POLICY, evaluatedPolicy.forThing())
-                .append(FIELD_F_ARRAY, featureArray);
+                .append(FIELD_F_ARRAY, featureArray)
+                .append(FIELD_PROJECTABLE, BsonBoolean.valueOf(complete && enforced.equals(thing)));
     }
 
     private static BsonArray getReferencedPolicies(final Set<PolicyTag> referencedPolicyTags) {
@@ -12,9 +12,12 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -27,6 +30,7 @@ import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 
 /**
  * Data structure containing requested write models, write results and errors for reliable search index update.
@@ -148,6 +152,72 @@ public final class WriteResultAndErrors {
         return bulkWriteCorrelationId;
     }
 
+    /**
+     * Split this result of a bulk write into one result per requested write model, as if each write model was
+     * written by a bulk write of its own.
+     * Since MongoDB reports only the total number of matched documents, all patch updates of a bulk write with
+     * missing updates are reported as not applied so that their thing updaters retry them.
+     *
+     * @return the results of the single write models in the order of the requested write models.
+     */
+    public List<WriteResultAndErrors> splitPerWriteModel() {
+        if (writeModels.size() <= 1) {
+            return List.of(this);
+        }
+        final List<WriteResultAndErrors> results = new ArrayList<>(writeModels.size());
+        if (unexpectedError != null || !bulkWriteResult.wasAcknowledged()) {
+            for (final MongoWriteModel writeModel : writeModels) {
+                results.add(new WriteResultAndErrors(List.of(writeModel), bulkWriteResult, List.of(),
+                        unexpectedError, bulkWriteCorrelationId));
+            }
+            return results;
+        }
+
+        final Map<Integer, BulkWriteError> errorsByIndex = new HashMap<>();
+        bulkWriteErrors.forEach(error -> errorsByIndex.put(error.getIndex(), error));
+        final Map<Integer, BulkWriteUpsert> upsertsByIndex = new HashMap<>();
+        bulkWriteResult.getUpserts().forEach(upsert -> upsertsByIndex.put(upsert.getIndex(), upsert));
+        final boolean updatesMissing = areUpdatesMissing(errorsByIndex);
+
+        for (int i = 0; i < writeModels.size(); ++i) {
+            final MongoWriteModel writeModel = writeModels.get(i);
+            final BulkWriteError error = errorsByIndex.get(i);
+            final BulkWriteUpsert upsert = upsertsByIndex.get(i);
+            final BulkWriteResult singleResult;
+            final List<BulkWriteError> singleErrors;
+            if (error != null) {
+                singleResult = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of());
+                singleErrors = List.of(new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(), 0));
+            } else if (upsert != null) {
+                singleResult = BulkWriteResult.acknowledged(0, 0, 0, 0,
+                        List.of(new BulkWriteUpsert(0, upsert.getId())), List.of());
+                singleErrors = List.of();
+            } else if (writeModel.getDitto() instanceof ThingDeleteModel) {
+                singleResult = BulkWriteResult.acknowledged(0, 0, 1, 0, List.of(), List.of());
+                singleErrors = List.of();
+            } else if (updatesMissing && writeModel.isPatchUpdate()) {
+                singleResult = BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of());
+                singleErrors = List.of();
+            } else {
+                singleResult = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of());
+                singleErrors = List.of();
+            }
+            results.add(new WriteResultAndErrors(List.of(writeModel), singleResult, singleErrors, null,
+                    bulkWriteCorrelationId));
+        }
+        return results;
+    }
+
+    private boolean areUpdatesMissing(final Map<Integer, BulkWriteError> errorsByIndex) {
+        long expectedCount = 0;
+        for (int i = 0; i < writeModels.size(); ++i) {
+            if (!errorsByIndex.containsKey(i) && !(writeModels.get(i).getDitto() instanceof ThingDeleteModel)) {
+                ++expectedCount;
+            }
+        }
+        return bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < expectedCount;
+    }
+
     /**
      * Check if the error is a namespace-blocked exception.
      *
@@ -14,14 +14,21 @@ package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
@@ -35,6 +42,7 @@ import org.apache.pekko.pattern.AskTimeoutException;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.base.model.common.LikeHelper;
 import org.eclipse.ditto.base.model.exceptions.AskException;
 import org.eclipse.ditto.internal.models.signalenrichment.CachingSignalEnrichmentFacade;
 import org.eclipse.ditto.internal.models.streaming.AbstractEntityIdWithRevision;
@@ -45,6 +53,8 @@ import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.policies.api.PolicyTag;
@@ -79,16 +89,21 @@ final class EnforcementFlow {
 
     private static final Source<Entry<Pair<Policy, Set<PolicyTag>>>, NotUsed> POLICY_NONEXISTENT =
             Source.single(Entry.nonexistent());
+    private static final Histogram POLICY_PRELOAD_BATCH_SIZE =
+            DittoMetrics.histogram("wildcard_search_policy_preload_batch_size");
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CachingSignalEnrichmentFacade thingsFacade;
     private final Cache<PolicyIdResolvingImports, Entry<Pair<Policy, Set<PolicyTag>>>> policyEnforcerCache;
+    private final ResolvedPolicyCacheLoader policyCacheLoader;
     private final Duration cacheRetryDelay;
     private final SearchUpdateObserver searchUpdateObserver;
     private final int maxArraySize;
+    private final List<Pattern> namespacesWithIndexedFields;
 
     private EnforcementFlow(final ActorSystem actorSystem,
             final ActorRef thingsShardRegion,
             final Cache<PolicyIdResolvingImports, Entry<Pair<Policy, Set<PolicyTag>>>> policyEnforcerCache,
+            final ResolvedPolicyCacheLoader policyCacheLoader,
             final AskWithRetryConfig askWithRetryConfig,
             final StreamCacheConfig thingCacheConfig,
             final Executor thingCacheDispatcher) {
@@ -96,12 +111,19 @@ final class EnforcementFlow {
         thingsFacade = createThingsFacade(actorSystem, thingsShardRegion, askWithRetryConfig.getAskTimeout(),
                 thingCacheConfig, thingCacheDispatcher);
         this.policyEnforcerCache = policyEnforcerCache;
+        this.policyCacheLoader = policyCacheLoader;
         searchUpdateObserver =
                 SearchUpdateObserver.get(actorSystem, ScopedConfig.dittoExtension(actorSystem.settings().config()));
         cacheRetryDelay = thingCacheConfig.getRetryDelay();
         final SearchConfig searchConfig =
                 DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
         maxArraySize = searchConfig.getUpdaterConfig().getStreamConfig().getMaxArraySize();
+        namespacesWithIndexedFields = searchConfig.getNamespaceIndexedFields()
+                .stream()
+                .filter(namespaceConfig -> !namespaceConfig.getIndexedFields().isEmpty())
+                .map(namespaceConfig -> Pattern.compile(
+                        Objects.requireNonNull(LikeHelper.convertToRegexSyntax(namespaceConfig.getNamespacePattern()))))
+                .toList();
     }
 
     /**
@@ -140,8 +162,8 @@ final class EnforcementFlow {
         final var thingCacheConfig = updaterStreamConfig.getThingCacheConfig();
         final var thingCacheDispatcher = actorSystem.dispatchers()
                 .lookup(thingCacheConfig.getDispatcherName());
-        return new EnforcementFlow(actorSystem, thingsShardRegion, policyEnforcerCache, askWithRetryConfig,
-                thingCacheConfig, thingCacheDispatcher);
+        return new EnforcementFlow(actorSystem, thingsShardRegion, policyEnforcerCache, resolvedPolicyCacheLoader,
+                askWithRetryConfig, thingCacheConfig, thingCacheDispatcher);
     }
 
     /**
@@ -157,22 +179,39 @@ final class EnforcementFlow {
             final Metadata metadata, final int iteration) {
 
         if (iteration <= 0) {
-            return metadata.shouldInvalidatePolicy() || entry == null || !entry.exists() ||
-                    entry.getRevision() < metadata.getAllReferencedPolicyTags()
-                            .stream()
-                            .filter(referencedPolicyTag -> referencedPolicyTag.getEntityId()
-                                    .equals(entry.getValueOrThrow().first().getEntityId().orElse(null)))
-                            .map(AbstractEntityIdWithRevision::getRevision)
-                            .findAny()
-                            .orElse(Long.MAX_VALUE);
+            return metadata.shouldInvalidatePolicy() || isOutdated(entry, metadata);
         } else {
             // never attempt to reload cache more than once
             return false;
         }
     }
 
+    /**
+     * Things of namespaces with configured indexed fields may be retrieved with only those fields, see
+     * {@link SearchIndexingSignalEnrichmentFacadeProvider}, thus search results must not be projected from them.
+     */
+    private boolean isRetrievedWithAllFields(final ThingId thingId) {
+        final String namespace = thingId.getNamespace();
+        return namespacesWithIndexedFields.stream().noneMatch(pattern -> pattern.matcher(namespace).matches());
+    }
+
+    private static boolean isOutdated(@Nullable final Entry<Pair<Policy, Set<PolicyTag>>> entry,
+            final Metadata metadata) {
+
+        return entry == null || !entry.exists() ||
+                entry.getRevision() < metadata.getAllReferencedPolicyTags()
+                        .stream()
+                        .filter(referencedPolicyTag -> referencedPolicyTag.getEntityId()
+                                .equals(entry.getValueOrThrow().first().getEntityId().orElse(null)))
+                        .map(AbstractEntityIdWithRevision::getRevision)
+                        .findAny()
+                        .orElse(Long.MAX_VALUE);
+    }
+
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
+     * The policies of each bulk of retrieved things are loaded or reloaded once per distinct policy before the write
+     * models of the things are computed, so that things sharing a policy do not each trigger a policy load.
      *
      * @param source the source of change maps.
      * @param parallelismPerBulkShard how many thing retrieves to perform in parallel to the caching facade per bulk
@@ -187,13 +226,18 @@ final class EnforcementFlow {
         return source.flatMapConcat(changes -> Source.fromIterator(changes::iterator)
                         .flatMapMerge(parallelismPerBulkShard, changedMetadata ->
                                 retrieveThingFromCachingFacade(changedMetadata.getThingId(), changedMetadata, 3)
-                                        .flatMapConcat(pair -> {
+                                        .map(pair -> {
                                             final JsonObject thing = pair.second();
                                             searchUpdateObserver.process(changedMetadata, thing);
-                                            return computeWriteModel(changedMetadata, thing);
+                                            return Pair.create(changedMetadata, thing);
                                         })
                         )
-                        .grouped(maxBulkSize))
+                        .grouped(maxBulkSize)
+                        .flatMapConcat(metadataWithThings -> preloadPolicies(metadataWithThings)
+                                .flatMapConcat(reloadedPolicyIds -> Source.from(metadataWithThings)
+                                        .flatMapMerge(parallelismPerBulkShard, pair ->
+                                                computeWriteModel(pair.first(), pair.second(), reloadedPolicyIds))
+                                        .grouped(maxBulkSize))))
                 .filterNot(List::isEmpty);
     }
 
@@ -209,7 +253,7 @@ final class EnforcementFlow {
                         .flatMapConcat(pair -> {
                             final JsonObject thing = pair.second();
                             searchUpdateObserver.process(data.metadata(), thing);
-                            return computeWriteModel(data.metadata(), thing);
+                            return computeWriteModel(data.metadata(), thing, Set.of());
                         })
                         .flatMapConcat(writeModel -> mapper.processWriteModel(writeModel, data.lastWriteModel())
                                 .orElse(Source.lazySource(() -> {
@@ -258,8 +302,83 @@ final class EnforcementFlow {
         return thingFuture;
     }
 
+    /**
+     * Load the policies of a bulk of things which are not cached yet and reload those which are outdated for any of
+     * the things, once per distinct policy.
+     * Policies whose loads are already in flight are left to the per-thing cache lookups which join these loads.
+     *
+     * @param metadataWithThings the metadata and retrieved things of the bulk.
+     * @return source of the IDs of the policies which were reloaded and are up-to-date for all things of the bulk;
+     * the per-thing lookups do not reload these again.
+     */
+    private Source<Set<PolicyId>, NotUsed> preloadPolicies(
+            final List<Pair<Metadata, JsonObject>> metadataWithThings) {
+
+        final Map<PolicyId, List<Metadata>> metadataByPolicyId = new LinkedHashMap<>();
+        for (final Pair<Metadata, JsonObject> metadataWithThing : metadataWithThings) {
+            final JsonObject thing = metadataWithThing.second();
+            if (thing != null && !thing.isEmpty()) {
+                getPolicyId(thing).ifPresent(policyId -> metadataByPolicyId
+                        .computeIfAbsent(policyId, id -> new ArrayList<>())
+                        .add(metadataWithThing.first()));
+            }
+        }
+
+        final Map<PolicyId, List<Metadata>> policiesToLoad = new LinkedHashMap<>();
+        boolean invalidated = false;
+        for (final Map.Entry<PolicyId, List<Metadata>> policyIdWithMetadata : metadataByPolicyId.entrySet()) {
+            final PolicyId policyId = policyIdWithMetadata.getKey();
+            final CompletableFuture<Optional<Entry<Pair<Policy, Set<PolicyTag>>>>> cachedEntry =
+                    policyEnforcerCache.getIfPresent(new PolicyIdResolvingImports(policyId, true));
+            if (cachedEntry.isDone() && !cachedEntry.isCompletedExceptionally()) {
+                final Entry<Pair<Policy, Set<PolicyTag>>> entry = cachedEntry.join().orElse(null);
+                if (entry == null) {
+                    policiesToLoad.put(policyId, policyIdWithMetadata.getValue());
+                } else {
+                    final List<Metadata> outdatedMetadata = policyIdWithMetadata.getValue()
+                            .stream()
+                            .filter(metadata -> shouldReloadCache(entry, metadata, 0))
+                            .toList();
+                    if (!outdatedMetadata.isEmpty()) {
+                        outdatedMetadata.forEach(metadata -> invalidateCachedPolicies(metadata, policyId));
+                        policiesToLoad.put(policyId, policyIdWithMetadata.getValue());
+                        invalidated = true;
+                    }
+                }
+            }
+        }
+
+        if (policiesToLoad.isEmpty()) {
+            return Source.single(Set.of());
+        }
+        POLICY_PRELOAD_BATCH_SIZE.record((long) policiesToLoad.size());
+        final Source<Map<PolicyId, List<Metadata>>, NotUsed> batch = Source.single(policiesToLoad);
+        // like the per-thing reload, give the changes of invalidated policies time to arrive before reloading them
+        return (invalidated ? batch.initialDelay(cacheRetryDelay) : batch).mapAsync(1, this::loadPolicies);
+    }
+
+    private CompletionStage<Set<PolicyId>> loadPolicies(final Map<PolicyId, List<Metadata>> policiesToLoad) {
+        final Set<PolicyId> upToDatePolicyIds = ConcurrentHashMap.newKeySet();
+        final CompletableFuture<?>[] loads = policiesToLoad.entrySet()
+                .stream()
+                .map(policyIdWithMetadata -> policyEnforcerCache.get(
+                                new PolicyIdResolvingImports(policyIdWithMetadata.getKey(), true))
+                        .thenAccept(optionalEntry -> {
+                            final Entry<Pair<Policy, Set<PolicyTag>>> entry = optionalEntry.orElse(null);
+                            if (policyIdWithMetadata.getValue()
+                                    .stream()
+                                    .noneMatch(metadata -> isOutdated(entry, metadata))) {
+                                upToDatePolicyIds.add(policyIdWithMetadata.getKey());
+                            }
+                        })
+                        // failed loads are handled by the per-thing cache lookups
+                        .exceptionally(error -> null))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(loads).thenApply(ignored -> Set.copyOf(upToDatePolicyIds));
+    }
+
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final JsonObject thing) {
+            @Nullable final JsonObject thing, final Set<PolicyId> reloadedPolicyIds) {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
         final ThingEvent<?> latestEvent = metadata.getEvents()
@@ -272,13 +391,14 @@ final class EnforcementFlow {
             log.info("Computed single ThingDeleteModel for metadata <{}> and thing <{}>", metadata, thing);
             return Source.single(ThingDeleteModel.of(metadata));
         } else {
-            return getPolicy(metadata, thing)
+            return getPolicy(metadata, thing, reloadedPolicyIds)
                     .map(entry -> {
                         if (entry.exists()) {
                             try {
                                 final Pair<Policy, Set<PolicyTag>> pair = entry.getValueOrThrow();
                                 return EnforcedThingMapper.toWriteModel(thing, pair.first(), pair.second(),
-                                        entry.getRevision(), metadata, maxArraySize);
+                                        entry.getRevision(), metadata, maxArraySize,
+                                        isRetrievedWithAllFields(metadata.getThingId()));
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 log.info(
@@ -314,17 +434,23 @@ final class EnforcementFlow {
      *
      * @param metadata metadata of the thing.
      * @param thing the thing
+     * @param reloadedPolicyIds IDs of policies which were already reloaded for the thing and must not be reloaded
+     * again.
      * @return source of an enforcer or an empty source.
      */
     private Source<Entry<Pair<Policy, Set<PolicyTag>>>, NotUsed> getPolicy(final Metadata metadata,
-            final JsonObject thing) {
+            final JsonObject thing, final Set<PolicyId> reloadedPolicyIds) {
+
+        return getPolicyId(thing)
+                .map(policyId -> readCachedEnforcer(metadata, policyId, reloadedPolicyIds.contains(policyId) ? 1 : 0))
+                .orElse(POLICY_NONEXISTENT);
+    }
+
+    private static Optional<PolicyId> getPolicyId(final JsonObject thing) {
         try {
-            return thing.getValue(Thing.JsonFields.POLICY_ID)
-                    .map(PolicyId::of)
-                    .map(policyId -> readCachedEnforcer(metadata, policyId, 0))
-                    .orElse(POLICY_NONEXISTENT);
+            return thing.getValue(Thing.JsonFields.POLICY_ID).map(PolicyId::of);
         } catch (final PolicyIdInvalidException e) {
-            return POLICY_NONEXISTENT;
+            return Optional.empty();
         }
     }
 
@@ -337,29 +463,7 @@ final class EnforcementFlow {
                             .thenApply(optionalEnforcerEntry -> {
                                 if (shouldReloadCache(optionalEnforcerEntry.orElse(null), metadata, iteration)) {
                                     // invalid entry; invalidate and retry after delay
-                                    policyEnforcerCache.invalidate(new PolicyIdResolvingImports(policyId, true));
-
-                                    // Invalidate the resolveImports=true entry for every policy referenced by this
-                                    // thing: the child policy, any namespace root policies, and any policies imported
-                                    // by those root policies.  Using unconditional invalidation here is intentional:
-                                    // a change anywhere in the chain (e.g. an imported policy whose own revision is
-                                    // unchanged in the root-policy entry) makes the resolved root-policy stale, and
-                                    // a revision-based comparison cannot detect that transitive staleness.
-                                    metadata.getAllReferencedPolicyTags().forEach(tag ->
-                                            policyEnforcerCache.invalidate(
-                                                    new PolicyIdResolvingImports(tag.getEntityId(), true)));
-
-                                    // Conditionally invalidate the raw (resolveImports=false) entry for the causing
-                                    // policy only, so that changes to a directly-imported policy also refresh the
-                                    // underlying raw-policy entry that the loader uses as input.
-                                    metadata.getCausingPolicyTag()
-                                            .ifPresent(causingPolicyTag ->
-                                                    policyEnforcerCache.invalidateConditionally(
-                                                            new PolicyIdResolvingImports(
-                                                                    causingPolicyTag.getEntityId(), false),
-                                                            entry -> !entry.exists() ||
-                                                                    entry.getRevision() < causingPolicyTag.getRevision()
-                                                    ));
+                                    invalidateCachedPolicies(metadata, policyId);
 
                                     return readCachedEnforcer(metadata, policyId, iteration + 1)
                                             .initialDelay(cacheRetryDelay);
@@ -383,6 +487,31 @@ final class EnforcementFlow {
         return lazySource.viaMat(Flow.create(), Keep.none());
     }
 
+    private void invalidateCachedPolicies(final Metadata metadata, final PolicyId policyId) {
+        // loads which are in flight may return the policies as they were before the change of the metadata
+        policyCacheLoader.invalidate(policyId);
+        policyEnforcerCache.invalidate(new PolicyIdResolvingImports(policyId, true));
+
+        // Invalidate the resolveImports=true entry for every policy referenced by this thing: the child policy, any
+        // namespace root policies, and any policies imported by those root policies.  Using unconditional
+        // invalidation here is intentional: a change anywhere in the chain (e.g. an imported policy whose own revision
+        // is unchanged in the root-policy entry) makes the resolved root-policy stale, and a revision-based
+        // comparison cannot detect that transitive staleness.
+        metadata.getAllReferencedPolicyTags().forEach(tag -> {
+            policyCacheLoader.invalidate(tag.getEntityId());
+            policyEnforcerCache.invalidate(new PolicyIdResolvingImports(tag.getEntityId(), true));
+        });
+
+        // Conditionally invalidate the raw (resolveImports=false) entry for the causing policy only, so that changes
+        // to a directly-imported policy also refresh the underlying raw-policy entry that the loader uses as input.
+        metadata.getCausingPolicyTag()
+                .ifPresent(causingPolicyTag ->
+                        policyEnforcerCache.invalidateConditionally(
+                                new PolicyIdResolvingImports(causingPolicyTag.getEntityId(), false),
+                                entry -> !entry.exists() || entry.getRevision() < causingPolicyTag.getRevision()
+                        ));
+    }
+
     private static CachingSignalEnrichmentFacade createThingsFacade(final ActorSystem actorSystem,
             final ActorRef thingsShardRegion,
             final Duration timeout,
@@ -12,16 +12,28 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonDocument;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
@@ -39,35 +51,61 @@ import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
+import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.japi.pf.PFBuilder;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 
 /**
  * Flow mapping write models to write results via the search persistence.
+ * <p>
+ * If a maximum bulk size greater than 1 is configured, the write models of all thing updaters of a node are combined
+ * into shared unordered bulk writes. Write models are partitioned by thing ID and the bulk writes of one partition are
+ * executed one after another, so that the write models of each thing are persisted in the order they were requested.
+ * </p>
  */
 final class MongoSearchUpdaterFlow {
 
     private static final String TRACE_THING_BULK_UPDATE = "things_wildcard_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_wildcard_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final Histogram BULK_LINGER_MILLIS =
+            DittoMetrics.histogram("things_wildcard_search_thing_bulkUpdate_linger_millis");
+    private static final Gauge BULK_QUEUE_SIZE =
+            DittoMetrics.gauge("things_wildcard_search_thing_bulkUpdate_queue_size");
 
     private static final ThreadSafeDittoLogger LOGGER =
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    @Nullable private final BoundedSourceQueue<PendingWrite> bulkWriteQueue;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            @Nullable final Materializer materializer) {
 
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        if (materializer != null && persistenceConfig.getMaxBulkSize() > 1) {
+            LOGGER.info("Combining write models of different things into bulk writes: maxBulkSize=<{}>, " +
+                            "maxBulkLinger=<{}>, bulkQueueSize=<{}>", persistenceConfig.getMaxBulkSize(),
+                    persistenceConfig.getMaxBulkLinger(), persistenceConfig.getBulkQueueSize());
+            bulkWriteQueue = startBulkWriteQueue(persistenceConfig, materializer);
+        } else {
+            bulkWriteQueue = null;
+        }
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which performs one bulk write per write model.
      *
      * @param database the MongoDB database.
      * @param persistenceConfig the persistence configuration for the search updater stream.
@@ -78,7 +116,28 @@ final class MongoSearchUpdaterFlow {
 
         return new MongoSearchUpdaterFlow(
                 database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
-                persistenceConfig
+                persistenceConfig,
+                null
+        );
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which combines the write models of all flows created by it into
+     * shared bulk writes if configured so.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param actorSystem the actor system to run the shared bulk write stream in.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
+
+        return new MongoSearchUpdaterFlow(
+                database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
+                persistenceConfig,
+                SystemMaterializer.get(actorSystem).materializer()
         );
     }
 
@@ -88,9 +147,85 @@ final class MongoSearchUpdaterFlow {
      * @return The flow.
      */
     public Flow<MongoWriteModel, ThingUpdater.Result, NotUsed> create() {
-        return Flow.<MongoWriteModel>create()
-                .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
-                        .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        if (bulkWriteQueue != null) {
+            return Flow.<MongoWriteModel>create().mapAsync(1, this::enqueue);
+        } else {
+            return Flow.<MongoWriteModel>create()
+                    .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
+                            .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        }
+    }
+
+    private CompletionStage<ThingUpdater.Result> enqueue(final MongoWriteModel writeModel) {
+        final var pendingWrite = new PendingWrite(writeModel, new CompletableFuture<>(), System.nanoTime());
+        final QueueOfferResult offerResult = bulkWriteQueue.offer(pendingWrite);
+        if (QueueOfferResult.enqueued().equals(offerResult)) {
+            BULK_QUEUE_SIZE.set((long) bulkWriteQueue.size());
+            return pendingWrite.result();
+        } else {
+            final var error = new IllegalStateException("Bulk write queue rejected write model: " + offerResult);
+            final var resultAndErrors = WriteResultAndErrors.unexpectedError(List.of(writeModel), error,
+                    UUID.randomUUID().toString());
+            return CompletableFuture.completedFuture(new ThingUpdater.Result(writeModel, resultAndErrors));
+        }
+    }
+
+    private BoundedSourceQueue<PendingWrite> startBulkWriteQueue(final PersistenceStreamConfig persistenceConfig,
+            final Materializer materializer) {
+
+        final int parallelism = persistenceConfig.getParallelism();
+        return Source.<PendingWrite>queue(persistenceConfig.getBulkQueueSize())
+                .groupBy(parallelism, pendingWrite -> Math.floorMod(pendingWrite.thingId().hashCode(), parallelism))
+                .groupedWithin(persistenceConfig.getMaxBulkSize(), persistenceConfig.getMaxBulkLinger())
+                .mapConcat(MongoSearchUpdaterFlow::splitByThingId)
+                .flatMapConcat(this::executeSharedBulkWrite)
+                .mergeSubstreams()
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    private Source<Done, NotUsed> executeSharedBulkWrite(final List<PendingWrite> pendingWrites) {
+        BULK_QUEUE_SIZE.set((long) Objects.requireNonNull(bulkWriteQueue).size());
+        final long lingerNanos = System.nanoTime() - pendingWrites.get(0).enqueuedAtNanos();
+        BULK_LINGER_MILLIS.record(TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+        final var writeModels = pendingWrites.stream().map(PendingWrite::writeModel).toList();
+        return executeBulkWrite(writeModels)
+                .map(resultAndErrors -> {
+                    final var results = resultAndErrors.splitPerWriteModel();
+                    for (int i = 0; i < pendingWrites.size(); ++i) {
+                        final var pendingWrite = pendingWrites.get(i);
+                        pendingWrite.result()
+                                .complete(new ThingUpdater.Result(pendingWrite.writeModel(), results.get(i)));
+                    }
+                    return Done.getInstance();
+                })
+                .recover(new PFBuilder<Throwable, Done>()
+                        .match(Throwable.class, error -> {
+                            pendingWrites.forEach(pendingWrite -> pendingWrite.result().completeExceptionally(error));
+                            return Done.getInstance();
+                        })
+                        .build());
+    }
+
+    /**
+     * Split a group of pending writes into bulks containing at most one write model per thing, because the write
+     * models of an unordered bulk write may be applied in any order.
+     */
+    private static List<List<PendingWrite>> splitByThingId(final List<PendingWrite> pendingWrites) {
+        final List<List<PendingWrite>> bulks = new ArrayList<>(1);
+        List<PendingWrite> bulk = new ArrayList<>(pendingWrites.size());
+        Set<ThingId> thingIds = new HashSet<>();
+        for (final PendingWrite pendingWrite : pendingWrites) {
+            if (!thingIds.add(pendingWrite.thingId())) {
+                bulks.add(bulk);
+                bulk = new ArrayList<>();
+                thingIds = new HashSet<>();
+                thingIds.add(pendingWrite.thingId());
+            }
+            bulk.add(pendingWrite);
+        }
+        bulks.add(bulk);
+        return bulks;
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final Collection<MongoWriteModel> writeModels) {
@@ -170,4 +305,13 @@ final class MongoSearchUpdaterFlow {
         }
     }
 
+    private record PendingWrite(MongoWriteModel writeModel,
+                                CompletableFuture<ThingUpdater.Result> result,
+                                long enqueuedAtNanos) {
+
+        private ThingId thingId() {
+            return writeModel.getDitto().getMetadata().getThingId();
+        }
+    }
+
 }
@@ -44,24 +44,33 @@ final class ResolvedPolicyCacheLoader
 
     private static final Logger LOG = DittoLoggerFactory.getThreadSafeLogger(ResolvedPolicyCacheLoader.class);
 
-    private final PolicyCacheLoader policyCacheLoader;
+    private final SingleFlightPolicyLoader policyLoader;
     private final CompletableFuture<Cache<PolicyIdResolvingImports, Entry<Pair<Policy, Set<PolicyTag>>>>> cacheFuture;
     private final NamespacePoliciesConfig namespacePoliciesConfig;
 
     ResolvedPolicyCacheLoader(final PolicyCacheLoader policyCacheLoader,
             final CompletableFuture<Cache<PolicyIdResolvingImports, Entry<Pair<Policy, Set<PolicyTag>>>>> cacheFuture,
             final NamespacePoliciesConfig namespacePoliciesConfig) {
-        this.policyCacheLoader = policyCacheLoader;
+        policyLoader = new SingleFlightPolicyLoader(policyCacheLoader::asyncLoad);
         this.cacheFuture = cacheFuture;
         this.namespacePoliciesConfig = namespacePoliciesConfig;
     }
 
+    /**
+     * Prevents loads started after the invalidation of a policy from joining a load of it which is still in flight.
+     *
+     * @param policyId the ID of the invalidated policy.
+     */
+    void invalidate(final PolicyId policyId) {
+        policyLoader.invalidate(policyId);
+    }
+
     @Override
     public CompletableFuture<? extends Entry<Pair<Policy, Set<PolicyTag>>>> asyncLoad(
             final PolicyIdResolvingImports policyIdResolvingImports,
             final Executor executor) {
 
-        return policyCacheLoader.asyncLoad(policyIdResolvingImports.policyId(), executor)
+        return policyLoader.load(policyIdResolvingImports.policyId(), executor)
                 .thenComposeAsync(policyEntry -> {
                     if (policyEntry.exists()) {
                         final Policy policy = policyEntry.getValueOrThrow();
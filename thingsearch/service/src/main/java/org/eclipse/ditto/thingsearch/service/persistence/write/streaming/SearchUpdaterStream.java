@@ -75,7 +75,7 @@ public final class SearchUpdaterStream {
                 EnforcementFlow.of(actorSystem, streamConfig, thingsShard, policiesShard, actorSystem.getScheduler());
 
         final var mongoSearchUpdaterFlow =
-                MongoSearchUpdaterFlow.of(database, streamConfig.getPersistenceConfig());
+                MongoSearchUpdaterFlow.of(database, streamConfig.getPersistenceConfig(), actorSystem);
 
         return new SearchUpdaterStream(enforcementFlow, mongoSearchUpdaterFlow, blockedNamespaces, searchUpdateMapper);
     }
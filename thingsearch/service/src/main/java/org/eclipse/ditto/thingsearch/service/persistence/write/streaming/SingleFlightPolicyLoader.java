@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+
+/**
+ * Coalesces concurrent loads of the same policy into a single {@code SudoRetrievePolicy} round trip.
+ * <p>
+ * The policy cache of the {@link EnforcementFlow} holds each policy twice, with and without resolved imports. Both
+ * cache entries of a policy therefore join a load of the same policy which is still in flight instead of asking the
+ * policies shard region again. A load is forgotten as soon as it completes, so completed loads are never reused.
+ * </p>
+ * <p>
+ * A load which is in flight while the policy is invalidated may return the policy as it was before the change which
+ * caused the invalidation. {@link #invalidate(PolicyId)} therefore discards it: loads started afterwards ask the
+ * policies shard region again, while the loads which already joined it still receive its result.
+ * </p>
+ */
+@ThreadSafe
+final class SingleFlightPolicyLoader {
+
+    private static final Counter POLICY_LOADS = DittoMetrics.counter("wildcard_search_policy_loads");
+    private static final Counter COALESCED_POLICY_LOADS =
+            DittoMetrics.counter("wildcard_search_policy_loads_coalesced");
+
+    private final BiFunction<PolicyId, Executor, CompletableFuture<Entry<Policy>>> delegate;
+    private final ConcurrentMap<PolicyId, CompletableFuture<Entry<Policy>>> inFlightLoads;
+
+    SingleFlightPolicyLoader(final BiFunction<PolicyId, Executor, CompletableFuture<Entry<Policy>>> delegate) {
+        this.delegate = delegate;
+        inFlightLoads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Loads the policy with the given ID or joins a load of it which is still in flight.
+     *
+     * @param policyId the ID of the policy to load.
+     * @param executor the executor to load the policy with.
+     * @return the future policy entry.
+     */
+    CompletableFuture<Entry<Policy>> load(final PolicyId policyId, final Executor executor) {
+        final CompletableFuture<Entry<Policy>> newLoad = new CompletableFuture<>();
+        final CompletableFuture<Entry<Policy>> inFlightLoad = inFlightLoads.putIfAbsent(policyId, newLoad);
+        if (null != inFlightLoad) {
+            COALESCED_POLICY_LOADS.increment();
+            return inFlightLoad.copy();
+        }
+
+        POLICY_LOADS.increment();
+        try {
+            delegate.apply(policyId, executor).whenComplete((entry, error) -> {
+                // forget the load before completing it, so that loads started by its callbacks ask again
+                inFlightLoads.remove(policyId, newLoad);
+                if (null != error) {
+                    newLoad.completeExceptionally(error);
+                } else {
+                    newLoad.complete(entry);
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlightLoads.remove(policyId, newLoad);
+            newLoad.completeExceptionally(e);
+        }
+        return newLoad.copy();
+    }
+
+    /**
+     * Discards the load of the policy with the given ID which is in flight, if any, so that later loads do not join
+     * it.
+     *
+     * @param policyId the ID of the invalidated policy.
+     */
+    void invalidate(final PolicyId policyId) {
+        inFlightLoads.remove(policyId);
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     *
+     * @return the number of in-flight loads.
+     */
+    int getInFlightLoadCount() {
+        return inFlightLoads.size();
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.thingsearch.service.starter.actors;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -47,6 +49,7 @@ import org.apache.pekko.stream.javadsl.StreamRefs;
 import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
@@ -79,6 +82,7 @@ import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.SudoRetrieveNamespaceReport;
 import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
+import org.eclipse.ditto.thingsearch.model.ThingSearchConstants;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
 import org.eclipse.ditto.thingsearch.model.signals.commands.exceptions.SubscriptionAbortedException;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
@@ -86,10 +90,14 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsRes
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.ThingSearchQueryCommand;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.IndexProjectionConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
+import org.eclipse.ditto.thingsearch.service.common.model.ProjectedThing;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
+import org.eclipse.ditto.thingsearch.service.persistence.read.SearchCountCache;
 import org.eclipse.ditto.thingsearch.service.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
 
@@ -138,16 +146,22 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
     private final SignalTransformer signalTransformer;
     private final ActorRef pubSubMediator;
     private final SlowQueryLogConfig slowQueryLogConfig;
+    private final IndexProjectionConfig indexProjectionConfig;
+    private final SearchCountCache countCache;
 
     @SuppressWarnings("unused")
     private SearchActor(final QueryParser queryParser, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig) {
+            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig,
+            final IndexProjectionConfig indexProjectionConfig, final CountCacheConfig countCacheConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
         this.pubSubMediator = pubSubMediator;
         this.slowQueryLogConfig = slowQueryLogConfig;
+        this.indexProjectionConfig = indexProjectionConfig;
         final var system = getSystem();
+        countCache = SearchCountCache.of(countCacheConfig, searchPersistence,
+                SystemMaterializer.get(system).materializer());
         final Config config = system.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
         preEnforcer = PreEnforcerProvider.get(system, dittoExtensionsConfig);
@@ -170,12 +184,16 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
      * to use in order to execute queries.
      * @param pubSubMediator the Pekko pub-sub mediator.
      * @param slowQueryLogConfig the configuration for slow query logging.
+     * @param indexProjectionConfig the configuration for projecting search results from the search index.
+     * @param countCacheConfig the configuration for caching the results of count queries.
      * @return the Pekko configuration Props object.
      */
     static Props props(final QueryParser queryFactory, final ThingsSearchPersistence searchPersistence,
-            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig) {
+            final ActorRef pubSubMediator, final SlowQueryLogConfig slowQueryLogConfig,
+            final IndexProjectionConfig indexProjectionConfig, final CountCacheConfig countCacheConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator, slowQueryLogConfig)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, pubSubMediator, slowQueryLogConfig,
+                        indexProjectionConfig, countCacheConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -322,16 +340,18 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                             final StartedTimer databaseAccessTimer =
                                     countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                            final Source<Long, NotUsed> countResultSource =
+                            final Source<SearchCountCache.Count, NotUsed> countResultSource =
                                     DittoJsonException.wrapJsonRuntimeException(query, tracedCountCommand.getDittoHeaders(),
                                             (theQuery, headers) -> {
                                                 if (isSudo && tracedCountCommand instanceof SudoCountThings sudoCmd) {
                                                     return searchPersistence.sudoCount(theQuery, headers,
-                                                            sudoCmd.getIndexHint().orElse(null));
+                                                                    sudoCmd.getIndexHint().orElse(null))
+                                                            .map(SearchActor::uncachedCount);
                                                 } else if (isSudo) {
-                                                    return searchPersistence.sudoCount(theQuery, headers);
+                                                    return searchPersistence.sudoCount(theQuery, headers)
+                                                            .map(SearchActor::uncachedCount);
                                                 } else {
-                                                    return searchPersistence.count(theQuery,
+                                                    return countCache.count(theQuery,
                                                             headers.getAuthorizationContext().getAuthorizationSubjectIds(),
                                                             headers);
                                                 }
@@ -343,7 +363,8 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                         stopTimer(databaseAccessTimer);
                                         return result;
                                     }))
-                                    .map(count -> CountThingsResponse.of(count, dittoHeaders));
+                                    .map(count -> CountThingsResponse.of(count.value(),
+                                            withCountAge(dittoHeaders, count)));
                         });
 
         final Source<Object, ?> replySourceWithErrorHandling =
@@ -355,6 +376,18 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         return Patterns.pipe(replyFuture, getContext().dispatcher()).to(sender).future();
     }
 
+    private static SearchCountCache.Count uncachedCount(final long count) {
+        return new SearchCountCache.Count(count, Instant.now(), false);
+    }
+
+    private static DittoHeaders withCountAge(final DittoHeaders dittoHeaders, final SearchCountCache.Count count) {
+        return count.getAge()
+                .map(age -> dittoHeaders.toBuilder()
+                        .putHeader(DittoHeaderDefinition.SEARCH_COUNT_AGE.getKey(), String.valueOf(age.toMillis()))
+                        .build())
+                .orElse(dittoHeaders);
+    }
+
     private CompletionStage<Object> performStream(final StreamThings streamThings, final ActorRef sender,
             final ThreadSafeDittoLoggingAdapter l) {
 
@@ -512,6 +545,22 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
                                         : command.getDittoHeaders()
                                                 .getAuthorizationContext()
                                                 .getAuthorizationSubjectIds();
+                                if (indexProjectionConfig.isEnabled()) {
+                                    final Source<ResultList<ProjectedThing>, NotUsed> findAllResult =
+                                            DittoJsonException.wrapJsonRuntimeException(query, dittoHeaders,
+                                                    (theQuery, headers) -> searchPersistence
+                                                            .findAllWithIndexProjection(theQuery, subjectIds,
+                                                                    namespaces, command.getFields().orElse(null),
+                                                                    headers)
+                                            );
+                                    return processSearchPersistenceResult(findAllResult, dittoHeaders)
+                                            .via(Flow.fromFunction(result -> {
+                                                stopTimer(databaseAccessTimer);
+                                                return result;
+                                            }))
+                                            .map(things -> toProjectedQueryThingsResponse(command,
+                                                    cursor.orElse(null), things));
+                                }
                                 final Source<ResultList<TimestampedThingId>, NotUsed> findAllResult =
                                         DittoJsonException.wrapJsonRuntimeException(query, dittoHeaders, (theQuery, headers) ->
                                             searchPersistence.findAll(theQuery, subjectIds, namespaces, headers)
@@ -554,6 +603,47 @@ public final class SearchActor extends AbstractActorWithShutdownBehaviorAndReque
         }
     }
 
+    private static QueryThingsResponse toProjectedQueryThingsResponse(final QueryThings queryThings,
+            @Nullable final ThingsSearchCursor cursor,
+            final ResultList<ProjectedThing> projectedThings) {
+
+        final var dittoHeaders = queryThings.getDittoHeaders();
+        if (projectedThings.isEmpty()) {
+            return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else {
+            // things which could not be projected from the search index are looked up in gateway:
+            final JsonArray items = projectedThings.stream()
+                    .map(projectedThing -> projectedThing.projection()
+                            .orElseGet(() -> JsonObject.newBuilder()
+                                    .set(Thing.JsonFields.ID, projectedThing.thingId().toString())
+                                    .build()))
+                    .collect(JsonCollectors.valuesToArray());
+            // mark the projected items explicitly, as a projected thing may consist of its ID alone
+            final List<String> projectedItems = IntStream.range(0, projectedThings.size())
+                    .filter(index -> projectedThings.get(index).projection().isPresent())
+                    .mapToObj(String::valueOf)
+                    .toList();
+            final String consistency;
+            if (projectedItems.isEmpty()) {
+                consistency = ThingSearchConstants.CONSISTENCY_TWIN;
+            } else if (projectedItems.size() == projectedThings.size()) {
+                consistency = ThingSearchConstants.CONSISTENCY_INDEX;
+            } else {
+                consistency = ThingSearchConstants.CONSISTENCY_MIXED;
+            }
+            final var searchResults =
+                    SearchModelFactory.newSearchResult(items, projectedThings.nextPageOffset());
+            final var processedResults =
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, projectedThings);
+            final DittoHeaders responseHeaders = dittoHeaders.toBuilder()
+                    .putHeader(DittoHeaderDefinition.SEARCH_CONSISTENCY.getKey(), consistency)
+                    .putHeader(DittoHeaderDefinition.SEARCH_PROJECTED_ITEMS.getKey(), String.join(",", projectedItems))
+                    .build();
+
+            return QueryThingsResponse.of(processedResults, responseHeaders);
+        }
+    }
+
     private static JsonArray getItems(final ResultList<TimestampedThingId> thingIds) {
         return thingIds.stream()
                 .map(TimestampedThingId::thingId)
@@ -132,7 +132,10 @@ public final class SearchRootActor extends DittoRootActor {
             final ThingsSearchPersistence thingsSearchPersistence, final ActorRef pubSubMediator) {
         final var queryParser = getQueryParser(searchConfig, getContext().getSystem());
         final var slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
-        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator, slowQueryLogConfig);
+        final var indexProjectionConfig = searchConfig.getIndexProjectionConfig();
+        final var countCacheConfig = searchConfig.getCountCacheConfig();
+        final var props = SearchActor.props(queryParser, thingsSearchPersistence, pubSubMediator, slowQueryLogConfig,
+                indexProjectionConfig, countCacheConfig);
         return startChildActor(SearchActor.ACTOR_NAME, props);
     }
 
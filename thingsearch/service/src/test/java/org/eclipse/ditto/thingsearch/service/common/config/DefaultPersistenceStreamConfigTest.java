@@ -70,6 +70,18 @@ public final class DefaultPersistenceStreamConfigTest {
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.valueOf(
                         (String) PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getDefaultValue()));
+
+        softly.assertThat(underTest.getMaxBulkSize())
+                .as(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.MAX_BULK_SIZE.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxBulkLinger())
+                .as(PersistenceStreamConfigValue.MAX_BULK_LINGER.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.MAX_BULK_LINGER.getDefaultValue());
+
+        softly.assertThat(underTest.getBulkQueueSize())
+                .as(PersistenceStreamConfigValue.BULK_QUEUE_SIZE.getConfigPath())
+                .isEqualTo(PersistenceStreamConfigValue.BULK_QUEUE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -92,6 +104,18 @@ public final class DefaultPersistenceStreamConfigTest {
         softly.assertThat(underTest.getWithAcknowledgementsWriteConcern())
                 .as(PersistenceStreamConfigValue.WITH_ACKS_WRITE_CONCERN.getConfigPath())
                 .isEqualTo(WriteConcern.MAJORITY);
+
+        softly.assertThat(underTest.getMaxBulkSize())
+                .as(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath())
+                .isEqualTo(70);
+
+        softly.assertThat(underTest.getMaxBulkLinger())
+                .as(PersistenceStreamConfigValue.MAX_BULK_LINGER.getConfigPath())
+                .isEqualTo(Duration.ofMillis(71L));
+
+        softly.assertThat(underTest.getBulkQueueSize())
+                .as(PersistenceStreamConfigValue.BULK_QUEUE_SIZE.getConfigPath())
+                .isEqualTo(72);
     }
 
 }
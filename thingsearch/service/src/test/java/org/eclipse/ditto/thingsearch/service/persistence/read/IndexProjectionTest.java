@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexProjection}.
+ */
+public final class IndexProjectionTest {
+
+    private static final ThingId THING_ID = ThingId.of("bosch:device");
+
+    private static final JsonObject THING = JsonObject.of("""
+            {
+              "thingId": "bosch:device",
+              "_modified": "2000-01-01T00:00:01Z",
+              "_revision": 111,
+              "policyId": "bosch:device-policy",
+              "attributes": {
+                "location": { "latitude": 44.673856, "longitude": 8.261719 },
+                "tags": [ "a", "b" ]
+              },
+              "features": {
+                "accelerometer": { "properties": { "x": 3.141 } },
+                "distance": { "properties": { "d": 2.71828, "unit": "m" } }
+              }
+            }
+            """);
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicy("""
+            {
+              "policyId": "bosch:device-policy",
+              "entries": {
+                "global": {
+                  "subjects": { "issuer:global": {"type":"default"} },
+                  "resources": { "thing:/": {"grant": ["READ"],"revoke": []} }
+                },
+                "features": {
+                  "subjects": { "issuer:features": {"type":"default"} },
+                  "resources": {
+                    "thing:/features": {"grant": ["READ"],"revoke": []},
+                    "thing:/features/distance/properties/d": {"grant": [],"revoke": ["READ"]}
+                  }
+                },
+                "latitude": {
+                  "subjects": { "issuer:latitude": {"type":"default"} },
+                  "resources": { "thing:/attributes/location/latitude": {"grant": ["READ"],"revoke": []} }
+                },
+                "regranted": {
+                  "subjects": { "issuer:regranted": {"type":"default"} },
+                  "resources": {
+                    "thing:/": {"grant": ["READ"],"revoke": []},
+                    "thing:/attributes": {"grant": [],"revoke": ["READ"]},
+                    "thing:/attributes/location/longitude": {"grant": ["READ"],"revoke": []},
+                    "thing:/features": {"grant": [],"revoke": ["READ"]},
+                    "thing:/features/distance": {"grant": ["READ"],"revoke": []},
+                    "thing:/features/distance/properties/unit": {"grant": [],"revoke": ["READ"]}
+                  }
+                }
+              }
+            }
+            """);
+
+    @Test
+    public void projectsRegularFieldsForSudo() {
+        final var result = IndexProjection.project(THING_ID, toDocument(THING, -1), null, null);
+
+        assertThat(result).contains(JsonObject.of("""
+                {
+                  "thingId": "bosch:device",
+                  "policyId": "bosch:device-policy",
+                  "attributes": {
+                    "location": { "latitude": 44.673856, "longitude": 8.261719 },
+                    "tags": [ "a", "b" ]
+                  },
+                  "features": {
+                    "accelerometer": { "properties": { "x": 3.141 } },
+                    "distance": { "properties": { "d": 2.71828, "unit": "m" } }
+                  }
+                }
+                """));
+    }
+
+    @Test
+    public void projectsOnlyVisibleValues() {
+        final Document document = toDocument(THING, -1);
+
+        assertThat(IndexProjection.project(THING_ID, document, List.of("issuer:features"), null))
+                .contains(JsonObject.of("""
+                        {
+                          "thingId": "bosch:device",
+                          "features": {
+                            "accelerometer": { "properties": { "x": 3.141 } },
+                            "distance": { "properties": { "unit": "m" } }
+                          }
+                        }
+                        """));
+
+        assertThat(IndexProjection.project(THING_ID, document, List.of("issuer:latitude"), null))
+                .contains(JsonObject.of("""
+                        {
+                          "thingId": "bosch:device",
+                          "attributes": { "location": { "latitude": 44.673856 } }
+                        }
+                        """));
+
+        // a revoke for one subject of the requester wins over a grant for another one
+        assertThat(IndexProjection.project(THING_ID, document, List.of("issuer:global", "issuer:features"),
+                JsonFieldSelector.newInstance("features/distance", "_revision")))
+                .contains(JsonObject.of("""
+                        {
+                          "thingId": "bosch:device",
+                          "_revision": 111,
+                          "features": { "distance": { "properties": { "unit": "m" } } }
+                        }
+                        """));
+
+        assertThat(IndexProjection.project(THING_ID, document, List.of("issuer:unknown"), null))
+                .contains(JsonObject.of("{\"thingId\": \"bosch:device\"}"));
+    }
+
+    @Test
+    public void grantOnDeeperPathReallowsRevokedValues() {
+        assertThat(IndexProjection.project(THING_ID, toDocument(THING, -1), List.of("issuer:regranted"), null))
+                .contains(JsonObject.of("""
+                        {
+                          "thingId": "bosch:device",
+                          "policyId": "bosch:device-policy",
+                          "attributes": { "location": { "longitude": 8.261719 } },
+                          "features": { "distance": { "properties": { "d": 2.71828 } } }
+                        }
+                        """));
+    }
+
+    @Test
+    public void projectsLikeThePolicyEnforcer() {
+        final Document document = toDocument(THING, -1);
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(POLICY);
+        final List<String> subjectIds =
+                List.of("issuer:global", "issuer:features", "issuer:latitude", "issuer:regranted");
+        // all combinations of the subjects of the policy
+        for (int combination = 1; combination < 1 << subjectIds.size(); combination++) {
+            final List<AuthorizationSubject> subjects = new ArrayList<>();
+            for (int i = 0; i < subjectIds.size(); i++) {
+                if ((combination & 1 << i) != 0) {
+                    subjects.add(AuthorizationSubject.newInstance(subjectIds.get(i)));
+                }
+            }
+            final JsonObject enforcedThing = enforcer.buildJsonView(ResourceKey.newInstance("thing", "/"), THING,
+                    AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects),
+                    Permissions.newInstance(Permission.READ));
+            final JsonObject expected = JsonObject.newBuilder()
+                    .set(Thing.JsonFields.ID, THING_ID.toString())
+                    .setAll(enforcedThing.stream()
+                            .filter(field -> !field.getKeyName().startsWith("_"))
+                            .collect(JsonCollectors.fieldsToObject()))
+                    .build();
+
+            assertThat(IndexProjection.project(THING_ID, document,
+                    subjects.stream().map(AuthorizationSubject::getId).toList(), null))
+                    .describedAs("projection for %s", subjects)
+                    .contains(expected);
+        }
+    }
+
+    @Test
+    public void doesNotProjectTruncatedThings() {
+        assertThat(IndexProjection.project(THING_ID, toDocument(THING, 1), List.of("issuer:global"), null))
+                .isEmpty();
+    }
+
+    @Test
+    public void doesNotProjectIncompleteThings() {
+        // e.g. things of namespaces with configured indexed fields are retrieved with those fields only
+        final var writeModel = EnforcedThingMapper.toWriteModel(THING, POLICY, Set.of(), 1L, null, -1, false);
+        final Document document = Document.parse(writeModel.getThingDocument().toJson());
+
+        assertThat(IndexProjection.project(THING_ID, document, List.of("issuer:global"), null)).isEmpty();
+    }
+
+    @Test
+    public void fieldsNotHeldByTheIndexAreNotProjectable() {
+        assertThat(IndexProjection.isProjectable(null)).isTrue();
+        assertThat(IndexProjection.isProjectable(JsonFieldSelector.newInstance("attributes", "_modified")))
+                .isTrue();
+        assertThat(IndexProjection.isProjectable(JsonFieldSelector.newInstance("attributes", "_policy")))
+                .isFalse();
+        assertThat(IndexProjection.isProjectable(JsonFieldSelector.newInstance("features/*/properties/x")))
+                .isFalse();
+    }
+
+    private static Document toDocument(final JsonObject thing, final int maxArraySize) {
+        final var writeModel = EnforcedThingMapper.toWriteModel(thing, POLICY, Set.of(), 1L, null, maxArraySize);
+        return Document.parse(writeModel.getThingDocument().toJson());
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.SearchCountMode;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.thingsearch.api.QueryTimeExceededException;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultCountCacheConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link SearchCountCache}.
+ */
+public final class SearchCountCacheTest {
+
+    private static final Criteria CRITERIA = mock(Criteria.class);
+    private static final List<String> SUBJECTS = List.of("integration:a", "nginx:b");
+
+    private ActorSystem system;
+    private Materializer materializer;
+    private ThingsSearchPersistence persistence;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create();
+        materializer = SystemMaterializer.get(system).materializer();
+        persistence = mock(ThingsSearchPersistence.class);
+        when(persistence.count(any(), any(), any())).thenReturn(Source.single(42L));
+    }
+
+    @After
+    public void tearDown() {
+        if (system != null) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void countsOfEqualCriteriaAndSubjectsAreCached() throws Exception {
+        final SearchCountCache underTest = newCountCache(true);
+
+        final SearchCountCache.Count first = count(underTest, SUBJECTS, DittoHeaders.empty());
+        final SearchCountCache.Count second =
+                count(underTest, List.of("nginx:b", "integration:a"), DittoHeaders.empty());
+
+        assertThat(first.value()).isEqualTo(42L);
+        assertThat(second).isEqualTo(first);
+        assertThat(second.cached()).isTrue();
+        assertThat(second.getAge()).isPresent();
+        verify(persistence, times(1)).count(any(), any(), any());
+    }
+
+    @Test
+    public void countsOfOtherSubjectsAreNotShared() throws Exception {
+        final SearchCountCache underTest = newCountCache(true);
+
+        count(underTest, SUBJECTS, DittoHeaders.empty());
+        count(underTest, List.of("integration:a"), DittoHeaders.empty());
+
+        verify(persistence, times(2)).count(any(), any(), any());
+    }
+
+    @Test
+    public void exactCountsAreNotCached() throws Exception {
+        final SearchCountCache underTest = newCountCache(true);
+        final DittoHeaders exact = DittoHeaders.newBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_COUNT_MODE.getKey(), SearchCountMode.EXACT.toString())
+                .build();
+
+        final SearchCountCache.Count count = count(underTest, SUBJECTS, exact);
+        count(underTest, SUBJECTS, exact);
+
+        assertThat(count.cached()).isFalse();
+        assertThat(count.getAge()).isEmpty();
+        verify(persistence, times(2)).count(any(), any(), any());
+    }
+
+    @Test
+    public void cachedCountsAreCountedWithoutHeadersOfTheRequest() throws Exception {
+        final SearchCountCache underTest = newCountCache(true);
+
+        count(underTest, SUBJECTS, DittoHeaders.newBuilder().correlationId("first").build());
+
+        verify(persistence).count(any(), any(), eq(DittoHeaders.empty()));
+    }
+
+    @Test
+    public void failedCountsAreReportedWithTheHeadersOfEachRequest() {
+        when(persistence.count(any(), any(), any()))
+                .thenReturn(Source.failed(QueryTimeExceededException.newBuilder().build()));
+        final SearchCountCache underTest = newCountCache(true);
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("second").build();
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> count(underTest, SUBJECTS, dittoHeaders))
+                .havingCause()
+                .isInstanceOfSatisfying(QueryTimeExceededException.class, error ->
+                        assertThat(error.getDittoHeaders().getCorrelationId()).contains("second"));
+    }
+
+    @Test
+    public void disabledCacheAlwaysCounts() throws Exception {
+        final SearchCountCache underTest = newCountCache(false);
+
+        count(underTest, SUBJECTS, DittoHeaders.empty());
+        final SearchCountCache.Count count = count(underTest, SUBJECTS, DittoHeaders.empty());
+
+        assertThat(count.cached()).isFalse();
+        verify(persistence, times(2)).count(any(), any(), any());
+    }
+
+    private SearchCountCache newCountCache(final boolean enabled) {
+        return SearchCountCache.of(
+                DefaultCountCacheConfig.of(ConfigFactory.parseString("count-cache.enabled = " + enabled)),
+                persistence, materializer);
+    }
+
+    private SearchCountCache.Count count(final SearchCountCache underTest, final List<String> subjects,
+            final DittoHeaders dittoHeaders) throws Exception {
+
+        // a new query per request as parsed queries are not reused
+        final Query query = mock(Query.class);
+        when(query.getCriteria()).thenReturn(CRITERIA);
+        when(query.getLimit()).thenReturn(Integer.MAX_VALUE);
+        return underTest.count(query, subjects, dittoHeaders)
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -102,7 +102,8 @@ public final class EnforcedThingMapperTest {
                         "properties":{"there":{"·g": [ "g:1" ] } }
                       }
                     }
-                  ]
+                  ],
+                  "__projectable": true
                 }
                 """);
 
@@ -283,7 +284,8 @@ public final class EnforcedThingMapperTest {
                         }
                       }
                     }
-                  ]
+                  ],
+                  "__projectable": true
                 }
                 """);
 
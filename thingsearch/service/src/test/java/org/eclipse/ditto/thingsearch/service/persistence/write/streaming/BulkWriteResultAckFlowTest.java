@@ -171,6 +171,39 @@ public final class BulkWriteResultAckFlowTest {
                 .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @Test
+    public void acknowledgementsOfSplitResults() {
+        final List<TestProbe> probes =
+                IntStream.range(0, 5).mapToObj(i -> TestProbe.apply(actorSystem)).toList();
+        final List<MongoWriteModel> writeModels = generateWriteModels(probes);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(1, 2, 1, 2, List.of(), List.of());
+        final List<BulkWriteError> updateFailure = List.of(
+                new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 3),
+                new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 4)
+        );
+
+        // WHEN: the result of a bulk write shared by several things is split per write model
+        final WriteResultAndErrors resultAndErrors = WriteResultAndErrors.failure(writeModels,
+                new MongoBulkWriteException(result, updateFailure, null, new ServerAddress(), Set.of()), "correlation");
+        final List<WriteResultAndErrors> splitResults = resultAndErrors.splitPerWriteModel();
+        final List<BulkWriteResultAckFlow.Status> statuses = splitResults.stream()
+                .map(BulkWriteResultAckFlow::checkBulkWriteResult)
+                .map(Pair::first)
+                .toList();
+
+        // THEN: each thing updater gets its own result and only the non-duplicate-key sender receives negative ack
+        assertThat(splitResults).hasSize(5)
+                .allSatisfy(splitResult -> assertThat(splitResult.getWriteModels()).hasSize(1));
+        assertThat(statuses.subList(0, 3)).containsOnly(BulkWriteResultAckFlow.Status.OK);
+        assertThat(statuses.get(4)).isEqualTo(BulkWriteResultAckFlow.Status.WRITE_ERROR);
+        for (int i = 0; i < 4; ++i) {
+            assertThat(probes.get(i).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                    .isEqualTo(HttpStatus.NO_CONTENT);
+        }
+        assertThat(probes.get(4).expectMsgClass(Acknowledgement.class).getHttpStatus())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     private List<String> getMessages(final List<Pair<BulkWriteResultAckFlow.Status, List<String>>> report) {
         final var messages = report.stream().flatMap(pair -> pair.second().stream()).toList();
         assertThat(messages).isNotEmpty();
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
@@ -167,6 +168,63 @@ public final class EnforcementFlowTest {
             assertThat(document.getValue("policyId")).contains(JsonValue.of(policyId));
             assertThat(document.getValue("_revision")).contains(JsonValue.of(thingRev2));
             assertThat(document.getValue("__policyRev")).contains(JsonValue.of(policyRev2));
+            assertThat(document.getValue(PersistenceConstants.FIELD_PROJECTABLE)).contains(JsonValue.of(true));
+        }};
+    }
+
+    @Test
+    public void thingsOfNamespacesWithIndexedFieldsAreNotProjectable() {
+        TestKit.shutdownActorSystem(system);
+        system = ActorSystem.create("test", ConfigFactory.parseString("""
+                ditto.search.namespace-indexed-fields = [
+                  { namespace-pattern = "restricted*", indexed-fields = [ "attributes/indexed" ] }
+                ]
+                """).withFallback(ConfigFactory.load("actors-test.conf")));
+        new TestKit(system) {{
+            // GIVEN: a thing of a namespace whose things are retrieved with the indexed fields only
+            final ThingId thingId = ThingId.of("restricted.things:id");
+            final PolicyId policyId = PolicyId.of("restricted.things:policy");
+            final Metadata metadata =
+                    Metadata.of(thingId, 1L, PolicyTag.of(policyId, 1L), null, Set.of(), null);
+
+            final TestProbe thingsProbe = TestProbe.apply(system);
+            final TestProbe policiesProbe = TestProbe.apply(system);
+
+            final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.empty());
+            final EnforcementFlow underTest =
+                    EnforcementFlow.of(system, streamConfig, thingsProbe.ref(), policiesProbe.ref(),
+                            system.getScheduler());
+
+            materializeTestProbes(underTest);
+
+            sinkProbe.ensureSubscription();
+            sourceProbe.ensureSubscription();
+            sinkProbe.request(1);
+            assertThat(sourceProbe.expectRequest()).isEqualTo(16);
+            sourceProbe.sendNext(List.of(metadata));
+            sourceProbe.sendComplete();
+
+            // WHEN: thing and policy are retrieved
+            thingsProbe.expectMsgClass(FiniteDuration.apply(10, TimeUnit.SECONDS), SudoRetrieveThing.class);
+            final var thing = Thing.newBuilder()
+                    .setId(thingId)
+                    .setPolicyId(policyId)
+                    .setRevision(1L)
+                    .setAttribute(JsonPointer.of("indexed"), JsonValue.of(true))
+                    .build();
+            thingsProbe.reply(SudoRetrieveThingResponse.of(thing.toJson(FieldType.regularOrSpecial()),
+                    DittoHeaders.empty()));
+
+            policiesProbe.expectMsgClass(SudoRetrievePolicy.class);
+            final var policy = Policy.newBuilder(policyId).setRevision(1L).build();
+            policiesProbe.reply(SudoRetrievePolicyResponse.of(policyId, policy, DittoHeaders.empty()));
+
+            // THEN: search results are not projected from the indexed thing, which may lack fields
+            final AbstractWriteModel writeModel = sinkProbe.expectNext().get(0);
+            sinkProbe.expectComplete();
+            assertThat(writeModel).isInstanceOf(ThingWriteModel.class);
+            final var document = JsonObject.of(((ThingWriteModel) writeModel).getThingDocument().toJson());
+            assertThat(document.getValue(PersistenceConstants.FIELD_PROJECTABLE)).contains(JsonValue.of(false));
         }};
     }
 
@@ -409,6 +467,75 @@ public final class EnforcementFlowTest {
                 ));
     }
 
+    @Test
+    public void preloadPoliciesLoadsAndReloadsEachPolicyOncePerBulk() {
+        new TestKit(system) {{
+            final long policyRev1 = 1L;
+            final long policyRev2 = 2L;
+            final PolicyId policyId = PolicyId.of("policy:id");
+            final List<ThingId> thingIds = IntStream.range(1, 4)
+                    .mapToObj(i -> ThingId.of("thing:" + i))
+                    .toList();
+
+            final TestProbe thingsProbe = TestProbe.apply(system);
+            final TestProbe policiesProbe = TestProbe.apply(system);
+            thingsProbe.setAutoPilot(new TestActor.AutoPilot() {
+                @Override
+                public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+                    if (msg instanceof final SudoRetrieveThing command) {
+                        final var thing = Thing.newBuilder()
+                                .setId((ThingId) command.getEntityId())
+                                .setPolicyId(policyId)
+                                .setRevision(1L)
+                                .build();
+                        sender.tell(SudoRetrieveThingResponse.of(thing.toJson(FieldType.regularOrSpecial()),
+                                command.getDittoHeaders()), getRef());
+                    }
+                    return keepRunning();
+                }
+            });
+
+            final StreamConfig streamConfig = DefaultStreamConfig.of(ConfigFactory.empty());
+            final EnforcementFlow underTest = EnforcementFlow.of(system, streamConfig, thingsProbe.ref(),
+                    policiesProbe.ref(), system.getScheduler());
+
+            materializeTestProbes(underTest, 16, 16);
+            sinkProbe.ensureSubscription();
+            sourceProbe.ensureSubscription();
+            sinkProbe.request(2);
+
+            // WHEN: a bulk of things sharing a policy which is not cached yet is enqueued
+            sourceProbe.sendNext(thingIds.stream()
+                    .map(thingId -> Metadata.of(thingId, 1L, PolicyTag.of(policyId, policyRev1), null, Set.of(),
+                            null))
+                    .toList());
+
+            // THEN: the policy is loaded once for the whole bulk
+            policiesProbe.expectMsgClass(FiniteDuration.apply(10, TimeUnit.SECONDS), SudoRetrievePolicy.class);
+            policiesProbe.reply(SudoRetrievePolicyResponse.of(policyId,
+                    Policy.newBuilder(policyId).setRevision(policyRev1).build(), DittoHeaders.empty()));
+            assertThat(sinkProbe.expectNext()).hasSize(thingIds.size())
+                    .allSatisfy(writeModel -> assertThat(getPolicyRevision(writeModel)).contains(policyRev1));
+            policiesProbe.expectNoMessage();
+
+            // WHEN: a bulk of the same things requiring a newer revision of the cached policy is enqueued
+            sourceProbe.sendNext(thingIds.stream()
+                    .map(thingId -> Metadata.of(thingId, 1L, PolicyTag.of(policyId, policyRev2), null, Set.of(),
+                            null))
+                    .toList());
+            sourceProbe.sendComplete();
+
+            // THEN: the policy is reloaded once for the whole bulk
+            policiesProbe.expectMsgClass(FiniteDuration.apply(10, TimeUnit.SECONDS), SudoRetrievePolicy.class);
+            policiesProbe.reply(SudoRetrievePolicyResponse.of(policyId,
+                    Policy.newBuilder(policyId).setRevision(policyRev2).build(), DittoHeaders.empty()));
+            assertThat(sinkProbe.expectNext()).hasSize(thingIds.size())
+                    .allSatisfy(writeModel -> assertThat(getPolicyRevision(writeModel)).contains(policyRev2));
+            sinkProbe.expectComplete();
+            policiesProbe.expectNoMessage();
+        }};
+    }
+
     @Test
     public void computeThingCacheValueFromThingEvents() {
         new TestKit(system) {{
@@ -872,6 +999,12 @@ public final class EnforcementFlowTest {
         }};
     }
 
+    private static Optional<Long> getPolicyRevision(final AbstractWriteModel writeModel) {
+        assertThat(writeModel).isInstanceOf(ThingWriteModel.class);
+        final var document = JsonObject.of(((ThingWriteModel) writeModel).getThingDocument().toJson());
+        return document.getValue(PersistenceConstants.FIELD_POLICY_REVISION).map(JsonValue::asLong);
+    }
+
     private void materializeTestProbes(final EnforcementFlow enforcementFlow) {
         materializeTestProbes(enforcementFlow, 16, 1);
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SingleFlightPolicyLoader}.
+ */
+public final class SingleFlightPolicyLoaderTest {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final PolicyId POLICY_ID = PolicyId.of("org.example", "policy");
+    private static final PolicyId ANOTHER_POLICY_ID = PolicyId.of("org.example", "another-policy");
+
+    private List<PolicyId> requestedPolicyIds;
+    private List<CompletableFuture<Entry<Policy>>> pendingLoads;
+    private SingleFlightPolicyLoader underTest;
+
+    @Before
+    public void setUp() {
+        requestedPolicyIds = new ArrayList<>();
+        pendingLoads = new ArrayList<>();
+        underTest = new SingleFlightPolicyLoader((policyId, executor) -> {
+            requestedPolicyIds.add(policyId);
+            final CompletableFuture<Entry<Policy>> load = new CompletableFuture<>();
+            pendingLoads.add(load);
+            return load;
+        });
+    }
+
+    @Test
+    public void concurrentLoadsOfSamePolicyAreCoalesced() {
+        final CompletableFuture<Entry<Policy>> first = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        final CompletableFuture<Entry<Policy>> second = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        final CompletableFuture<Entry<Policy>> other = underTest.load(ANOTHER_POLICY_ID, DIRECT_EXECUTOR);
+
+        assertThat(requestedPolicyIds).containsExactly(POLICY_ID, ANOTHER_POLICY_ID);
+        assertThat(underTest.getInFlightLoadCount()).isEqualTo(2);
+
+        final Entry<Policy> entry = Entry.of(1L, Policy.newBuilder(POLICY_ID).setRevision(1L).build());
+        pendingLoads.get(0).complete(entry);
+
+        assertThat(first).isCompletedWithValue(entry);
+        assertThat(second).isCompletedWithValue(entry);
+        assertThat(other).isNotDone();
+        assertThat(underTest.getInFlightLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void completedLoadsAreNotReused() {
+        underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        pendingLoads.get(0).complete(Entry.nonexistent());
+
+        underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+
+        assertThat(requestedPolicyIds).containsExactly(POLICY_ID, POLICY_ID);
+    }
+
+    @Test
+    public void loadsStartedAfterInvalidationDoNotJoinEarlierLoads() {
+        final CompletableFuture<Entry<Policy>> staleLoad = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        underTest.invalidate(POLICY_ID);
+        final CompletableFuture<Entry<Policy>> freshLoad = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+
+        assertThat(requestedPolicyIds).containsExactly(POLICY_ID, POLICY_ID);
+
+        final Entry<Policy> staleEntry = Entry.of(1L, Policy.newBuilder(POLICY_ID).setRevision(1L).build());
+        pendingLoads.get(0).complete(staleEntry);
+
+        assertThat(staleLoad).isCompletedWithValue(staleEntry);
+        assertThat(freshLoad).isNotDone();
+        assertThat(underTest.getInFlightLoadCount()).isEqualTo(1);
+
+        final Entry<Policy> freshEntry = Entry.of(2L, Policy.newBuilder(POLICY_ID).setRevision(2L).build());
+        pendingLoads.get(1).complete(freshEntry);
+
+        assertThat(freshLoad).isCompletedWithValue(freshEntry);
+        assertThat(underTest.getInFlightLoadCount()).isZero();
+    }
+
+    @Test
+    public void failedLoadsFailAllWaitersAndAreForgotten() {
+        final CompletableFuture<Entry<Policy>> first = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        final CompletableFuture<Entry<Policy>> second = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+
+        pendingLoads.get(0).completeExceptionally(new IllegalStateException("policies unavailable"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(underTest.getInFlightLoadCount()).isZero();
+    }
+
+    @Test
+    public void waitersCannotCompleteTheSharedLoad() {
+        final CompletableFuture<Entry<Policy>> first = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+        final CompletableFuture<Entry<Policy>> second = underTest.load(POLICY_ID, DIRECT_EXECUTOR);
+
+        first.cancel(false);
+
+        assertThat(second).isNotDone();
+    }
+
+}
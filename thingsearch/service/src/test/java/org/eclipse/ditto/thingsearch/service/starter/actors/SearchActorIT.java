@@ -62,8 +62,10 @@ import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.thingsearch.api.commands.sudo.StreamThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.IndexProjectionConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
@@ -102,6 +104,8 @@ public final class SearchActorIT {
     private static Config actorsTestConfig;
     private static QueryParser queryParser;
     private static SlowQueryLogConfig slowQueryLogConfig;
+    private static IndexProjectionConfig indexProjectionConfig;
+    private static CountCacheConfig countCacheConfig;
 
     private ActorSystem actorSystem;
     private MongoThingsSearchPersistence readPersistence;
@@ -115,6 +119,8 @@ public final class SearchActorIT {
         queryParser = SearchRootActor.getQueryParser(searchConfig,
                 ActorSystem.create(SearchActorIT.class.getSimpleName(), actorsTestConfig));
         slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
+        indexProjectionConfig = searchConfig.getIndexProjectionConfig();
+        countCacheConfig = searchConfig.getCountCacheConfig();
         mongoClient = provideClientWrapper();
         policy = createPolicy();
     }
@@ -176,7 +182,8 @@ public final class SearchActorIT {
     public void testSearch() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig,
+                    indexProjectionConfig, countCacheConfig));
 
             insertTestThings();
 
@@ -192,7 +199,8 @@ public final class SearchActorIT {
     public void testStream() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig,
+                    indexProjectionConfig, countCacheConfig));
 
             insertTestThings();
 
@@ -215,7 +223,8 @@ public final class SearchActorIT {
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
             final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence,
-                    actorSystem.deadLetters(), slowQueryLogConfig));
+                    actorSystem.deadLetters(), slowQueryLogConfig,
+                    indexProjectionConfig, countCacheConfig));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
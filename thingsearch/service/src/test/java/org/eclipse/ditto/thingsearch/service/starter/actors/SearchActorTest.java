@@ -42,7 +42,9 @@ import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.CountThingsResponse;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThings;
 import org.eclipse.ditto.thingsearch.model.signals.commands.query.QueryThingsResponse;
+import org.eclipse.ditto.thingsearch.service.common.config.CountCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.IndexProjectionConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SlowQueryLogConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
@@ -73,18 +75,23 @@ public final class SearchActorTest {
     private final ThingsSearchPersistence persistence = Mockito.mock(ThingsSearchPersistence.class);
     private QueryParser queryParser;
     private SlowQueryLogConfig slowQueryLogConfig;
+    private IndexProjectionConfig indexProjectionConfig;
+    private CountCacheConfig countCacheConfig;
 
     @Before
     public void init() {
         final var searchConfig = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(CONFIG));
         queryParser = SearchRootActor.getQueryParser(searchConfig, actorSystemResource.getActorSystem());
         slowQueryLogConfig = searchConfig.getSlowQueryLogConfig();
+        indexProjectionConfig = searchConfig.getIndexProjectionConfig();
+        countCacheConfig = searchConfig.getCountCacheConfig();
     }
 
     @Test
     public void unbindAndStopWithoutQuery() {
         new TestKit(actorSystemResource.getActorSystem()) {{
-            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig);
+            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig,
+                    indexProjectionConfig, countCacheConfig);
             final var underTest = childActorOf(props, SearchActor.ACTOR_NAME);
 
             final var expectedSubscribe =
@@ -111,7 +118,8 @@ public final class SearchActorTest {
     @Test
     public void waitForQueries() {
         new TestKit(actorSystemResource.getActorSystem()) {{
-            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig);
+            final var props = SearchActor.props(queryParser, persistence, getRef(), slowQueryLogConfig,
+                    indexProjectionConfig, countCacheConfig);
             final var underTest = childActorOf(props, SearchActor.ACTOR_NAME);
 
             final var expectedSubscribe =
@@ -15,8 +15,10 @@ package org.eclipse.ditto.wot.api.validator;
 import static org.eclipse.ditto.wot.validation.ValidationContext.buildValidationContext;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -39,6 +41,8 @@ import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Attributes;
@@ -83,7 +87,7 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
 
     private TmValidationConfig dynamicConfig;
 
-    private DefaultWotThingModelValidator(final WotThingModelResolver thingModelResolver,
+    DefaultWotThingModelValidator(final WotThingModelResolver thingModelResolver,
             final Executor executor,
             final TmValidationConfig initialConfig) {
         this.thingModelResolver = thingModelResolver;
@@ -199,12 +203,23 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
             final Thing thing,
             final JsonPointer resourcePath,
             final DittoHeaders dittoHeaders
+    ) {
+        return validateMergeThing(thingDefinition, mergeThing, null, thing, resourcePath, dittoHeaders);
+    }
+
+    @Override
+    public CompletionStage<Void> validateMergeThing(@Nullable final ThingDefinition thingDefinition,
+            final MergeThing mergeThing,
+            @Nullable final Thing previousThing,
+            final Thing thing,
+            final JsonPointer resourcePath,
+            final DittoHeaders dittoHeaders
     ) {
         final ValidationContext context = buildValidationContext(dittoHeaders, thingDefinition);
         return provideValidationConfigIfWotValidationEnabled(context)
                 .map(validationConfig -> fetchResolveAndValidateWith(thingDefinition, dittoHeaders, thingModel ->
                         doValidateMergeThing(Optional.ofNullable(thingDefinition).orElseThrow(),
-                                thingModel, mergeThing, thing, context, validationConfig
+                                thingModel, mergeThing, previousThing, thing, context, validationConfig
                         ).handleAsync(
                                 applyLogingErrorOnlyStrategy(validationConfig, context, "validateMergeThing"),
                                 executor
@@ -224,11 +239,12 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
         final ValidationContext context = buildValidationContext(dittoHeaders, thingDefinition);
         return provideValidationConfigIfWotValidationEnabled(context)
                 .map(validationConfig ->
-                        doValidateMergeThing(thingDefinition, thingModel, mergeThing, thing, context, validationConfig)
-                                .handleAsync(
-                                        applyLogingErrorOnlyStrategy(validationConfig, context, "validateMergeThing"),
-                                        executor
-                                )
+                        doValidateMergeThing(thingDefinition, thingModel, mergeThing, null, thing, context,
+                                validationConfig
+                        ).handleAsync(
+                                applyLogingErrorOnlyStrategy(validationConfig, context, "validateMergeThing"),
+                                executor
+                        )
                 )
                 .orElseGet(DefaultWotThingModelValidator::success);
     }
@@ -903,6 +919,7 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
     private CompletionStage<Void> doValidateMergeThing(final ThingDefinition thingDefinition,
             final ThingModel thingModel,
             final MergeThing mergeThing,
+            @Nullable final Thing previousThing,
             final Thing thing,
             final ValidationContext context,
             final TmValidationConfig validationConfig
@@ -928,9 +945,10 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
                 firstStage = success();
             }
             return firstStage.thenComposeAsync(unused ->
-                            mergeThingContext.containsAttributes().get() ? doValidateThingAttributes(thingModel,
-                                    thing.getAttributes().orElse(null),
-                                    Thing.JsonFields.ATTRIBUTES.getPointer(),
+                            mergeThingContext.containsAttributes().get() ? doValidateMergeThingAttributes(thingModel,
+                                    previousThing,
+                                    thing,
+                                    affectedLeaves,
                                     context,
                                     validationConfig
                             ) : CompletableFuture.completedStage(null),
@@ -939,7 +957,10 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
                             mergeThingContext.containsFeatures().get() ?
                                     thingModelResolver.resolveThingModelSubmodels(thingModel, context.dittoHeaders())
                                             .thenComposeAsync(subModels ->
-                                                            doValidateMergeThingAffectedFeatures(thing, context,
+                                                            doValidateMergeThingAffectedFeatures(previousThing,
+                                                                    thing,
+                                                                    affectedLeaves,
+                                                                    context,
                                                                     validationConfig,
                                                                     subModels,
                                                                     mergeThingContext.affectedFeatures()
@@ -981,7 +1002,142 @@ public final class DefaultWotThingModelValidator implements WotThingModelValidat
 
     private record MergeThingContext(Set<String> affectedFeatures, AtomicBoolean containsAttributes, AtomicBoolean containsFeatures) {}
 
-    private CompletionStage<Void> doValidateMergeThingAffectedFeatures(final Thing thing,
+    private CompletionStage<Void> doValidateMergeThingAttributes(final ThingModel thingModel,
+            @Nullable final Thing previousThing,
+            final Thing thing,
+            final Set<JsonPointer> affectedLeaves,
+            final ValidationContext context,
+            final TmValidationConfig validationConfig
+    ) {
+        final JsonPointer attributesPointer = Thing.JsonFields.ATTRIBUTES.getPointer();
+        final Set<JsonPointer> attributesLeaves = affectedLeaves.stream()
+                .filter(leaf -> leaf.getPrefixPointer(1).filter(attributesPointer::equals).isPresent())
+                .collect(Collectors.toSet());
+        final Optional<JsonObject> modifiedAttributes = determineModifiedProperties(attributesLeaves,
+                attributesPointer,
+                Optional.ofNullable(previousThing).flatMap(Thing::getAttributes).orElse(null),
+                thing.getAttributes().orElse(null)
+        );
+        if (modifiedAttributes.isPresent()) {
+            final WotThingModelValidation selectedValidation = selectValidation(validationConfig);
+            return CompletableFuture.allOf(modifiedAttributes.get().stream()
+                    .map(attribute -> selectedValidation.validateThingAttribute(thingModel,
+                            attribute.getKey().asPointer(),
+                            attribute.getValue(),
+                            attributesPointer.addLeaf(attribute.getKey()),
+                            context
+                    ))
+                    .map(CompletionStage::toCompletableFuture)
+                    .toArray(CompletableFuture[]::new)
+            );
+        }
+        return doValidateThingAttributes(thingModel,
+                thing.getAttributes().orElse(null),
+                attributesPointer,
+                context,
+                validationConfig
+        );
+    }
+
+    private CompletionStage<Void> doValidateMergeThingAffectedFeatures(@Nullable final Thing previousThing,
+            final Thing thing,
+            final Set<JsonPointer> affectedLeaves,
+            final ValidationContext context,
+            final TmValidationConfig validationConfig,
+            final Map<ThingSubmodel, ThingModel> subModels,
+            final Set<String> affectedFeatures
+    ) {
+        // features whose properties were only modified are validated property by property, all others completely
+        final Map<String, ThingModel> featureThingModels = reduceSubmodelMapKeyToFeatureId(subModels);
+        final WotThingModelValidation selectedValidation = selectValidation(validationConfig);
+        final Set<String> completelyValidatedFeatures = new HashSet<>();
+        final List<CompletableFuture<Void>> propertyValidations = new ArrayList<>();
+        for (final String featureId : affectedFeatures) {
+            @Nullable final ThingModel featureThingModel = featureThingModels.get(featureId);
+            final Optional<JsonObject> modifiedProperties = null != featureThingModel ?
+                    determineModifiedFeatureProperties(previousThing, thing, featureId, affectedLeaves) :
+                    Optional.empty();
+            if (modifiedProperties.isPresent()) {
+                final JsonPointer propertiesPointer = Thing.JsonFields.FEATURES.getPointer()
+                        .addLeaf(JsonKey.of(featureId))
+                        .append(Feature.JsonFields.PROPERTIES.getPointer());
+                modifiedProperties.get().forEach(property -> propertyValidations.add(
+                        selectedValidation.validateFeatureProperty(featureThingModel,
+                                featureId,
+                                property.getKey().asPointer(),
+                                property.getValue(),
+                                false,
+                                propertiesPointer.addLeaf(property.getKey()),
+                                context
+                        ).toCompletableFuture()
+                ));
+            } else {
+                completelyValidatedFeatures.add(featureId);
+            }
+        }
+
+        return CompletableFuture.allOf(propertyValidations.toArray(CompletableFuture[]::new))
+                .thenComposeAsync(aVoid -> completelyValidatedFeatures.isEmpty() ?
+                        CompletableFuture.completedStage(null) :
+                        doValidateMergeThingFeatures(thing, context, validationConfig, subModels,
+                                completelyValidatedFeatures), executor);
+    }
+
+    private static Optional<JsonObject> determineModifiedFeatureProperties(@Nullable final Thing previousThing,
+            final Thing thing,
+            final String featureId,
+            final Set<JsonPointer> affectedLeaves
+    ) {
+        final Optional<Feature> previousFeature = Optional.ofNullable(previousThing)
+                .flatMap(Thing::getFeatures)
+                .flatMap(features -> features.getFeature(featureId));
+        final Optional<Feature> feature = thing.getFeatures().flatMap(features -> features.getFeature(featureId));
+        if (previousFeature.isEmpty() || feature.isEmpty() ||
+                !previousFeature.get().getDefinition().equals(feature.get().getDefinition())) {
+            return Optional.empty();
+        }
+        final JsonPointer featurePointer = Thing.JsonFields.FEATURES.getPointer().addLeaf(JsonKey.of(featureId));
+        final Set<JsonPointer> featureLeaves = affectedLeaves.stream()
+                .filter(leaf -> leaf.getPrefixPointer(2).filter(featurePointer::equals).isPresent())
+                .collect(Collectors.toSet());
+        return determineModifiedProperties(featureLeaves,
+                featurePointer.append(Feature.JsonFields.PROPERTIES.getPointer()),
+                previousFeature.get().getProperties().orElse(null),
+                feature.get().getProperties().orElse(null)
+        );
+    }
+
+    /*
+     * Determines the top level properties of the container which were modified or added by the merge, if all merged
+     * leaves are below such properties. Otherwise, e.g. if properties were deleted or the container was replaced, an
+     * empty optional is returned and the whole container has to be validated.
+     */
+    private static Optional<JsonObject> determineModifiedProperties(final Set<JsonPointer> leaves,
+            final JsonPointer containerPointer,
+            @Nullable final JsonObject previousContainer,
+            @Nullable final JsonObject container
+    ) {
+        if (null == previousContainer || null == container || leaves.isEmpty()) {
+            return Optional.empty();
+        }
+        final int containerLevelCount = containerPointer.getLevelCount();
+        final JsonObjectBuilder modifiedProperties = JsonObject.newBuilder();
+        for (final JsonPointer leaf : leaves) {
+            if (leaf.getLevelCount() <= containerLevelCount ||
+                    leaf.getPrefixPointer(containerLevelCount).filter(containerPointer::equals).isEmpty()) {
+                return Optional.empty();
+            }
+            final JsonKey propertyKey = leaf.get(containerLevelCount).orElseThrow();
+            final Optional<JsonValue> propertyValue = container.getValue(propertyKey);
+            if (propertyValue.isEmpty()) {
+                return Optional.empty();
+            }
+            modifiedProperties.set(propertyKey, propertyValue.get());
+        }
+        return Optional.of(modifiedProperties.build());
+    }
+
+    private CompletionStage<Void> doValidateMergeThingFeatures(final Thing thing,
             final ValidationContext context,
             final TmValidationConfig validationConfig,
             final Map<ThingSubmodel, ThingModel> subModels,
@@ -120,6 +120,32 @@ public interface WotThingModelValidator {
             DittoHeaders dittoHeaders
     );
 
+    /**
+     * Validates the provided {@code thing} against the provided {@code thingDefinition} (if this links to a WoT TM)
+     * specifically for a {@code MergeThing} command.
+     * Knowing the {@code previousThing} the merge was applied to, implementations may only validate the attributes and
+     * feature properties modified by the merge against their schemas instead of the whole affected features.
+     *
+     * @param thingDefinition the ThingDefinition to retrieve the WoT TM from
+     * @param mergeThing the MergeThing command to validate
+     * @param previousThing the Thing before applying the MergeThing command, if known
+     * @param thing the Thing to validate
+     * @param resourcePath the originating path of the command which caused validation
+     * @param dittoHeaders the DittoHeaders to use in order to build a potential exception
+     * @return a CompletionStage finished successfully with {@code null} or finished exceptionally in case of a
+     * validation error - exceptionally finished with a {@link org.eclipse.ditto.wot.validation.WotThingModelPayloadValidationException}
+     * @since 3.10.0
+     */
+    default CompletionStage<Void> validateMergeThing(@Nullable ThingDefinition thingDefinition,
+            MergeThing mergeThing,
+            @Nullable Thing previousThing,
+            Thing thing,
+            JsonPointer resourcePath,
+            DittoHeaders dittoHeaders
+    ) {
+        return validateMergeThing(thingDefinition, mergeThing, thing, resourcePath, dittoHeaders);
+    }
+
     /**
      * Validates the provided {@code thing} against the provided {@code thingModel} specifically for a
      * {@code MergeThing} command.
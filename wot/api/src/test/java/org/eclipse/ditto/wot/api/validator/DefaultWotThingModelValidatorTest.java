@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.api.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Attributes;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.FeatureDefinition;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingDefinition;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
+import org.eclipse.ditto.wot.api.resolver.ThingSubmodel;
+import org.eclipse.ditto.wot.api.resolver.WotThingModelResolver;
+import org.eclipse.ditto.wot.model.AtContext;
+import org.eclipse.ditto.wot.model.IRI;
+import org.eclipse.ditto.wot.model.Properties;
+import org.eclipse.ditto.wot.model.Property;
+import org.eclipse.ditto.wot.model.SingleDataSchema;
+import org.eclipse.ditto.wot.model.ThingModel;
+import org.eclipse.ditto.wot.model.TmOptional;
+import org.eclipse.ditto.wot.model.TmOptionalElement;
+import org.eclipse.ditto.wot.validation.WotThingModelPayloadValidationException;
+import org.eclipse.ditto.wot.validation.config.FeatureValidationConfig;
+import org.eclipse.ditto.wot.validation.config.ThingValidationConfig;
+import org.eclipse.ditto.wot.validation.config.TmValidationConfig;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@code MergeThing} validation of {@link DefaultWotThingModelValidator}, checking that validating
+ * only the properties modified by a merge gives the same result as validating the whole affected attributes and
+ * features.
+ */
+public final class DefaultWotThingModelValidatorTest {
+
+    private static final Executor SAME_THREAD_EXECUTOR = Runnable::run;
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:merge-validation");
+    private static final String FEATURE_ID = "sensor";
+    private static final String THING_MODEL_URL = "https://models.example.org/thing-1.0.0.tm.jsonld";
+    private static final String FEATURE_MODEL_URL = "https://models.example.org/sensor-1.0.0.tm.jsonld";
+
+    private static final String PROP_SOME_INT = "someInt";
+    private static final String PROP_SOME_ARRAY_STRINGS = "someArray_strings";
+    private static final String PROP_SOME_OBJECT = "someObject";
+
+    private static final Properties KNOWN_PROPERTIES = Properties.from(List.of(
+            Property.newBuilder(PROP_SOME_INT)
+                    .setSchema(SingleDataSchema.newIntegerSchemaBuilder().build())
+                    .build(),
+            Property.newBuilder(PROP_SOME_ARRAY_STRINGS)
+                    .setSchema(SingleDataSchema.newArraySchemaBuilder()
+                            .setItems(SingleDataSchema.newStringSchemaBuilder().build())
+                            .build())
+                    .build(),
+            Property.newBuilder(PROP_SOME_OBJECT)
+                    .setSchema(SingleDataSchema.newObjectSchemaBuilder()
+                            .setProperties(Map.of(
+                                    "a", SingleDataSchema.newIntegerSchemaBuilder().build(),
+                                    "nested", SingleDataSchema.newObjectSchemaBuilder()
+                                            .setProperties(Map.of(
+                                                    "flag", SingleDataSchema.newBooleanSchemaBuilder().build()
+                                            ))
+                                            .build()
+                            ))
+                            .setRequired(List.of("a"))
+                            .enhanceObjectBuilder(builder -> builder.set("additionalProperties", false))
+                            .build())
+                    .build()
+    ));
+
+    private static final TmOptional KNOWN_TM_OPTIONAL = TmOptional.of(List.of(
+            TmOptionalElement.of("/properties/" + PROP_SOME_ARRAY_STRINGS)
+    ));
+
+    private static final ThingModel THING_LEVEL_TM = ThingModel.newBuilder()
+            .setAtContext(AtContext.newSingleUriAtContext("foo"))
+            .setProperties(KNOWN_PROPERTIES)
+            .setTmOptional(KNOWN_TM_OPTIONAL)
+            .build();
+
+    private static final ThingModel FEATURE_LEVEL_TM = ThingModel.newBuilder()
+            .setAtContext(AtContext.newSingleUriAtContext("foo"))
+            .setProperties(KNOWN_PROPERTIES)
+            .setTmOptional(KNOWN_TM_OPTIONAL)
+            .build();
+
+    private static final JsonObject KNOWN_PROPERTY_VALUES = JsonObject.newBuilder()
+            .set(PROP_SOME_INT, 42)
+            .set(PROP_SOME_OBJECT, JsonObject.of("{\"a\":1,\"nested\":{\"flag\":true}}"))
+            .build();
+
+    private static final ThingDefinition THING_DEFINITION = ThingsModelFactory.newDefinition(THING_MODEL_URL);
+
+    private static final Thing PREVIOUS_THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setDefinition(THING_DEFINITION)
+            .setAttributes(Attributes.newBuilder().setAll(KNOWN_PROPERTY_VALUES).build())
+            .setFeature(Feature.newBuilder()
+                    .definition(FeatureDefinition.fromIdentifier(FEATURE_MODEL_URL))
+                    .properties(KNOWN_PROPERTY_VALUES)
+                    .withId(FEATURE_ID)
+                    .build())
+            .build();
+
+    private DefaultWotThingModelValidator underTest;
+
+    @Before
+    public void setUp() {
+        final ThingValidationConfig thingValidationConfig = mock(ThingValidationConfig.class);
+        when(thingValidationConfig.isEnforceAttributes()).thenReturn(true);
+        when(thingValidationConfig.isForbidNonModeledAttributes()).thenReturn(true);
+
+        final FeatureValidationConfig featureValidationConfig = mock(FeatureValidationConfig.class);
+        when(featureValidationConfig.isEnforcePresenceOfModeledFeatures()).thenReturn(true);
+        when(featureValidationConfig.isForbidNonModeledFeatures()).thenReturn(true);
+        when(featureValidationConfig.isEnforceProperties()).thenReturn(true);
+        when(featureValidationConfig.isForbidNonModeledProperties()).thenReturn(true);
+
+        final TmValidationConfig validationConfig = mock(TmValidationConfig.class);
+        when(validationConfig.isEnabled()).thenReturn(true);
+        when(validationConfig.getThingValidationConfig()).thenReturn(thingValidationConfig);
+        when(validationConfig.getFeatureValidationConfig()).thenReturn(featureValidationConfig);
+        when(validationConfig.withValidationContext(any())).thenReturn(validationConfig);
+
+        final WotThingModelResolver thingModelResolver = mock(WotThingModelResolver.class);
+        when(thingModelResolver.resolveThingModel(any(URL.class), any(DittoHeaders.class)))
+                .thenReturn(CompletableFuture.completedFuture(THING_LEVEL_TM));
+        when(thingModelResolver.resolveThingModelSubmodels(any(ThingModel.class), any(DittoHeaders.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        Map.of(new ThingSubmodel(FEATURE_ID, IRI.of(FEATURE_MODEL_URL)), FEATURE_LEVEL_TM)));
+
+        underTest = new DefaultWotThingModelValidator(thingModelResolver, SAME_THREAD_EXECUTOR, validationConfig);
+    }
+
+    @Test
+    public void mergeModifyingAttributeSucceeds() {
+        checkMergeThing("/attributes/" + PROP_SOME_INT, JsonValue.of(43), false);
+    }
+
+    @Test
+    public void mergeModifyingAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_INT, JsonValue.of("no integer"), true);
+    }
+
+    @Test
+    public void mergeAddingOptionalAttributeSucceeds() {
+        checkMergeThing("/attributes/" + PROP_SOME_ARRAY_STRINGS, JsonArray.of("some", "strings"), false);
+    }
+
+    @Test
+    public void mergeAddingOptionalAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_ARRAY_STRINGS, JsonArray.of(1, 2), true);
+    }
+
+    @Test
+    public void mergeAddingNonModeledAttributeFails() {
+        checkMergeThing("/attributes/unknown", JsonValue.of(1), true);
+    }
+
+    @Test
+    public void mergeModifyingNestedAttributeSucceeds() {
+        checkMergeThing("", JsonObject.of("{\"attributes\":{\"someObject\":{\"nested\":{\"flag\":false}}}}"), false);
+    }
+
+    @Test
+    public void mergeModifyingNestedAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_OBJECT + "/nested/flag", JsonValue.of("no boolean"), true);
+    }
+
+    @Test
+    public void mergeAddingNonModeledNestedAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_OBJECT + "/unknown", JsonValue.of(1), true);
+    }
+
+    @Test
+    public void mergeDeletingOptionalAttributeSucceeds() {
+        final Thing previousThing = PREVIOUS_THING.setAttribute(JsonPointer.of(PROP_SOME_ARRAY_STRINGS),
+                JsonArray.of("some"));
+
+        checkMergeThing(previousThing, "/attributes/" + PROP_SOME_ARRAY_STRINGS, JsonValue.nullLiteral(), false);
+    }
+
+    @Test
+    public void mergeDeletingRequiredAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_INT, JsonValue.nullLiteral(), true);
+    }
+
+    @Test
+    public void mergeDeletingRequiredNestedAttributeFails() {
+        checkMergeThing("/attributes/" + PROP_SOME_OBJECT + "/a", JsonValue.nullLiteral(), true);
+    }
+
+    @Test
+    public void mergeModifyingFeaturePropertySucceeds() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_INT, JsonValue.of(43), false);
+    }
+
+    @Test
+    public void mergeModifyingFeaturePropertyFails() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_INT, JsonValue.of(4.2), true);
+    }
+
+    @Test
+    public void mergeModifyingFeaturePropertiesSucceeds() {
+        checkMergeThing("/features/" + FEATURE_ID, JsonObject.of(
+                "{\"properties\":{\"someInt\":1,\"someArray_strings\":[\"a\"],\"someObject\":{\"a\":2}}}"), false);
+    }
+
+    @Test
+    public void mergeModifyingFeaturePropertiesFails() {
+        checkMergeThing("/features/" + FEATURE_ID, JsonObject.of(
+                "{\"properties\":{\"someInt\":1,\"someArray_strings\":[true]}}"), true);
+    }
+
+    @Test
+    public void mergeAddingNonModeledFeaturePropertyFails() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/unknown", JsonValue.of(1), true);
+    }
+
+    @Test
+    public void mergeModifyingNestedFeaturePropertySucceeds() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_OBJECT + "/nested",
+                JsonObject.of("{\"flag\":false}"), false);
+    }
+
+    @Test
+    public void mergeModifyingNestedFeaturePropertyFails() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_OBJECT + "/nested",
+                JsonObject.of("{\"flag\":1}"), true);
+    }
+
+    @Test
+    public void mergeDeletingRequiredNestedFeaturePropertyFails() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_OBJECT + "/a",
+                JsonValue.nullLiteral(), true);
+    }
+
+    @Test
+    public void mergeDeletingRequiredFeaturePropertyFails() {
+        checkMergeThing("/features/" + FEATURE_ID + "/properties/" + PROP_SOME_INT, JsonValue.nullLiteral(), true);
+    }
+
+    @Test
+    public void mergeDeletingModeledFeatureFails() {
+        checkMergeThing("/features/" + FEATURE_ID, JsonValue.nullLiteral(), true);
+    }
+
+    @Test
+    public void mergeModifyingAttributesAndFeaturePropertiesFailsIfOneIsInvalid() {
+        checkMergeThing("", JsonObject.of("{\"attributes\":{\"someInt\":1}," +
+                "\"features\":{\"sensor\":{\"properties\":{\"someObject\":{\"a\":\"no integer\"}}}}}"), true);
+        checkMergeThing("", JsonObject.of("{\"attributes\":{\"someInt\":\"no integer\"}," +
+                "\"features\":{\"sensor\":{\"properties\":{\"someObject\":{\"a\":3}}}}}"), true);
+        checkMergeThing("", JsonObject.of("{\"attributes\":{\"someInt\":1}," +
+                "\"features\":{\"sensor\":{\"properties\":{\"someObject\":{\"a\":3}}}}}"), false);
+    }
+
+    private void checkMergeThing(final String path, final JsonValue mergeValue, final boolean mustFail) {
+        checkMergeThing(PREVIOUS_THING, path, mergeValue, mustFail);
+    }
+
+    /*
+     * Validates the merge once with the previous thing, validating only the modified properties where possible, and
+     * once without it, validating the whole affected attributes and features; both must give the same result.
+     */
+    private void checkMergeThing(final Thing previousThing,
+            final String path,
+            final JsonValue mergeValue,
+            final boolean mustFail
+    ) {
+        final JsonPointer resourcePath = JsonPointer.of(path);
+        final MergeThing mergeThing = MergeThing.of(THING_ID, resourcePath, mergeValue, DittoHeaders.empty());
+        final Thing mergedThing = ThingsModelFactory.newThing(
+                JsonMergePatch.of(resourcePath, mergeValue).applyOn(previousThing.toJson()).asObject());
+
+        internalCheckFail(mustFail, underTest.validateMergeThing(THING_DEFINITION, mergeThing, previousThing,
+                mergedThing, resourcePath, DittoHeaders.empty()));
+        internalCheckFail(mustFail, underTest.validateMergeThing(THING_DEFINITION, mergeThing, (Thing) null,
+                mergedThing, resourcePath, DittoHeaders.empty()));
+    }
+
+    private static void internalCheckFail(final boolean mustFail, final CompletionStage<Void> stage) {
+        if (mustFail) {
+            assertThat(stage)
+                    .isCompletedExceptionally()
+                    .failsWithin(50, TimeUnit.MILLISECONDS)
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(WotThingModelPayloadValidationException.class);
+        } else {
+            assertThat(stage).isNotCompletedExceptionally().succeedsWithin(150, TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
@@ -485,50 +485,21 @@ final class InternalValidation {
     ) {
         return findPropertyBasedOnPath(thingModel, tdProperties, propertyPath, handleDittoCategory, dittoCategories)
                 .map(propertyWithCategory -> {
-                    final JsonValue valueToValidate;
-                    if (propertyPath.getLevelCount() > 1) {
-                        final int level;
-                        if (handleDittoCategory && propertyWithCategory.category() != null) {
-                            level = 2;
-                        } else {
-                            level = 1;
-                        }
-                        if (propertyPath.getLevelCount() > level) {
-                            valueToValidate = JsonObject.newBuilder()
-                                    .set(propertyPath.getSubPointer(level).orElseThrow(), propertyValue)
-                                    .build();
-                        } else {
-                            valueToValidate = propertyValue;
-                        }
+                    // the value is validated against the sub-schema of its path, without wrapping it into its parents
+                    final JsonPointer thePropertyPath;
+                    if (handleDittoCategory && propertyWithCategory.category() != null) {
+                        thePropertyPath = propertyPath.getSubPointer(1).orElse(propertyPath);
                     } else {
-                        valueToValidate = propertyValue;
-                    }
-
-                    if (handleDittoCategory) {
-                        final Optional<String> dittoCategory = Optional.ofNullable(propertyWithCategory.category());
-                        final JsonPointer thePropertyPath = dittoCategory
-                                .flatMap(cat -> propertyPath.getSubPointer(1))
-                                .orElse(propertyPath);
-                        return validateSingleDataSchema(
-                                propertyWithCategory.property(),
-                                propertyDescription,
-                                thePropertyPath,
-                                validateRequiredObjectFields,
-                                valueToValidate,
-                                resourcePath,
-                                context
-                        );
-                    } else {
-                        return validateSingleDataSchema(
-                                propertyWithCategory.property(),
-                                propertyDescription,
-                                propertyPath,
-                                validateRequiredObjectFields,
-                                valueToValidate,
-                                resourcePath,
-                                context
-                        );
+                        thePropertyPath = propertyPath;
                     }
+                    final OutputUnit validationOutput = jsonSchemaTools.validateDittoJsonAtPointerBasedOnDataSchema(
+                            propertyWithCategory.property(),
+                            thePropertyPath,
+                            validateRequiredObjectFields,
+                            propertyValue,
+                            context.dittoHeaders()
+                    );
+                    return toValidationResult(validationOutput, propertyDescription, resourcePath, context);
                 }).orElseGet(InternalValidation::success);
     }
 
@@ -619,7 +590,14 @@ final class InternalValidation {
                 jsonValue,
                 context.dittoHeaders()
         );
+        return toValidationResult(validationOutput, validatedDescription, resourcePath, context);
+    }
 
+    private static CompletableFuture<Void> toValidationResult(final OutputUnit validationOutput,
+            final String validatedDescription,
+            final JsonPointer resourcePath,
+            final ValidationContext context
+    ) {
         if (!validationOutput.isValid()) {
             final var exceptionBuilder = WotThingModelPayloadValidationException
                     .newBuilder("The " + validatedDescription + " contained validation errors, " +
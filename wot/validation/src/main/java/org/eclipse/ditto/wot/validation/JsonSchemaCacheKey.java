@@ -12,12 +12,28 @@
  */
 package org.eclipse.ditto.wot.validation;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.wot.model.SingleDataSchema;
 
 /**
  * Provides a cache key for caching {@link SingleDataSchema} to JsonSchema instances.
  * @param dataSchema
  * @param validateRequiredObjectFields
+ * @param subSchemaPath the path of the nested property whose sub-schema is cached, empty for the whole schema
+ * (since 3.10.0).
  * @since 3.8.0
  */
-public record JsonSchemaCacheKey(SingleDataSchema dataSchema, boolean validateRequiredObjectFields) {}
+public record JsonSchemaCacheKey(SingleDataSchema dataSchema, boolean validateRequiredObjectFields,
+                                 JsonPointer subSchemaPath) {
+
+    /**
+     * Creates a cache key for the whole schema of the given data schema.
+     *
+     * @param dataSchema the data schema.
+     * @param validateRequiredObjectFields whether "required" fields of objects are validated.
+     */
+    public JsonSchemaCacheKey(final SingleDataSchema dataSchema, final boolean validateRequiredObjectFields) {
+        this(dataSchema, validateRequiredObjectFields, JsonPointer.empty());
+    }
+
+}
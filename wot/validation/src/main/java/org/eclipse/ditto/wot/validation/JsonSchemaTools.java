@@ -12,22 +12,20 @@
  */
 package org.eclipse.ditto.wot.validation;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.internal.utils.cache.Cache;
-import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
-import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -35,18 +33,12 @@ import org.eclipse.ditto.wot.model.ArraySchema;
 import org.eclipse.ditto.wot.model.DataSchemaType;
 import org.eclipse.ditto.wot.model.ObjectSchema;
 import org.eclipse.ditto.wot.model.SingleDataSchema;
-import org.eclipse.ditto.wot.model.WotInternalErrorException;
 
-import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
-import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.networknt.schema.OutputFormat;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SchemaRegistryConfig;
-import com.networknt.schema.SpecificationVersion;
 import com.networknt.schema.dialect.Dialect;
 import com.networknt.schema.dialect.Draft7;
 import com.networknt.schema.keyword.NonValidationKeyword;
@@ -56,22 +48,28 @@ import com.networknt.schema.path.PathType;
 
 /**
  * Contains tools around the used JsonSchema library and validating Ditto JSON, including mapping to Jackson.
+ * <p>
+ * Validated Ditto JSON is not copied but adapted by {@link JsonValueNodes}. Sub-schemas of nested properties are
+ * resolved once and cached next to the schemas of the properties, so validating a modified nested property only
+ * validates its value against the sub-schema.
+ * </p>
  */
 final class JsonSchemaTools {
 
-
     private static final String PROPERTIES = "properties";
 
-    private final CborFactory cborFactory;
-    private final ObjectMapper jacksonCborMapper;
+    private static final Dialect DIALECT = Dialect.builder(Draft7.getInstance())
+            .keyword(new NonValidationKeyword("@type"))
+            .keyword(new NonValidationKeyword("unit"))
+            .keyword(new NonValidationKeyword("ditto:category"))
+            .keyword(new NonValidationKeyword("ditto:deprecationNotice"))
+            .build();
+
     private final SchemaRegistryConfig schemaRegistryConfig;
     @Nullable
     private final Cache<JsonSchemaCacheKey, Schema> jsonSchemaCache;
 
     JsonSchemaTools(@Nullable final Cache<JsonSchemaCacheKey, Schema> jsonSchemaCache) {
-        final var cborFactoryLoader = CborFactoryLoader.getInstance();
-        cborFactory = cborFactoryLoader.getCborFactoryOrThrow();
-        jacksonCborMapper = new CBORMapper();
         schemaRegistryConfig = SchemaRegistryConfig.builder()
                 .pathType(PathType.JSON_POINTER)
                 .build();
@@ -82,36 +80,15 @@ final class JsonSchemaTools {
             final boolean validateRequiredObjectFields,
             final DittoHeaders dittoHeaders
     ) {
-        final JsonNode jsonNode;
-        try {
-            final JsonObject dataSchemaJson;
-            if (!validateRequiredObjectFields) {
-                dataSchemaJson = adjustDataSchemaRemovingRequiredObjectFields(dataSchema.toJson());
-            } else {
-                dataSchemaJson = dataSchema.toJson();
-            }
-            final ByteBufferBackedInputStream bbis = new ByteBufferBackedInputStream(cborFactory.toByteBuffer(dataSchemaJson));
-            jsonNode = jacksonCborMapper.reader().readTree(bbis);
-        } catch (final JsonParseException e) {
-            throw DittoRuntimeException.asDittoRuntimeException(e, t -> WotInternalErrorException.newBuilder()
-                            .message("Error during parsing input JSON")
-                            .cause(t)
-                            .dittoHeaders(dittoHeaders)
-                            .build())
-                    .setDittoHeaders(dittoHeaders);
-        } catch (final IOException e) {
-            throw WotInternalErrorException.newBuilder()
-                    .cause(e)
-                    .dittoHeaders(dittoHeaders)
-                    .build();
+        final JsonObject dataSchemaJson;
+        if (!validateRequiredObjectFields) {
+            dataSchemaJson = adjustDataSchemaRemovingRequiredObjectFields(dataSchema.toJson());
+        } else {
+            dataSchemaJson = dataSchema.toJson();
         }
-        final Dialect dialect = Dialect.builder(Draft7.getInstance())
-                .keyword(new NonValidationKeyword("@type"))
-                .keyword(new NonValidationKeyword("unit"))
-                .keyword(new NonValidationKeyword("ditto:category"))
-                .keyword(new NonValidationKeyword("ditto:deprecationNotice"))
-                .build();
-        return SchemaRegistry.withDialect(dialect, builder ->
+        // the schema node is retained by the compiled schema, so it is copied instead of only being adapted
+        final JsonNode jsonNode = JsonValueNodes.of(dataSchemaJson).deepCopy();
+        return SchemaRegistry.withDialect(DIALECT, builder ->
                         builder.schemaRegistryConfig(schemaRegistryConfig)
                 )
                 .getSchema(jsonNode);
@@ -156,37 +133,81 @@ final class JsonSchemaTools {
         return dataSchemaJson;
     }
 
+    /**
+     * Validates the given JSON value against the data schema.
+     *
+     * @param dataSchema the data schema of a property, action or event.
+     * @param pointerPath the path of the validated value below the property; its first level is the property itself.
+     * @param validateRequiredObjectFields whether to validate "required" fields of objects.
+     * @param jsonValue the value of the property, containing the validated value at the sub-pointer of
+     * {@code pointerPath} if it has more than one level.
+     * @param dittoHeaders the headers of the validated command.
+     * @return the output of the validation.
+     */
     OutputUnit validateDittoJsonBasedOnDataSchema(final SingleDataSchema dataSchema,
             final JsonPointer pointerPath,
             final boolean validateRequiredObjectFields,
             @Nullable final JsonValue jsonValue,
             final DittoHeaders dittoHeaders
     ) {
-        final JsonSchemaCacheKey schemaCacheKey = new JsonSchemaCacheKey(dataSchema, validateRequiredObjectFields);
-        final Schema jsonSchema = Optional.ofNullable(jsonSchemaCache)
-                .flatMap(c -> c.getBlocking(schemaCacheKey))
-                .orElseGet(() -> {
-                    final Schema extractedSchema =
-                            extractFromSingleDataSchema(dataSchema, validateRequiredObjectFields, dittoHeaders);
-                    if (jsonSchemaCache != null) {
-                        jsonSchemaCache.put(schemaCacheKey, extractedSchema);
-                    }
-                    return extractedSchema;
-                });
+        final ResolvedSchema resolvedSchema =
+                resolveSchema(dataSchema, pointerPath, validateRequiredObjectFields, dittoHeaders);
+        return validateDittoJson(resolvedSchema.schema(), resolvedSchema.relativePropertyPath(),
+                descend(jsonValue, resolvedSchema.subSchemaPath()), dittoHeaders);
+    }
+
+    /**
+     * Validates the given JSON value at the given path below a property against the sub-schema of that path.
+     * Unlike {@link #validateDittoJsonBasedOnDataSchema(SingleDataSchema, JsonPointer, boolean, JsonValue,
+     * DittoHeaders)} the value is not expected to be wrapped into the objects leading to it.
+     *
+     * @param dataSchema the data schema of a property.
+     * @param pointerPath the path of the validated value; its first level is the property itself.
+     * @param validateRequiredObjectFields whether to validate "required" fields of objects.
+     * @param jsonValue the value at the path.
+     * @param dittoHeaders the headers of the validated command.
+     * @return the output of the validation.
+     */
+    OutputUnit validateDittoJsonAtPointerBasedOnDataSchema(final SingleDataSchema dataSchema,
+            final JsonPointer pointerPath,
+            final boolean validateRequiredObjectFields,
+            @Nullable final JsonValue jsonValue,
+            final DittoHeaders dittoHeaders
+    ) {
+        final ResolvedSchema resolvedSchema =
+                resolveSchema(dataSchema, pointerPath, validateRequiredObjectFields, dittoHeaders);
+        final JsonPointer subPointer = pointerPath.getSubPointer(1).orElseGet(JsonPointer::empty);
+        final JsonValue valueToValidate;
+        if (null == jsonValue || resolvedSchema.subSchemaPath().equals(subPointer)) {
+            valueToValidate = jsonValue;
+        } else {
+            // the schema does not describe the whole path, so the value is validated in the context of its parents
+            valueToValidate = descend(JsonObject.newBuilder().set(subPointer, jsonValue).build(),
+                    resolvedSchema.subSchemaPath());
+        }
+        return validateDittoJson(resolvedSchema.schema(), resolvedSchema.relativePropertyPath(), valueToValidate,
+                dittoHeaders);
+    }
+
+    private ResolvedSchema resolveSchema(final SingleDataSchema dataSchema,
+            final JsonPointer pointerPath,
+            final boolean validateRequiredObjectFields,
+            final DittoHeaders dittoHeaders
+    ) {
+        final Schema jsonSchema = getCachedSchema(new JsonSchemaCacheKey(dataSchema, validateRequiredObjectFields),
+                () -> extractFromSingleDataSchema(dataSchema, validateRequiredObjectFields, dittoHeaders));
 
         JsonPointer relativePropertyPath = JsonPointer.empty();
-        Schema effectiveSchema = jsonSchema;
-        JsonValue valueToValidate = jsonValue;
+        JsonPointer subSchemaPath = JsonPointer.empty();
         if (pointerPath.getLevelCount() > 1) {
             final JsonPointer subPointer = pointerPath.getSubPointer(1).orElseThrow();
             relativePropertyPath = subPointer;
-            NodePath nodePath = new NodePath(PathType.JSON_POINTER);
+            JsonNode currentSchemaNode = jsonSchema.getSchemaNode();
             for (int i = 0; i < subPointer.getLevelCount(); i++) {
                 // Descend into schema only if it is of type "object" and has the requested property.
                 // This is in line with Ditto's JSON pointer usage, which does not support direct array element access.
                 // Keys like "0", "1", etc. are treated as object keys if the schema says it's an object.
-                final String jsonKey = subPointer.get(i).orElseThrow().toString();
-                final JsonNode currentSchemaNode = effectiveSchema.getSchemaNode();
+                final JsonKey jsonKey = subPointer.get(i).orElseThrow();
                 final boolean isObjectSchema = Optional.ofNullable(currentSchemaNode.get("type"))
                         .map(JsonNode::asText)
                         .filter("object"::equals)
@@ -194,19 +215,58 @@ final class JsonSchemaTools {
 
                 if (isObjectSchema &&
                         currentSchemaNode.has(PROPERTIES) &&
-                        currentSchemaNode.get(PROPERTIES).has(jsonKey)) {
-                    nodePath = nodePath.append(PROPERTIES).append(jsonKey);
-                    effectiveSchema = effectiveSchema.getSubSchema(nodePath);
+                        currentSchemaNode.get(PROPERTIES).has(jsonKey.toString())) {
+                    currentSchemaNode = currentSchemaNode.get(PROPERTIES).get(jsonKey.toString());
+                    subSchemaPath = subSchemaPath.addLeaf(jsonKey);
                     relativePropertyPath = relativePropertyPath.getSubPointer(1).orElseThrow();
-                    valueToValidate = Optional.ofNullable(valueToValidate)
-                            .filter(JsonValue::isObject)
-                            .map(JsonValue::asObject)
-                            .flatMap(obj -> obj.getValue(jsonKey))
-                            .orElse(valueToValidate);
                 }
             }
         }
-        return validateDittoJson(effectiveSchema, relativePropertyPath, valueToValidate, dittoHeaders);
+
+        final Schema effectiveSchema;
+        if (subSchemaPath.isEmpty()) {
+            effectiveSchema = jsonSchema;
+        } else {
+            final JsonPointer theSubSchemaPath = subSchemaPath;
+            effectiveSchema = getCachedSchema(
+                    new JsonSchemaCacheKey(dataSchema, validateRequiredObjectFields, theSubSchemaPath),
+                    () -> jsonSchema.getSubSchema(toSchemaNodePath(theSubSchemaPath)));
+        }
+        return new ResolvedSchema(effectiveSchema, subSchemaPath, relativePropertyPath);
+    }
+
+    private Schema getCachedSchema(final JsonSchemaCacheKey schemaCacheKey, final Supplier<Schema> schemaSupplier) {
+        return Optional.ofNullable(jsonSchemaCache)
+                .flatMap(c -> c.getBlocking(schemaCacheKey))
+                .orElseGet(() -> {
+                    final Schema schema = schemaSupplier.get();
+                    if (jsonSchemaCache != null) {
+                        jsonSchemaCache.put(schemaCacheKey, schema);
+                    }
+                    return schema;
+                });
+    }
+
+    private static NodePath toSchemaNodePath(final JsonPointer subSchemaPath) {
+        NodePath nodePath = new NodePath(PathType.JSON_POINTER);
+        for (final JsonKey jsonKey : subSchemaPath) {
+            nodePath = nodePath.append(PROPERTIES).append(jsonKey.toString());
+        }
+        return nodePath;
+    }
+
+    @Nullable
+    private static JsonValue descend(@Nullable final JsonValue jsonValue, final JsonPointer subSchemaPath) {
+        JsonValue result = jsonValue;
+        for (final JsonKey jsonKey : subSchemaPath) {
+            final JsonValue currentValue = result;
+            result = Optional.ofNullable(currentValue)
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject)
+                    .flatMap(obj -> obj.getValue(jsonKey))
+                    .orElse(currentValue);
+        }
+        return result;
     }
 
     OutputUnit validateDittoJson(final Schema jsonSchema,
@@ -220,44 +280,32 @@ final class JsonSchemaTools {
                     .build();
         }
 
-        final JsonNode jsonNode;
-        try {
-            final ByteBufferBackedInputStream bbis = new ByteBufferBackedInputStream(cborFactory.toByteBuffer(jsonValue));
-            jsonNode = jacksonCborMapper.reader().readTree(bbis);
-        } catch (final JsonParseException e) {
-            throw DittoRuntimeException.asDittoRuntimeException(e, t -> WotInternalErrorException.newBuilder()
-                            .message("Error during parsing input JSON")
-                            .cause(t)
-                            .dittoHeaders(dittoHeaders)
-                            .build())
-                    .setDittoHeaders(dittoHeaders);
-        } catch (final IOException e) {
-            throw WotInternalErrorException.newBuilder()
-                    .cause(e)
-                    .dittoHeaders(dittoHeaders)
-                    .build();
-        }
-        final OutputUnit validate = jsonSchema.validate(jsonNode, OutputFormat.LIST);
-        if (!validate.isValid() && !validate.getDetails().isEmpty()) {
-            final List<OutputUnit> validationDetails = new ArrayList<>(validate.getDetails());
-            validate.getDetails().forEach(detail -> {
-                if (!relativePropertyPath.isEmpty()) {
-                    validationDetails.remove(detail);
-                    if (detail.getInstanceLocation().startsWith(relativePropertyPath.toString()) ||
-                        detail.getEvaluationPath().startsWith(
-                                StreamSupport.stream(relativePropertyPath.spliterator(), false)
-                                        .collect(Collectors.joining("/properties/", "/properties/", ""))
-                        )
-                    ) {
-                        final String adjustedInstanceLocation =
-                                detail.getInstanceLocation().replace(relativePropertyPath.toString(), "");
-                        detail.setInstanceLocation(adjustedInstanceLocation);
-                        validationDetails.add(detail);
-                    }
+        final OutputUnit validate = jsonSchema.validate(JsonValueNodes.of(jsonValue), OutputFormat.LIST);
+        if (!relativePropertyPath.isEmpty() && !validate.isValid() && !validate.getDetails().isEmpty()) {
+            final String relativeInstanceLocation = relativePropertyPath.toString();
+            final String relativeEvaluationPath = StreamSupport.stream(relativePropertyPath.spliterator(), false)
+                    .map(JsonKey::toString)
+                    .collect(Collectors.joining("/properties/", "/properties/", ""));
+            final List<OutputUnit> validationDetails = new ArrayList<>(validate.getDetails().size());
+            for (final OutputUnit detail : validate.getDetails()) {
+                if (detail.getInstanceLocation().startsWith(relativeInstanceLocation) ||
+                        detail.getEvaluationPath().startsWith(relativeEvaluationPath)) {
+                    detail.setInstanceLocation(detail.getInstanceLocation().replace(relativeInstanceLocation, ""));
+                    validationDetails.add(detail);
                 }
-            });
+            }
             validate.setDetails(validationDetails);
         }
         return validate;
     }
+
+    /**
+     * The schema validating a path below a property.
+     *
+     * @param schema the schema of the property or the sub-schema of {@code subSchemaPath}.
+     * @param subSchemaPath the path of the sub-schema below the property schema.
+     * @param relativePropertyPath the remaining path not described by the sub-schema.
+     */
+    private record ResolvedSchema(Schema schema, JsonPointer subSchemaPath, JsonPointer relativePropertyPath) {}
+
 }
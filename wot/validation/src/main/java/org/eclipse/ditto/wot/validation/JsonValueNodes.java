@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.validation;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Adapts Ditto {@link JsonValue}s to Jackson {@link JsonNode}s without copying them.
+ * <p>
+ * Objects and arrays are read-only views whose children are adapted when they are accessed, so validating a JSON
+ * value only adapts the parts of it the schema actually looks at. Numbers are adapted to the narrowest of
+ * {@code int}, {@code long} and {@code double} which holds them, as a number with a zero fractional part is an
+ * integer for JSON Schema anyway.
+ * </p>
+ */
+@Immutable
+final class JsonValueNodes {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JsonValueNodes() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns a Jackson view of the given JSON value.
+     *
+     * @param jsonValue the JSON value to adapt.
+     * @return the view; modifying it fails with an {@code UnsupportedOperationException}.
+     */
+    static JsonNode of(final JsonValue jsonValue) {
+        final JsonNode result;
+        if (jsonValue.isObject()) {
+            result = new ObjectNode(NODE_FACTORY, new ObjectChildren(jsonValue.asObject()));
+        } else if (jsonValue.isArray()) {
+            result = new ArrayNode(NODE_FACTORY, new ArrayChildren(jsonValue.asArray()));
+        } else if (jsonValue.isString()) {
+            result = TextNode.valueOf(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            result = ofNumber(jsonValue);
+        } else if (jsonValue.isBoolean()) {
+            result = BooleanNode.valueOf(jsonValue.asBoolean());
+        } else {
+            result = NullNode.getInstance();
+        }
+        return result;
+    }
+
+    private static JsonNode ofNumber(final JsonValue jsonNumber) {
+        if (jsonNumber.isInt()) {
+            return IntNode.valueOf(jsonNumber.asInt());
+        } else if (jsonNumber.isLong()) {
+            return LongNode.valueOf(jsonNumber.asLong());
+        } else {
+            return DoubleNode.valueOf(jsonNumber.asDouble());
+        }
+    }
+
+    /**
+     * The fields of a JSON object as the children of an {@code ObjectNode}.
+     */
+    private static final class ObjectChildren extends AbstractMap<String, JsonNode> {
+
+        private final JsonObject jsonObject;
+
+        private ObjectChildren(final JsonObject jsonObject) {
+            this.jsonObject = jsonObject;
+        }
+
+        @Nullable
+        @Override
+        public JsonNode get(final Object key) {
+            // look up a key, not a pointer, as keys may contain slashes; JSON objects never contain the empty key
+            if (key instanceof String keyName && !keyName.isEmpty()) {
+                return jsonObject.getValue(JsonKey.of(keyName)).map(JsonValueNodes::of).orElse(null);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String keyName && !keyName.isEmpty() && jsonObject.contains(JsonKey.of(keyName));
+        }
+
+        @Override
+        public int size() {
+            return jsonObject.getSize();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return jsonObject.isEmpty();
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    final Iterator<JsonField> fields = jsonObject.iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fields.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            final JsonField field = fields.next();
+                            return new SimpleImmutableEntry<>(field.getKeyName(), of(field.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return jsonObject.getSize();
+                }
+            };
+        }
+
+    }
+
+    /**
+     * The values of a JSON array as the children of an {@code ArrayNode}.
+     */
+    private static final class ArrayChildren extends AbstractList<JsonNode> {
+
+        private final JsonArray jsonArray;
+
+        private ArrayChildren(final JsonArray jsonArray) {
+            this.jsonArray = jsonArray;
+        }
+
+        @Override
+        public JsonNode get(final int index) {
+            return jsonArray.get(index).map(JsonValueNodes::of).orElseThrow(IndexOutOfBoundsException::new);
+        }
+
+        @Override
+        public int size() {
+            return jsonArray.getSize();
+        }
+
+    }
+
+}
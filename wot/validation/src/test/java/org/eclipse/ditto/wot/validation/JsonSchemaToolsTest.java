@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.wot.model.SingleDataSchema;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.OutputFormat;
+import com.networknt.schema.Schema;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for {@link JsonSchemaTools}, checking that validating a value at a path below a property gives the same
+ * result as validating the whole property value containing it.
+ */
+public final class JsonSchemaToolsTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final JsonPointer PROPERTY_PATH = JsonPointer.of("someObject");
+
+    private static final SingleDataSchema PROPERTY_SCHEMA = SingleDataSchema.newObjectSchemaBuilder()
+            .setProperties(Map.of(
+                    "a", SingleDataSchema.newObjectSchemaBuilder()
+                            .setProperties(Map.of(
+                                    "b", SingleDataSchema.newIntegerSchemaBuilder().build(),
+                                    "c", SingleDataSchema.newArraySchemaBuilder()
+                                            .setItems(SingleDataSchema.newObjectSchemaBuilder()
+                                                    .setProperties(Map.of(
+                                                            "n", SingleDataSchema.newIntegerSchemaBuilder().build()
+                                                    ))
+                                                    .build())
+                                            .build(),
+                                    "d", SingleDataSchema.newObjectSchemaBuilder()
+                                            .setProperties(Map.of(
+                                                    "e", SingleDataSchema.newBooleanSchemaBuilder().build()
+                                            ))
+                                            .setRequired(List.of("e"))
+                                            .build()
+                            ))
+                            .setRequired(List.of("b"))
+                            .enhanceObjectBuilder(builder -> builder.set("additionalProperties", false))
+                            .build(),
+                    "s", SingleDataSchema.newStringSchemaBuilder().build()
+            ))
+            .build();
+
+    private static final JsonObject VALID_PROPERTY_VALUE = JsonObject.of("""
+            {
+              "a": {
+                "b": 1,
+                "c": [{"n": 1}, {"n": 2}],
+                "d": {"e": true}
+              },
+              "s": "some"
+            }
+            """);
+
+    private JsonSchemaTools uncachedTools;
+    private JsonSchemaTools cachedTools;
+
+    @Before
+    public void setUp() {
+        uncachedTools = new JsonSchemaTools(null);
+        cachedTools = new JsonSchemaTools(CacheFactory.createCache(DefaultCacheConfig.of(
+                ConfigFactory.parseMap(Map.of("cache.maximum-size", "10")), "cache"), "json-schema-tools-test",
+                new CurrentThreadExecutor()));
+    }
+
+    @Test
+    public void validValuesAtPathsAreValidLikeTheWholeProperty() {
+        assertValidatesLikeWholeProperty("/a/b", JsonValue.of(42), true, false);
+        assertValidatesLikeWholeProperty("/a/c", JsonArray.of(JsonObject.of("{\"n\":3}")), true, false);
+        assertValidatesLikeWholeProperty("/a/c", JsonArray.empty(), true, false);
+        assertValidatesLikeWholeProperty("/a/d", JsonObject.of("{\"e\":false}"), true, false);
+        assertValidatesLikeWholeProperty("/a/d/e", JsonValue.of(false), true, false);
+        assertValidatesLikeWholeProperty("/a", JsonObject.of("{\"b\":3}"), true, false);
+        assertValidatesLikeWholeProperty("/s", JsonValue.of("other"), true, false);
+    }
+
+    @Test
+    public void invalidValuesAtPathsAreInvalidLikeTheWholeProperty() {
+        assertValidatesLikeWholeProperty("/a/b", JsonValue.of("no integer"), true, true);
+        assertValidatesLikeWholeProperty("/a/b", JsonValue.of(4.2), true, true);
+        assertValidatesLikeWholeProperty("/a/c", JsonArray.of(JsonObject.of("{\"n\":\"x\"}")), true, true);
+        assertValidatesLikeWholeProperty("/a/c", JsonObject.of("{\"n\":1}"), true, true);
+        assertValidatesLikeWholeProperty("/a/d", JsonObject.of("{\"e\":1}"), true, true);
+        assertValidatesLikeWholeProperty("/a/d/e", JsonValue.of("no boolean"), true, true);
+        assertValidatesLikeWholeProperty("/s", JsonValue.of(1), true, true);
+    }
+
+    @Test
+    public void missingRequiredFieldsAreOnlyInvalidIfRequiredFieldsAreValidated() {
+        assertValidatesLikeWholeProperty("/a/d", JsonObject.empty(), true, true);
+        assertValidatesLikeWholeProperty("/a/d", JsonObject.empty(), false, false);
+        assertValidatesLikeWholeProperty("/a", JsonObject.of("{\"d\":{\"e\":true}}"), true, true);
+        assertValidatesLikeWholeProperty("/a", JsonObject.of("{\"d\":{\"e\":true}}"), false, false);
+    }
+
+    @Test
+    public void nullValuesAtPathsAreInvalidLikeTheWholeProperty() {
+        assertValidatesLikeWholeProperty("/a/b", JsonValue.nullLiteral(), true, true);
+        assertValidatesLikeWholeProperty("/a/d", JsonValue.nullLiteral(), false, true);
+        assertValidatesLikeWholeProperty("/s", JsonValue.nullLiteral(), false, true);
+    }
+
+    @Test
+    public void valuesAtPathsNotDescribedBySchemaAreValidatedInTheirParents() {
+        assertValidatesLikeWholeProperty("/a/d/other", JsonValue.of(5), false, false);
+        assertValidatesLikeWholeProperty("/a/d/other/deeper", JsonValue.of("x"), false, false);
+        assertValidatesLikeWholeProperty("/a/unknown", JsonValue.of(5), false, true);
+        assertValidatesLikeWholeProperty("/a/unknown/deeper", JsonObject.empty(), false, true);
+    }
+
+    @Test
+    public void adaptedValuesValidateLikeParsedValues() throws JsonProcessingException {
+        assertValidatesLikeParsedValue(PROPERTY_SCHEMA, VALID_PROPERTY_VALUE);
+        assertValidatesLikeParsedValue(PROPERTY_SCHEMA, VALID_PROPERTY_VALUE.setValue(JsonPointer.of("/a/b"), "x"));
+        assertValidatesLikeParsedValue(PROPERTY_SCHEMA,
+                VALID_PROPERTY_VALUE.setValue(JsonPointer.of("/a/c"), JsonArray.of(JsonObject.of("{\"n\":4.2}"))));
+        assertValidatesLikeParsedValue(PROPERTY_SCHEMA, VALID_PROPERTY_VALUE.remove(JsonPointer.of("/a/b")));
+        assertValidatesLikeParsedValue(PROPERTY_SCHEMA, JsonArray.of(1, 2));
+    }
+
+    @Test
+    public void requiredEmptyKeyIsReportedAsMissing() throws JsonProcessingException {
+        final SingleDataSchema schemaRequiringEmptyKey = SingleDataSchema.newObjectSchemaBuilder()
+                .setRequired(List.of(""))
+                .build();
+
+        assertThat(uncachedTools.validateDittoJsonBasedOnDataSchema(schemaRequiringEmptyKey, PROPERTY_PATH, true,
+                VALID_PROPERTY_VALUE, DittoHeaders.empty()).isValid()).isFalse();
+        assertValidatesLikeParsedValue(schemaRequiringEmptyKey, VALID_PROPERTY_VALUE);
+    }
+
+    private void assertValidatesLikeWholeProperty(final String subPath,
+            final JsonValue valueAtPath,
+            final boolean validateRequiredObjectFields,
+            final boolean mustBeInvalid
+    ) {
+        final JsonPointer subPointer = JsonPointer.of(subPath);
+        final JsonPointer pointerPath = PROPERTY_PATH.append(subPointer);
+        final JsonObject wholePropertyValue = VALID_PROPERTY_VALUE.setValue(subPointer, valueAtPath);
+
+        for (final JsonSchemaTools tools : List.of(uncachedTools, cachedTools, cachedTools)) {
+            final boolean wholePropertyValid = tools.validateDittoJsonBasedOnDataSchema(PROPERTY_SCHEMA,
+                    PROPERTY_PATH, validateRequiredObjectFields, wholePropertyValue, DittoHeaders.empty()).isValid();
+            final boolean wrappedValueValid = tools.validateDittoJsonBasedOnDataSchema(PROPERTY_SCHEMA,
+                    pointerPath, validateRequiredObjectFields, wholePropertyValue, DittoHeaders.empty()).isValid();
+            final boolean valueAtPointerValid = tools.validateDittoJsonAtPointerBasedOnDataSchema(PROPERTY_SCHEMA,
+                    pointerPath, validateRequiredObjectFields, valueAtPath, DittoHeaders.empty()).isValid();
+
+            assertThat(wholePropertyValid).as("whole property valid for %s", subPath).isEqualTo(!mustBeInvalid);
+            assertThat(wrappedValueValid).as("wrapped value valid for %s", subPath).isEqualTo(!mustBeInvalid);
+            assertThat(valueAtPointerValid).as("value at pointer valid for %s", subPath).isEqualTo(!mustBeInvalid);
+        }
+    }
+
+    private void assertValidatesLikeParsedValue(final SingleDataSchema dataSchema, final JsonValue jsonValue)
+            throws JsonProcessingException {
+        final Schema schema = uncachedTools.extractFromSingleDataSchema(dataSchema, true, DittoHeaders.empty());
+
+        final boolean adaptedValid =
+                uncachedTools.validateDittoJson(schema, JsonPointer.empty(), jsonValue, DittoHeaders.empty())
+                        .isValid();
+        final boolean parsedValid =
+                schema.validate(OBJECT_MAPPER.readTree(jsonValue.toString()), OutputFormat.LIST).isValid();
+
+        assertThat(adaptedValid).as("adapted %s valid", jsonValue).isEqualTo(parsedValid);
+    }
+
+}
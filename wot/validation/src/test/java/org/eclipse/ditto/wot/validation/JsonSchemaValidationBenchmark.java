@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.validation;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.wot.model.SingleDataSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.networknt.schema.OutputFormat;
+import com.networknt.schema.Schema;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH micro-benchmark of validating a feature property against its WoT data schema.
+ * <p>
+ * It compares copying the property value into a Jackson tree via CBOR, as done before {@link JsonValueNodes}, with
+ * validating the adapted value, and validating the whole property after a modification of one nested value with
+ * validating only the modified value against its cached sub-schema, as done for {@code ModifyFeatureProperty} and
+ * {@code MergeThing} commands.
+ * </p>
+ *
+ * <h2>How to run</h2>
+ * <pre>
+ * mvn test-compile -pl wot/validation -am -Djapicmp.skip=true
+ * java -cp "$(mvn -pl wot/validation dependency:build-classpath -Dmdep.outputFile=/dev/stdout -q):wot/validation/target/classes:wot/validation/target/test-classes" \
+ *      org.eclipse.ditto.wot.validation.JsonSchemaValidationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class JsonSchemaValidationBenchmark {
+
+    private static final int SETPOINTS = 20;
+    private static final int HISTORY_SIZE = 100;
+    private static final JsonPointer PROPERTY_PATH = JsonPointer.of("/status");
+    private static final JsonPointer MODIFIED_PATH = JsonPointer.of("/status/temperature/value");
+
+    private CborFactory cborFactory;
+    private ObjectMapper jacksonCborMapper;
+    private JsonSchemaTools jsonSchemaTools;
+    private SingleDataSchema dataSchema;
+    private Schema schema;
+    private JsonObject propertyValue;
+    private JsonValue modifiedValue;
+    private JsonObject modifiedPropertyValue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cborFactory = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+        jacksonCborMapper = new CBORMapper();
+        final Cache<JsonSchemaCacheKey, Schema> jsonSchemaCache = CacheFactory.createCache(
+                DefaultCacheConfig.of(ConfigFactory.empty(), "json-schema-cache"), null, Runnable::run);
+        jsonSchemaTools = new JsonSchemaTools(jsonSchemaCache);
+
+        final JsonObject numberSchema = JsonObject.newBuilder()
+                .set("type", "number")
+                .set("minimum", -40)
+                .set("maximum", 120)
+                .build();
+        final JsonObjectBuilder properties = JsonObject.newBuilder()
+                .set("temperature", JsonObject.newBuilder()
+                        .set("type", "object")
+                        .set("properties", JsonObject.newBuilder()
+                                .set("value", numberSchema)
+                                .set("unit", JsonObject.newBuilder()
+                                        .set("type", "string")
+                                        .set("enum", JsonArray.newBuilder().add("C", "F").build())
+                                        .build())
+                                .build())
+                        .set("required", JsonArray.newBuilder().add("value").build())
+                        .build())
+                .set("history", JsonObject.newBuilder()
+                        .set("type", "array")
+                        .set("items", numberSchema)
+                        .build());
+        final JsonObjectBuilder value = JsonObject.newBuilder()
+                .set("temperature", JsonObject.newBuilder().set("value", 21.0).set("unit", "C").build());
+        for (int i = 0; i < SETPOINTS; i++) {
+            properties.set("setpoint" + i, numberSchema);
+            value.set("setpoint" + i, 18 + i % 5);
+        }
+        final JsonArrayBuilder history = JsonArray.newBuilder();
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            history.add(15.0 + (i % 100) / 10.0);
+        }
+        value.set("history", history.build());
+
+        dataSchema = SingleDataSchema.fromJson(JsonObject.newBuilder()
+                .set("type", "object")
+                .set("properties", properties.build())
+                .build());
+        schema = jsonSchemaTools.extractFromSingleDataSchema(dataSchema, true, DittoHeaders.empty());
+        propertyValue = value.build();
+        modifiedValue = JsonValue.of(22.5);
+        modifiedPropertyValue = propertyValue.setValue(MODIFIED_PATH.getSubPointer(1).orElseThrow(), modifiedValue);
+    }
+
+    @Benchmark
+    public Object validateCborCopy() throws IOException {
+        final ByteBufferBackedInputStream bbis =
+                new ByteBufferBackedInputStream(cborFactory.toByteBuffer(propertyValue));
+        final JsonNode jsonNode = jacksonCborMapper.reader().readTree(bbis);
+        return schema.validate(jsonNode, OutputFormat.LIST);
+    }
+
+    @Benchmark
+    public Object validateAdapted() {
+        return schema.validate(JsonValueNodes.of(propertyValue), OutputFormat.LIST);
+    }
+
+    @Benchmark
+    public Object validateWholeProperty() {
+        return jsonSchemaTools.validateDittoJsonBasedOnDataSchema(dataSchema, PROPERTY_PATH, true,
+                modifiedPropertyValue, DittoHeaders.empty());
+    }
+
+    @Benchmark
+    public Object validateModifiedSubtree() {
+        return jsonSchemaTools.validateDittoJsonAtPointerBasedOnDataSchema(dataSchema, MODIFIED_PATH, true,
+                modifiedValue, DittoHeaders.empty());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+                .include(JsonSchemaValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.wot.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Unit tests for {@link JsonValueNodes}, comparing the adapted nodes with the nodes Jackson parses from the same JSON.
+ */
+public final class JsonValueNodesTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final JsonObject NESTED_OBJECT = JsonObject.newBuilder()
+            .set("someBool", true)
+            .set("someInt", 42)
+            .set("someLong", 4_200_000_000_000L)
+            .set("someNumber", 42.23)
+            .set("someString", "some")
+            .set("someNull", JsonValue.nullLiteral())
+            .set("someArray", JsonArray.of(1, "two", JsonObject.newBuilder().set("three", 3).build(), JsonArray.empty()))
+            .set("someObject", JsonObject.newBuilder()
+                    .set("nested", JsonObject.newBuilder()
+                            .set("deeper", JsonArray.of(true, false))
+                            .build())
+                    .set("empty", JsonObject.empty())
+                    .build())
+            .build();
+
+    @Test
+    public void adaptedObjectEqualsParsedObject() throws JsonProcessingException {
+        assertAdaptedEqualsParsed(NESTED_OBJECT);
+    }
+
+    @Test
+    public void adaptedArrayEqualsParsedArray() throws JsonProcessingException {
+        assertAdaptedEqualsParsed(JsonArray.of(NESTED_OBJECT, JsonArray.of(1, 2), JsonValue.nullLiteral(), "four"));
+    }
+
+    @Test
+    public void adaptedScalarsEqualParsedScalars() throws JsonProcessingException {
+        assertAdaptedEqualsParsed(JsonValue.of(true));
+        assertAdaptedEqualsParsed(JsonValue.of(42));
+        assertAdaptedEqualsParsed(JsonValue.of(4_200_000_000_000L));
+        assertAdaptedEqualsParsed(JsonValue.of(-42.23));
+        assertAdaptedEqualsParsed(JsonValue.of("some"));
+        assertAdaptedEqualsParsed(JsonValue.nullLiteral());
+    }
+
+    @Test
+    public void nestedChildrenAreAccessibleByKeyAndIndex() {
+        final JsonNode node = JsonValueNodes.of(NESTED_OBJECT);
+
+        assertThat(node.get("someObject").get("nested").get("deeper").get(1).booleanValue()).isFalse();
+        assertThat(node.get("someArray").get(2).get("three").intValue()).isEqualTo(3);
+        assertThat(node.get("someArray").get(4)).isNull();
+        assertThat(node.at("/someObject/nested/deeper/0").booleanValue()).isTrue();
+        assertThat(node.get("someNull").isNull()).isTrue();
+        assertThat(node.get("unknown")).isNull();
+        assertThat(node.has("someObject")).isTrue();
+        assertThat(node.has("unknown")).isFalse();
+        assertThat(node.size()).isEqualTo(NESTED_OBJECT.getSize());
+    }
+
+    @Test
+    public void keysContainingSlashesAreLookedUpAsKeys() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(JsonField.newInstance(JsonKey.of("a/b"), JsonValue.of(1)))
+                .build();
+        final JsonNode node = JsonValueNodes.of(jsonObject);
+
+        assertThat(node.get("a/b").intValue()).isEqualTo(1);
+        assertThat(node.has("a")).isFalse();
+    }
+
+    @Test
+    public void emptyKeyIsNeverContained() {
+        final JsonNode node = JsonValueNodes.of(NESTED_OBJECT);
+
+        assertThat(node.get("")).isNull();
+        assertThat(node.has("")).isFalse();
+        assertThat(node.path("").isMissingNode()).isTrue();
+    }
+
+    @Test
+    public void adaptedNodesAreReadOnly() {
+        final ObjectNode objectNode = (ObjectNode) JsonValueNodes.of(NESTED_OBJECT);
+        final ArrayNode arrayNode = (ArrayNode) objectNode.get("someArray");
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> objectNode.put("foo", 1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> objectNode.remove("someInt"));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> arrayNode.add(1));
+        assertThat(NESTED_OBJECT.getValue("foo")).isEmpty();
+    }
+
+    @Test
+    public void deepCopyEqualsAdaptedNode() {
+        final JsonNode node = JsonValueNodes.of(NESTED_OBJECT);
+
+        assertThat(node.deepCopy()).isEqualTo(node);
+    }
+
+    private static void assertAdaptedEqualsParsed(final JsonValue jsonValue) throws JsonProcessingException {
+        final JsonNode parsed = OBJECT_MAPPER.readTree(jsonValue.toString());
+        final JsonNode adapted = JsonValueNodes.of(jsonValue);
+
+        assertThat(adapted).isEqualTo(parsed);
+        assertThat(parsed).isEqualTo(adapted);
+        assertThat(adapted.toString()).isEqualTo(parsed.toString());
+    }
+
+}